@@ -16,13 +16,17 @@
  */
 package io.atomix.cluster.messaging;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import org.agrona.DirectBuffer;
 
 /** Interface for low level messaging primitives. */
 public interface MessagingService {
@@ -186,6 +190,48 @@ public interface MessagingService {
       Duration timeout,
       Executor executor);
 
+  /**
+   * Sends a message asynchronously and expects a response. The payload is not copied, but written
+   * directly to the network buffer, so it must not be modified after calling this method.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload, from offset 0 up to its capacity.
+   * @param keepAlive whether to keep the connection alive after usage
+   * @param timeout response timeout
+   * @param executor executor over which any follow up actions after completion will be executed.
+   * @return a response future
+   */
+  default CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final DirectBuffer payload,
+      final boolean keepAlive,
+      final Duration timeout,
+      final Executor executor) {
+    final byte[] bytes = new byte[payload.capacity()];
+    payload.getBytes(0, bytes);
+    return sendAndReceive(address, type, bytes, keepAlive, timeout, executor);
+  }
+
+  /**
+   * Sends a message asynchronously and expects a response. The payload is not copied, but written
+   * directly to the network buffer, so it must not be modified after calling this method.
+   *
+   * @param address address to send the message to.
+   * @param type type of message.
+   * @param payload message payload, from offset 0 up to its capacity.
+   * @param timeout response timeout
+   * @return a response future
+   */
+  default CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final DirectBuffer payload,
+      final Duration timeout) {
+    return sendAndReceive(address, type, payload, true, timeout, MoreExecutors.directExecutor());
+  }
+
   /**
    * Registers a new message handler for message type.
    *
@@ -212,6 +258,20 @@ public interface MessagingService {
    */
   void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler);
 
+  /**
+   * Registers a new message handler for message type, which receives the payload as a view on the
+   * received network buffer instead of a copy. The buffer is reference counted and owned by the
+   * handler, which must {@link ByteBuf#release() release} it once the payload is not used anymore.
+   *
+   * @param type message type.
+   * @param handler message handler
+   */
+  default void registerBufferHandler(
+      final String type, final BiFunction<Address, ByteBuf, CompletableFuture<byte[]>> handler) {
+    registerHandler(
+        type, (address, payload) -> handler.apply(address, Unpooled.wrappedBuffer(payload)));
+  }
+
   /**
    * Unregister current handler, if one exists for message type.
    *
@@ -58,6 +58,12 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     }
   }
 
+  static void writePayload(final ByteBuf buffer, final ByteBuf payload) {
+    final int length = payload.readableBytes();
+    writeInt(buffer, length);
+    buffer.writeBytes(payload, payload.readerIndex(), length);
+  }
+
   static void writeInt(final ByteBuf buf, final int value) {
     if (value >>> 7 == 0) {
       buf.writeByte(value);
@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkState;
 
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import java.util.List;
 
@@ -34,7 +35,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
   private ProtocolMessage.Type type;
   private long messageId;
   private int contentLength;
-  private byte[] content;
+  private ByteBuf content;
   private int subjectLength;
 
   @Override
@@ -88,11 +89,11 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
           return;
         }
         if (contentLength > 0) {
-          // TODO: Perform a sanity check on the size before allocating
-          content = new byte[contentLength];
-          buffer.readBytes(content);
+          // the content is not copied; the slice keeps the network buffer alive until the message
+          // is released after it was dispatched
+          content = buffer.readRetainedSlice(contentLength);
         } else {
-          content = EMPTY_PAYLOAD;
+          content = Unpooled.EMPTY_BUFFER;
         }
 
         switch (type) {
@@ -126,6 +127,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
             final String subject = readString(buffer, subjectLength);
             final ProtocolRequest message =
                 new ProtocolRequest(messageId, senderAddress, subject, content);
+            content = null;
             out.add(message);
             currentState = DecoderState.READ_TYPE;
             break;
@@ -141,6 +143,7 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
             }
             final ProtocolReply.Status status = ProtocolReply.Status.forId(buffer.readByte());
             final ProtocolReply message = new ProtocolReply(messageId, content, status);
+            content = null;
             out.add(message);
             currentState = DecoderState.READ_TYPE;
             break;
@@ -153,6 +156,15 @@ class MessageDecoderV2 extends AbstractMessageDecoder {
     }
   }
 
+  @Override
+  protected void handlerRemoved0(final ChannelHandlerContext context) {
+    // the content of a partially decoded message is not passed on, so it must be released here
+    if (content != null) {
+      content.release();
+      content = null;
+    }
+  }
+
   /** V2 decoder state. */
   enum DecoderState {
     READ_TYPE,
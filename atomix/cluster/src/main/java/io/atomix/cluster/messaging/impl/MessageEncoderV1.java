@@ -40,9 +40,7 @@ class MessageEncoderV1 extends AbstractMessageEncoder {
     buffer.writeByte(message.type().id());
     writeLong(buffer, message.id());
 
-    final byte[] payload = message.payload();
-    writeInt(buffer, payload.length);
-    buffer.writeBytes(payload);
+    writePayload(buffer, message.payloadBuffer());
   }
 
   @Override
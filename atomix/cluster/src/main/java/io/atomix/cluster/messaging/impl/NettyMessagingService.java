@@ -72,6 +72,7 @@ import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -191,9 +192,37 @@ public class NettyMessagingService implements ManagedMessagingService {
     final long messageId = messageIdGenerator.incrementAndGet();
     final ProtocolRequest message =
         new ProtocolRequest(messageId, advertisedAddress, type, payload);
+    return sendAndReceive(address, message, keepAlive, timeout, executor);
+  }
+
+  @Override
+  public CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final String type,
+      final DirectBuffer payload,
+      final boolean keepAlive,
+      final Duration timeout,
+      final Executor executor) {
+    if (!started.get()) {
+      return CompletableFuture.failedFuture(
+          new IllegalStateException("MessagingService is closed."));
+    }
+
+    final long messageId = messageIdGenerator.incrementAndGet();
+    final ProtocolRequest message =
+        new ProtocolRequest(messageId, advertisedAddress, type, payload);
+    return sendAndReceive(address, message, keepAlive, timeout, executor);
+  }
+
+  private CompletableFuture<byte[]> sendAndReceive(
+      final Address address,
+      final ProtocolRequest message,
+      final boolean keepAlive,
+      final Duration timeout,
+      final Executor executor) {
     if (keepAlive) {
       return executeOnPooledConnection(
-          address, type, c -> c.sendAndReceive(message, timeout), executor);
+          address, message.subject(), c -> c.sendAndReceive(message, timeout), executor);
     } else {
       return executeOnTransientConnection(
           address, c -> c.sendAndReceive(message, timeout), executor);
@@ -205,8 +234,11 @@ public class NettyMessagingService implements ManagedMessagingService {
       final String type, final BiConsumer<Address, byte[]> handler, final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(() -> handler.accept(message.sender(), message.payload())));
+        (message, connection) -> {
+          // the payload must be read before the message is released after dispatching it
+          final byte[] payload = message.payload();
+          executor.execute(() -> handler.accept(message.sender(), payload));
+        });
   }
 
   @Override
@@ -216,19 +248,21 @@ public class NettyMessagingService implements ManagedMessagingService {
       final Executor executor) {
     handlers.register(
         type,
-        (message, connection) ->
-            executor.execute(
-                () -> {
-                  byte[] responsePayload = null;
-                  ProtocolReply.Status status = ProtocolReply.Status.OK;
-                  try {
-                    responsePayload = handler.apply(message.sender(), message.payload());
-                  } catch (final Exception e) {
-                    log.warn("An error occurred in a message handler:", e);
-                    status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                  }
-                  connection.reply(message, status, Optional.ofNullable(responsePayload));
-                }));
+        (message, connection) -> {
+          final byte[] payload = message.payload();
+          executor.execute(
+              () -> {
+                byte[] responsePayload = null;
+                ProtocolReply.Status status = ProtocolReply.Status.OK;
+                try {
+                  responsePayload = handler.apply(message.sender(), payload);
+                } catch (final Exception e) {
+                  log.warn("An error occurred in a message handler:", e);
+                  status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+                }
+                connection.reply(message, status, Optional.ofNullable(responsePayload));
+              });
+        });
   }
 
   @Override
@@ -237,19 +271,37 @@ public class NettyMessagingService implements ManagedMessagingService {
     handlers.register(
         type,
         (message, connection) ->
-            handler
-                .apply(message.sender(), message.payload())
-                .whenComplete(
-                    (result, error) -> {
-                      final ProtocolReply.Status status;
-                      if (error == null) {
-                        status = ProtocolReply.Status.OK;
-                      } else {
-                        log.warn("An error occurred in a message handler:", error);
-                        status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
-                      }
-                      connection.reply(message, status, Optional.ofNullable(result));
-                    }));
+            replyOnCompletion(
+                message, connection, handler.apply(message.sender(), message.payload())));
+  }
+
+  @Override
+  public void registerBufferHandler(
+      final String type, final BiFunction<Address, ByteBuf, CompletableFuture<byte[]>> handler) {
+    handlers.register(
+        type,
+        (message, connection) ->
+            replyOnCompletion(
+                message,
+                connection,
+                handler.apply(message.sender(), message.payloadBuffer().retainedDuplicate())));
+  }
+
+  private void replyOnCompletion(
+      final ProtocolRequest message,
+      final ServerConnection connection,
+      final CompletableFuture<byte[]> response) {
+    response.whenComplete(
+        (result, error) -> {
+          final ProtocolReply.Status status;
+          if (error == null) {
+            status = ProtocolReply.Status.OK;
+          } else {
+            log.warn("An error occurred in a message handler:", error);
+            status = ProtocolReply.Status.ERROR_HANDLER_EXCEPTION;
+          }
+          connection.reply(message, status, Optional.ofNullable(result));
+        });
   }
 
   @Override
@@ -852,6 +904,9 @@ public class NettyMessagingService implements ManagedMessagingService {
         connection.dispatch((M) message);
       } catch (final RejectedExecutionException e) {
         log.warn("Unable to dispatch message due to {}", e.getMessage());
+      } finally {
+        // handlers which use the payload after dispatching retain it
+        ((ProtocolMessage) message).release();
       }
     }
   }
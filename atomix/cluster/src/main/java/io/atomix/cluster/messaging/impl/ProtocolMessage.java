@@ -16,13 +16,33 @@
  */
 package io.atomix.cluster.messaging.impl;
 
-/** Base class for internal messages. */
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import org.agrona.DirectBuffer;
+
+/**
+ * Base class for internal messages.
+ *
+ * <p>The payload is kept as a {@link ByteBuf}. Messages which are received over the network hold a
+ * retained slice of the network buffer, which is released once the message is dispatched, see
+ * {@link #release()}. Messages which are sent wrap the given payload without copying it.
+ */
 public abstract class ProtocolMessage {
 
   private final long id;
-  private final byte[] payload;
+  private final ByteBuf payload;
 
   protected ProtocolMessage(final long id, final byte[] payload) {
+    this(id, Unpooled.wrappedBuffer(payload));
+  }
+
+  protected ProtocolMessage(final long id, final DirectBuffer payload) {
+    this(id, wrap(payload));
+  }
+
+  protected ProtocolMessage(final long id, final ByteBuf payload) {
     this.id = id;
     this.payload = payload;
   }
@@ -41,10 +61,58 @@ public abstract class ProtocolMessage {
     return id;
   }
 
+  /**
+   * Returns the payload as a byte array. If the payload wraps a whole byte array, the array is
+   * returned, otherwise the payload is copied.
+   *
+   * @return the payload
+   */
   public byte[] payload() {
+    if (payload.hasArray()
+        && payload.arrayOffset() == 0
+        && payload.readerIndex() == 0
+        && payload.readableBytes() == payload.array().length) {
+      return payload.array();
+    }
+
+    return ByteBufUtil.getBytes(payload);
+  }
+
+  /**
+   * Returns the payload without copying it. The buffer is only valid until the message is released,
+   * callers which use it longer must {@link ByteBuf#retain() retain} it.
+   *
+   * @return the payload buffer
+   */
+  public ByteBuf payloadBuffer() {
     return payload;
   }
 
+  public int payloadLength() {
+    return payload.readableBytes();
+  }
+
+  /** Releases the payload buffer, if it is reference counted. */
+  void release() {
+    payload.release();
+  }
+
+  private static ByteBuf wrap(final DirectBuffer buffer) {
+    final int offset = buffer.wrapAdjustment();
+    final int length = buffer.capacity();
+    if (buffer.byteArray() != null) {
+      return Unpooled.wrappedBuffer(buffer.byteArray(), offset, length);
+    }
+
+    final ByteBuffer byteBuffer = buffer.byteBuffer();
+    if (byteBuffer != null) {
+      return Unpooled.wrappedBuffer(
+          byteBuffer.duplicate().clear().position(offset).limit(offset + length).slice());
+    }
+
+    return Unpooled.wrappedBuffer(buffer.addressOffset(), length, false);
+  }
+
   /** Internal message type. */
   public enum Type {
     REQUEST(1),
@@ -17,8 +17,9 @@
 package io.atomix.cluster.messaging.impl;
 
 import com.google.common.base.MoreObjects;
-import io.atomix.utils.misc.ArraySizeHashPrinter;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import org.agrona.DirectBuffer;
 
 /** Internal request message. */
 public final class ProtocolRequest extends ProtocolMessage {
@@ -32,6 +33,20 @@ public final class ProtocolRequest extends ProtocolMessage {
     this.subject = subject;
   }
 
+  public ProtocolRequest(
+      final long id, final Address sender, final String subject, final DirectBuffer payload) {
+    super(id, payload);
+    this.sender = sender;
+    this.subject = subject;
+  }
+
+  public ProtocolRequest(
+      final long id, final Address sender, final String subject, final ByteBuf payload) {
+    super(id, payload);
+    this.sender = sender;
+    this.subject = subject;
+  }
+
   @Override
   public Type type() {
     return Type.REQUEST;
@@ -51,7 +66,7 @@ public final class ProtocolRequest extends ProtocolMessage {
         .add("id", id())
         .add("subject", subject)
         .add("sender", sender)
-        .add("payload", ArraySizeHashPrinter.of(payload()))
+        .add("payloadLength", payloadLength())
         .toString();
   }
 }
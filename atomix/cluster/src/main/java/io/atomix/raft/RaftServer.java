@@ -421,6 +421,7 @@ public interface RaftServer {
     protected EntryValidator entryValidator = new NoopEntryValidator();
     protected int maxAppendsPerFollower = 2;
     protected int maxAppendBatchSize = 32 * 1024;
+    protected boolean adaptiveReplication = false;
 
     protected Builder(final MemberId localMemberId) {
       this.localMemberId = checkNotNull(localMemberId, "localMemberId cannot be null");
@@ -561,6 +562,19 @@ public interface RaftServer {
       return this;
     }
 
+    /**
+     * Sets whether the number of append requests in flight and the batch size per append adapt to
+     * the round trip time and throughput of each follower. If enabled, the maximum appends per
+     * follower and the maximum append batch size are used as upper bounds. Default is false.
+     *
+     * @param adaptiveReplication whether to adapt replication to each follower
+     * @return The server builder.
+     */
+    public Builder withAdaptiveReplication(final boolean adaptiveReplication) {
+      this.adaptiveReplication = adaptiveReplication;
+      return this;
+    }
+
     public Builder withEntryValidator(final EntryValidator entryValidator) {
       this.entryValidator = entryValidator;
       return this;
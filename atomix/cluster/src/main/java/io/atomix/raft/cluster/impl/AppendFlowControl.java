@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Controls how many append requests may be in flight to a single follower and how many bytes are
+ * sent per request.
+ *
+ * <p>If adaptive, the window and the batch size are derived from the measured round trip time and
+ * the delivery rate of the follower, similar to TCP congestion control. The window grows
+ * additively with every acknowledged append, as long as the round trip time stays close to the
+ * smallest observed round trip time. The batch size follows the bandwidth-delay product of the
+ * follower, i.e. its delivery rate multiplied by the smallest round trip time. If the round trip
+ * time rises too far above the minimum, which indicates that requests are queuing up, or if an
+ * append fails, the window and the batch size are halved. Both always stay within the configured
+ * bounds.
+ *
+ * <p>Times are measured in nanoseconds, as appends to followers close by take less than a
+ * millisecond. Round trip times which exceed the minimum only by a few milliseconds are treated as
+ * jitter, since doubling a sub-millisecond round trip time does not indicate congestion.
+ *
+ * <p>If not adaptive, the window and the batch size are fixed to their upper bounds.
+ */
+final class AppendFlowControl {
+
+  static final int MIN_BATCH_SIZE = 4 * 1024;
+
+  // round trip times above this multiple of the minimum round trip time are considered congestion
+  private static final double QUEUING_THRESHOLD = 2.0;
+  // round trip times which exceed the minimum by less than this are considered jitter
+  private static final long MIN_QUEUING_DELAY_NS = TimeUnit.MILLISECONDS.toNanos(5);
+  // the minimum round trip time is forgotten after this period, to adapt to changing networks
+  private static final long MIN_RTT_EXPIRY_NS = TimeUnit.SECONDS.toNanos(10);
+  // smoothing factor of the delivery rate, the same gain TCP uses for its smoothed RTT
+  private static final double RATE_GAIN = 0.125;
+  private static final double DECREASE_FACTOR = 0.5;
+
+  private final boolean adaptive;
+  private final int maxWindow;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+
+  private double window;
+  private int batchSize;
+  private long minRtt;
+  private long minRttTime;
+  private double deliveryRate;
+  private boolean hasDecreased;
+  private long lastDecreaseTime;
+
+  AppendFlowControl(final boolean adaptive, final int maxWindow, final int maxBatchSize) {
+    this.adaptive = adaptive;
+    this.maxWindow = maxWindow;
+    this.maxBatchSize = maxBatchSize;
+    minBatchSize = Math.min(MIN_BATCH_SIZE, maxBatchSize);
+    reset();
+  }
+
+  /** Resets the flow control to its initial state, e.g. when a new leader starts replicating. */
+  void reset() {
+    window = adaptive ? 1 : maxWindow;
+    batchSize = adaptive ? minBatchSize : maxBatchSize;
+    minRtt = Long.MAX_VALUE;
+    minRttTime = 0;
+    deliveryRate = 0;
+    hasDecreased = false;
+    lastDecreaseTime = 0;
+  }
+
+  /**
+   * Updates the window and the batch size after an append request was acknowledged.
+   *
+   * @param bytes the number of bytes sent with the append request
+   * @param rtt the round trip time of the append request in nanoseconds
+   * @param now the current time in nanoseconds, as returned by {@link System#nanoTime()}
+   */
+  void onAcknowledged(final int bytes, final long rtt, final long now) {
+    if (!adaptive) {
+      return;
+    }
+
+    final long sampleRtt = Math.max(1, rtt);
+    if (sampleRtt <= minRtt || now - minRttTime > MIN_RTT_EXPIRY_NS) {
+      minRtt = sampleRtt;
+      minRttTime = now;
+    }
+
+    if (sampleRtt > Math.max(minRtt * QUEUING_THRESHOLD, minRtt + MIN_QUEUING_DELAY_NS)) {
+      decrease(now, sampleRtt);
+      return;
+    }
+
+    if (window < maxWindow) {
+      window = Math.min(maxWindow, window + 1 / window);
+    }
+
+    // heartbeats carry no entries and say nothing about the delivery rate
+    if (bytes > 0) {
+      final double sampleRate = (double) bytes / sampleRtt;
+      deliveryRate =
+          deliveryRate == 0 ? sampleRate : deliveryRate + RATE_GAIN * (sampleRate - deliveryRate);
+      // probe for more bandwidth by allowing twice the bytes the follower currently takes per RTT
+      final long bandwidthDelayProduct = (long) (deliveryRate * minRtt * QUEUING_THRESHOLD);
+      batchSize = (int) Math.max(minBatchSize, Math.min(maxBatchSize, bandwidthDelayProduct));
+    }
+  }
+
+  /**
+   * Shrinks the window and the batch size after an append request could not be delivered.
+   *
+   * @param now the current time in nanoseconds, as returned by {@link System#nanoTime()}
+   */
+  void onFailed(final long now) {
+    if (adaptive) {
+      decrease(now, 0);
+    }
+  }
+
+  private void decrease(final long now, final long rtt) {
+    // decrease at most once per round trip, as all requests in flight see the same congestion
+    if (hasDecreased
+        && now - lastDecreaseTime < Math.max(rtt, minRtt == Long.MAX_VALUE ? 0 : minRtt)) {
+      return;
+    }
+
+    hasDecreased = true;
+    lastDecreaseTime = now;
+    window = Math.max(1, window * DECREASE_FACTOR);
+    batchSize = Math.max(minBatchSize, (int) (batchSize * DECREASE_FACTOR));
+    deliveryRate *= DECREASE_FACTOR;
+  }
+
+  /**
+   * Returns the number of append requests which may be in flight to the follower.
+   *
+   * @return the current window size
+   */
+  int window() {
+    return (int) window;
+  }
+
+  /**
+   * Returns the number of bytes which should be sent to the follower with a single append request.
+   *
+   * @return the current batch size in bytes
+   */
+  int batchSize() {
+    return batchSize;
+  }
+}
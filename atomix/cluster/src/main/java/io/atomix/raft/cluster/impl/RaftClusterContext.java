@@ -80,7 +80,9 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
               new RaftMemberContext(
                   new DefaultRaftMember(member.memberId(), member.getType(), updateTime),
                   this,
-                  raft.getMaxAppendsPerFollower());
+                  raft.getMaxAppendsPerFollower(),
+                  raft.getMaxAppendBatchSize(),
+                  raft.isAdaptiveReplication());
           state.resetState(raft.getLog());
           members.add(state.getMember());
           remoteMembers.add(state);
@@ -330,7 +332,13 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
         if (state == null) {
           final DefaultRaftMember defaultMember =
               new DefaultRaftMember(member.memberId(), member.getType(), time);
-          state = new RaftMemberContext(defaultMember, this, raft.getMaxAppendsPerFollower());
+          state =
+              new RaftMemberContext(
+                  defaultMember,
+                  this,
+                  raft.getMaxAppendsPerFollower(),
+                  raft.getMaxAppendBatchSize(),
+                  raft.isAdaptiveReplication());
           state.resetState(raft.getLog());
           members.add(state.getMember());
           remoteMembers.add(state);
@@ -26,6 +26,7 @@ import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.log.RaftLogReader.Mode;
 import io.zeebe.snapshots.raft.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +36,7 @@ public final class RaftMemberContext {
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
-  private final int maxAppendsPerMember;
+  private final AppendFlowControl flowControl;
   private long term;
   private long configIndex;
   private long snapshotIndex;
@@ -45,6 +46,7 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendBytes;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
@@ -58,9 +60,12 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxAppendBatchSize,
+      final boolean adaptiveReplication) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    flowControl =
+        new AppendFlowControl(adaptiveReplication, maxAppendsPerMember, maxAppendBatchSize);
   }
 
   /** Resets the member state. */
@@ -72,7 +77,9 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    inFlightAppendBytes = 0;
     timeStats.clear();
+    flowControl.reset();
     configuring = false;
     installing = false;
     appendSucceeded = false;
@@ -107,11 +114,39 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
+    final int window = flowControl.window();
     return inFlightAppendCount == 0
         || (appendSucceeded
-            && inFlightAppendCount < maxAppendsPerMember
-            && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                >= appendTime);
+            && inFlightAppendCount < window
+            && System.currentTimeMillis() - (timeStats.getMean() / window) >= appendTime);
+  }
+
+  /**
+   * Returns the maximum number of bytes which should be sent to the member with a single append
+   * request.
+   *
+   * @return the append batch size in bytes
+   */
+  public int getAppendBatchSize() {
+    return flowControl.batchSize();
+  }
+
+  /**
+   * Returns the number of append requests which may currently be in flight to the member.
+   *
+   * @return the append window size
+   */
+  public int getAppendWindowSize() {
+    return flowControl.window();
+  }
+
+  /**
+   * Returns the number of entry bytes of all append requests which are in flight to the member.
+   *
+   * @return the bytes in flight
+   */
+  public long getInFlightAppendBytes() {
+    return inFlightAppendBytes;
   }
 
   /**
@@ -142,25 +177,49 @@ public final class RaftMemberContext {
     appendSucceeded(false);
   }
 
-  /** Starts an append request to the member. */
-  public void startAppend() {
+  /**
+   * Starts an append request to the member.
+   *
+   * @param bytes The number of entry bytes sent with the append.
+   */
+  public void startAppend(final int bytes) {
     inFlightAppendCount++;
+    inFlightAppendBytes += bytes;
     appendTime = System.currentTimeMillis();
   }
 
-  /** Completes an append request to the member. */
-  public void completeAppend() {
+  /**
+   * Completes an append request to the member.
+   *
+   * @param bytes The number of entry bytes sent with the append.
+   */
+  public void completeAppend(final int bytes) {
     inFlightAppendCount--;
+    inFlightAppendBytes -= bytes;
   }
 
   /**
-   * Completes an append request to the member.
+   * Completes an append request to the member, which was acknowledged by the member.
    *
-   * @param time The time in milliseconds for the append.
+   * @param time The time in nanoseconds for the append.
+   * @param bytes The number of entry bytes sent with the append.
    */
-  public void completeAppend(final long time) {
-    inFlightAppendCount--;
-    timeStats.addValue(time);
+  public void completeAppend(final long time, final int bytes) {
+    completeAppend(bytes);
+    timeStats.addValue(TimeUnit.NANOSECONDS.toMillis(time));
+    flowControl.onAcknowledged(bytes, time, System.nanoTime());
+  }
+
+  /**
+   * Completes an append request to the member, which could not be delivered or was not answered.
+   *
+   * @param time The time in nanoseconds for the append.
+   * @param bytes The number of entry bytes sent with the append.
+   */
+  public void failAppend(final long time, final int bytes) {
+    completeAppend(bytes);
+    timeStats.addValue(TimeUnit.NANOSECONDS.toMillis(time));
+    flowControl.onFailed(System.nanoTime());
   }
 
   /**
@@ -231,6 +290,8 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendingBytes", inFlightAppendBytes)
+        .add("appendWindow", flowControl.window())
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
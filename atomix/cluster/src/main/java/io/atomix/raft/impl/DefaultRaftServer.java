@@ -264,6 +264,7 @@ public class DefaultRaftServer implements RaftServer {
               singleThreadFactory,
               maxAppendBatchSize,
               maxAppendsPerFollower,
+              adaptiveReplication,
               randomSupplier);
       raft.setElectionTimeout(electionTimeout);
       raft.setHeartbeatInterval(heartbeatInterval);
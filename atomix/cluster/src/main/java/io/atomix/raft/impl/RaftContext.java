@@ -48,6 +48,7 @@ import io.atomix.raft.roles.PromotableRole;
 import io.atomix.raft.roles.RaftRole;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.raft.zeebe.EntryValidator;
@@ -110,9 +111,11 @@ public class RaftContext implements AutoCloseable {
   private EntryValidator entryValidator;
   private final int maxAppendBatchSize;
   private final int maxAppendsPerFollower;
+  private final boolean adaptiveReplication;
   // Used for randomizing election timeout
   private final Random random;
   private PersistedSnapshot currentSnapshot;
+  private RaftLogFlusher logFlusher;
 
   public RaftContext(
       final String name,
@@ -123,6 +126,7 @@ public class RaftContext implements AutoCloseable {
       final RaftThreadContextFactory threadContextFactory,
       final int maxAppendBatchSize,
       final int maxAppendsPerFollower,
+      final boolean adaptiveReplication,
       final Supplier<Random> randomFactory) {
     this.name = checkNotNull(name, "name cannot be null");
     this.membershipService = checkNotNull(membershipService, "membershipService cannot be null");
@@ -169,6 +173,7 @@ public class RaftContext implements AutoCloseable {
 
     this.maxAppendBatchSize = maxAppendBatchSize;
     this.maxAppendsPerFollower = maxAppendsPerFollower;
+    this.adaptiveReplication = adaptiveReplication;
     cluster = new RaftClusterContext(localMemberId, this);
 
     // Register protocol listeners.
@@ -262,6 +267,17 @@ public class RaftContext implements AutoCloseable {
     return maxAppendsPerFollower;
   }
 
+  /**
+   * Returns whether the append window and batch size per follower adapt to the follower's round
+   * trip time and throughput. If so, the maximum appends per follower and the maximum append batch
+   * size are upper bounds.
+   *
+   * @return true if replication adapts to each follower
+   */
+  public boolean isAdaptiveReplication() {
+    return adaptiveReplication;
+  }
+
   /**
    * Adds a role change listener.
    *
@@ -359,18 +375,25 @@ public class RaftContext implements AutoCloseable {
   }
 
   /**
-   * Sets the commit index.
+   * Sets the commit index. If the leader flushes the log in groups, see {@link
+   * #setLogFlusher(RaftLogFlusher)}, the commit index is limited to the durable index of the log.
    *
-   * @param commitIndex The commit index.
+   * @param requestedCommitIndex The commit index.
    * @return the previous commit index
    */
-  public long setCommitIndex(final long commitIndex) {
-    checkArgument(commitIndex >= 0, "commitIndex must be positive");
+  public long setCommitIndex(final long requestedCommitIndex) {
+    checkArgument(requestedCommitIndex >= 0, "commitIndex must be positive");
+    // leader counts itself in quorum, so it can only commit what it has already persisted
+    final long commitIndex =
+        logFlusher == null
+            ? requestedCommitIndex
+            : Math.min(requestedCommitIndex, logFlusher.getDurableIndex());
+
     final long previousCommitIndex = this.commitIndex;
     if (commitIndex > previousCommitIndex) {
       this.commitIndex = commitIndex;
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
-      if (raftLog.shouldFlushExplicitly() && isLeader()) {
+      if (raftLog.shouldFlushExplicitly() && isLeader() && logFlusher == null) {
         // leader counts itself in quorum, so in order to commit the leader must persist
         raftLog.flush();
       }
@@ -875,6 +898,16 @@ public class RaftContext implements AutoCloseable {
     return storage;
   }
 
+  /**
+   * Sets the flusher which persists the log of the leader in groups, or null if the log is flushed
+   * whenever the commit index advances.
+   *
+   * @param logFlusher the log flusher of the current leader, or null
+   */
+  public void setLogFlusher(final RaftLogFlusher logFlusher) {
+    this.logFlusher = logFlusher;
+  }
+
   /**
    * Returns the state term.
    *
@@ -16,6 +16,7 @@
  */
 package io.atomix.raft.metrics;
 
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LeaderMetrics extends RaftMetrics {
@@ -28,6 +29,30 @@ public class LeaderMetrics extends RaftMetrics {
           .labelNames("follower", "partitionGroupName", "partition")
           .register();
 
+  private static final Gauge APPEND_WINDOW_SIZE =
+      Gauge.build()
+          .namespace("atomix")
+          .name("append_window_size")
+          .help("Number of append requests which may be in flight to a follower")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
+  private static final Gauge IN_FLIGHT_APPEND_BYTES =
+      Gauge.build()
+          .namespace("atomix")
+          .name("append_in_flight_bytes")
+          .help("Entry bytes of the append requests which are in flight to a follower")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
+  private static final Gauge REPLICATION_LAG =
+      Gauge.build()
+          .namespace("atomix")
+          .name("replication_lag")
+          .help("Number of entries the follower has not yet acknowledged")
+          .labelNames("follower", "partitionGroupName", "partition")
+          .register();
+
   public LeaderMetrics(final String partitionName) {
     super(partitionName);
   }
@@ -35,4 +60,26 @@ public class LeaderMetrics extends RaftMetrics {
   public void appendComplete(final long latencyms, final String memberId) {
     APPEND_LATENCY.labels(memberId, partitionGroupName, partition).observe(latencyms / 1000f);
   }
+
+  public void setAppendWindowSize(final String memberId, final int windowSize) {
+    APPEND_WINDOW_SIZE.labels(memberId, partitionGroupName, partition).set(windowSize);
+  }
+
+  public void setInFlightAppendBytes(final String memberId, final long bytes) {
+    IN_FLIGHT_APPEND_BYTES.labels(memberId, partitionGroupName, partition).set(bytes);
+  }
+
+  public void setReplicationLag(final String memberId, final long lag) {
+    REPLICATION_LAG.labels(memberId, partitionGroupName, partition).set(lag);
+  }
+
+  /**
+   * Removes the replication gauges of the given follower, e.g. after it left the cluster or this
+   * member stepped down, such that they do not report stale values.
+   */
+  public void removeFollower(final String memberId) {
+    APPEND_WINDOW_SIZE.remove(memberId, partitionGroupName, partition);
+    IN_FLIGHT_APPEND_BYTES.remove(memberId, partitionGroupName, partition);
+    REPLICATION_LAG.remove(memberId, partitionGroupName, partition);
+  }
 }
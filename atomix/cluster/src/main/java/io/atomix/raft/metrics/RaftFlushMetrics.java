@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+
+public class RaftFlushMetrics extends RaftMetrics {
+
+  private static final String NAMESPACE = "atomix";
+  private static final String PARTITION_GROUP_NAME_LABEL = "partitionGroupName";
+  private static final String PARTITION_LABEL = "partition";
+
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("partition_raft_flush_latency")
+          .help("Time to flush a batch of appended entries to disk, in seconds")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(0.0001, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1)
+          .register();
+
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("partition_raft_flush_batch_size")
+          .help("Number of appended entries which were flushed to disk together")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024)
+          .register();
+
+  private static final Histogram FLUSH_BATCH_BYTES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("partition_raft_flush_batch_bytes")
+          .help("Number of appended bytes which were flushed to disk together")
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .exponentialBuckets(1024, 4, 10)
+          .register();
+
+  public RaftFlushMetrics(final String partitionName) {
+    super(partitionName);
+  }
+
+  public void observeFlush(final int entries, final long bytes, final long latencyNanos) {
+    FLUSH_BATCH_SIZE.labels(partitionGroupName, partition).observe(entries);
+    FLUSH_BATCH_BYTES.labels(partitionGroupName, partition).observe(bytes);
+    FLUSH_LATENCY.labels(partitionGroupName, partition).observe(latencyNanos / 1_000_000_000d);
+  }
+}
@@ -387,6 +387,19 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets whether the number of append requests in flight and the batch size per append adapt to
+     * the round trip time and throughput of each follower. If enabled, the maximum appends per
+     * follower and the maximum append batch size are used as upper bounds. Default is false.
+     *
+     * @param adaptiveReplication whether to adapt replication to each follower
+     * @return the Raft partition group builder
+     */
+    public Builder withAdaptiveReplication(final boolean adaptiveReplication) {
+      config.setAdaptiveReplication(adaptiveReplication);
+      return this;
+    }
+
     /**
      * Sets the path to the data directory.
      *
@@ -487,11 +500,61 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets whether Raft messages and log entries are serialized with SBE instead of Kryo. Both
+     * formats are always read, so during a rolling upgrade this must only be enabled once all
+     * members run a version which reads SBE.
+     *
+     * @param sbeSerialization whether to serialize with SBE
+     * @return the Raft partition group builder
+     */
+    public Builder withSbeSerialization(final boolean sbeSerialization) {
+      config.setSbeSerialization(sbeSerialization);
+      return this;
+    }
+
     public Builder withJournalIndexDensity(final int journalIndexDensity) {
       config.getStorageConfig().setJournalIndexDensity(journalIndexDensity);
       return this;
     }
 
+    /**
+     * Sets whether the files of new log segments are fully allocated up front.
+     *
+     * @param preallocateSegmentFiles whether to pre-allocate segment files
+     * @return the Raft partition group builder
+     */
+    public Builder withPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+      config.getStorageConfig().setPreallocateSegmentFiles(preallocateSegmentFiles);
+      return this;
+    }
+
+    /**
+     * Sets the time within which entries appended by the leader are flushed together. Zero disables
+     * group commit.
+     *
+     * @param groupCommitWindow the group commit window
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommitWindow(final Duration groupCommitWindow) {
+      checkNotNull(groupCommitWindow, "groupCommitWindow cannot be null");
+      checkArgument(!groupCommitWindow.isNegative(), "groupCommitWindow must not be negative");
+      config.getStorageConfig().setGroupCommitWindow(groupCommitWindow);
+      return this;
+    }
+
+    /**
+     * Sets the amount of appended bytes which triggers a group commit before its window elapsed.
+     *
+     * @param groupCommitMaxBytes the group commit byte threshold
+     * @return the Raft partition group builder
+     */
+    public Builder withGroupCommitMaxBytes(final int groupCommitMaxBytes) {
+      checkArgument(groupCommitMaxBytes > 0, "groupCommitMaxBytes must be positive");
+      config.getStorageConfig().setGroupCommitMaxBytes(groupCommitMaxBytes);
+      return this;
+    }
+
     @Override
     public RaftPartitionGroup build() {
       return new RaftPartitionGroup(config);
@@ -39,6 +39,8 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
   private RaftStorageConfig storageConfig = new RaftStorageConfig();
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean adaptiveReplication = false;
+  private boolean sbeSerialization = false;
 
   @Optional("EntryValidator")
   private EntryValidator entryValidator = new NoopEntryValidator();
@@ -184,6 +186,35 @@ public class RaftPartitionGroupConfig extends PartitionGroupConfig<RaftPartition
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isAdaptiveReplication() {
+    return adaptiveReplication;
+  }
+
+  public void setAdaptiveReplication(final boolean adaptiveReplication) {
+    this.adaptiveReplication = adaptiveReplication;
+  }
+
+  /**
+   * Returns whether Raft messages and log entries are serialized with SBE instead of Kryo.
+   *
+   * @return true if SBE serialization is enabled
+   */
+  public boolean isSbeSerialization() {
+    return sbeSerialization;
+  }
+
+  /**
+   * Sets whether Raft messages and log entries are serialized with SBE instead of Kryo. Both
+   * formats are always read, such that this can be enabled once all members are updated.
+   *
+   * @param sbeSerialization whether to serialize with SBE
+   * @return the Raft partition group configuration
+   */
+  public RaftPartitionGroupConfig setSbeSerialization(final boolean sbeSerialization) {
+    this.sbeSerialization = sbeSerialization;
+    return this;
+  }
+
   @Override
   public PartitionGroup.Type getType() {
     return RaftPartitionGroup.TYPE;
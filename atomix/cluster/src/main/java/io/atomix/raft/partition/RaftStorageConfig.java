@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import com.esotericsoftware.kryo.serializers.FieldSerializer.Optional;
 import io.atomix.utils.memory.MemorySize;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStoreFactory;
+import java.time.Duration;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -29,6 +30,9 @@ public class RaftStorageConfig {
   private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
   private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = false;
+  private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final int DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024 * 1024;
 
   private String directory;
   private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
@@ -36,6 +40,9 @@ public class RaftStorageConfig {
   private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+  private int groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
 
   @Optional("SnapshotStoreFactory")
   private ReceivableSnapshotStoreFactory persistedSnapshotStoreFactory;
@@ -174,4 +181,69 @@ public class RaftStorageConfig {
     this.journalIndexDensity = journalIndexDensity;
     return this;
   }
+
+  /**
+   * Returns whether the files of new log segments are fully allocated up front.
+   *
+   * @return whether to pre-allocate segment files
+   */
+  public boolean shouldPreallocateSegmentFiles() {
+    return preallocateSegmentFiles;
+  }
+
+  /**
+   * Sets whether the files of new log segments are fully allocated up front, such that the disk
+   * space is reserved and appends do not trigger page faults.
+   *
+   * @param preallocateSegmentFiles whether to pre-allocate segment files
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
+    return this;
+  }
+
+  /**
+   * Returns the time within which entries appended by the leader are flushed together.
+   *
+   * @return the group commit window, zero if group commit is disabled
+   */
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  /**
+   * Sets the time within which entries appended by the leader are flushed together on a dedicated
+   * thread. Zero disables group commit, i.e. the log is flushed on the Raft thread whenever the
+   * commit index advances.
+   *
+   * @param groupCommitWindow the group commit window
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setGroupCommitWindow(final Duration groupCommitWindow) {
+    this.groupCommitWindow = groupCommitWindow;
+    return this;
+  }
+
+  /**
+   * Returns the amount of appended bytes which triggers a flush before the group commit window
+   * elapsed.
+   *
+   * @return the group commit byte threshold
+   */
+  public int getGroupCommitMaxBytes() {
+    return groupCommitMaxBytes;
+  }
+
+  /**
+   * Sets the amount of appended bytes which triggers a flush before the group commit window
+   * elapsed.
+   *
+   * @param groupCommitMaxBytes the group commit byte threshold
+   * @return the Raft partition group configuration
+   */
+  public RaftStorageConfig setGroupCommitMaxBytes(final int groupCommitMaxBytes) {
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    return this;
+  }
 }
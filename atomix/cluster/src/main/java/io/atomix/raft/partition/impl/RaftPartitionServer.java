@@ -28,6 +28,7 @@ import io.atomix.raft.metrics.RaftStartupMetrics;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionGroupConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
+import io.atomix.raft.protocol.serializer.RaftMessageSerializer;
 import io.atomix.raft.roles.RaftRole;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -170,6 +171,7 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withElectionTimeout(config.getElectionTimeout())
         .withMaxAppendBatchSize(config.getMaxAppendBatchSize())
         .withMaxAppendsPerFollower(config.getMaxAppendsPerFollower())
+        .withAdaptiveReplication(config.isAdaptiveReplication())
         .withStorage(createRaftStorage())
         .withEntryValidator(config.getEntryValidator())
         .build();
@@ -289,12 +291,18 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withNamespace(RaftNamespaces.RAFT_STORAGE)
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
+        .withPreallocateSegmentFiles(storageConfig.shouldPreallocateSegmentFiles())
+        .withGroupCommitWindow(storageConfig.getGroupCommitWindow())
+        .withGroupCommitMaxBytes(storageConfig.getGroupCommitMaxBytes())
+        .withSbeSerialization(config.isSbeSerialization())
         .build();
   }
 
   private RaftServerCommunicator createServerProtocol() {
-    return new RaftServerCommunicator(
-        partition.name(), Serializer.using(RaftNamespaces.RAFT_PROTOCOL), clusterCommunicator);
+    final Serializer serializer =
+        new RaftMessageSerializer(
+            Serializer.using(RaftNamespaces.RAFT_PROTOCOL), config.isSbeSerialization());
+    return new RaftServerCommunicator(partition.name(), serializer, clusterCommunicator);
   }
 
   public CompletableFuture<Void> stepDown() {
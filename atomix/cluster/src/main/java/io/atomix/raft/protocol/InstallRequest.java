@@ -149,6 +149,11 @@ public class InstallRequest extends AbstractRaftRequest {
     return initial;
   }
 
+  /** @return the version of the snapshot */
+  public int version() {
+    return version;
+  }
+
   /**
    * Returns the snapshot data.
    *
@@ -16,19 +16,38 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import io.atomix.raft.RaftError;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. The response to the initial request may contain the checksums of the files of the
+ * receiver's latest snapshot, such that the leader doesn't need to send the files which the
+ * receiver already has.
+ *
+ * <p>The file checksums are only serialized with SBE, since the legacy format can't be extended in
+ * a compatible way. With the legacy format, the leader always sends all files.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
+  private final transient Map<String, Long> snapshotFileChecksums;
+
   public InstallResponse(final Status status, final RaftError error) {
+    this(status, error, Map.of());
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final Map<String, Long> snapshotFileChecksums) {
     super(status, error);
+    this.snapshotFileChecksums = snapshotFileChecksums;
   }
 
   /**
@@ -40,13 +59,65 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the checksums of the files of the receiver's latest snapshot by their names.
+   *
+   * @return the file checksums, or an empty map if the receiver didn't report any
+   */
+  public Map<String, Long> snapshotFileChecksums() {
+    // is null if deserialized with the legacy format
+    return snapshotFileChecksums == null ? Map.of() : snapshotFileChecksums;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, snapshotFileChecksums());
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof InstallResponse) {
+      final InstallResponse response = (InstallResponse) object;
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && response.snapshotFileChecksums().equals(snapshotFileChecksums());
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("snapshotFiles", snapshotFileChecksums().size())
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private Map<String, Long> snapshotFileChecksums = Map.of();
+
+    /**
+     * Sets the checksums of the files of the receiver's latest snapshot.
+     *
+     * @param snapshotFileChecksums the file checksums by the file names
+     * @return The install response builder.
+     */
+    public Builder withSnapshotFileChecksums(final Map<String, Long> snapshotFileChecksums) {
+      this.snapshotFileChecksums =
+          checkNotNull(snapshotFileChecksums, "snapshotFileChecksums cannot be null");
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, snapshotFileChecksums);
     }
   }
 }
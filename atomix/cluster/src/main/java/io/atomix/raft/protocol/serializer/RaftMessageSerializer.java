@@ -0,0 +1,480 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftResponse;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.AppendRequestDecoder.EntriesDecoder;
+import io.atomix.raft.protocol.serializer.AppendRequestEncoder.EntriesEncoder;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.serializer.RaftEntrySerializer;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes the messages which are exchanged on every heartbeat, election and snapshot replication
+ * (append, poll, vote and install) with the SBE codecs generated from raft-protocol-schema.xml.
+ * Entries of append requests are serialized with the {@link RaftEntrySerializer}. All other
+ * messages, which are rarely sent, are serialized with the given legacy serializer.
+ *
+ * <p>Messages are always deserialized from either format, while SBE is only used to serialize if
+ * enabled. This allows a rolling upgrade in two steps: first all members are updated, such that
+ * they can read both formats, and then SBE serialization is enabled. The formats are told apart by
+ * the first byte, see {@link RaftEntrySerializer}.
+ *
+ * <p>Instances are thread safe; the codecs are kept per thread.
+ */
+public final class RaftMessageSerializer implements Serializer {
+
+  private final ThreadLocal<Codec> codecs = ThreadLocal.withInitial(Codec::new);
+  private final Serializer legacySerializer;
+  private final boolean sbeEnabled;
+
+  /**
+   * @param legacySerializer the serializer for messages which are not serialized with SBE
+   * @param sbeEnabled true if the append, poll, vote and install messages should be serialized with
+   *     SBE, false if they should be serialized with the legacy serializer
+   */
+  public RaftMessageSerializer(final Serializer legacySerializer, final boolean sbeEnabled) {
+    this.legacySerializer = legacySerializer;
+    this.sbeEnabled = sbeEnabled;
+  }
+
+  @Override
+  public <T> byte[] encode(final T object) {
+    if (sbeEnabled) {
+      final Codec codec = codecs.get();
+      final int length = codec.encode(object);
+      if (length > 0) {
+        final byte[] bytes = new byte[length];
+        codec.buffer.getBytes(0, bytes);
+        return bytes;
+      }
+    }
+
+    return legacySerializer.encode(object);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T decode(final byte[] bytes) {
+    final Codec codec = codecs.get();
+    if (codec.isSbeEncoded(bytes)) {
+      return (T) codec.decode();
+    }
+
+    return legacySerializer.decode(bytes);
+  }
+
+  private static final class Codec {
+    private static final byte[] EMPTY = new byte[0];
+
+    private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    private final ExpandableArrayBuffer entryBuffer = new ExpandableArrayBuffer();
+    private final UnsafeBuffer readBuffer = new UnsafeBuffer(0, 0);
+    private final UnsafeBuffer dataView = new UnsafeBuffer(0, 0);
+    private final UnsafeBuffer entryView = new UnsafeBuffer(0, 0);
+    private final RaftEntrySerializer entrySerializer = new RaftEntrySerializer();
+
+    private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+    private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+    private final AppendRequestEncoder appendRequestEncoder = new AppendRequestEncoder();
+    private final AppendRequestDecoder appendRequestDecoder = new AppendRequestDecoder();
+    private final AppendResponseEncoder appendResponseEncoder = new AppendResponseEncoder();
+    private final AppendResponseDecoder appendResponseDecoder = new AppendResponseDecoder();
+    private final PollRequestEncoder pollRequestEncoder = new PollRequestEncoder();
+    private final PollRequestDecoder pollRequestDecoder = new PollRequestDecoder();
+    private final PollResponseEncoder pollResponseEncoder = new PollResponseEncoder();
+    private final PollResponseDecoder pollResponseDecoder = new PollResponseDecoder();
+    private final VoteRequestEncoder voteRequestEncoder = new VoteRequestEncoder();
+    private final VoteRequestDecoder voteRequestDecoder = new VoteRequestDecoder();
+    private final VoteResponseEncoder voteResponseEncoder = new VoteResponseEncoder();
+    private final VoteResponseDecoder voteResponseDecoder = new VoteResponseDecoder();
+    private final InstallRequestEncoder installRequestEncoder = new InstallRequestEncoder();
+    private final InstallRequestDecoder installRequestDecoder = new InstallRequestDecoder();
+    private final InstallResponseEncoder installResponseEncoder = new InstallResponseEncoder();
+    private final InstallResponseDecoder installResponseDecoder = new InstallResponseDecoder();
+
+    /** @return the length of the encoded message, or 0 if the message has no SBE encoding */
+    private int encode(final Object message) {
+      final int bodyLength;
+      if (message instanceof AppendRequest) {
+        bodyLength = encodeAppendRequest((AppendRequest) message);
+      } else if (message instanceof AppendResponse) {
+        bodyLength = encodeAppendResponse((AppendResponse) message);
+      } else if (message instanceof PollRequest) {
+        bodyLength = encodePollRequest((PollRequest) message);
+      } else if (message instanceof PollResponse) {
+        bodyLength = encodePollResponse((PollResponse) message);
+      } else if (message instanceof VoteRequest) {
+        bodyLength = encodeVoteRequest((VoteRequest) message);
+      } else if (message instanceof VoteResponse) {
+        bodyLength = encodeVoteResponse((VoteResponse) message);
+      } else if (message instanceof InstallRequest) {
+        bodyLength = encodeInstallRequest((InstallRequest) message);
+      } else if (message instanceof InstallResponse) {
+        bodyLength = encodeInstallResponse((InstallResponse) message);
+      } else {
+        return 0;
+      }
+
+      return headerEncoder.encodedLength() + bodyLength;
+    }
+
+    private boolean isSbeEncoded(final byte[] bytes) {
+      if (bytes.length < MessageHeaderDecoder.ENCODED_LENGTH || (bytes[0] & 0x80) != 0) {
+        return false;
+      }
+
+      readBuffer.wrap(bytes);
+      headerDecoder.wrap(readBuffer, 0);
+      return headerDecoder.schemaId() == MessageHeaderDecoder.SCHEMA_ID;
+    }
+
+    private Object decode() {
+      final int offset = headerDecoder.encodedLength();
+      final int blockLength = headerDecoder.blockLength();
+      final int version = headerDecoder.version();
+      switch (headerDecoder.templateId()) {
+        case AppendRequestDecoder.TEMPLATE_ID:
+          return decodeAppendRequest(offset, blockLength, version);
+        case AppendResponseDecoder.TEMPLATE_ID:
+          return decodeAppendResponse(offset, blockLength, version);
+        case PollRequestDecoder.TEMPLATE_ID:
+          return decodePollRequest(offset, blockLength, version);
+        case PollResponseDecoder.TEMPLATE_ID:
+          return decodePollResponse(offset, blockLength, version);
+        case VoteRequestDecoder.TEMPLATE_ID:
+          return decodeVoteRequest(offset, blockLength, version);
+        case VoteResponseDecoder.TEMPLATE_ID:
+          return decodeVoteResponse(offset, blockLength, version);
+        case InstallRequestDecoder.TEMPLATE_ID:
+          return decodeInstallRequest(offset, blockLength, version);
+        case InstallResponseDecoder.TEMPLATE_ID:
+          return decodeInstallResponse(offset, blockLength, version);
+        default:
+          throw new IllegalStateException(
+              String.format(
+                  "Expected a known type of message, but got template id %d",
+                  headerDecoder.templateId()));
+      }
+    }
+
+    private int encodeAppendRequest(final AppendRequest request) {
+      appendRequestEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .term(request.term())
+          .prevLogIndex(request.prevLogIndex())
+          .prevLogTerm(request.prevLogTerm())
+          .commitIndex(request.commitIndex());
+
+      final List<RaftLogEntry> entries = request.entries();
+      final List<Long> checksums = request.checksums();
+      final EntriesEncoder entriesEncoder = appendRequestEncoder.entriesCount(entries.size());
+      for (int i = 0; i < entries.size(); i++) {
+        final int entryLength = entrySerializer.serialize(entries.get(i), entryBuffer, 0);
+        entriesEncoder.next().checksum(checksums.get(i)).putEntry(entryBuffer, 0, entryLength);
+      }
+
+      appendRequestEncoder.leader(request.leader().id());
+      return appendRequestEncoder.encodedLength();
+    }
+
+    private AppendRequest decodeAppendRequest(
+        final int offset, final int blockLength, final int version) {
+      appendRequestDecoder.wrap(readBuffer, offset, blockLength, version);
+      final long term = appendRequestDecoder.term();
+      final long prevLogIndex = appendRequestDecoder.prevLogIndex();
+      final long prevLogTerm = appendRequestDecoder.prevLogTerm();
+      final long commitIndex = appendRequestDecoder.commitIndex();
+
+      final EntriesDecoder entriesDecoder = appendRequestDecoder.entries();
+      final List<RaftLogEntry> entries = new ArrayList<>(entriesDecoder.count());
+      final List<Long> checksums = new ArrayList<>(entriesDecoder.count());
+      for (final EntriesDecoder entryDecoder : entriesDecoder) {
+        checksums.add(entryDecoder.checksum());
+        entryDecoder.wrapEntry(entryView);
+        entries.add(entrySerializer.deserialize(entryView, 0, entryView.capacity()));
+      }
+
+      final String leader = appendRequestDecoder.leader();
+      return new AppendRequest(
+          term, leader, prevLogIndex, prevLogTerm, entries, checksums, commitIndex);
+    }
+
+    private int encodeAppendResponse(final AppendResponse response) {
+      appendResponseEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .term(response.term())
+          .succeeded(encodeBoolean(response.succeeded()))
+          .lastLogIndex(response.lastLogIndex())
+          .lastSnapshotIndex(response.lastSnapshotIndex())
+          .errorMessage(encodeErrorMessage(response.error()));
+      return appendResponseEncoder.encodedLength();
+    }
+
+    private AppendResponse decodeAppendResponse(
+        final int offset, final int blockLength, final int version) {
+      appendResponseDecoder.wrap(readBuffer, offset, blockLength, version);
+      final RaftResponse.Status status = decodeStatus(appendResponseDecoder.status());
+      final ErrorType errorType = appendResponseDecoder.errorType();
+      final long term = appendResponseDecoder.term();
+      final boolean succeeded = decodeBoolean(appendResponseDecoder.succeeded());
+      final long lastLogIndex = appendResponseDecoder.lastLogIndex();
+      final long lastSnapshotIndex = appendResponseDecoder.lastSnapshotIndex();
+      final RaftError error = decodeError(errorType, appendResponseDecoder.errorMessage());
+      return new AppendResponse(status, error, term, succeeded, lastLogIndex, lastSnapshotIndex);
+    }
+
+    private int encodePollRequest(final PollRequest request) {
+      pollRequestEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .term(request.term())
+          .lastLogIndex(request.lastLogIndex())
+          .lastLogTerm(request.lastLogTerm())
+          .candidate(request.candidate().id());
+      return pollRequestEncoder.encodedLength();
+    }
+
+    private PollRequest decodePollRequest(
+        final int offset, final int blockLength, final int version) {
+      pollRequestDecoder.wrap(readBuffer, offset, blockLength, version);
+      final long term = pollRequestDecoder.term();
+      final long lastLogIndex = pollRequestDecoder.lastLogIndex();
+      final long lastLogTerm = pollRequestDecoder.lastLogTerm();
+      return new PollRequest(term, pollRequestDecoder.candidate(), lastLogIndex, lastLogTerm);
+    }
+
+    private int encodePollResponse(final PollResponse response) {
+      pollResponseEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .term(response.term())
+          .accepted(encodeBoolean(response.accepted()))
+          .errorMessage(encodeErrorMessage(response.error()));
+      return pollResponseEncoder.encodedLength();
+    }
+
+    private PollResponse decodePollResponse(
+        final int offset, final int blockLength, final int version) {
+      pollResponseDecoder.wrap(readBuffer, offset, blockLength, version);
+      final RaftResponse.Status status = decodeStatus(pollResponseDecoder.status());
+      final ErrorType errorType = pollResponseDecoder.errorType();
+      final long term = pollResponseDecoder.term();
+      final boolean accepted = decodeBoolean(pollResponseDecoder.accepted());
+      final RaftError error = decodeError(errorType, pollResponseDecoder.errorMessage());
+      return new PollResponse(status, error, term, accepted);
+    }
+
+    private int encodeVoteRequest(final VoteRequest request) {
+      voteRequestEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .term(request.term())
+          .lastLogIndex(request.lastLogIndex())
+          .lastLogTerm(request.lastLogTerm())
+          .candidate(request.candidate().id());
+      return voteRequestEncoder.encodedLength();
+    }
+
+    private VoteRequest decodeVoteRequest(
+        final int offset, final int blockLength, final int version) {
+      voteRequestDecoder.wrap(readBuffer, offset, blockLength, version);
+      final long term = voteRequestDecoder.term();
+      final long lastLogIndex = voteRequestDecoder.lastLogIndex();
+      final long lastLogTerm = voteRequestDecoder.lastLogTerm();
+      return new VoteRequest(term, voteRequestDecoder.candidate(), lastLogIndex, lastLogTerm);
+    }
+
+    private int encodeVoteResponse(final VoteResponse response) {
+      voteResponseEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .term(response.term())
+          .voted(encodeBoolean(response.voted()))
+          .errorMessage(encodeErrorMessage(response.error()));
+      return voteResponseEncoder.encodedLength();
+    }
+
+    private VoteResponse decodeVoteResponse(
+        final int offset, final int blockLength, final int version) {
+      voteResponseDecoder.wrap(readBuffer, offset, blockLength, version);
+      final RaftResponse.Status status = decodeStatus(voteResponseDecoder.status());
+      final ErrorType errorType = voteResponseDecoder.errorType();
+      final long term = voteResponseDecoder.term();
+      final boolean voted = decodeBoolean(voteResponseDecoder.voted());
+      final RaftError error = decodeError(errorType, voteResponseDecoder.errorMessage());
+      return new VoteResponse(status, error, term, voted);
+    }
+
+    private int encodeInstallRequest(final InstallRequest request) {
+      installRequestEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .currentTerm(request.currentTerm())
+          .index(request.index())
+          .term(request.term())
+          .version(request.version())
+          .initial(encodeBoolean(request.isInitial()))
+          .complete(encodeBoolean(request.complete()))
+          .leader(request.leader().id());
+
+      wrapRemaining(request.chunkId());
+      installRequestEncoder.putChunkId(dataView, 0, dataView.capacity());
+      wrapRemaining(request.nextChunkId());
+      installRequestEncoder.putNextChunkId(dataView, 0, dataView.capacity());
+      wrapRemaining(request.data());
+      installRequestEncoder.putData(dataView, 0, dataView.capacity());
+      return installRequestEncoder.encodedLength();
+    }
+
+    private InstallRequest decodeInstallRequest(
+        final int offset, final int blockLength, final int version) {
+      installRequestDecoder.wrap(readBuffer, offset, blockLength, version);
+      final long currentTerm = installRequestDecoder.currentTerm();
+      final long index = installRequestDecoder.index();
+      final long term = installRequestDecoder.term();
+      final int snapshotVersion = installRequestDecoder.version();
+      final boolean initial = decodeBoolean(installRequestDecoder.initial());
+      final boolean complete = decodeBoolean(installRequestDecoder.complete());
+      final MemberId leader = MemberId.from(installRequestDecoder.leader());
+
+      final byte[] chunkId = new byte[installRequestDecoder.chunkIdLength()];
+      installRequestDecoder.getChunkId(chunkId, 0, chunkId.length);
+      final byte[] nextChunkId = new byte[installRequestDecoder.nextChunkIdLength()];
+      installRequestDecoder.getNextChunkId(nextChunkId, 0, nextChunkId.length);
+      final byte[] data = new byte[installRequestDecoder.dataLength()];
+      installRequestDecoder.getData(data, 0, data.length);
+
+      return new InstallRequest(
+          currentTerm,
+          leader,
+          index,
+          term,
+          snapshotVersion,
+          ByteBuffer.wrap(chunkId),
+          nextChunkId.length == 0 ? null : ByteBuffer.wrap(nextChunkId),
+          ByteBuffer.wrap(data),
+          initial,
+          complete);
+    }
+
+    private int encodeInstallResponse(final InstallResponse response) {
+      final int fileChecksumsLength = encodeFileChecksums(response.snapshotFileChecksums());
+      installResponseEncoder
+          .wrapAndApplyHeader(buffer, 0, headerEncoder)
+          .status(encodeStatus(response.status()))
+          .errorType(encodeErrorType(response.error()))
+          .errorMessage(encodeErrorMessage(response.error()))
+          .putSnapshotFileChecksums(entryBuffer, 0, fileChecksumsLength);
+      return installResponseEncoder.encodedLength();
+    }
+
+    private InstallResponse decodeInstallResponse(
+        final int offset, final int blockLength, final int version) {
+      installResponseDecoder.wrap(readBuffer, offset, blockLength, version);
+      final RaftResponse.Status status = decodeStatus(installResponseDecoder.status());
+      final ErrorType errorType = installResponseDecoder.errorType();
+      final RaftError error = decodeError(errorType, installResponseDecoder.errorMessage());
+      installResponseDecoder.wrapSnapshotFileChecksums(dataView);
+      return new InstallResponse(status, error, decodeFileChecksums(dataView));
+    }
+
+    /** @return the length of the file names and checksums, encoded into the entry buffer */
+    private int encodeFileChecksums(final Map<String, Long> fileChecksums) {
+      int length = 0;
+      for (final Map.Entry<String, Long> fileChecksum : fileChecksums.entrySet()) {
+        length += entryBuffer.putStringUtf8(length, fileChecksum.getKey(), LITTLE_ENDIAN);
+        entryBuffer.putLong(length, fileChecksum.getValue(), LITTLE_ENDIAN);
+        length += Long.BYTES;
+      }
+      return length;
+    }
+
+    private static Map<String, Long> decodeFileChecksums(final DirectBuffer buffer) {
+      final Map<String, Long> fileChecksums = new HashMap<>();
+      int offset = 0;
+      while (offset < buffer.capacity()) {
+        final String fileName = buffer.getStringUtf8(offset, LITTLE_ENDIAN);
+        offset += Integer.BYTES + buffer.getInt(offset, LITTLE_ENDIAN);
+        fileChecksums.put(fileName, buffer.getLong(offset, LITTLE_ENDIAN));
+        offset += Long.BYTES;
+      }
+      return fileChecksums;
+    }
+
+    private void wrapRemaining(final ByteBuffer byteBuffer) {
+      if (byteBuffer == null) {
+        dataView.wrap(EMPTY);
+      } else {
+        dataView.wrap(byteBuffer, byteBuffer.position(), byteBuffer.remaining());
+      }
+    }
+
+    private static ResponseStatus encodeStatus(final RaftResponse.Status status) {
+      return status == RaftResponse.Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR;
+    }
+
+    private static RaftResponse.Status decodeStatus(final ResponseStatus status) {
+      return status == ResponseStatus.OK ? RaftResponse.Status.OK : RaftResponse.Status.ERROR;
+    }
+
+    private static ErrorType encodeErrorType(final RaftError error) {
+      return error == null ? ErrorType.NULL_VAL : ErrorType.valueOf(error.type().name());
+    }
+
+    private static String encodeErrorMessage(final RaftError error) {
+      return error == null || error.message() == null ? "" : error.message();
+    }
+
+    private static RaftError decodeError(final ErrorType errorType, final String errorMessage) {
+      if (errorType == ErrorType.NULL_VAL) {
+        return null;
+      }
+
+      return new RaftError(
+          RaftError.Type.valueOf(errorType.name()), errorMessage.isEmpty() ? null : errorMessage);
+    }
+
+    private static BooleanType encodeBoolean(final boolean value) {
+      return value ? BooleanType.TRUE : BooleanType.FALSE;
+    }
+
+    private static boolean decodeBoolean(final BooleanType value) {
+      return value == BooleanType.TRUE;
+    }
+  }
+}
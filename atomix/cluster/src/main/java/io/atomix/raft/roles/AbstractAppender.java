@@ -34,6 +34,7 @@ import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftRecord;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.system.Configuration;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
@@ -45,12 +46,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 
 /** Abstract appender. */
 abstract class AbstractAppender implements AutoCloseable {
 
-  protected final int maxBatchSizePerAppend;
   protected final Logger log;
   protected final RaftContext raft;
   protected boolean open = true;
@@ -63,7 +64,6 @@ abstract class AbstractAppender implements AutoCloseable {
         ContextualLoggerFactory.getLogger(
             getClass(), LoggerContext.builder(RaftServer.class).addValue(raft.getName()).build());
     metrics = new LeaderMetrics(raft.getName());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
   }
 
   /**
@@ -140,12 +140,13 @@ abstract class AbstractAppender implements AutoCloseable {
     final List<RaftLogEntry> entries = new ArrayList<>();
     final List<Long> checksums = new ArrayList<>();
 
-    // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
+    // Build a list of entries up to the member's batch size. Note that entries in the log may
     // be null if they've been compacted and the member to which we're sending entries is just
     // joining the cluster or is otherwise far behind. Null entries are simply skipped and not
     // counted towards the size of the batch.
-    // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
+    // If there exists an entry in the log with size >= batch size the logic ensures that
     // entry will be sent in a batch of size one
+    final int maxBatchSize = member.getAppendBatchSize();
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
@@ -155,7 +156,7 @@ abstract class AbstractAppender implements AutoCloseable {
       entries.add(entry.entry());
       checksums.add(entry.checksum());
       size += entry.size();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
@@ -172,9 +173,12 @@ abstract class AbstractAppender implements AutoCloseable {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final int requestSize = getEntriesSize(request);
+    member.startAppend(requestSize);
+    updateReplicationMetrics(member);
 
     final long timestamp = System.currentTimeMillis();
+    final long startTime = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -182,13 +186,17 @@ abstract class AbstractAppender implements AutoCloseable {
         .whenCompleteAsync(
             (response, error) -> {
               // Complete the append to the member.
-              final long appendLatency = System.currentTimeMillis() - timestamp;
-              metrics.appendComplete(appendLatency, member.getMember().memberId().id());
-              if (!request.entries().isEmpty()) {
-                member.completeAppend(appendLatency);
+              final long appendTime = System.nanoTime() - startTime;
+              metrics.appendComplete(
+                  TimeUnit.NANOSECONDS.toMillis(appendTime), member.getMember().memberId().id());
+              if (request.entries().isEmpty()) {
+                member.completeAppend(requestSize);
+              } else if (error == null) {
+                member.completeAppend(appendTime, requestSize);
               } else {
-                member.completeAppend();
+                member.failAppend(appendTime, requestSize);
               }
+              updateReplicationMetrics(member);
 
               if (open) {
                 if (error == null) {
@@ -206,6 +214,32 @@ abstract class AbstractAppender implements AutoCloseable {
     }
   }
 
+  private static int getEntriesSize(final AppendRequest request) {
+    int size = 0;
+    for (final RaftLogEntry entry : request.entries()) {
+      if (entry.isApplicationEntry()) {
+        size += entry.getApplicationEntry().data().remaining();
+      }
+    }
+    return size;
+  }
+
+  private void updateReplicationMetrics(final RaftMemberContext member) {
+    final String memberId = member.getMember().memberId().id();
+    final Configuration configuration = raft.getCluster().getConfiguration();
+    if (!open
+        || (configuration != null && !configuration.members().contains(member.getMember()))) {
+      // the member left the cluster, or this member is no longer the leader
+      metrics.removeFollower(memberId);
+      return;
+    }
+
+    metrics.setAppendWindowSize(memberId, member.getAppendWindowSize());
+    metrics.setInFlightAppendBytes(memberId, member.getInFlightAppendBytes());
+    metrics.setReplicationLag(
+        memberId, Math.max(0, raft.getLog().getLastIndex() - member.getMatchIndex()));
+  }
+
   /** Handles an append failure. */
   protected void handleAppendResponseFailure(
       final RaftMemberContext member, final AppendRequest request, final Throwable error) {
@@ -371,6 +405,7 @@ abstract class AbstractAppender implements AutoCloseable {
     member.startConfigure();
 
     final long timestamp = System.currentTimeMillis();
+    final long startTime = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -469,6 +504,8 @@ abstract class AbstractAppender implements AutoCloseable {
     }
 
     try {
+      // a file may be split into multiple chunks, so the ID of a chunk is not its name
+      final ByteBuffer chunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
 
       // Create the install request, indicating whether this is the last chunk of data based on
@@ -483,7 +520,7 @@ abstract class AbstractAppender implements AutoCloseable {
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
-              .withChunkId(ByteBuffer.wrap(chunk.getChunkName().getBytes()))
+              .withChunkId(chunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
@@ -507,6 +544,7 @@ abstract class AbstractAppender implements AutoCloseable {
     member.startInstall();
 
     final long timestamp = System.currentTimeMillis();
+    final long startTime = System.nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -571,6 +609,12 @@ abstract class AbstractAppender implements AutoCloseable {
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
+    // If the member reported the files of its latest snapshot, skip the files which it already has.
+    else if (isSnapshotFileReport(member, request, response)) {
+      final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+      reader.skipFiles(response.snapshotFileChecksums());
+      member.setNextSnapshotChunk(reader.nextId());
+    }
     // If more install requests remain, increment the member's snapshot offset.
     else {
       member.setNextSnapshotChunk(request.nextChunkId());
@@ -580,6 +624,15 @@ abstract class AbstractAppender implements AutoCloseable {
     appendEntries(member);
   }
 
+  private boolean isSnapshotFileReport(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
+    return request.isInitial()
+        && !response.snapshotFileChecksums().isEmpty()
+        && member.getNextSnapshotIndex() == request.index();
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   protected void handleInstallResponseError(
@@ -599,5 +652,8 @@ abstract class AbstractAppender implements AutoCloseable {
   @Override
   public void close() {
     open = false;
+    for (final RaftMemberContext member : raft.getCluster().getRemoteMemberStates()) {
+      metrics.removeFollower(member.getMember().memberId().id());
+    }
   }
 }
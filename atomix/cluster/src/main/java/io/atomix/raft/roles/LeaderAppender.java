@@ -84,10 +84,14 @@ final class LeaderAppender extends AbstractAppender {
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
     if (raft.getCluster().getActiveMemberStates().isEmpty()) {
-      final long previousCommitIndex = raft.getCommitIndex();
-      raft.setCommitIndex(index);
-      completeCommits(previousCommitIndex, index);
-      return CompletableFuture.completedFuture(index);
+      final long previousCommitIndex = raft.setCommitIndex(index);
+      completeCommits(previousCommitIndex, raft.getCommitIndex());
+      if (index <= raft.getCommitIndex()) {
+        return CompletableFuture.completedFuture(index);
+      }
+
+      // the index is committed once the leader flushed it, see onLogFlushed
+      return appendFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
     }
 
     // Only send entry-specific AppendRequests to active members of the cluster.
@@ -133,6 +137,14 @@ final class LeaderAppender extends AbstractAppender {
     return future;
   }
 
+  /**
+   * Commits the entries which were replicated to a quorum, but could not be committed before
+   * because the leader had not yet flushed them.
+   */
+  void onLogFlushed() {
+    commitEntries();
+  }
+
   /** Completes append entries attempts up to the given index. */
   private void completeCommits(final long previousCommitIndex, final long commitIndex) {
     for (long i = previousCommitIndex + 1; i <= commitIndex; i++) {
@@ -475,9 +487,9 @@ final class LeaderAppender extends AbstractAppender {
     if (members.isEmpty()) {
       final long commitIndex = raft.getLog().getLastIndex();
       final long previousCommitIndex = raft.setCommitIndex(commitIndex);
-      if (commitIndex > previousCommitIndex) {
-        log.trace("Committed entries up to {}", commitIndex);
-        completeCommits(previousCommitIndex, commitIndex);
+      if (raft.getCommitIndex() > previousCommitIndex) {
+        log.trace("Committed entries up to {}", raft.getCommitIndex());
+        completeCommits(previousCommitIndex, raft.getCommitIndex());
       }
       return;
     }
@@ -493,9 +505,9 @@ final class LeaderAppender extends AbstractAppender {
     if (commitIndex > 0
         && commitIndex > previousCommitIndex
         && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
-      log.trace("Committed entries up to {}", commitIndex);
       raft.setCommitIndex(commitIndex);
-      completeCommits(previousCommitIndex, commitIndex);
+      log.trace("Committed entries up to {}", raft.getCommitIndex());
+      completeCommits(previousCommitIndex, raft.getCommitIndex());
     }
   }
 
@@ -39,7 +39,9 @@ import io.atomix.raft.protocol.TransferRequest;
 import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.log.IndexedRaftRecord;
+import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.log.entry.ApplicationEntry;
 import io.atomix.raft.storage.log.entry.ConfigurationEntry;
@@ -68,6 +70,7 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
   private long configuring;
   private CompletableFuture<Void> commitInitialEntriesFuture;
   private ApplicationEntry lastZbEntry = null;
+  private RaftLogFlusher logFlusher;
 
   public LeaderRole(final RaftContext context) {
     super(context);
@@ -83,6 +86,10 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
     // configuration.
     appendInitialEntries().join();
 
+    // The initial entries are flushed when the flusher is created, so the leader's no-op entry is
+    // always durable before any entry is committed.
+    startLogFlusher();
+
     // Commit the initial leader entries.
     commitInitialEntriesFuture = commitInitialEntries();
 
@@ -94,6 +101,7 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
   @Override
   public synchronized CompletableFuture<Void> stop() {
     return super.stop()
+        .thenRun(this::stopLogFlusher)
         .thenRun(appender::close)
         .thenRun(this::cancelTimers)
         .thenRun(this::stepDown);
@@ -233,6 +241,38 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
     raft.getCluster().getRemoteMemberStates().forEach(m -> m.resetState(raft.getLog()));
   }
 
+  /** Starts flushing the log in groups, if enabled. */
+  private void startLogFlusher() {
+    final RaftStorage storage = raft.getStorage();
+    if (!raft.getLog().shouldFlushExplicitly() || !storage.isGroupCommitEnabled()) {
+      return;
+    }
+
+    logFlusher =
+        new RaftLogFlusher(
+            raft.getName(),
+            raft.getLog(),
+            storage.getGroupCommitWindow(),
+            storage.getGroupCommitMaxBytes(),
+            durableIndex -> raft.getThreadContext().execute(this::onLogFlushed));
+    raft.setLogFlusher(logFlusher);
+  }
+
+  private void stopLogFlusher() {
+    if (logFlusher != null) {
+      raft.setLogFlusher(null);
+      logFlusher.close();
+      logFlusher = null;
+    }
+  }
+
+  private void onLogFlushed() {
+    // the flusher may have notified before it was stopped
+    if (logFlusher != null) {
+      appender.onLogFlushed();
+    }
+  }
+
   /** Appends initial entries to the log to take leadership. */
   private CompletableFuture<Void> appendInitialEntries() {
     final long term = raft.getTerm();
@@ -518,6 +558,9 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
 
     try {
       final IndexedRaftRecord indexedEntry = raft.getLog().append(entry);
+      if (logFlusher != null) {
+        logFlusher.onAppend(indexedEntry);
+      }
       raft.getReplicationMetrics().setAppendIndex(indexedEntry.index());
       log.trace("Appended {}", indexedEntry);
       resultingFuture = CompletableFuture.completedFuture(indexedEntry);
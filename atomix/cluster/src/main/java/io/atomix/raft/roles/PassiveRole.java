@@ -41,7 +41,9 @@ import io.atomix.utils.concurrent.ThreadContext;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.PersistedSnapshotListener;
 import io.zeebe.snapshots.raft.ReceivedSnapshot;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -199,6 +201,10 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    // The files of the latest snapshot are reported in the response to the initial request, such
+    // that the leader doesn't send the files which are not changed. They are linked on persist.
+    Map<String, Long> snapshotFileChecksums = Map.of();
+
     // If there is no pending snapshot, create a new snapshot.
     if (pendingSnapshot == null) {
       // if we have no pending snapshot then the request must be the first chunk, otherwise we could
@@ -218,6 +224,10 @@ public class PassiveRole extends InactiveRole {
       log.info("Started receiving new snapshot {} from {}", pendingSnapshot, request.leader());
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
       snapshotReplicationMetrics.incrementCount();
+
+      if (!request.complete()) {
+        snapshotFileChecksums = getLatestSnapshotFileChecksums();
+      }
     } else {
       // fail the request if this is not the expected next chunk
       if (!isExpectedChunk(request.chunkId())) {
@@ -279,11 +289,28 @@ public class PassiveRole extends InactiveRole {
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
     } else {
-      setNextExpected(request.nextChunkId());
+      // if the leader skips the reported files, the next chunk is not known
+      setNextExpected(snapshotFileChecksums.isEmpty() ? request.nextChunkId() : null);
     }
 
     return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+        logResponse(
+            InstallResponse.builder()
+                .withStatus(RaftResponse.Status.OK)
+                .withSnapshotFileChecksums(snapshotFileChecksums)
+                .build()));
+  }
+
+  private Map<String, Long> getLatestSnapshotFileChecksums() {
+    try {
+      return raft.getPersistedSnapshotStore()
+          .getLatestSnapshot()
+          .map(PersistedSnapshot::getFileChecksums)
+          .orElse(Map.of());
+    } catch (final UncheckedIOException e) {
+      log.warn("Failed to read the file checksums of the latest snapshot, receive all files", e);
+      return Map.of();
+    }
   }
 
   @Override
@@ -33,6 +33,8 @@ public final class SnapshotChunkImpl
   private String snapshotId;
   private int totalCount;
   private String chunkName;
+  private long fileBlockPosition;
+  private long totalFileSize;
   private long checksum;
   private long snapshotChecksum;
 
@@ -42,6 +44,8 @@ public final class SnapshotChunkImpl
     snapshotId = chunk.getSnapshotId();
     totalCount = chunk.getTotalCount();
     chunkName = chunk.getChunkName();
+    fileBlockPosition = chunk.getFileBlockPosition();
+    totalFileSize = chunk.getTotalFileSize();
     checksum = chunk.getChecksum();
     snapshotChecksum = chunk.getSnapshotChecksum();
     content.wrap(chunk.getContent());
@@ -62,6 +66,8 @@ public final class SnapshotChunkImpl
     super.reset();
 
     totalCount = SnapshotChunkDecoder.totalCountNullValue();
+    fileBlockPosition = SnapshotChunkDecoder.fileBlockPositionNullValue();
+    totalFileSize = SnapshotChunkDecoder.totalFileSizeNullValue();
     checksum = SnapshotChunkDecoder.checksumNullValue();
     snapshotChecksum = SnapshotChunkDecoder.snapshotChecksumNullValue();
 
@@ -91,6 +97,8 @@ public final class SnapshotChunkImpl
         .chunkName(chunkName)
         .checksum(checksum)
         .snapshotChecksum(snapshotChecksum)
+        .fileBlockPosition(fileBlockPosition)
+        .totalFileSize(totalFileSize)
         .putContent(content, 0, content.capacity());
   }
 
@@ -103,10 +111,18 @@ public final class SnapshotChunkImpl
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
     snapshotChecksum = decoder.snapshotChecksum();
+    fileBlockPosition = decoder.fileBlockPosition();
+    totalFileSize = decoder.totalFileSize();
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
     }
+
+    if (fileBlockPosition == SnapshotChunkDecoder.fileBlockPositionNullValue()) {
+      // chunks of older versions contain a whole file
+      fileBlockPosition = 0;
+      totalFileSize = content.capacity();
+    }
   }
 
   @Override
@@ -124,6 +140,16 @@ public final class SnapshotChunkImpl
     return chunkName;
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return fileBlockPosition;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return totalFileSize;
+  }
+
   @Override
   public long getChecksum() {
     return checksum;
@@ -134,6 +160,11 @@ public final class SnapshotChunkImpl
     return BufferUtil.bufferAsArray(content);
   }
 
+  @Override
+  public int getContentLength() {
+    return content.capacity();
+  }
+
   @Override
   public long getSnapshotChecksum() {
     return snapshotChecksum;
@@ -149,6 +180,10 @@ public final class SnapshotChunkImpl
         + ", chunkName='"
         + chunkName
         + '\''
+        + ", fileBlockPosition="
+        + fileBlockPosition
+        + ", totalFileSize="
+        + totalFileSize
         + ", checksum="
         + checksum
         + ", snapshotChecksum="
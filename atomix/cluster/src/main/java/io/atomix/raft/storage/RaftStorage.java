@@ -31,6 +31,7 @@ import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.function.Predicate;
 import org.agrona.IoUtil;
 
@@ -62,6 +63,10 @@ public final class RaftStorage {
   private final boolean flushExplicitly;
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
+  private final boolean preallocateSegmentFiles;
+  private final Duration groupCommitWindow;
+  private final int groupCommitMaxBytes;
+  private final boolean sbeSerialization;
 
   private RaftStorage(
       final String prefix,
@@ -72,7 +77,11 @@ public final class RaftStorage {
       final long freeDiskSpace,
       final boolean flushExplicitly,
       final ReceivableSnapshotStore persistedSnapshotStore,
-      final int journalIndexDensity) {
+      final int journalIndexDensity,
+      final boolean preallocateSegmentFiles,
+      final Duration groupCommitWindow,
+      final int groupCommitMaxBytes,
+      final boolean sbeSerialization) {
     this.prefix = prefix;
     this.directory = directory;
     this.namespace = namespace;
@@ -82,6 +91,10 @@ public final class RaftStorage {
     this.flushExplicitly = flushExplicitly;
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.groupCommitWindow = groupCommitWindow;
+    this.groupCommitMaxBytes = groupCommitMaxBytes;
+    this.sbeSerialization = sbeSerialization;
 
     IoUtil.ensureDirectoryExists(directory, prefix + " raft partition storage");
   }
@@ -240,6 +253,8 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withFlushExplicitly(flushExplicitly)
         .withJournalIndexDensity(journalIndexDensity)
+        .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withSbeSerialization(sbeSerialization)
         .build();
   }
 
@@ -270,6 +285,35 @@ public final class RaftStorage {
     return flushExplicitly;
   }
 
+  /**
+   * Returns whether the leader flushes appended entries in groups on a dedicated thread, instead of
+   * flushing on the Raft thread whenever the commit index advances.
+   *
+   * @return true if group commit is enabled
+   */
+  public boolean isGroupCommitEnabled() {
+    return !groupCommitWindow.isZero();
+  }
+
+  /**
+   * Returns the maximum time an appended entry waits for other entries to be flushed together.
+   *
+   * @return the group commit window
+   */
+  public Duration getGroupCommitWindow() {
+    return groupCommitWindow;
+  }
+
+  /**
+   * Returns the amount of appended bytes which triggers a flush before the group commit window
+   * elapsed.
+   *
+   * @return the group commit byte threshold
+   */
+  public int getGroupCommitMaxBytes() {
+    return groupCommitMaxBytes;
+  }
+
   /**
    * Builds a {@link RaftStorage} configuration.
    *
@@ -296,6 +340,9 @@ public final class RaftStorage {
     private static final long DEFAULT_FREE_DISK_SPACE = 1024L * 1024 * 1024;
     private static final boolean DEFAULT_FLUSH_EXPLICITLY = true;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+    private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = false;
+    private static final Duration DEFAULT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+    private static final int DEFAULT_GROUP_COMMIT_MAX_BYTES = 1024 * 1024;
 
     private String prefix = DEFAULT_PREFIX;
     private File directory = new File(DEFAULT_DIRECTORY);
@@ -306,6 +353,10 @@ public final class RaftStorage {
     private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+    private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private Duration groupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+    private int groupCommitMaxBytes = DEFAULT_GROUP_COMMIT_MAX_BYTES;
+    private boolean sbeSerialization = false;
 
     private Builder() {}
 
@@ -436,6 +487,61 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the files of new log segments are fully allocated up front, such that the disk
+     * space is reserved and appends do not trigger page faults.
+     *
+     * @param preallocateSegmentFiles true to pre-allocate segment files
+     * @return The storage builder.
+     */
+    public Builder withPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+      this.preallocateSegmentFiles = preallocateSegmentFiles;
+      return this;
+    }
+
+    /**
+     * Sets the group commit window. If it is positive, the leader flushes appended entries on a
+     * dedicated thread, and entries appended within the window are flushed together. Entries are
+     * only committed once they are flushed. Defaults to zero, which flushes the log on the Raft
+     * thread whenever the commit index advances.
+     *
+     * @param groupCommitWindow the maximum time an appended entry waits to be flushed
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the window is negative
+     */
+    public Builder withGroupCommitWindow(final Duration groupCommitWindow) {
+      checkNotNull(groupCommitWindow, "groupCommitWindow cannot be null");
+      checkArgument(!groupCommitWindow.isNegative(), "groupCommitWindow must not be negative");
+      this.groupCommitWindow = groupCommitWindow;
+      return this;
+    }
+
+    /**
+     * Sets the amount of appended bytes which triggers a flush before the group commit window
+     * elapsed. Defaults to 1 MB.
+     *
+     * @param groupCommitMaxBytes the group commit byte threshold
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the threshold is not positive
+     */
+    public Builder withGroupCommitMaxBytes(final int groupCommitMaxBytes) {
+      checkArgument(groupCommitMaxBytes > 0, "groupCommitMaxBytes must be positive");
+      this.groupCommitMaxBytes = groupCommitMaxBytes;
+      return this;
+    }
+
+    /**
+     * Sets whether new log entries are serialized with SBE instead of Kryo. Entries are always read
+     * in either format.
+     *
+     * @param sbeSerialization true to serialize new entries with SBE
+     * @return The storage builder.
+     */
+    public Builder withSbeSerialization(final boolean sbeSerialization) {
+      this.sbeSerialization = sbeSerialization;
+      return this;
+    }
+
     /**
      * Builds the {@link RaftStorage} object.
      *
@@ -452,7 +558,11 @@ public final class RaftStorage {
           freeDiskSpace,
           flushExplicitly,
           persistedSnapshotStore,
-          journalIndexDensity);
+          journalIndexDensity,
+          preallocateSegmentFiles,
+          groupCommitWindow,
+          groupCommitMaxBytes,
+          sbeSerialization);
     }
   }
 }
@@ -20,6 +20,7 @@ import io.atomix.raft.partition.impl.RaftNamespaces;
 import io.atomix.raft.storage.log.RaftLogReader.Mode;
 import io.atomix.raft.storage.log.entry.ApplicationEntry;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.atomix.utils.serializer.Namespace;
 import io.zeebe.journal.Journal;
 import io.zeebe.journal.JournalRecord;
@@ -29,6 +30,7 @@ import java.io.Closeable;
 import java.io.File;
 import java.util.Objects;
 import org.agrona.CloseHelper;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 /** Raft log. */
@@ -36,15 +38,24 @@ public class RaftLog implements Closeable {
   private final Journal journal;
   private final Namespace serializer;
   private final boolean flushExplicitly;
+  private final boolean sbeSerialization;
+  private final RaftEntrySerializer entrySerializer;
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final UnsafeBuffer writeView = new UnsafeBuffer(0, 0);
 
   private IndexedRaftRecord lastAppendedEntry;
   private volatile long commitIndex;
 
   protected RaftLog(
-      final Journal journal, final Namespace serializer, final boolean flushExplicitly) {
+      final Journal journal,
+      final Namespace serializer,
+      final boolean flushExplicitly,
+      final boolean sbeSerialization) {
     this.journal = journal;
     this.serializer = serializer;
     this.flushExplicitly = flushExplicitly;
+    this.sbeSerialization = sbeSerialization;
+    entrySerializer = new RaftEntrySerializer(serializer);
   }
 
   /**
@@ -134,19 +145,24 @@ public class RaftLog implements Closeable {
 
   @SuppressWarnings("unchecked")
   public IndexedRaftRecord append(final RaftLogEntry entry) {
-    final byte[] serializedEntry = serializer.serialize(entry);
-    final JournalRecord journalRecord;
+    if (sbeSerialization) {
+      // the journal copies the entry, so the buffer can be reused for the next one
+      writeView.wrap(writeBuffer, 0, entrySerializer.serialize(entry, writeBuffer, 0));
+    } else {
+      writeView.wrap(serializer.serialize(entry));
+    }
 
+    final JournalRecord journalRecord;
     if (entry.isApplicationEntry()) {
       final ApplicationEntry asqnEntry = entry.getApplicationEntry();
-      journalRecord = journal.append(asqnEntry.lowestPosition(), new UnsafeBuffer(serializedEntry));
+      journalRecord = journal.append(asqnEntry.lowestPosition(), writeView);
     } else {
-      journalRecord = journal.append(new UnsafeBuffer(serializedEntry));
+      journalRecord = journal.append(writeView);
     }
 
     lastAppendedEntry =
         new IndexedRaftRecord(
-            journalRecord.index(), entry, serializedEntry.length, journalRecord.checksum());
+            journalRecord.index(), entry, writeView.capacity(), journalRecord.checksum());
     return lastAppendedEntry;
   }
 
@@ -184,6 +200,8 @@ public class RaftLog implements Closeable {
         + serializer
         + ", flushExplicitly="
         + flushExplicitly
+        + ", sbeSerialization="
+        + sbeSerialization
         + ", lastWrittenEntry="
         + lastAppendedEntry
         + ", commitIndex="
@@ -195,6 +213,7 @@ public class RaftLog implements Closeable {
 
     private final SegmentedJournalBuilder journalBuilder = SegmentedJournal.builder();
     private boolean flushExplicitly = true;
+    private boolean sbeSerialization = false;
     private Namespace namespace = RaftNamespaces.RAFT_STORAGE;
 
     protected Builder() {}
@@ -313,10 +332,35 @@ public class RaftLog implements Closeable {
       return this;
     }
 
+    /**
+     * Sets whether the files of new segments are fully allocated up front, see {@link
+     * SegmentedJournalBuilder#withPreallocateSegmentFiles(boolean)}.
+     *
+     * @param preallocateSegmentFiles true to pre-allocate segment files
+     * @return this builder for chaining
+     */
+    public Builder withPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+      journalBuilder.withPreallocateSegmentFiles(preallocateSegmentFiles);
+      return this;
+    }
+
+    /**
+     * Sets whether new entries are serialized with SBE instead of Kryo. Entries are always read in
+     * either format, see {@link RaftEntrySerializer}, but a log with SBE entries cannot be read by
+     * versions which only know Kryo.
+     *
+     * @param sbeSerialization true to serialize new entries with SBE
+     * @return this builder for chaining
+     */
+    public Builder withSbeSerialization(final boolean sbeSerialization) {
+      this.sbeSerialization = sbeSerialization;
+      return this;
+    }
+
     @Override
     public RaftLog build() {
       final Journal journal = journalBuilder.build();
-      return new RaftLog(journal, namespace, flushExplicitly);
+      return new RaftLog(journal, namespace, flushExplicitly, sbeSerialization);
     }
   }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
+import io.atomix.raft.metrics.RaftFlushMetrics;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Flushes the log on a dedicated thread, such that the Raft thread does not block on flushing when
+ * the leader commits entries (group commit). Appended entries are coalesced, and flushed once the
+ * group commit window has elapsed since the first pending append, or once the pending bytes reach
+ * the configured threshold, whichever comes first.
+ *
+ * <p>After each flush, the durable index is advanced to the last entry which was appended before
+ * the flush started, and the flush listener is notified with it. The listener is called on the
+ * flusher thread.
+ */
+public final class RaftLogFlusher implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RaftLogFlusher.class);
+
+  private final RaftLog log;
+  private final long windowNanos;
+  private final long maxBytes;
+  private final RaftFlushMetrics metrics;
+  private final LongConsumer flushListener;
+  private final Thread thread;
+
+  // guarded by this
+  private long requestedIndex;
+  private int pendingEntries;
+  private long pendingBytes;
+  private boolean closed;
+
+  private volatile long durableIndex;
+
+  /**
+   * Flushes the given log, such that every entry appended so far is durable, and starts the flusher
+   * thread.
+   *
+   * @param name the name of the partition, used to name the thread and for the metrics
+   * @param log the log to flush
+   * @param window the maximum time an appended entry waits for others before it is flushed
+   * @param maxBytes the amount of appended bytes which triggers a flush before the window elapsed
+   * @param flushListener called with the new durable index after each flush
+   */
+  public RaftLogFlusher(
+      final String name,
+      final RaftLog log,
+      final Duration window,
+      final long maxBytes,
+      final LongConsumer flushListener) {
+    this.log = log;
+    windowNanos = window.toNanos();
+    this.maxBytes = maxBytes;
+    this.flushListener = flushListener;
+    metrics = new RaftFlushMetrics(name);
+
+    log.flush();
+    durableIndex = log.getLastIndex();
+    requestedIndex = durableIndex;
+
+    thread = namedThreads("raft-log-flusher-" + name, LOG).newThread(this::run);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * Returns the index up to which all entries are flushed. Entries which were appended but not yet
+   * flushed must not be counted as replicated on this member.
+   *
+   * @return the durable index
+   */
+  public long getDurableIndex() {
+    return durableIndex;
+  }
+
+  /**
+   * Requests the given entry to be flushed. Must be called after the entry was appended to the log,
+   * in the order of appending.
+   *
+   * @param record the appended entry
+   */
+  public synchronized void onAppend(final IndexedRaftRecord record) {
+    requestedIndex = record.index();
+    pendingEntries++;
+    pendingBytes += record.size();
+
+    // the flusher only needs to be woken up to start a new window, or to cut the current one short
+    if (pendingEntries == 1 || pendingBytes >= maxBytes) {
+      notifyAll();
+    }
+  }
+
+  /**
+   * Stops the flusher thread. Waits for a flush in progress, but does not flush pending entries,
+   * which is left to the next leader or to closing the log.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      notifyAll();
+    }
+
+    try {
+      thread.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      final long index;
+      final int entries;
+      final long bytes;
+      synchronized (this) {
+        try {
+          if (!awaitBatch()) {
+            return;
+          }
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        index = requestedIndex;
+        entries = pendingEntries;
+        bytes = pendingBytes;
+        pendingEntries = 0;
+        pendingBytes = 0;
+      }
+
+      final long startTime = System.nanoTime();
+      try {
+        log.flush();
+      } catch (final RuntimeException e) {
+        // the requested index is kept, so the flush is retried after the next window
+        LOG.error("Failed to flush the log up to index {}", index, e);
+        continue;
+      }
+      metrics.observeFlush(entries, bytes, System.nanoTime() - startTime);
+
+      durableIndex = index;
+      flushListener.accept(index);
+    }
+  }
+
+  /** @return false if the flusher was closed while waiting */
+  private boolean awaitBatch() throws InterruptedException {
+    while (!closed && requestedIndex <= durableIndex) {
+      wait();
+    }
+
+    final long deadline = System.nanoTime() + windowNanos;
+    long remainingNanos = windowNanos;
+    while (!closed && pendingBytes < maxBytes && remainingNanos > 0) {
+      TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+      remainingNanos = deadline - System.nanoTime();
+    }
+
+    return !closed;
+  }
+}
@@ -17,9 +17,9 @@
 package io.atomix.raft.storage.log;
 
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.zeebe.journal.JournalReader;
 import io.zeebe.journal.JournalRecord;
-import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
 
@@ -28,6 +28,7 @@ public class RaftLogReader implements java.util.Iterator<IndexedRaftRecord>, Aut
   private final RaftLog log;
   private final JournalReader journalReader;
   private final RaftLogReader.Mode mode;
+  private final RaftEntrySerializer serializer;
 
   // NOTE: nextIndex is only used if the reader is in commit mode, hence why it's not subject to
   // inconsistencies when the log is truncated/compacted/etc.
@@ -38,6 +39,7 @@ public class RaftLogReader implements java.util.Iterator<IndexedRaftRecord>, Aut
     this.log = log;
     this.journalReader = journalReader;
     this.mode = mode;
+    serializer = new RaftEntrySerializer(log.getSerializer());
 
     nextIndex = log.getFirstIndex();
   }
@@ -54,11 +56,12 @@ public class RaftLogReader implements java.util.Iterator<IndexedRaftRecord>, Aut
     }
 
     final JournalRecord journalRecord = journalReader.next();
-    final RaftLogEntry entry = deserialize(journalRecord.data());
+    final DirectBuffer data = journalRecord.data();
+    final RaftLogEntry entry = serializer.deserialize(data, 0, data.capacity());
 
     nextIndex = journalRecord.index() + 1;
     return new IndexedRaftRecord(
-        journalRecord.index(), entry, journalRecord.data().capacity(), journalRecord.checksum());
+        journalRecord.index(), entry, data.capacity(), journalRecord.checksum());
   }
 
   public long reset() {
@@ -108,31 +111,6 @@ public class RaftLogReader implements java.util.Iterator<IndexedRaftRecord>, Aut
     journalReader.close();
   }
 
-  /**
-   * Deserializes given DirectBuffer to Object using Kryo instance in pool.
-   *
-   * @param buffer input with serialized bytes
-   * @param <T> deserialized Object type
-   * @return deserialized Object
-   */
-  private <T> T deserialize(final DirectBuffer buffer) {
-    final ByteBuffer byteBufferView;
-
-    if (buffer.byteArray() != null) {
-      byteBufferView =
-          ByteBuffer.wrap(buffer.byteArray(), buffer.wrapAdjustment(), buffer.capacity());
-    } else {
-      byteBufferView =
-          buffer
-              .byteBuffer()
-              .asReadOnlyBuffer()
-              .position(buffer.wrapAdjustment())
-              .limit(buffer.wrapAdjustment() + buffer.capacity());
-    }
-
-    return log.getSerializer().deserialize(byteBufferView);
-  }
-
   /** Raft log reader mode. */
   public enum Mode {
 
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.serializer;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.log.entry.ApplicationEntry;
+import io.atomix.raft.storage.log.entry.ConfigurationEntry;
+import io.atomix.raft.storage.log.entry.InitialEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.serializer.ConfigurationEntryDecoder.MembersDecoder;
+import io.atomix.raft.storage.serializer.ConfigurationEntryEncoder.MembersEncoder;
+import io.atomix.utils.serializer.Namespace;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes {@link RaftLogEntry}s with the SBE codecs generated from raft-entry-schema.xml.
+ *
+ * <p>Entries which were serialized with Kryo, by previous versions or if SBE serialization is
+ * disabled, are still deserialized with the given namespace. Kryo starts each entry with the
+ * registration id of its class as a varint, and since all ids are larger than 127 the most
+ * significant bit of the first byte is always set. An SBE encoded entry starts with the block
+ * length of its message, which is always smaller than 128, so the first byte tells both formats
+ * apart.
+ *
+ * <p>Instances are not thread safe, since they reuse the codecs.
+ */
+public final class RaftEntrySerializer {
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final InitialEntryEncoder initialEntryEncoder = new InitialEntryEncoder();
+  private final InitialEntryDecoder initialEntryDecoder = new InitialEntryDecoder();
+  private final ApplicationEntryEncoder applicationEntryEncoder = new ApplicationEntryEncoder();
+  private final ApplicationEntryDecoder applicationEntryDecoder = new ApplicationEntryDecoder();
+  private final ConfigurationEntryEncoder configurationEntryEncoder =
+      new ConfigurationEntryEncoder();
+  private final ConfigurationEntryDecoder configurationEntryDecoder =
+      new ConfigurationEntryDecoder();
+  private final UnsafeBuffer dataView = new UnsafeBuffer(0, 0);
+  private final Namespace legacySerializer;
+
+  public RaftEntrySerializer() {
+    this(RaftNamespaces.RAFT_STORAGE);
+  }
+
+  /** @param legacySerializer the namespace to deserialize entries which were written with Kryo */
+  public RaftEntrySerializer(final Namespace legacySerializer) {
+    this.legacySerializer = legacySerializer;
+  }
+
+  /**
+   * Serializes the entry into the given buffer, which must be large enough or expandable.
+   *
+   * @param entry the entry to serialize
+   * @param buffer the buffer to write to
+   * @param offset the offset in the buffer to start writing at
+   * @return the length of the serialized entry
+   */
+  public int serialize(
+      final RaftLogEntry entry, final MutableDirectBuffer buffer, final int offset) {
+    if (entry.isApplicationEntry()) {
+      return serializeApplicationEntry(entry, buffer, offset);
+    } else if (entry.isConfigurationEntry()) {
+      return serializeConfigurationEntry(entry, buffer, offset);
+    } else if (entry.isInitialEntry()) {
+      initialEntryEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder).term(entry.term());
+      return headerEncoder.encodedLength() + initialEntryEncoder.encodedLength();
+    }
+
+    throw new IllegalArgumentException(
+        String.format("Expected a known type of entry, but got %s", entry.entry()));
+  }
+
+  /**
+   * Deserializes an entry which was serialized either with SBE, or with Kryo by previous versions.
+   *
+   * @param buffer the buffer to read from
+   * @param offset the offset of the entry in the buffer
+   * @param length the length of the serialized entry
+   * @return the deserialized entry
+   */
+  public RaftLogEntry deserialize(final DirectBuffer buffer, final int offset, final int length) {
+    if (!isSbeEncoded(buffer, offset, length)) {
+      return legacySerializer.deserialize(legacyView(buffer, offset, length));
+    }
+
+    final int bodyOffset = offset + headerDecoder.encodedLength();
+    final int blockLength = headerDecoder.blockLength();
+    final int version = headerDecoder.version();
+    switch (headerDecoder.templateId()) {
+      case ApplicationEntryDecoder.TEMPLATE_ID:
+        return deserializeApplicationEntry(buffer, bodyOffset, blockLength, version);
+      case ConfigurationEntryDecoder.TEMPLATE_ID:
+        return deserializeConfigurationEntry(buffer, bodyOffset, blockLength, version);
+      case InitialEntryDecoder.TEMPLATE_ID:
+        initialEntryDecoder.wrap(buffer, bodyOffset, blockLength, version);
+        return new RaftLogEntry(initialEntryDecoder.term(), new InitialEntry());
+      default:
+        throw new IllegalStateException(
+            String.format(
+                "Expected a known type of entry, but got template id %d",
+                headerDecoder.templateId()));
+    }
+  }
+
+  private boolean isSbeEncoded(final DirectBuffer buffer, final int offset, final int length) {
+    if (length < MessageHeaderDecoder.ENCODED_LENGTH || (buffer.getByte(offset) & 0x80) != 0) {
+      return false;
+    }
+
+    headerDecoder.wrap(buffer, offset);
+    return headerDecoder.schemaId() == MessageHeaderDecoder.SCHEMA_ID;
+  }
+
+  private int serializeApplicationEntry(
+      final RaftLogEntry entry, final MutableDirectBuffer buffer, final int offset) {
+    final ApplicationEntry applicationEntry = entry.getApplicationEntry();
+    final ByteBuffer data = applicationEntry.data();
+    dataView.wrap(data, data.position(), data.remaining());
+
+    applicationEntryEncoder
+        .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .term(entry.term())
+        .lowestPosition(applicationEntry.lowestPosition())
+        .highestPosition(applicationEntry.highestPosition())
+        .putData(dataView, 0, dataView.capacity());
+    return headerEncoder.encodedLength() + applicationEntryEncoder.encodedLength();
+  }
+
+  private RaftLogEntry deserializeApplicationEntry(
+      final DirectBuffer buffer, final int offset, final int blockLength, final int version) {
+    applicationEntryDecoder.wrap(buffer, offset, blockLength, version);
+    final long term = applicationEntryDecoder.term();
+    final long lowestPosition = applicationEntryDecoder.lowestPosition();
+    final long highestPosition = applicationEntryDecoder.highestPosition();
+
+    // the entry outlives the buffer, which may be reused or unmapped, so the data must be copied
+    final byte[] data = new byte[applicationEntryDecoder.dataLength()];
+    applicationEntryDecoder.getData(data, 0, data.length);
+
+    return new RaftLogEntry(
+        term, new ApplicationEntry(lowestPosition, highestPosition, ByteBuffer.wrap(data)));
+  }
+
+  private int serializeConfigurationEntry(
+      final RaftLogEntry entry, final MutableDirectBuffer buffer, final int offset) {
+    final ConfigurationEntry configurationEntry = entry.getConfigurationEntry();
+    configurationEntryEncoder
+        .wrapAndApplyHeader(buffer, offset, headerEncoder)
+        .term(entry.term())
+        .timestamp(configurationEntry.timestamp());
+
+    final MembersEncoder membersEncoder =
+        configurationEntryEncoder.membersCount(configurationEntry.members().size());
+    for (final RaftMember member : configurationEntry.members()) {
+      final Instant updated = member.getLastUpdated();
+      membersEncoder
+          .next()
+          .memberType(MemberType.valueOf(member.getType().name()))
+          .updatedSeconds(updated.getEpochSecond())
+          .updatedNanos(updated.getNano())
+          .memberId(member.memberId().id());
+    }
+
+    return headerEncoder.encodedLength() + configurationEntryEncoder.encodedLength();
+  }
+
+  private RaftLogEntry deserializeConfigurationEntry(
+      final DirectBuffer buffer, final int offset, final int blockLength, final int version) {
+    configurationEntryDecoder.wrap(buffer, offset, blockLength, version);
+    final long term = configurationEntryDecoder.term();
+    final long timestamp = configurationEntryDecoder.timestamp();
+
+    final MembersDecoder membersDecoder = configurationEntryDecoder.members();
+    final List<RaftMember> members = new ArrayList<>(membersDecoder.count());
+    for (final MembersDecoder memberDecoder : membersDecoder) {
+      final RaftMember.Type type = RaftMember.Type.valueOf(memberDecoder.memberType().name());
+      final Instant updated =
+          Instant.ofEpochSecond(memberDecoder.updatedSeconds(), memberDecoder.updatedNanos());
+      members.add(new DefaultRaftMember(MemberId.from(memberDecoder.memberId()), type, updated));
+    }
+
+    return new RaftLogEntry(term, new ConfigurationEntry(timestamp, members));
+  }
+
+  private static ByteBuffer legacyView(
+      final DirectBuffer buffer, final int offset, final int length) {
+    if (buffer.byteArray() != null) {
+      return ByteBuffer.wrap(buffer.byteArray(), buffer.wrapAdjustment() + offset, length);
+    }
+
+    return buffer
+        .byteBuffer()
+        .asReadOnlyBuffer()
+        .position(buffer.wrapAdjustment() + offset)
+        .limit(buffer.wrapAdjustment() + offset + length);
+  }
+}
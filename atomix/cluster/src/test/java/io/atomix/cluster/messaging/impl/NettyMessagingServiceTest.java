@@ -31,6 +31,7 @@ import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingService;
 import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBufUtil;
 import io.zeebe.test.util.socket.SocketUtil;
 import java.net.ConnectException;
 import java.time.Duration;
@@ -47,6 +48,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -201,6 +203,38 @@ public class NettyMessagingServiceTest {
     assertEquals(address1.address(), sender.get().address());
   }
 
+  @Test
+  public void shouldSendAndReceiveBufferPayload() {
+    // given
+    final String subject = nextSubject();
+    final AtomicReference<byte[]> request = new AtomicReference<>();
+    netty2.registerBufferHandler(
+        subject,
+        (ep, data) -> {
+          try {
+            request.set(ByteBufUtil.getBytes(data));
+          } finally {
+            data.release();
+          }
+          return CompletableFuture.completedFuture("hello there".getBytes());
+        });
+    final UnsafeBuffer payload = new UnsafeBuffer("__hello world__".getBytes());
+
+    // when
+    final CompletableFuture<byte[]> response =
+        netty1.sendAndReceive(
+            address2,
+            subject,
+            new UnsafeBuffer(payload, 2, 11),
+            true,
+            Duration.ofSeconds(5),
+            MoreExecutors.directExecutor());
+
+    // then
+    assertArrayEquals("hello there".getBytes(), response.join());
+    assertArrayEquals("hello world".getBytes(), request.get());
+  }
+
   @Test
   public void shouldCompleteExistingRequestFutureExceptionallyWhenMessagingServiceIsClosed() {
     final String subject = nextSubject();
@@ -0,0 +1,171 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class AppendFlowControlTest {
+
+  private static final int MAX_WINDOW = 8;
+  private static final int MAX_BATCH_SIZE = 256 * 1024;
+
+  private long now = 1;
+
+  @Test
+  public void shouldUseUpperBoundsIfNotAdaptive() {
+    // given
+    final AppendFlowControl flowControl = new AppendFlowControl(false, MAX_WINDOW, MAX_BATCH_SIZE);
+
+    // when
+    flowControl.onAcknowledged(1024, millis(100), now);
+    flowControl.onFailed(now + millis(1000));
+
+    // then
+    assertThat(flowControl.window()).isEqualTo(MAX_WINDOW);
+    assertThat(flowControl.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldStartWithLowerBounds() {
+    // when
+    final AppendFlowControl flowControl = new AppendFlowControl(true, MAX_WINDOW, MAX_BATCH_SIZE);
+
+    // then
+    assertThat(flowControl.window()).isEqualTo(1);
+    assertThat(flowControl.batchSize()).isEqualTo(AppendFlowControl.MIN_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldGrowUpToUpperBoundsForFastFollower() {
+    // given
+    final AppendFlowControl flowControl = new AppendFlowControl(true, MAX_WINDOW, MAX_BATCH_SIZE);
+
+    // when
+    acknowledge(flowControl, 200, 1);
+
+    // then
+    assertThat(flowControl.window()).isEqualTo(MAX_WINDOW);
+    assertThat(flowControl.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldGrowWhileRoundTripTimeIsStable() {
+    // given
+    final AppendFlowControl flowControl = new AppendFlowControl(true, MAX_WINDOW, MAX_BATCH_SIZE);
+
+    // when
+    acknowledge(flowControl, 200, 20);
+
+    // then
+    assertThat(flowControl.window()).isEqualTo(MAX_WINDOW);
+    assertThat(flowControl.batchSize()).isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldShrinkWhenRoundTripTimeRises() {
+    // given
+    final AppendFlowControl flowControl = new AppendFlowControl(true, MAX_WINDOW, MAX_BATCH_SIZE);
+    acknowledge(flowControl, 200, 20);
+
+    // when
+    acknowledge(flowControl, 1, 100);
+
+    // then
+    assertThat(flowControl.window()).isEqualTo(MAX_WINDOW / 2);
+    assertThat(flowControl.batchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  public void shouldGrowForFollowerWithLowAndJitteryRoundTripTime() {
+    // given
+    final AppendFlowControl flowControl = new AppendFlowControl(true, MAX_WINDOW, MAX_BATCH_SIZE);
+
+    // when - sub-millisecond round trips, which take a few times longer every now and then
+    for (int i = 0; i < 100; i++) {
+      acknowledgeNanos(flowControl, 1, TimeUnit.MICROSECONDS.toNanos(200));
+      acknowledgeNanos(flowControl, 1, TimeUnit.MICROSECONDS.toNanos(i % 2 == 0 ? 700 : 3_000));
+    }
+
+    // then - the slower round trips lower the delivery rate, but are not taken as congestion
+    assertThat(flowControl.window()).isEqualTo(MAX_WINDOW);
+    assertThat(flowControl.batchSize()).isGreaterThan(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  public void shouldShrinkOnlyOncePerRoundTrip() {
+    // given
+    final AppendFlowControl flowControl = new AppendFlowControl(true, MAX_WINDOW, MAX_BATCH_SIZE);
+    acknowledge(flowControl, 200, 20);
+
+    // when
+    flowControl.onFailed(now);
+    flowControl.onFailed(now + 1);
+
+    // then
+    assertThat(flowControl.window()).isEqualTo(MAX_WINDOW / 2);
+    assertThat(flowControl.batchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+  }
+
+  @Test
+  public void shouldNotShrinkBelowLowerBounds() {
+    // given
+    final AppendFlowControl flowControl = new AppendFlowControl(true, MAX_WINDOW, MAX_BATCH_SIZE);
+    acknowledge(flowControl, 200, 1);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      now += millis(1000);
+      flowControl.onFailed(now);
+    }
+
+    // then
+    assertThat(flowControl.window()).isEqualTo(1);
+    assertThat(flowControl.batchSize()).isEqualTo(AppendFlowControl.MIN_BATCH_SIZE);
+  }
+
+  @Test
+  public void shouldStartOverWhenReset() {
+    // given
+    final AppendFlowControl flowControl = new AppendFlowControl(true, MAX_WINDOW, MAX_BATCH_SIZE);
+    acknowledge(flowControl, 200, 1);
+
+    // when
+    flowControl.reset();
+
+    // then
+    assertThat(flowControl.window()).isEqualTo(1);
+    assertThat(flowControl.batchSize()).isEqualTo(AppendFlowControl.MIN_BATCH_SIZE);
+  }
+
+  private void acknowledge(final AppendFlowControl flowControl, final int count, final long rtt) {
+    acknowledgeNanos(flowControl, count, millis(rtt));
+  }
+
+  private void acknowledgeNanos(
+      final AppendFlowControl flowControl, final int count, final long rtt) {
+    for (int i = 0; i < count; i++) {
+      now += rtt;
+      flowControl.onAcknowledged(flowControl.batchSize(), rtt, now);
+    }
+  }
+
+  private static long millis(final long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+}
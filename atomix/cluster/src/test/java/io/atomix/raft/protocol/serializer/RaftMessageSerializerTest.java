@@ -0,0 +1,303 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ConfigureRequest;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.storage.log.entry.ApplicationEntry;
+import io.atomix.raft.storage.log.entry.ConfigurationEntry;
+import io.atomix.raft.storage.log.entry.InitialEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class RaftMessageSerializerTest {
+
+  private final Serializer legacySerializer = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+  private final RaftMessageSerializer serializer =
+      new RaftMessageSerializer(legacySerializer, true);
+
+  @Test
+  public void shouldSerializeAppendRequest() {
+    // given
+    final List<RaftLogEntry> entries =
+        List.of(
+            new RaftLogEntry(1, new InitialEntry()),
+            new RaftLogEntry(
+                2,
+                new ConfigurationEntry(
+                    5,
+                    List.of(
+                        new DefaultRaftMember(
+                            MemberId.from("2"), RaftMember.Type.ACTIVE, Instant.now())))),
+            new RaftLogEntry(2, new ApplicationEntry(1, 4, ByteBuffer.wrap("foo".getBytes()))));
+    final AppendRequest request =
+        new AppendRequest(2, "1", 4, 1, entries, List.of(11L, 12L, 13L), 3);
+
+    // when
+    final byte[] serialized = serializer.encode(request);
+    final AppendRequest deserialized = serializer.decode(serialized);
+
+    // then
+    assertThat(isSbeEncoded(serialized)).isTrue();
+    assertThat(deserialized).isEqualTo(request);
+  }
+
+  @Test
+  public void shouldSerializeEmptyAppendRequest() {
+    // given
+    final AppendRequest request = new AppendRequest(2, "1", 4, 1, List.of(), List.of(), 3);
+
+    // when
+    final AppendRequest deserialized = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(deserialized).isEqualTo(request);
+  }
+
+  @Test
+  public void shouldSerializeAppendResponse() {
+    // given
+    final AppendResponse response = new AppendResponse(Status.OK, null, 3, true, 10, 5);
+
+    // when
+    final AppendResponse deserialized = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(deserialized).isEqualTo(response);
+    assertThat(deserialized.error()).isNull();
+  }
+
+  @Test
+  public void shouldSerializeErrorResponse() {
+    // given
+    final AppendResponse response =
+        new AppendResponse(
+            Status.ERROR,
+            new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "not a follower"),
+            3,
+            false,
+            10,
+            5);
+
+    // when
+    final AppendResponse deserialized = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(deserialized.status()).isEqualTo(Status.ERROR);
+    assertThat(deserialized.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+    assertThat(deserialized.error().message()).isEqualTo("not a follower");
+    assertThat(deserialized.term()).isEqualTo(3);
+    assertThat(deserialized.succeeded()).isFalse();
+  }
+
+  @Test
+  public void shouldSerializeErrorWithoutMessage() {
+    // given
+    final InstallResponse response =
+        new InstallResponse(Status.ERROR, new RaftError(RaftError.Type.UNAVAILABLE, null));
+
+    // when
+    final InstallResponse deserialized = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(deserialized.error().type()).isEqualTo(RaftError.Type.UNAVAILABLE);
+    assertThat(deserialized.error().message()).isNull();
+  }
+
+  @Test
+  public void shouldSerializePollRequestAndResponse() {
+    // given
+    final PollRequest request = new PollRequest(3, "2", 10, 2);
+    final PollResponse response = new PollResponse(Status.OK, null, 3, true);
+
+    // when
+    final PollRequest deserializedRequest = serializer.decode(serializer.encode(request));
+    final PollResponse deserializedResponse = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(deserializedRequest).usingRecursiveComparison().isEqualTo(request);
+    assertThat(deserializedResponse).isEqualTo(response);
+  }
+
+  @Test
+  public void shouldSerializeVoteRequestAndResponse() {
+    // given
+    final VoteRequest request = new VoteRequest(3, "2", 10, 2);
+    final VoteResponse response = new VoteResponse(Status.OK, null, 3, false);
+
+    // when
+    final VoteRequest deserializedRequest = serializer.decode(serializer.encode(request));
+    final VoteResponse deserializedResponse = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(deserializedRequest).usingRecursiveComparison().isEqualTo(request);
+    assertThat(deserializedResponse).isEqualTo(response);
+  }
+
+  @Test
+  public void shouldSerializeInstallRequest() {
+    // given
+    final InstallRequest request =
+        new InstallRequest(
+            3,
+            MemberId.from("1"),
+            10,
+            2,
+            1,
+            ByteBuffer.wrap("chunk-1".getBytes()),
+            ByteBuffer.wrap("chunk-2".getBytes()),
+            ByteBuffer.wrap("data".getBytes()),
+            true,
+            false);
+
+    // when
+    final InstallRequest deserialized = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(deserialized).isEqualTo(request);
+    assertThat(deserialized.version()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldSerializeLastInstallRequest() {
+    // given
+    final InstallRequest request =
+        new InstallRequest(
+            3,
+            MemberId.from("1"),
+            10,
+            2,
+            1,
+            ByteBuffer.wrap("chunk-2".getBytes()),
+            null,
+            ByteBuffer.wrap("data".getBytes()),
+            false,
+            true);
+
+    // when
+    final InstallRequest deserialized = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(deserialized).isEqualTo(request);
+    assertThat(deserialized.nextChunkId()).isNull();
+  }
+
+  @Test
+  public void shouldSerializeInstallResponseWithSnapshotFileChecksums() {
+    // given
+    final InstallResponse response =
+        InstallResponse.builder()
+            .withStatus(Status.OK)
+            .withSnapshotFileChecksums(Map.of("000001.sst", 1L, "000002.sst", -2L, "CURRENT", 3L))
+            .build();
+
+    // when
+    final InstallResponse deserialized = serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(deserialized).isEqualTo(response);
+    assertThat(deserialized.snapshotFileChecksums())
+        .containsOnly(entry("000001.sst", 1L), entry("000002.sst", -2L), entry("CURRENT", 3L));
+  }
+
+  @Test
+  public void shouldNotSerializeSnapshotFileChecksumsWithLegacySerializer() {
+    // given
+    final RaftMessageSerializer legacyOnly = new RaftMessageSerializer(legacySerializer, false);
+    final InstallResponse response =
+        InstallResponse.builder()
+            .withStatus(Status.OK)
+            .withSnapshotFileChecksums(Map.of("000001.sst", 1L))
+            .build();
+
+    // when
+    final InstallResponse deserialized = legacyOnly.decode(legacyOnly.encode(response));
+
+    // then
+    assertThat(deserialized.status()).isEqualTo(Status.OK);
+    assertThat(deserialized.snapshotFileChecksums()).isEmpty();
+  }
+
+  @Test
+  public void shouldUseLegacySerializerForOtherMessages() {
+    // given
+    final ConfigureRequest request = new ConfigureRequest(3, "1", 4, 5, new ArrayList<>());
+
+    // when
+    final byte[] serialized = serializer.encode(request);
+
+    // then
+    assertThat(isSbeEncoded(serialized)).isFalse();
+    assertThat((ConfigureRequest) serializer.decode(serialized))
+        .usingRecursiveComparison()
+        .isEqualTo(request);
+  }
+
+  @Test
+  public void shouldUseLegacySerializerIfDisabled() {
+    // given
+    final RaftMessageSerializer legacyOnly = new RaftMessageSerializer(legacySerializer, false);
+    final PollRequest request = new PollRequest(3, "2", 10, 2);
+
+    // when
+    final byte[] serialized = legacyOnly.encode(request);
+
+    // then
+    assertThat(isSbeEncoded(serialized)).isFalse();
+    assertThat((PollRequest) serializer.decode(serialized))
+        .usingRecursiveComparison()
+        .isEqualTo(request);
+  }
+
+  @Test
+  public void shouldDeserializeSbeIfDisabled() {
+    // given
+    final RaftMessageSerializer legacyOnly = new RaftMessageSerializer(legacySerializer, false);
+    final VoteRequest request = new VoteRequest(3, "2", 10, 2);
+
+    // when
+    final VoteRequest deserialized = legacyOnly.decode(serializer.encode(request));
+
+    // then
+    assertThat(deserialized).usingRecursiveComparison().isEqualTo(request);
+  }
+
+  private static boolean isSbeEncoded(final byte[] serialized) {
+    return (serialized[0] & 0x80) == 0;
+  }
+}
@@ -27,6 +27,7 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.TreeMap;
@@ -103,6 +104,9 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
         return ByteBuffer.wrap(iterator.firstEntry().getKey().getBytes());
       }
 
+      @Override
+      public void skipFiles(final Map<String, Long> receiverFileChecksums) {}
+
       @Override
       public void close() {
         iterator = null;
@@ -141,6 +145,11 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
     return id;
   }
 
+  @Override
+  public Map<String, Long> getFileChecksums() {
+    return Map.of();
+  }
+
   @Override
   public void close() {}
 
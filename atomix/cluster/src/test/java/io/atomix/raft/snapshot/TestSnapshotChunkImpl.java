@@ -47,6 +47,16 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
     return chunkName;
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return 0;
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return content.length;
+  }
+
   @Override
   public long getChecksum() {
     return 0;
@@ -57,6 +67,11 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
     return content;
   }
 
+  @Override
+  public int getContentLength() {
+    return content.length;
+  }
+
   @Override
   public long getSnapshotChecksum() {
     return 0;
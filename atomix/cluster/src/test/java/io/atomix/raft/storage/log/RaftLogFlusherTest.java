@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RaftLogFlusherTest {
+
+  private final List<Long> flushedIndexes = new CopyOnWriteArrayList<>();
+  private RaftLog log;
+  private RaftLogFlusher flusher;
+
+  @Before
+  public void setup() {
+    log = mock(RaftLog.class);
+    when(log.getLastIndex()).thenReturn(5L);
+  }
+
+  @After
+  public void tearDown() {
+    if (flusher != null) {
+      flusher.close();
+    }
+  }
+
+  @Test
+  public void shouldFlushLogOnCreation() {
+    // when
+    flusher = createFlusher(Duration.ofMillis(10), 1024);
+
+    // then
+    verify(log).flush();
+    assertThat(flusher.getDurableIndex()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldFlushEntriesAppendedWithinWindowTogether() {
+    // given
+    flusher = createFlusher(Duration.ofMillis(200), Integer.MAX_VALUE);
+
+    // when
+    flusher.onAppend(record(6, 10));
+    flusher.onAppend(record(7, 10));
+    flusher.onAppend(record(8, 10));
+
+    // then
+    Awaitility.await().until(() -> flushedIndexes.contains(8L));
+    assertThat(flushedIndexes).containsExactly(8L);
+    assertThat(flusher.getDurableIndex()).isEqualTo(8);
+    verify(log, times(2)).flush();
+  }
+
+  @Test
+  public void shouldFlushBeforeWindowElapsedIfByteThresholdIsReached() {
+    // given
+    flusher = createFlusher(Duration.ofHours(1), 20);
+
+    // when
+    flusher.onAppend(record(6, 10));
+    flusher.onAppend(record(7, 10));
+
+    // then
+    Awaitility.await().until(() -> flushedIndexes.contains(7L));
+    assertThat(flusher.getDurableIndex()).isEqualTo(7);
+  }
+
+  @Test
+  public void shouldNotAdvanceDurableIndexIfFlushFails() {
+    // given
+    flusher = createFlusher(Duration.ofMillis(10), Integer.MAX_VALUE);
+    doThrow(new IllegalStateException("expected")).doNothing().when(log).flush();
+
+    // when
+    flusher.onAppend(record(6, 10));
+
+    // then
+    Awaitility.await().until(() -> flushedIndexes.contains(6L));
+    assertThat(flushedIndexes).containsExactly(6L);
+    verify(log, times(3)).flush();
+  }
+
+  @Test
+  public void shouldNotFlushAfterClose() {
+    // given
+    flusher = createFlusher(Duration.ofHours(1), Integer.MAX_VALUE);
+    doNothing().when(log).flush();
+
+    // when
+    flusher.onAppend(record(6, 10));
+    flusher.close();
+
+    // then
+    verify(log, times(1)).flush();
+    assertThat(flushedIndexes).isEmpty();
+    assertThat(flusher.getDurableIndex()).isEqualTo(5);
+  }
+
+  private RaftLogFlusher createFlusher(final Duration window, final int maxBytes) {
+    return new RaftLogFlusher("raft-1", log, window, maxBytes, flushedIndexes::add);
+  }
+
+  private static IndexedRaftRecord record(final long index, final int size) {
+    return new IndexedRaftRecord(index, null, size, 0);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.storage.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.storage.log.entry.ApplicationEntry;
+import io.atomix.raft.storage.log.entry.ConfigurationEntry;
+import io.atomix.raft.storage.log.entry.InitialEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public class RaftEntrySerializerTest {
+
+  private final RaftEntrySerializer serializer = new RaftEntrySerializer();
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+
+  @Test
+  public void shouldSerializeInitialEntry() {
+    // given
+    final RaftLogEntry entry = new RaftLogEntry(3, new InitialEntry());
+
+    // when
+    final RaftLogEntry deserialized = serializeAndDeserialize(entry);
+
+    // then
+    assertThat(deserialized).isEqualTo(entry);
+  }
+
+  @Test
+  public void shouldSerializeApplicationEntry() {
+    // given
+    final ByteBuffer data = ByteBuffer.wrap("foo-bar".getBytes());
+    data.position(4);
+    final RaftLogEntry entry = new RaftLogEntry(2, new ApplicationEntry(10, 15, data));
+
+    // when
+    final RaftLogEntry deserialized = serializeAndDeserialize(entry);
+
+    // then
+    final ApplicationEntry applicationEntry = deserialized.getApplicationEntry();
+    assertThat(deserialized.term()).isEqualTo(2);
+    assertThat(applicationEntry.lowestPosition()).isEqualTo(10);
+    assertThat(applicationEntry.highestPosition()).isEqualTo(15);
+    assertThat(applicationEntry.data()).isEqualTo(ByteBuffer.wrap("bar".getBytes()));
+    assertThat(data.position()).isEqualTo(4);
+  }
+
+  @Test
+  public void shouldSerializeConfigurationEntry() {
+    // given
+    final Instant updated = Instant.ofEpochSecond(1_600_000_000, 123_456_789);
+    final List<RaftMember> members =
+        List.of(
+            new DefaultRaftMember(MemberId.from("1"), RaftMember.Type.ACTIVE, updated),
+            new DefaultRaftMember(MemberId.from("2"), RaftMember.Type.PASSIVE, updated));
+    final RaftLogEntry entry = new RaftLogEntry(4, new ConfigurationEntry(123, members));
+
+    // when
+    final RaftLogEntry deserialized = serializeAndDeserialize(entry);
+
+    // then
+    assertThat(deserialized).isEqualTo(entry);
+    final List<RaftMember> deserializedMembers =
+        List.copyOf(deserialized.getConfigurationEntry().members());
+    assertThat(deserializedMembers)
+        .extracting(RaftMember::getType)
+        .containsExactly(RaftMember.Type.ACTIVE, RaftMember.Type.PASSIVE);
+    assertThat(deserializedMembers)
+        .extracting(RaftMember::getLastUpdated)
+        .containsExactly(updated, updated);
+  }
+
+  @Test
+  public void shouldDeserializeEntryAtOffset() {
+    // given
+    final RaftLogEntry entry = new RaftLogEntry(3, new InitialEntry());
+    final int length = serializer.serialize(entry, buffer, 13);
+
+    // when
+    final RaftLogEntry deserialized = serializer.deserialize(buffer, 13, length);
+
+    // then
+    assertThat(deserialized).isEqualTo(entry);
+  }
+
+  @Test
+  public void shouldDeserializeLegacyEntry() {
+    // given
+    final RaftLogEntry entry =
+        new RaftLogEntry(2, new ApplicationEntry(10, 15, ByteBuffer.wrap("foo".getBytes())));
+    final byte[] serialized = RaftNamespaces.RAFT_STORAGE.serialize(entry);
+
+    // when
+    final RaftLogEntry deserialized =
+        serializer.deserialize(new UnsafeBuffer(serialized), 0, serialized.length);
+
+    // then
+    assertThat(deserialized).isEqualTo(entry);
+  }
+
+  @Test
+  public void shouldDeserializeLegacyConfigurationEntry() {
+    // given
+    final List<RaftMember> members = new ArrayList<>();
+    members.add(new DefaultRaftMember(MemberId.from("1"), RaftMember.Type.ACTIVE, Instant.now()));
+    final RaftLogEntry entry = new RaftLogEntry(4, new ConfigurationEntry(123, members));
+    final byte[] serialized = RaftNamespaces.RAFT_STORAGE.serialize(entry);
+
+    // when
+    final RaftLogEntry deserialized =
+        serializer.deserialize(new UnsafeBuffer(serialized), 0, serialized.length);
+
+    // then
+    assertThat(deserialized).isEqualTo(entry);
+  }
+
+  private RaftLogEntry serializeAndDeserialize(final RaftLogEntry entry) {
+    final int length = serializer.serialize(entry, buffer, 0);
+    return serializer.deserialize(buffer, 0, length);
+  }
+}
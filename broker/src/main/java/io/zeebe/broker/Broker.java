@@ -254,7 +254,11 @@ public final class Broker implements AutoCloseable {
 
   private AutoCloseable atomixCreateStep(final BrokerCfg brokerCfg, final BrokerInfo localBroker) {
     final var snapshotStoreFactory =
-        new FileBasedSnapshotStoreFactory(scheduler, localBroker.getNodeId());
+        new FileBasedSnapshotStoreFactory(
+            scheduler,
+            localBroker.getNodeId(),
+            brokerCfg.getExperimental().getMaxSnapshotChunkSizeInBytes(),
+            brokerCfg.getThreads().getIoThreadCount());
     snapshotStoreSupplier = snapshotStoreFactory;
     atomix = AtomixFactory.fromConfiguration(brokerCfg, snapshotStoreFactory);
 
@@ -111,10 +111,15 @@ public final class AtomixFactory {
             .withSnapshotStoreFactory(snapshotStoreFactory)
             .withMaxAppendBatchSize((int) experimentalCfg.getMaxAppendBatchSizeInBytes())
             .withMaxAppendsPerFollower(experimentalCfg.getMaxAppendsPerFollower())
+            .withAdaptiveReplication(experimentalCfg.isEnableAdaptiveReplication())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushExplicitly(!experimentalCfg.isDisableExplicitRaftFlush())
             .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark())
-            .withJournalIndexDensity(dataCfg.getLogIndexDensity());
+            .withJournalIndexDensity(dataCfg.getLogIndexDensity())
+            .withPreallocateSegmentFiles(experimentalCfg.isPreallocateSegmentFiles())
+            .withGroupCommitWindow(experimentalCfg.getRaftGroupCommitWindow())
+            .withGroupCommitMaxBytes((int) experimentalCfg.getRaftGroupCommitMaxSizeInBytes())
+            .withSbeSerialization(experimentalCfg.isEnableSbeRaftSerialization());
 
     // by default, the Atomix max entry size is 1 MB
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
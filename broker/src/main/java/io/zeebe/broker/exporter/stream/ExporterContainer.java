@@ -17,8 +17,13 @@ import io.zeebe.exporter.api.context.Controller;
 import io.zeebe.exporter.api.context.ScheduledTask;
 import io.zeebe.protocol.impl.record.RecordMetadata;
 import io.zeebe.protocol.record.Record;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
 import io.zeebe.util.sched.ActorControl;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import org.slf4j.Logger;
 
 final class ExporterContainer implements Controller {
@@ -30,6 +35,9 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final boolean isBatchExporter;
+  private final List<Record<?>> batch = new ArrayList<>();
+  private final List<Record<?>> batchView = Collections.unmodifiableList(batch);
   private long position;
   private long lastUnacknowledgedPosition;
   private ExportersState exportersState;
@@ -42,6 +50,16 @@ final class ExporterContainer implements Controller {
             Loggers.getExporterLogger(descriptor.getId()), descriptor.getConfiguration());
 
     exporter = descriptor.newInstance();
+    isBatchExporter = overridesExportBatch(exporter);
+  }
+
+  private static boolean overridesExportBatch(final Exporter exporter) {
+    try {
+      return exporter.getClass().getMethod("exportBatch", List.class).getDeclaringClass()
+          != Exporter.class;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
   }
 
   void initContainer(
@@ -125,10 +143,17 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  private boolean acceptRecord(final RecordType recordType, final ValueType valueType) {
     final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+    return filter.acceptType(recordType) && filter.acceptValue(valueType);
+  }
+
+  /**
+   * A record is not passed again to the exporter if it is acknowledged already, or if it was passed
+   * before, i.e. when a batch is exported again after a failure.
+   */
+  private boolean isNotExported(final long recordPosition) {
+    return position < recordPosition && lastUnacknowledgedPosition < recordPosition;
   }
 
   void configureExporter() throws Exception {
@@ -137,9 +162,60 @@ final class ExporterContainer implements Controller {
   }
 
   boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
+    return exportRecord(rawMetadata.getRecordType(), rawMetadata.getValueType(), typedEvent);
+  }
+
+  /**
+   * Exports the records of the batch which the exporter accepts and didn't receive yet. If the
+   * exporter doesn't override {@link Exporter#exportBatch(List)}, the records are passed one by
+   * one, so that a failed record is retried without passing the previous records again.
+   *
+   * @param records the records of the batch, in the order of their positions
+   * @return {@code true} if all records are exported, otherwise the batch must be exported again
+   */
+  boolean exportBatch(final List<? extends TypedRecord<?>> records) {
+    if (!isBatchExporter) {
+      for (final TypedRecord<?> record : records) {
+        if (!exportRecord(record.getRecordType(), record.getValueType(), record)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    batch.clear();
+    for (final TypedRecord<?> record : records) {
+      if (isNotExported(record.getPosition())
+          && acceptRecord(record.getRecordType(), record.getValueType())) {
+        batch.add(record);
+      }
+    }
+
+    if (batch.isEmpty()) {
+      return true;
+    }
+
+    try {
+      exporter.exportBatch(batchView);
+      lastUnacknowledgedPosition = batch.get(batch.size() - 1).getPosition();
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} records, starting with key {}",
+              batch.size(),
+              batch.get(0).getKey(),
+              ex);
+      return false;
+    }
+  }
+
+  private boolean exportRecord(
+      final RecordType recordType, final ValueType valueType, final TypedRecord typedEvent) {
     try {
-      if (position < typedEvent.getPosition()) {
-        if (acceptRecord(rawMetadata)) {
+      if (isNotExported(typedEvent.getPosition())) {
+        if (acceptRecord(recordType, valueType)) {
           export(typedEvent);
         } else {
           updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
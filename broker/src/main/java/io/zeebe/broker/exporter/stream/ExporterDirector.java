@@ -10,14 +10,12 @@ package io.zeebe.broker.exporter.stream;
 import io.zeebe.broker.Loggers;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.processing.streamprocessor.EventFilter;
-import io.zeebe.engine.processing.streamprocessor.RecordValues;
-import io.zeebe.engine.processing.streamprocessor.TypedEventImpl;
+import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.exporter.api.context.Context;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.logstreams.log.LoggedEvent;
 import io.zeebe.protocol.impl.record.RecordMetadata;
-import io.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.ValueType;
 import io.zeebe.util.retry.BackOffRetryStrategy;
@@ -43,14 +41,17 @@ import org.slf4j.Logger;
 public final class ExporterDirector extends Actor {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
+      "Expected to export the batch of records up to position '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private static final int MAX_BATCH_SIZE = 100;
+  private static final int MAX_BATCH_LENGTH = 1024 * 1024;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
   private final List<ExporterContainer> containers;
   private final LogStream logStream;
+  private final RecordBatch recordBatch;
   private final RecordExporter recordExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
@@ -74,7 +75,8 @@ public final class ExporterDirector extends Actor {
     logStream = Objects.requireNonNull(context.getLogStream());
     final int partitionId = logStream.getPartitionId();
     metrics = new ExporterMetrics(partitionId);
-    recordExporter = new RecordExporter(metrics, containers, partitionId);
+    recordBatch = new RecordBatch(partitionId, MAX_BATCH_SIZE, MAX_BATCH_LENGTH);
+    recordExporter = new RecordExporter(metrics, containers);
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
@@ -257,41 +259,63 @@ public final class ExporterDirector extends Actor {
 
   private void skipRecord(final LoggedEvent currentEvent) {
     final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
 
     currentEvent.readMetadata(metadata);
     metrics.eventSkipped(metadata.getValueType());
+  }
 
+  private void updatePositionsOnSkip(final long eventPosition) {
     // increase position of all up to date exporters - an up to date exporter is one which has
     // acknowledged the last record we passed to it
     for (final ExporterContainer container : containers) {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
-
-    actor.submit(this::readNextEvent);
   }
 
   private void readNextEvent() {
-    if (shouldExport()) {
+    if (!shouldExport()) {
+      return;
+    }
+
+    // read ahead a bounded block of committed events, such that the exporters can export them
+    // together and the positions are updated once per batch
+    recordBatch.reset();
+    long lastReadPosition = -1L;
+    int readEvents = 0;
+    while (readEvents < MAX_BATCH_SIZE && logStreamReader.hasNext() && !recordBatch.isFull()) {
+      readEvents++;
       final LoggedEvent currentEvent = logStreamReader.next();
+      lastReadPosition = currentEvent.getPosition();
+
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
+        recordBatch.add(currentEvent);
       } else {
         skipRecord(currentEvent);
+        if (recordBatch.isEmpty()) {
+          // the positions of skipped events after a batched record are updated once the batch is
+          // exported, otherwise an up to date exporter would skip the batched records
+          updatePositionsOnSkip(lastReadPosition);
+        }
       }
     }
+
+    if (recordBatch.isEmpty()) {
+      actor.submit(this::readNextEvent);
+    } else {
+      inExportingPhase = true;
+      exportBatch(lastReadPosition);
+    }
   }
 
   private boolean shouldExport() {
     return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
   }
 
-  private void exportEvent(final LoggedEvent event) {
+  private void exportBatch(final long lastReadPosition) {
     final ActorFuture<Boolean> wrapRetryFuture =
         recordWrapStrategy.runWithRetry(
             () -> {
-              recordExporter.wrap(event);
+              recordExporter.wrap(recordBatch);
               return true;
             },
             this::isClosed);
@@ -308,10 +332,15 @@ public final class ExporterDirector extends Actor {
               retryFuture,
               (bool, throwable) -> {
                 if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  LOG.error(
+                      ERROR_MESSAGE_EXPORTING_ABORTED, recordBatch.getLastPosition(), throwable);
                   onFailure();
                 } else {
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  for (final TypedRecord<?> record : recordBatch.getRecords()) {
+                    metrics.eventExported(record.getValueType());
+                  }
+                  // the events which were skipped after the batched records
+                  updatePositionsOnSkip(lastReadPosition);
                   inExportingPhase = false;
                   actor.submit(this::readNextEvent);
                 }
@@ -344,52 +373,39 @@ public final class ExporterDirector extends Actor {
 
   private static class RecordExporter {
 
-    private final RecordValues recordValues = new RecordValues();
-    private final RecordMetadata rawMetadata = new RecordMetadata();
     private final List<ExporterContainer> containers;
-    private final TypedEventImpl typedEvent;
     private final ExporterMetrics exporterMetrics;
 
-    private boolean shouldExport;
+    private List<TypedRecord<?>> records = List.of();
     private int exporterIndex;
 
     RecordExporter(
-        final ExporterMetrics exporterMetrics,
-        final List<ExporterContainer> containers,
-        final int partitionId) {
+        final ExporterMetrics exporterMetrics, final List<ExporterContainer> containers) {
       this.containers = containers;
-      typedEvent = new TypedEventImpl(partitionId);
       this.exporterMetrics = exporterMetrics;
     }
 
-    void wrap(final LoggedEvent rawEvent) {
-      rawEvent.readMetadata(rawMetadata);
-
-      final UnifiedRecordValue recordValue =
-          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
-
-      shouldExport = recordValue != null;
-      if (shouldExport) {
-        typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-        exporterIndex = 0;
-      }
+    void wrap(final RecordBatch batch) {
+      records = batch.wrap();
+      exporterIndex = 0;
     }
 
     public boolean export() {
-      if (!shouldExport) {
+      if (records.isEmpty()) {
         return true;
       }
 
       final int exportersCount = containers.size();
+      final long lastPosition = records.get(records.size() - 1).getPosition();
 
-      // current error handling strategy is simply to repeat forever until the record can be
-      // successfully exported.
+      // current error handling strategy is simply to repeat forever until the batch can be
+      // successfully exported. An exporter continues after the records which it got already.
       while (exporterIndex < exportersCount) {
         final ExporterContainer container = containers.get(exporterIndex);
 
-        if (container.exportRecord(rawMetadata, typedEvent)) {
+        if (container.exportBatch(records)) {
           exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+          exporterMetrics.setLastExportedPosition(container.getId(), lastPosition);
         } else {
           return false;
         }
@@ -397,10 +413,6 @@ public final class ExporterDirector extends Actor {
 
       return true;
     }
-
-    TypedEventImpl getTypedEvent() {
-      return typedEvent;
-    }
   }
 
   private static class ExporterEventFilter implements EventFilter {
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.broker.exporter.stream;
+
+import static io.zeebe.engine.processing.streamprocessor.TypedEventRegistry.EVENT_REGISTRY;
+
+import io.zeebe.engine.processing.streamprocessor.TypedEventImpl;
+import io.zeebe.engine.processing.streamprocessor.TypedRecord;
+import io.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.zeebe.logstreams.log.LoggedEvent;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.BitUtil;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * A bounded batch of committed records which are read ahead from the log and exported together.
+ *
+ * <p>The log stream reader reuses its buffer for the next event, so the events are copied into the
+ * buffer of the batch. The records of the batch are valid until the batch is reset.
+ */
+final class RecordBatch {
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final List<BatchedRecord> entries = new ArrayList<>();
+  private final List<TypedRecord<?>> records = new ArrayList<>();
+  private final List<TypedRecord<?>> recordsView = Collections.unmodifiableList(records);
+  private final int partitionId;
+  private final int maxSize;
+  private final int maxLength;
+
+  private int size;
+  private int length;
+
+  /**
+   * @param partitionId the partition of the records
+   * @param maxSize the maximum number of events in the batch
+   * @param maxLength the length in bytes after which no further event is added to the batch
+   */
+  RecordBatch(final int partitionId, final int maxSize, final int maxLength) {
+    this.partitionId = partitionId;
+    this.maxSize = maxSize;
+    this.maxLength = maxLength;
+  }
+
+  /** Copies the given event into the batch. The event is not read until {@link #wrap()}. */
+  void add(final LoggedEvent event) {
+    if (size == entries.size()) {
+      entries.add(new BatchedRecord(partitionId));
+    }
+
+    final int offset = length;
+    event.write(buffer, offset);
+    length += BitUtil.align(event.getLength(), Long.BYTES);
+
+    entries.get(size).event.wrap(buffer, offset);
+    size++;
+  }
+
+  /**
+   * Reads the copied events. The records are only exported if their value type is known.
+   *
+   * @return the records to export, in the order of their positions
+   */
+  List<TypedRecord<?>> wrap() {
+    records.clear();
+    for (int i = 0; i < size; i++) {
+      final BatchedRecord entry = entries.get(i);
+      if (entry.wrap()) {
+        records.add(entry.typedEvent);
+      }
+    }
+    return recordsView;
+  }
+
+  List<TypedRecord<?>> getRecords() {
+    return recordsView;
+  }
+
+  long getLastPosition() {
+    return size > 0 ? entries.get(size - 1).event.getPosition() : -1L;
+  }
+
+  boolean isFull() {
+    return size >= maxSize || length >= maxLength;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  void reset() {
+    records.clear();
+    size = 0;
+    length = 0;
+  }
+
+  private static final class BatchedRecord {
+
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+    private final TypedEventImpl typedEvent;
+
+    private BatchedRecord(final int partitionId) {
+      typedEvent = new TypedEventImpl(partitionId);
+    }
+
+    private boolean wrap() {
+      event.readMetadata(metadata);
+
+      // the values are created on demand, as most batches contain only a few value types
+      final UnifiedRecordValue value =
+          values.computeIfAbsent(
+              metadata.getValueType(),
+              valueType ->
+                  EVENT_REGISTRY.containsKey(valueType)
+                      ? ReflectUtil.newInstance(EVENT_REGISTRY.get(valueType))
+                      : null);
+      if (value == null) {
+        return false;
+      }
+
+      value.reset();
+      event.readValue(value);
+      typedEvent.wrap(event, metadata, value);
+      return true;
+    }
+  }
+}
@@ -33,6 +33,10 @@ public final class SystemContext {
       "Snapshot period %s needs to be larger then or equals to one minute.";
   private static final String MAX_BATCH_SIZE_ERROR_MSG =
       "Expected to have an append batch size maximum which is non negative and smaller then '%d', but was '%s'.";
+  private static final String MAX_TIMER_TRIGGER_BATCH_SIZE_ERROR_MSG =
+      "Expected to have a timer trigger batch size maximum which is larger then zero, but was '%d'.";
+  private static final String MAX_MESSAGE_EXPIRY_LIMIT_ERROR_MSG =
+      "Expected to have a message expiry batch size and a maximum of message expiries per run which are larger then zero, but were '%d' and '%d'.";
   private static final String REPLICATION_WITH_DISABLED_FLUSH_WARNING =
       "Disabling explicit flushing is an experimental feature and can lead to inconsistencies "
           + "and/or data loss! Please refer to the documentation whether or not you should use this!";
@@ -86,6 +90,22 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final int maxTimerTriggerBatchSize = experimental.getMaxTimerTriggerBatchSize();
+    if (maxTimerTriggerBatchSize < 1) {
+      throw new IllegalArgumentException(
+          String.format(MAX_TIMER_TRIGGER_BATCH_SIZE_ERROR_MSG, maxTimerTriggerBatchSize));
+    }
+
+    final int maxMessageExpiryBatchSize = experimental.getMaxMessageExpiryBatchSize();
+    final int maxMessageExpiriesPerRun = experimental.getMaxMessageExpiriesPerRun();
+    if (maxMessageExpiryBatchSize < 1 || maxMessageExpiriesPerRun < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              MAX_MESSAGE_EXPIRY_LIMIT_ERROR_MSG,
+              maxMessageExpiryBatchSize,
+              maxMessageExpiriesPerRun));
+    }
+
     final int replicationFactor = cluster.getReplicationFactor();
     if (replicationFactor < 1 || replicationFactor > clusterSize) {
       throw new IllegalArgumentException(
@@ -7,6 +7,7 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.time.Duration;
 import java.util.Optional;
 import org.springframework.util.unit.DataSize;
 
@@ -21,11 +22,31 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   private static final boolean DEFAULT_DETECT_REPROCESSING_INCONSISTENCY = false;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = false;
+  private static final Duration DEFAULT_RAFT_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final DataSize DEFAULT_RAFT_GROUP_COMMIT_MAX_SIZE = DataSize.ofMegabytes(1);
+  private static final boolean DEFAULT_ENABLE_SBE_RAFT_SERIALIZATION = false;
+  private static final boolean DEFAULT_ENABLE_ADAPTIVE_REPLICATION = false;
+  private static final int DEFAULT_MAX_TIMER_TRIGGER_BATCH_SIZE = 100;
+  private static final int DEFAULT_MAX_MESSAGE_EXPIRY_BATCH_SIZE = 100;
+  private static final int DEFAULT_MAX_MESSAGE_EXPIRIES_PER_RUN = 10_000;
+  // files are not split by default, as long as there may be brokers of older versions
+  private static final DataSize DEFAULT_MAX_SNAPSHOT_CHUNK_SIZE =
+      DataSize.ofBytes(Integer.MAX_VALUE);
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private boolean detectReprocessingInconsistency = DEFAULT_DETECT_REPROCESSING_INCONSISTENCY;
+  private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private Duration raftGroupCommitWindow = DEFAULT_RAFT_GROUP_COMMIT_WINDOW;
+  private DataSize raftGroupCommitMaxSize = DEFAULT_RAFT_GROUP_COMMIT_MAX_SIZE;
+  private boolean enableSbeRaftSerialization = DEFAULT_ENABLE_SBE_RAFT_SERIALIZATION;
+  private boolean enableAdaptiveReplication = DEFAULT_ENABLE_ADAPTIVE_REPLICATION;
+  private int maxTimerTriggerBatchSize = DEFAULT_MAX_TIMER_TRIGGER_BATCH_SIZE;
+  private int maxMessageExpiryBatchSize = DEFAULT_MAX_MESSAGE_EXPIRY_BATCH_SIZE;
+  private int maxMessageExpiriesPerRun = DEFAULT_MAX_MESSAGE_EXPIRIES_PER_RUN;
+  private DataSize maxSnapshotChunkSize = DEFAULT_MAX_SNAPSHOT_CHUNK_SIZE;
   private RocksdbCfg rocksdb = new RocksdbCfg();
 
   @Override
@@ -69,6 +90,90 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.detectReprocessingInconsistency = detectReprocessingInconsistency;
   }
 
+  public boolean isPreallocateSegmentFiles() {
+    return preallocateSegmentFiles;
+  }
+
+  public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
+  }
+
+  public Duration getRaftGroupCommitWindow() {
+    return raftGroupCommitWindow;
+  }
+
+  public void setRaftGroupCommitWindow(final Duration raftGroupCommitWindow) {
+    this.raftGroupCommitWindow = raftGroupCommitWindow;
+  }
+
+  public DataSize getRaftGroupCommitMaxSize() {
+    return raftGroupCommitMaxSize;
+  }
+
+  public void setRaftGroupCommitMaxSize(final DataSize raftGroupCommitMaxSize) {
+    this.raftGroupCommitMaxSize = raftGroupCommitMaxSize;
+  }
+
+  public long getRaftGroupCommitMaxSizeInBytes() {
+    return Optional.ofNullable(raftGroupCommitMaxSize)
+        .orElse(DEFAULT_RAFT_GROUP_COMMIT_MAX_SIZE)
+        .toBytes();
+  }
+
+  public boolean isEnableSbeRaftSerialization() {
+    return enableSbeRaftSerialization;
+  }
+
+  public void setEnableSbeRaftSerialization(final boolean enableSbeRaftSerialization) {
+    this.enableSbeRaftSerialization = enableSbeRaftSerialization;
+  }
+
+  public boolean isEnableAdaptiveReplication() {
+    return enableAdaptiveReplication;
+  }
+
+  public void setEnableAdaptiveReplication(final boolean enableAdaptiveReplication) {
+    this.enableAdaptiveReplication = enableAdaptiveReplication;
+  }
+
+  public int getMaxTimerTriggerBatchSize() {
+    return maxTimerTriggerBatchSize;
+  }
+
+  public void setMaxTimerTriggerBatchSize(final int maxTimerTriggerBatchSize) {
+    this.maxTimerTriggerBatchSize = maxTimerTriggerBatchSize;
+  }
+
+  public int getMaxMessageExpiryBatchSize() {
+    return maxMessageExpiryBatchSize;
+  }
+
+  public void setMaxMessageExpiryBatchSize(final int maxMessageExpiryBatchSize) {
+    this.maxMessageExpiryBatchSize = maxMessageExpiryBatchSize;
+  }
+
+  public int getMaxMessageExpiriesPerRun() {
+    return maxMessageExpiriesPerRun;
+  }
+
+  public void setMaxMessageExpiriesPerRun(final int maxMessageExpiriesPerRun) {
+    this.maxMessageExpiriesPerRun = maxMessageExpiriesPerRun;
+  }
+
+  public DataSize getMaxSnapshotChunkSize() {
+    return maxSnapshotChunkSize;
+  }
+
+  public void setMaxSnapshotChunkSize(final DataSize maxSnapshotChunkSize) {
+    this.maxSnapshotChunkSize = maxSnapshotChunkSize;
+  }
+
+  public int getMaxSnapshotChunkSizeInBytes() {
+    final var chunkSize =
+        Optional.ofNullable(maxSnapshotChunkSize).orElse(DEFAULT_MAX_SNAPSHOT_CHUNK_SIZE);
+    return Math.toIntExact(chunkSize.toBytes());
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -88,6 +193,24 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + disableExplicitRaftFlush
         + ", detectReprocessingInconsistency="
         + detectReprocessingInconsistency
+        + ", preallocateSegmentFiles="
+        + preallocateSegmentFiles
+        + ", raftGroupCommitWindow="
+        + raftGroupCommitWindow
+        + ", raftGroupCommitMaxSize="
+        + raftGroupCommitMaxSize
+        + ", enableSbeRaftSerialization="
+        + enableSbeRaftSerialization
+        + ", enableAdaptiveReplication="
+        + enableAdaptiveReplication
+        + ", maxTimerTriggerBatchSize="
+        + maxTimerTriggerBatchSize
+        + ", maxMessageExpiryBatchSize="
+        + maxMessageExpiryBatchSize
+        + ", maxMessageExpiriesPerRun="
+        + maxMessageExpiriesPerRun
+        + ", maxSnapshotChunkSize="
+        + maxSnapshotChunkSize
         + ", rocksdb="
         + rocksdb
         + '}';
@@ -7,7 +7,11 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import io.zeebe.db.impl.rocksdb.ColumnFamilyConfiguration;
 import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -25,6 +29,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
       RocksDbConfiguration.DEFAULT_MIN_WRITE_BUFFER_NUMBER_TO_MERGE;
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
+  private boolean enableSeparateColumnFamilies =
+      RocksDbConfiguration.DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+  private Map<String, RocksdbColumnFamilyCfg> columnFamilies = new HashMap<>();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -110,7 +117,31 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.disableWal = disableWal;
   }
 
+  public boolean isEnableSeparateColumnFamilies() {
+    return enableSeparateColumnFamilies;
+  }
+
+  public void setEnableSeparateColumnFamilies(final boolean enableSeparateColumnFamilies) {
+    this.enableSeparateColumnFamilies = enableSeparateColumnFamilies;
+  }
+
+  public Map<String, RocksdbColumnFamilyCfg> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public void setColumnFamilies(final Map<String, RocksdbColumnFamilyCfg> columnFamilies) {
+    this.columnFamilies = columnFamilies;
+  }
+
   public RocksDbConfiguration createRocksDbConfiguration() {
+    // column family names are the enum names, but may have been lower cased when provided as
+    // environment variables
+    final Map<String, ColumnFamilyConfiguration> columnFamilyConfigurations = new HashMap<>();
+    columnFamilies.forEach(
+        (name, cfg) ->
+            columnFamilyConfigurations.put(
+                name.toUpperCase(Locale.ROOT), cfg.createColumnFamilyConfiguration()));
+
     return new RocksDbConfiguration()
         .setColumnFamilyOptions(columnFamilyOptions)
         .setMaxOpenFiles(maxOpenFiles)
@@ -119,7 +150,9 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setMinWriteBufferNumberToMerge(minWriteBufferNumberToMerge)
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
-        .setWalDisabled(disableWal);
+        .setWalDisabled(disableWal)
+        .setSeparateColumnFamiliesEnabled(enableSeparateColumnFamilies)
+        .setColumnFamilyConfigurations(columnFamilyConfigurations);
   }
 
   @Override
@@ -141,6 +174,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + ioRateBytesPerSecond
         + ", disableWal="
         + disableWal
+        + ", enableSeparateColumnFamilies="
+        + enableSeparateColumnFamilies
+        + ", columnFamilies="
+        + columnFamilies
         + '}';
   }
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.broker.system.configuration;
+
+import io.zeebe.db.impl.rocksdb.ColumnFamilyConfiguration;
+import java.util.Locale;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.springframework.util.unit.DataSize;
+
+/** Tuning options of a single RocksDB column family, see {@link ColumnFamilyConfiguration}. */
+public final class RocksdbColumnFamilyCfg implements ConfigurationEntry {
+
+  /** the compaction style, either LEVEL or UNIVERSAL; optional */
+  private String compactionStyle;
+
+  /** the compression type of all levels, e.g. NO_COMPRESSION or LZ4_COMPRESSION; optional */
+  private String compression;
+
+  /** the size of the data blocks; optional */
+  private DataSize blockSize;
+
+  /** the number of entries kept in the in-memory cache of the column family; optional */
+  private int cacheCapacity = ColumnFamilyConfiguration.DEFAULT_CACHE_CAPACITY;
+
+  public String getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public void setCompactionStyle(final String compactionStyle) {
+    this.compactionStyle = compactionStyle;
+  }
+
+  public String getCompression() {
+    return compression;
+  }
+
+  public void setCompression(final String compression) {
+    this.compression = compression;
+  }
+
+  public DataSize getBlockSize() {
+    return blockSize;
+  }
+
+  public void setBlockSize(final DataSize blockSize) {
+    this.blockSize = blockSize;
+  }
+
+  public int getCacheCapacity() {
+    return cacheCapacity;
+  }
+
+  public void setCacheCapacity(final int cacheCapacity) {
+    this.cacheCapacity = cacheCapacity;
+  }
+
+  public ColumnFamilyConfiguration createColumnFamilyConfiguration() {
+    final var configuration = new ColumnFamilyConfiguration().setCacheCapacity(cacheCapacity);
+
+    if (compactionStyle != null) {
+      configuration.setCompactionStyle(
+          CompactionStyle.valueOf(compactionStyle.toUpperCase(Locale.ROOT)));
+    }
+
+    if (compression != null) {
+      configuration.setCompressionType(
+          CompressionType.valueOf(compression.toUpperCase(Locale.ROOT)));
+    }
+
+    if (blockSize != null) {
+      configuration.setBlockSize(blockSize.toBytes());
+    }
+
+    return configuration;
+  }
+
+  @Override
+  public String toString() {
+    return "RocksdbColumnFamilyCfg{"
+        + "compactionStyle='"
+        + compactionStyle
+        + '\''
+        + ", compression='"
+        + compression
+        + '\''
+        + ", blockSize="
+        + blockSize
+        + ", cacheCapacity="
+        + cacheCapacity
+        + '}';
+  }
+}
@@ -246,6 +246,17 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
       final SnapshotChunk snapshotChunk, final ReplicationContext context) {
     final int totalChunkCount = snapshotChunk.getTotalCount();
 
+    // a file may be split into multiple chunks, only its last chunk completes it
+    final long fileBlockEnd =
+        snapshotChunk.getFileBlockPosition() + snapshotChunk.getContentLength();
+    if (fileBlockEnd < snapshotChunk.getTotalFileSize()) {
+      LOG.trace(
+          "Waiting for more chunks of file {} of snapshot {}",
+          snapshotChunk.getChunkName(),
+          snapshotChunk.getSnapshotId());
+      return;
+    }
+
     if (context.incrementCount() == totalChunkCount) {
       LOG.debug(
           "Received all snapshot chunks ({}/{}), snapshot {} is valid",
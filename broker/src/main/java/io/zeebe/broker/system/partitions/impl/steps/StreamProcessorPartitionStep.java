@@ -73,6 +73,12 @@ public class StreamProcessorPartitionStep implements PartitionStep {
         .commandResponseWriter(state.getCommandApiService().newCommandResponseWriter())
         .detectReprocessingInconsistency(
             state.getBrokerCfg().getExperimental().isDetectReprocessingInconsistency())
+        .maxTimerTriggerBatchSize(
+            state.getBrokerCfg().getExperimental().getMaxTimerTriggerBatchSize())
+        .maxMessageExpiryBatchSize(
+            state.getBrokerCfg().getExperimental().getMaxMessageExpiryBatchSize())
+        .maxMessageExpiriesPerRun(
+            state.getBrokerCfg().getExperimental().getMaxMessageExpiriesPerRun())
         .onProcessedListener(
             state.getCommandApiService().getOnProcessedListener(state.getPartitionId()))
         .streamProcessorFactory(
@@ -25,6 +25,8 @@ import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.junit.Before;
 import org.junit.Rule;
@@ -333,6 +335,102 @@ public class ExporterContainerTest {
     assertThat(exporter.isClosed()).isTrue();
   }
 
+  @Test
+  public void shouldExportRecordsOneByOneIfExporterDoesNotExportBatches() throws Exception {
+    // given
+    exporterContainer.configureExporter();
+    exportersState.setPosition("fakeExporter", 0);
+    exporterContainer.initPosition();
+
+    final var firstRecord = mockRecord(1L);
+    final var secondRecord = mockRecord(2L);
+
+    // when
+    final boolean exported = exporterContainer.exportBatch(List.of(firstRecord, secondRecord));
+
+    // then
+    assertThat(exported).isTrue();
+    assertThat(exporter.getRecord()).isEqualTo(secondRecord);
+    assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(2);
+    assertThat(exporterContainer.getPosition()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldExportBatchOfAcceptedRecords() throws Exception {
+    // given
+    final var batchContainer = createBatchExporterContainer();
+    final var batchExporter = (FakeBatchExporter) batchContainer.getExporter();
+    exportersState.setPosition("fakeBatchExporter", 0);
+    batchContainer.initPosition();
+
+    final var firstRecord = mockRecord(1L);
+    final var secondRecord = mockRecord(2L);
+
+    // when
+    final boolean exported = batchContainer.exportBatch(List.of(firstRecord, secondRecord));
+
+    // then
+    assertThat(exported).isTrue();
+    assertThat(batchExporter.getBatches()).containsExactly(List.of(firstRecord, secondRecord));
+    assertThat(batchContainer.getLastUnacknowledgedPosition()).isEqualTo(2);
+    assertThat(batchContainer.getPosition()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldNotExportBatchedRecordsAgain() throws Exception {
+    // given
+    final var batchContainer = createBatchExporterContainer();
+    final var batchExporter = (FakeBatchExporter) batchContainer.getExporter();
+    exportersState.setPosition("fakeBatchExporter", 1);
+    batchContainer.initPosition();
+
+    final var firstRecord = mockRecord(1L);
+    final var secondRecord = mockRecord(2L);
+    final var thirdRecord = mockRecord(3L);
+    batchContainer.exportBatch(List.of(firstRecord, secondRecord));
+
+    // when
+    batchContainer.exportBatch(List.of(secondRecord, thirdRecord));
+
+    // then
+    assertThat(batchExporter.getBatches())
+        .containsExactly(List.of(secondRecord), List.of(thirdRecord));
+    assertThat(batchContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldNotExportBatchIfAllRecordsAreFiltered() throws Exception {
+    // given
+    final var batchContainer = createBatchExporterContainer();
+    final var batchExporter = (FakeBatchExporter) batchContainer.getExporter();
+    batchExporter.getContext().setFilter(new AlwaysRejectingFilter());
+    exportersState.setPosition("fakeBatchExporter", 0);
+    batchContainer.initPosition();
+
+    // when
+    final boolean exported = batchContainer.exportBatch(List.of(mockRecord(1L)));
+
+    // then
+    assertThat(exported).isTrue();
+    assertThat(batchExporter.getBatches()).isEmpty();
+    assertThat(batchContainer.getLastUnacknowledgedPosition()).isEqualTo(0);
+  }
+
+  private ExporterContainer createBatchExporterContainer() throws Exception {
+    final var descriptor =
+        new ExporterDescriptor("fakeBatchExporter", FakeBatchExporter.class, Map.of());
+    final var container = new ExporterContainer(descriptor);
+    container.initContainer(testActor.getActor(), new ExporterMetrics(1), exportersState);
+    container.configureExporter();
+    return container;
+  }
+
+  private static TypedRecord<?> mockRecord(final long position) {
+    final TypedRecord<?> record = mock(TypedRecord.class);
+    when(record.getPosition()).thenReturn(position);
+    return record;
+  }
+
   private static final class AlwaysRejectingFilter implements Context.RecordFilter {
 
     @Override
@@ -402,4 +500,33 @@ public class ExporterContainerTest {
       this.record = record;
     }
   }
+
+  public static final class FakeBatchExporter implements Exporter {
+
+    private final List<List<Record<?>>> batches = new ArrayList<>();
+    private Context context;
+
+    public Context getContext() {
+      return context;
+    }
+
+    public List<List<Record<?>>> getBatches() {
+      return batches;
+    }
+
+    @Override
+    public void configure(final Context context) throws Exception {
+      this.context = context;
+    }
+
+    @Override
+    public void export(final Record<?> record) {
+      throw new UnsupportedOperationException("Expected to export records in batches");
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      batches.add(List.copyOf(records));
+    }
+  }
 }
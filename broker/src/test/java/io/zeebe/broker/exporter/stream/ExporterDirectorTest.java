@@ -21,7 +21,9 @@ import io.zeebe.broker.exporter.util.ControlledTestExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.zeebe.engine.Loggers;
+import io.zeebe.exporter.api.Exporter;
 import io.zeebe.exporter.api.context.Context;
+import io.zeebe.exporter.api.context.Controller;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.zeebe.protocol.impl.record.value.job.JobRecord;
@@ -38,10 +40,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.awaitility.Awaitility;
 import org.junit.Before;
 import org.junit.Rule;
@@ -56,6 +60,8 @@ public final class ExporterDirectorTest {
   private static final String EXPORTER_ID_2 = "exporter-2";
 
   private static final VerificationWithTimeout TIMEOUT = timeout(5_000);
+  // a quarter of the length after which the director stops to read ahead
+  private static final int LARGE_RESOURCE_SIZE = 256 * 1024;
   @Rule public final ExporterRule rule = new ExporterRule(PARTITION_ID);
   private final List<ControlledTestExporter> exporters = new ArrayList<>();
   private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
@@ -80,6 +86,14 @@ public final class ExporterDirectorTest {
     exporterDescriptors.add(descriptor);
   }
 
+  private ExporterDescriptor createBatchExporterDescriptor(
+      final String exporterId, final BatchExporter exporter) {
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Collections.emptyMap()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    return descriptor;
+  }
+
   private void startExporterDirector(final List<ExporterDescriptor> exporterDescriptors) {
     rule.startExporterDirector(exporterDescriptors);
   }
@@ -212,6 +226,169 @@ public final class ExporterDirectorTest {
     assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(-1L);
   }
 
+  @Test
+  public void shouldExportReadAheadRecordsInBatchesOfLimitedSize() {
+    // given
+    final BatchExporter batchExporter = new BatchExporter();
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    final List<Long> writtenPositions = new ArrayList<>();
+    for (int i = 0; i < 150; i++) {
+      writtenPositions.add(writeEvent());
+    }
+    rule.awaitCommitPosition(writtenPositions.get(writtenPositions.size() - 1));
+
+    // when
+    startExporterDirector(
+        List.of(
+            createBatchExporterDescriptor(EXPORTER_ID_1, batchExporter),
+            exporterDescriptors.get(1)));
+
+    // then
+    Awaitility.await("director has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(tailingExporter.getExportedRecords()).hasSize(150));
+    assertThat(batchExporter.getExportedBatches()).extracting(List::size).containsExactly(100, 50);
+    assertThat(batchExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(writtenPositions);
+    assertThat(tailingExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(writtenPositions);
+  }
+
+  @Test
+  public void shouldExportReadAheadRecordsInBatchesOfLimitedLength() {
+    // given
+    final BatchExporter batchExporter = new BatchExporter();
+    final DeploymentRecord largeRecord = new DeploymentRecord();
+    largeRecord
+        .resources()
+        .add()
+        .setResourceName("large.bpmn")
+        .setResource(new byte[LARGE_RESOURCE_SIZE]);
+    long lastPosition = -1L;
+    for (int i = 0; i < 6; i++) {
+      lastPosition = rule.writeEvent(DeploymentIntent.CREATED, largeRecord);
+    }
+    rule.awaitCommitPosition(lastPosition);
+
+    // when
+    startExporterDirector(List.of(createBatchExporterDescriptor(EXPORTER_ID_1, batchExporter)));
+
+    // then - the director stops to read ahead once the batch reaches its maximum length
+    Awaitility.await("director has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(batchExporter.getExportedRecords()).hasSize(6));
+    assertThat(batchExporter.getExportedBatches()).extracting(List::size).containsExactly(4, 2);
+  }
+
+  @Test
+  public void shouldNotUpdatePositionOnSkipIfBatchIsPartiallyAcknowledged() {
+    // given
+    final BatchExporter batchExporter =
+        new BatchExporter()
+            .onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)));
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    tailingExporter
+        .onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)))
+        .shouldAutoUpdatePosition(false);
+    final long firstRecordPosition =
+        rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    final long lastRecordPosition =
+        rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    rule.awaitCommitPosition(lastRecordPosition);
+
+    startExporterDirector(
+        List.of(
+            createBatchExporterDescriptor(EXPORTER_ID_1, batchExporter),
+            exporterDescriptors.get(1)));
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("director has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(tailingExporter.getExportedRecords()).hasSize(3));
+    assertThat(batchExporter.getExportedBatches()).extracting(List::size).containsExactly(3);
+
+    // when - the batch exporter acknowledges only the first record of its batch
+    batchExporter.getController().updateLastExportedRecordPosition(firstRecordPosition);
+    tailingExporter.getController().updateLastExportedRecordPosition(lastRecordPosition);
+    Awaitility.await("exporters have acknowledged their records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(firstRecordPosition);
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(lastRecordPosition);
+            });
+    final long skippedRecordPosition =
+        rule.writeCommand(IncidentIntent.CREATE, new IncidentRecord());
+
+    // then
+    Awaitility.await("director has skipped the record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(skippedRecordPosition));
+    assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(firstRecordPosition);
+  }
+
+  @Test
+  public void shouldUpdatePositionsOfRecordsWhichAllExportersFilter() {
+    // given
+    final BatchExporter batchExporter =
+        new BatchExporter()
+            .onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)));
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    tailingExporter
+        .onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)))
+        .shouldAutoUpdatePosition(false);
+    rule.writeCommand(IncidentIntent.CREATE, new IncidentRecord());
+    final long skippedRecordPosition =
+        rule.writeCommand(IncidentIntent.CREATE, new IncidentRecord());
+    final long exportedRecordPosition =
+        rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    final long lastRecordPosition = rule.writeCommand(IncidentIntent.CREATE, new IncidentRecord());
+    rule.awaitCommitPosition(lastRecordPosition);
+
+    // when
+    startExporterDirector(
+        List.of(
+            createBatchExporterDescriptor(EXPORTER_ID_1, batchExporter),
+            exporterDescriptors.get(1)));
+    final ExportersState state = rule.getExportersState();
+
+    // then - the records before the batch are skipped right away, but the ones after it only once
+    // the exporters acknowledged the batch
+    Awaitility.await("director has exported the accepted record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(tailingExporter.getExportedRecords()).hasSize(1));
+    assertThat(batchExporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(exportedRecordPosition);
+    assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(skippedRecordPosition);
+    assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(skippedRecordPosition);
+
+    // when
+    batchExporter.getController().updateLastExportedRecordPosition(exportedRecordPosition);
+    tailingExporter.getController().updateLastExportedRecordPosition(exportedRecordPosition);
+    Awaitility.await("exporters have acknowledged the batch")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(exportedRecordPosition);
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(exportedRecordPosition);
+            });
+    final long nextSkippedRecordPosition =
+        rule.writeCommand(IncidentIntent.CREATE, new IncidentRecord());
+
+    // then
+    Awaitility.await("director has skipped the next record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(nextSkippedRecordPosition);
+              assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(nextSkippedRecordPosition);
+            });
+  }
+
   @Test
   public void shouldConfigureAllExportersProperlyOnStart() {
     // when
@@ -606,4 +783,52 @@ public final class ExporterDirectorTest {
           });
     };
   }
+
+  public static final class BatchExporter implements Exporter {
+
+    private final List<List<Record<?>>> exportedBatches = new CopyOnWriteArrayList<>();
+    private Consumer<Context> onConfigure;
+    private Controller controller;
+
+    public BatchExporter onConfigure(final Consumer<Context> callback) {
+      onConfigure = callback;
+      return this;
+    }
+
+    public Controller getController() {
+      return controller;
+    }
+
+    public List<List<Record<?>>> getExportedBatches() {
+      return exportedBatches;
+    }
+
+    public List<Record<?>> getExportedRecords() {
+      return exportedBatches.stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    @Override
+    public void configure(final Context context) {
+      if (onConfigure != null) {
+        onConfigure.accept(context);
+      }
+    }
+
+    @Override
+    public void open(final Controller controller) {
+      this.controller = controller;
+    }
+
+    @Override
+    public void export(final Record<?> record) {
+      throw new UnsupportedOperationException("Expected to export records in batches");
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      // the records are only valid until the next batch
+      exportedBatches.add(
+          records.stream().<Record<?>>map(Record::clone).collect(Collectors.toList()));
+    }
+  }
 }
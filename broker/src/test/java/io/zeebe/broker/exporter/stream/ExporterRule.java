@@ -22,6 +22,7 @@ import io.zeebe.test.util.AutoCloseableRule;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.util.List;
+import org.awaitility.Awaitility;
 import org.junit.rules.ExternalResource;
 import org.junit.rules.RuleChain;
 import org.junit.rules.TemporaryFolder;
@@ -113,6 +114,16 @@ public final class ExporterRule implements TestRule {
         .write();
   }
 
+  /**
+   * Waits until the records up to the given position are committed, such that the exporter director
+   * can read them.
+   */
+  public void awaitCommitPosition(final long position) {
+    final var stream = streams.getLogStream(STREAM_NAME);
+    Awaitility.await("until position " + position + " is committed")
+        .until(stream::getCommitPosition, commitPosition -> commitPosition >= position);
+  }
+
   public void closeExporterDirector() throws Exception {
     director.stopAsync().join();
     capturedZeebeDb.close();
@@ -16,6 +16,7 @@ import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class NoopSnapshotStore implements PersistedSnapshotStore {
@@ -65,6 +66,11 @@ public class NoopSnapshotStore implements PersistedSnapshotStore {
                     return null;
                   }
 
+                  @Override
+                  public Map<String, Long> getFileChecksums() {
+                    return Map.of();
+                  }
+
                   @Override
                   public void close() {}
                 }));
@@ -147,6 +147,34 @@ public final class SystemContextTest {
     initSystemContext(brokerCfg);
   }
 
+  @Test
+  public void shouldThrowExceptionIfTimerTriggerBatchSizeIsZero() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxTimerTriggerBatchSize(0);
+
+    // expect
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage(
+        "Expected to have a timer trigger batch size maximum which is larger then zero, but was '0'.");
+
+    initSystemContext(brokerCfg);
+  }
+
+  @Test
+  public void shouldThrowExceptionIfMessageExpiriesPerRunIsZero() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxMessageExpiriesPerRun(0);
+
+    // expect
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage(
+        "Expected to have a message expiry batch size and a maximum of message expiries per run which are larger then zero, but were '100' and '0'.");
+
+    initSystemContext(brokerCfg);
+  }
+
   @Test
   public void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
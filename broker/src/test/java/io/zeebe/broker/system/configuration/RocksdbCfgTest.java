@@ -12,6 +12,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
 import org.springframework.util.unit.DataSize;
 
 public final class RocksdbCfgTest {
@@ -77,6 +79,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isFalse();
+    assertThat(rocksDbConfiguration.isSeparateColumnFamiliesEnabled()).isFalse();
   }
 
   @Test
@@ -285,4 +288,69 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldEnableSeparateColumnFamiliesViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSeparateColumnFamilies()).isTrue();
+    assertThat(rocksdb.createRocksDbConfiguration().isSeparateColumnFamiliesEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldEnableSeparateColumnFamiliesViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableSeparateColumnFamilies", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableSeparateColumnFamilies()).isTrue();
+  }
+
+  @Test
+  public void shouldSetColumnFamilySpecificOptionsViaConfig() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // when
+    final var columnFamilyConfigurations =
+        rocksdb.createRocksDbConfiguration().getColumnFamilyConfigurations();
+
+    // then
+    assertThat(columnFamilyConfigurations)
+        .containsOnlyKeys("TIMER_DUE_DATES", "ELEMENT_INSTANCE_KEY", "VARIABLES");
+    assertThat(columnFamilyConfigurations.get("TIMER_DUE_DATES").getCompactionStyle())
+        .isEqualTo(CompactionStyle.UNIVERSAL);
+    assertThat(columnFamilyConfigurations.get("VARIABLES").getBlockSize())
+        .isEqualTo(DataSize.ofKilobytes(64).toBytes());
+    assertThat(columnFamilyConfigurations.get("VARIABLES").getCompressionType())
+        .isEqualTo(CompressionType.NO_COMPRESSION);
+    assertThat(columnFamilyConfigurations.get("ELEMENT_INSTANCE_KEY").getCacheCapacity())
+        .isEqualTo(1000);
+    assertThat(columnFamilyConfigurations.get("VARIABLES").getCacheCapacity()).isZero();
+  }
+
+  @Test
+  public void shouldSetColumnFamilySpecificOptionsViaEnvironmentVariables() {
+    // given
+    environment.put(
+        "zeebe.broker.experimental.rocksdb.columnFamilies.jobs.compression", "no_compression");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(
+            rocksDbConfiguration.getColumnFamilyConfigurations().get("JOBS").getCompressionType())
+        .isEqualTo(CompressionType.NO_COMPRESSION);
+  }
 }
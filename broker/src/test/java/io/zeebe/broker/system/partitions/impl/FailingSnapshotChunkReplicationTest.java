@@ -205,6 +205,16 @@ public final class FailingSnapshotChunkReplicationTest {
       return snapshotChunk.getChunkName();
     }
 
+    @Override
+    public long getFileBlockPosition() {
+      return snapshotChunk.getFileBlockPosition();
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return snapshotChunk.getTotalFileSize();
+    }
+
     @Override
     public long getChecksum() {
       return 0;
@@ -215,6 +225,11 @@ public final class FailingSnapshotChunkReplicationTest {
       return snapshotChunk.getContent();
     }
 
+    @Override
+    public int getContentLength() {
+      return snapshotChunk.getContentLength();
+    }
+
     @Override
     public long getSnapshotChecksum() {
       return snapshotChunk.getSnapshotChecksum();
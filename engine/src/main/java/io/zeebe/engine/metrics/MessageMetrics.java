@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class MessageMetrics {
+
+  private static final Counter EXPIRED_MESSAGES =
+      Counter.build()
+          .namespace("zeebe")
+          .name("message_expire_commands_total")
+          .help("Number of expire commands written for messages whose time-to-live elapsed")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge EXPIRY_BACKLOG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("message_expiry_backlog")
+          .help(
+              "Number of messages whose time-to-live elapsed, but which were not expired by the"
+                  + " last run of the checker, counted up to 10000")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge EXPIRY_LAG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("message_expiry_lag")
+          .help(
+              "Time between the deadline of the oldest message, which is not yet expired, and the"
+                  + " last run of the checker (in ms)")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public MessageMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void messagesExpired(final int count) {
+    EXPIRED_MESSAGES.labels(partitionIdLabel).inc(count);
+  }
+
+  public void setExpiryBacklog(final int backlog) {
+    EXPIRY_BACKLOG.labels(partitionIdLabel).set(backlog);
+  }
+
+  public void setExpiryLag(final long lag) {
+    EXPIRY_LAG.labels(partitionIdLabel).set(lag);
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.zeebe.engine.processing.message;
 
+import io.zeebe.engine.metrics.MessageMetrics;
 import io.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.zeebe.engine.processing.streamprocessor.ReadonlyProcessingContext;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessorLifecycleAware;
@@ -40,8 +41,15 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
     final ActorControl actor = context.getActor();
     // it is safe to reuse the write because we running in the same actor/thread
     final MessageTimeToLiveChecker timeToLiveChecker =
-        new MessageTimeToLiveChecker(context.getLogStreamWriter(), messageState);
-    context.getActor().runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
+        new MessageTimeToLiveChecker(
+            context.getLogStreamWriter(),
+            messageState,
+            actor,
+            new MessageMetrics(context.getLogStream().getPartitionId()),
+            context.getMaxMessageExpiryBatchSize(),
+            context.getMaxFragmentSize(),
+            context.getMaxMessageExpiriesPerRun());
+    actor.runAtFixedRate(MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL, timeToLiveChecker);
 
     final PendingMessageSubscriptionChecker pendingSubscriptionChecker =
         new PendingMessageSubscriptionChecker(
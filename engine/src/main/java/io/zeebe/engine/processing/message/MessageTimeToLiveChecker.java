@@ -7,35 +7,140 @@
  */
 package io.zeebe.engine.processing.message;
 
+import io.zeebe.engine.metrics.MessageMetrics;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
 import io.zeebe.engine.state.immutable.MessageState;
 import io.zeebe.engine.state.message.StoredMessage;
 import io.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.zeebe.protocol.record.intent.MessageIntent;
+import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
+import java.time.Duration;
 
+/**
+ * Writes expire commands for the messages whose time-to-live elapsed.
+ *
+ * <p>The commands are written in batches of limited size, and a single run writes only a limited
+ * number of commands. If more messages are expired, the next run is scheduled right away, such
+ * that other commands are processed in between. It continues after the last message for which a
+ * command was written, since the commands of the previous run are most likely not processed yet.
+ * The checker starts over from the first message once it has visited all expired messages.
+ */
 public final class MessageTimeToLiveChecker implements Runnable {
 
+  // the backlog is counted by reading only the deadlines, but still up to a limit
+  static final int MAX_COUNTED_BACKLOG = 10_000;
+
+  private final MessageRecord deleteMessageCommand = new MessageRecord();
+
   private final TypedCommandWriter writer;
   private final MessageState messageState;
+  private final ActorControl actor;
+  private final MessageMetrics metrics;
+  private final int maxBatchSize;
+  private final int maxBatchLength;
+  private final int maxExpiriesPerRun;
 
-  private final MessageRecord deleteMessageCommand = new MessageRecord();
+  // the last message for which a command was written, the next run continues after it
+  private boolean hasResumePoint;
+  private long resumeDeadline;
+  private long resumeMessageKey;
+
+  private boolean isNextRunScheduled;
+
+  // the state of the current run
+  private int batchSize;
+  private int batchLength;
+  private long batchFirstDeadline;
+  private long batchLastDeadline;
+  private long batchLastMessageKey;
+  private int expiredMessages;
+  private int backlog;
+  private long oldestPendingDeadline;
+  private long oldestPendingMessageKey;
+  private boolean isRunLimitReached;
+  private boolean writeFailed;
 
   public MessageTimeToLiveChecker(
-      final TypedCommandWriter writer, final MessageState messageState) {
+      final TypedCommandWriter writer,
+      final MessageState messageState,
+      final ActorControl actor,
+      final MessageMetrics metrics,
+      final int maxBatchSize,
+      final int maxFragmentSize,
+      final int maxExpiriesPerRun) {
     this.writer = writer;
     this.messageState = messageState;
+    this.actor = actor;
+    this.metrics = metrics;
+    this.maxBatchSize = maxBatchSize;
+    this.maxExpiriesPerRun = maxExpiriesPerRun;
+    // leave room for the metadata and the headers of the records
+    maxBatchLength = maxFragmentSize / 2;
   }
 
   @Override
   public void run() {
-    messageState.visitMessagesWithDeadlineBefore(
-        ActorClock.currentTimeMillis(), this::writeDeleteMessageCommand);
+    // the run which is scheduled already continues the expiry
+    if (!isNextRunScheduled) {
+      expireMessages();
+    }
+  }
+
+  private void expireMessages() {
+    isNextRunScheduled = false;
+
+    final long now = ActorClock.currentTimeMillis();
+    resetBatch();
+    expiredMessages = 0;
+    backlog = 0;
+    oldestPendingDeadline = now;
+    isRunLimitReached = false;
+    writeFailed = false;
+
+    if (hasResumePoint) {
+      // the resume point itself was expired already
+      messageState.visitMessagesWithDeadlineBefore(
+          now, resumeDeadline, resumeMessageKey + 1, this::writeDeleteMessageCommand);
+    } else {
+      messageState.visitMessagesWithDeadlineBefore(now, this::writeDeleteMessageCommand);
+    }
+
+    if (batchSize > 0) {
+      flushBatch();
+    }
+
+    if (isRunLimitReached) {
+      backlog +=
+          messageState.countMessagesWithDeadlineBefore(
+              now, oldestPendingDeadline, oldestPendingMessageKey, MAX_COUNTED_BACKLOG);
+    }
+
+    metrics.setExpiryBacklog(backlog);
+    metrics.setExpiryLag(now - oldestPendingDeadline);
+
+    if (backlog > 0 && !writeFailed) {
+      // the run limit is reached, but there are more expired messages
+      isNextRunScheduled = true;
+      actor.runDelayed(Duration.ZERO, this::expireMessages);
+
+    } else if (!writeFailed) {
+      // all expired messages are visited, the next run can start over with the first message
+      hasResumePoint = false;
+    }
   }
 
   private boolean writeDeleteMessageCommand(final StoredMessage storedMessage) {
     final var message = storedMessage.getMessage();
 
+    if (expiredMessages + batchSize >= maxExpiriesPerRun) {
+      // the run limit is reached, the remaining messages are counted once the batch is written
+      isRunLimitReached = true;
+      oldestPendingDeadline = message.getDeadline();
+      oldestPendingMessageKey = storedMessage.getMessageKey();
+      return false;
+    }
+
     deleteMessageCommand.reset();
     deleteMessageCommand
         .setName(message.getName())
@@ -47,11 +152,51 @@ public final class MessageTimeToLiveChecker implements Runnable {
       deleteMessageCommand.setMessageId(message.getMessageIdBuffer());
     }
 
-    writer.reset();
+    final int commandLength = deleteMessageCommand.getLength();
+    if (batchSize > 0 && batchLength + commandLength > maxBatchLength && !flushBatch()) {
+      backlog += 1;
+      return false;
+    }
+
     writer.appendFollowUpCommand(
         storedMessage.getMessageKey(), MessageIntent.EXPIRE, deleteMessageCommand);
+    if (batchSize == 0) {
+      batchFirstDeadline = message.getDeadline();
+    }
+    batchSize += 1;
+    batchLength += commandLength;
+    batchLastDeadline = message.getDeadline();
+    batchLastMessageKey = storedMessage.getMessageKey();
 
+    return batchSize < maxBatchSize || flushBatch();
+  }
+
+  private boolean flushBatch() {
+    final int flushedMessages = batchSize;
     final long position = writer.flush();
-    return position > 0;
+    if (position < 0) {
+      // the messages of the batch are retried by the next regular run, which continues after the
+      // last message of the previous batch
+      writeFailed = true;
+      backlog += flushedMessages;
+      oldestPendingDeadline = Math.min(oldestPendingDeadline, batchFirstDeadline);
+      resetBatch();
+      return false;
+    }
+
+    hasResumePoint = true;
+    resumeDeadline = batchLastDeadline;
+    resumeMessageKey = batchLastMessageKey;
+
+    expiredMessages += flushedMessages;
+    metrics.messagesExpired(flushedMessages);
+    resetBatch();
+    return true;
+  }
+
+  private void resetBatch() {
+    writer.reset();
+    batchSize = 0;
+    batchLength = 0;
   }
 }
@@ -28,6 +28,10 @@ import java.util.function.Consumer;
 
 public final class ProcessingContext implements ReadonlyProcessingContext {
 
+  private static final int DEFAULT_MAX_TIMER_TRIGGER_BATCH_SIZE = 100;
+  private static final int DEFAULT_MAX_MESSAGE_EXPIRY_BATCH_SIZE = 100;
+  private static final int DEFAULT_MAX_MESSAGE_EXPIRIES_PER_RUN = 10_000;
+
   private ActorControl actor;
   private LogStream logStream;
   private LogStreamReader logStreamReader;
@@ -46,6 +50,9 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private Consumer<LoggedEvent> onSkippedListener = record -> {};
   private int maxFragmentSize;
   private boolean detectReprocessingInconsistency;
+  private int maxTimerTriggerBatchSize = DEFAULT_MAX_TIMER_TRIGGER_BATCH_SIZE;
+  private int maxMessageExpiryBatchSize = DEFAULT_MAX_MESSAGE_EXPIRY_BATCH_SIZE;
+  private int maxMessageExpiriesPerRun = DEFAULT_MAX_MESSAGE_EXPIRIES_PER_RUN;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -119,6 +126,21 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext maxTimerTriggerBatchSize(final int maxTimerTriggerBatchSize) {
+    this.maxTimerTriggerBatchSize = maxTimerTriggerBatchSize;
+    return this;
+  }
+
+  public ProcessingContext maxMessageExpiryBatchSize(final int maxMessageExpiryBatchSize) {
+    this.maxMessageExpiryBatchSize = maxMessageExpiryBatchSize;
+    return this;
+  }
+
+  public ProcessingContext maxMessageExpiriesPerRun(final int maxMessageExpiriesPerRun) {
+    this.maxMessageExpiriesPerRun = maxMessageExpiriesPerRun;
+    return this;
+  }
+
   public ProcessingContext eventApplier(final EventApplier eventApplier) {
     this.eventApplier = eventApplier;
     return this;
@@ -152,6 +174,21 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return maxFragmentSize;
   }
 
+  @Override
+  public int getMaxTimerTriggerBatchSize() {
+    return maxTimerTriggerBatchSize;
+  }
+
+  @Override
+  public int getMaxMessageExpiryBatchSize() {
+    return maxMessageExpiryBatchSize;
+  }
+
+  @Override
+  public int getMaxMessageExpiriesPerRun() {
+    return maxMessageExpiriesPerRun;
+  }
+
   @Override
   public TypedStreamWriter getLogStreamWriter() {
     return logStreamWriter;
@@ -34,6 +34,15 @@ public interface ReadonlyProcessingContext {
    */
   int getMaxFragmentSize();
 
+  /** @return the maximum number of due timers which are triggered with a single write */
+  int getMaxTimerTriggerBatchSize();
+
+  /** @return the maximum number of expired messages which are deleted with a single write */
+  int getMaxMessageExpiryBatchSize();
+
+  /** @return the maximum number of expired messages which are deleted by a single checker run */
+  int getMaxMessageExpiriesPerRun();
+
   /** @return the actual log stream writer, used to write any record */
   TypedStreamWriter getLogStreamWriter();
 
@@ -76,6 +76,21 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  public StreamProcessorBuilder maxTimerTriggerBatchSize(final int maxTimerTriggerBatchSize) {
+    processingContext.maxTimerTriggerBatchSize(maxTimerTriggerBatchSize);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxMessageExpiryBatchSize(final int maxMessageExpiryBatchSize) {
+    processingContext.maxMessageExpiryBatchSize(maxMessageExpiryBatchSize);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxMessageExpiriesPerRun(final int maxMessageExpiriesPerRun) {
+    processingContext.maxMessageExpiriesPerRun(maxMessageExpiriesPerRun);
+    return this;
+  }
+
   public StreamProcessorBuilder eventApplierFactory(
       final Function<MutableZeebeState, EventApplier> eventApplierFactory) {
     this.eventApplierFactory = eventApplierFactory;
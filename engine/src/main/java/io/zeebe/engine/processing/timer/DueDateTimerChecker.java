@@ -28,10 +28,25 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   private final TimerInstanceState timerInstanceState;
   private ActorControl actor;
   private TypedStreamWriter streamWriter;
+  private int maxTriggerBatchSize;
+  private int maxTriggerBatchLength;
 
   private ScheduledTimer scheduledTimer;
   private long nextDueDate = -1L;
 
+  // the last timer of the previous batch of the current run, the next batch continues after it
+  private boolean hasResumePoint;
+  private long resumeDueDate;
+  private long resumeElementInstanceKey;
+  private long resumeTimerKey;
+
+  // the state of the current batch
+  private int batchSize;
+  private int batchLength;
+  private long batchLastDueDate;
+  private long batchLastElementInstanceKey;
+  private long batchLastTimerKey;
+
   public DueDateTimerChecker(final TimerInstanceState timerInstanceState) {
     this.timerInstanceState = timerInstanceState;
   }
@@ -61,12 +76,63 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   }
 
   private void triggerTimers() {
-    nextDueDate =
-        timerInstanceState.findTimersWithDueDateBefore(
-            ActorClock.currentTimeMillis(), this::triggerTimer);
+    hasResumePoint = false;
+    triggerNextBatch();
+  }
+
+  private void triggerNextBatch() {
+    // The trigger commands of due timers are written in batches of limited size. After each
+    // batch, the actor is yielded, so that a large number of due timers doesn't block the
+    // processing of other commands. The next batch continues after the last timer of the previous
+    // one, since the commands of the previous batch are most likely not processed yet.
+    final long now = ActorClock.currentTimeMillis();
+    final boolean isResumedBatch = hasResumePoint;
+    batchSize = 0;
+    batchLength = 0;
+    streamWriter.reset();
+
+    if (isResumedBatch) {
+      // the resume point itself was triggered already
+      nextDueDate =
+          timerInstanceState.findTimersWithDueDateBefore(
+              now,
+              resumeDueDate,
+              resumeElementInstanceKey,
+              resumeTimerKey + 1,
+              this::appendTriggerCommand);
+    } else {
+      nextDueDate = timerInstanceState.findTimersWithDueDateBefore(now, this::appendTriggerCommand);
+    }
+
+    if (batchSize > 0) {
+      if (streamWriter.flush() < 0) {
+        // the batch could not be written, try again later
+        nextDueDate = now;
+        scheduledTimer =
+            actor.runDelayed(Duration.ofMillis(TIMER_RESOLUTION), this::triggerNextBatch);
+        return;
+      }
+
+      hasResumePoint = true;
+      resumeDueDate = batchLastDueDate;
+      resumeElementInstanceKey = batchLastElementInstanceKey;
+      resumeTimerKey = batchLastTimerKey;
+    }
 
     // reschedule the runnable if there are timers left
 
+    if (nextDueDate > 0 && nextDueDate <= now) {
+      // the batch is full, but there are more timers due
+      scheduledTimer = actor.runDelayed(Duration.ZERO, this::triggerNextBatch);
+      return;
+    }
+
+    if (isResumedBatch && (nextDueDate < 0 || nextDueDate - now > TIMER_RESOLUTION)) {
+      // a resumed batch doesn't visit the timers which were created in the meantime with a due
+      // date before the resume point, check them again starting with the first timer
+      nextDueDate = now + TIMER_RESOLUTION;
+    }
+
     if (nextDueDate > 0) {
       final Duration duration = Duration.ofMillis(nextDueDate - ActorClock.currentTimeMillis());
       scheduledTimer = actor.runDelayed(duration, this::triggerTimers);
@@ -76,7 +142,11 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     }
   }
 
-  private boolean triggerTimer(final TimerInstance timer) {
+  private boolean appendTriggerCommand(final TimerInstance timer) {
+    if (batchSize >= maxTriggerBatchSize) {
+      return false;
+    }
+
     timerRecord.reset();
     timerRecord
         .setElementInstanceKey(timer.getElementInstanceKey())
@@ -86,16 +156,29 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         .setRepetitions(timer.getRepetitions())
         .setProcessDefinitionKey(timer.getProcessDefinitionKey());
 
-    streamWriter.reset();
+    final int commandLength = timerRecord.getLength();
+    if (batchSize > 0 && batchLength + commandLength > maxTriggerBatchLength) {
+      // the batch would not fit into a single write, the next batch continues with this timer
+      return false;
+    }
+
     streamWriter.appendFollowUpCommand(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+    batchSize += 1;
+    batchLength += commandLength;
+    batchLastDueDate = timer.getDueDate();
+    batchLastElementInstanceKey = timer.getElementInstanceKey();
+    batchLastTimerKey = timer.getKey();
 
-    return streamWriter.flush() > 0;
+    return true;
   }
 
   @Override
   public void onRecovered(final ReadonlyProcessingContext processingContext) {
     actor = processingContext.getActor();
     streamWriter = processingContext.getLogStreamWriter();
+    maxTriggerBatchSize = processingContext.getMaxTimerTriggerBatchSize();
+    // leave room for the metadata and the headers of the records
+    maxTriggerBatchLength = processingContext.getMaxFragmentSize() / 2;
     // check if timers are due after restart
     triggerTimers();
   }
@@ -24,6 +24,32 @@ public interface MessageState {
 
   void visitMessagesWithDeadlineBefore(long timestamp, MessageVisitor visitor);
 
+  /**
+   * Visits the messages with a deadline before the given timestamp, ordered by their deadline and
+   * key, starting at the given deadline and message key. This allows to resume a previous visit
+   * without visiting the preceding messages again.
+   *
+   * @param timestamp the timestamp until which the messages are visited
+   * @param startDeadline the deadline of the message to start at
+   * @param startMessageKey the key of the message to start at
+   * @param visitor the visitor, which can stop the iteration by returning false
+   */
+  void visitMessagesWithDeadlineBefore(
+      long timestamp, long startDeadline, long startMessageKey, MessageVisitor visitor);
+
+  /**
+   * Counts the messages with a deadline before the given timestamp, starting at the given deadline
+   * and message key. Only the deadlines are read, not the messages.
+   *
+   * @param timestamp the timestamp until which the messages are counted
+   * @param startDeadline the deadline of the message to start at
+   * @param startMessageKey the key of the message to start at
+   * @param limit the number of messages after which the counting stops
+   * @return the number of messages, but at most the limit
+   */
+  int countMessagesWithDeadlineBefore(
+      long timestamp, long startDeadline, long startMessageKey, int limit);
+
   boolean exist(DirectBuffer name, DirectBuffer correlationKey, DirectBuffer messageId);
 
   @FunctionalInterface
@@ -14,6 +14,25 @@ public interface TimerInstanceState {
 
   long findTimersWithDueDateBefore(long timestamp, TimerVisitor consumer);
 
+  /**
+   * Visits the timers with a due date before the given timestamp, ordered by their due date,
+   * element instance key and timer key, starting at the given ones. This allows to resume a
+   * previous visit without visiting the preceding timers again.
+   *
+   * @param timestamp the timestamp until which the timers are visited
+   * @param startDueDate the due date of the timer to start at
+   * @param startElementInstanceKey the element instance key of the timer to start at
+   * @param startTimerKey the key of the timer to start at
+   * @param consumer the visitor, which can stop the iteration by returning false
+   * @return the due date of the first timer which is not visited, or -1 if there is none
+   */
+  long findTimersWithDueDateBefore(
+      long timestamp,
+      long startDueDate,
+      long startElementInstanceKey,
+      long startTimerKey,
+      TimerVisitor consumer);
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
@@ -15,7 +15,6 @@ import io.zeebe.db.impl.DbLong;
 import io.zeebe.engine.state.ZbColumnFamilies;
 import io.zeebe.engine.state.mutable.MutableEventScopeInstanceState;
 import java.util.Collection;
-import java.util.function.BiConsumer;
 import org.agrona.DirectBuffer;
 
 public final class DbEventScopeInstanceState implements MutableEventScopeInstanceState {
@@ -96,10 +95,7 @@ public final class DbEventScopeInstanceState implements MutableEventScopeInstanc
   public void deleteInstance(final long eventScopeKey) {
     eventTriggerScopeKey.wrapLong(eventScopeKey);
 
-    eventTriggerColumnFamily.whileEqualPrefix(
-        eventTriggerScopeKey,
-        (BiConsumer<DbCompositeKey<DbLong, DbLong>, EventTrigger>)
-            (key, value) -> deleteTrigger(key));
+    eventTriggerColumnFamily.deletePrefix(eventTriggerScopeKey);
 
     this.eventScopeKey.wrapLong(eventScopeKey);
     eventScopeInstanceColumnFamily.delete(this.eventScopeKey);
@@ -69,25 +69,49 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
-        (key, nil) -> {
-          final DbLong dueDate = key.getFirst();
-
-          boolean consumed = false;
-          if (dueDate.getValue() <= timestamp) {
-            final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
-            final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            consumed = consumer.visit(timerInstance);
-          }
-
-          if (!consumed) {
-            nextDueDate = dueDate.getValue();
-          }
-          return consumed;
-        });
+        (key, nil) -> visitTimerWithDueDateBefore(timestamp, key, consumer));
+
+    return nextDueDate;
+  }
+
+  @Override
+  public long findTimersWithDueDateBefore(
+      final long timestamp,
+      final long startDueDate,
+      final long startElementInstanceKey,
+      final long startTimerKey,
+      final TimerVisitor consumer) {
+    nextDueDate = -1L;
+
+    dueDateKey.wrapLong(startDueDate);
+    elementInstanceKey.wrapLong(startElementInstanceKey);
+    timerKey.wrapLong(startTimerKey);
+
+    dueDateColumnFamily.whileTrue(
+        dueDateCompositeKey, (key, nil) -> visitTimerWithDueDateBefore(timestamp, key, consumer));
 
     return nextDueDate;
   }
 
+  private boolean visitTimerWithDueDateBefore(
+      final long timestamp,
+      final DbCompositeKey<DbLong, DbCompositeKey<DbLong, DbLong>> key,
+      final TimerVisitor consumer) {
+    final DbLong dueDate = key.getFirst();
+
+    boolean consumed = false;
+    if (dueDate.getValue() <= timestamp) {
+      final DbCompositeKey<DbLong, DbLong> elementAndTimerKey = key.getSecond();
+      final TimerInstance timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
+      consumed = consumer.visit(timerInstance);
+    }
+
+    if (!consumed) {
+      nextDueDate = dueDate.getValue();
+    }
+    return consumed;
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
@@ -97,6 +97,8 @@ public final class DbMessageState implements MutableMessageState {
 
   private final ColumnFamily<DbLong, DbString> processInstanceCorrelationKeyColumnFamiliy;
 
+  private int countedMessages;
+
   public DbMessageState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     messageKey = new DbLong();
@@ -301,15 +303,54 @@ public final class DbMessageState implements MutableMessageState {
   @Override
   public void visitMessagesWithDeadlineBefore(final long timestamp, final MessageVisitor visitor) {
     deadlineColumnFamily.whileTrue(
-        ((compositeKey, zbNil) -> {
-          final long deadline = compositeKey.getFirst().getValue();
-          if (deadline <= timestamp) {
-            final long messageKey = compositeKey.getSecond().getValue();
-            final StoredMessage message = getMessage(messageKey);
-            return visitor.visit(message);
+        (compositeKey, zbNil) -> visitMessageWithDeadlineBefore(timestamp, compositeKey, visitor));
+  }
+
+  @Override
+  public void visitMessagesWithDeadlineBefore(
+      final long timestamp,
+      final long startDeadline,
+      final long startMessageKey,
+      final MessageVisitor visitor) {
+    deadline.wrapLong(startDeadline);
+    messageKey.wrapLong(startMessageKey);
+
+    deadlineColumnFamily.whileTrue(
+        deadlineMessageKey,
+        (compositeKey, zbNil) -> visitMessageWithDeadlineBefore(timestamp, compositeKey, visitor));
+  }
+
+  @Override
+  public int countMessagesWithDeadlineBefore(
+      final long timestamp, final long startDeadline, final long startMessageKey, final int limit) {
+    deadline.wrapLong(startDeadline);
+    messageKey.wrapLong(startMessageKey);
+    countedMessages = 0;
+
+    deadlineColumnFamily.whileTrue(
+        deadlineMessageKey,
+        (compositeKey, zbNil) -> {
+          if (compositeKey.getFirst().getValue() > timestamp) {
+            return false;
           }
-          return false;
-        }));
+          countedMessages += 1;
+          return countedMessages < limit;
+        });
+
+    return countedMessages;
+  }
+
+  private boolean visitMessageWithDeadlineBefore(
+      final long timestamp,
+      final DbCompositeKey<DbLong, DbLong> compositeKey,
+      final MessageVisitor visitor) {
+    final long deadline = compositeKey.getFirst().getValue();
+    if (deadline <= timestamp) {
+      final long messageKey = compositeKey.getSecond().getValue();
+      final StoredMessage message = getMessage(messageKey);
+      return visitor.visit(message);
+    }
+    return false;
   }
 
   @Override
@@ -18,7 +18,9 @@ import io.zeebe.engine.state.instance.ParentScopeKey;
 import io.zeebe.engine.state.instance.TemporaryVariables;
 import io.zeebe.engine.state.mutable.MutableVariableState;
 import io.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
@@ -58,6 +60,14 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // looking up multiple variables of a scope at once; the keys and values are pooled and grow with
+  // the largest lookup
+  private final DbLong multiGetScopeKey = new DbLong();
+  private final List<DbCompositeKey<DbLong, DbString>> multiGetKeyPool = new ArrayList<>();
+  private final List<VariableInstance> multiGetValuePool = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> multiGetKeys = new ArrayList<>();
+  private final List<VariableInstance> multiGetValues = new ArrayList<>();
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -140,11 +150,8 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
-    visitVariablesLocal(
-        scopeKey,
-        dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
-        () -> false);
+    this.scopeKey.wrapLong(scopeKey);
+    variablesColumnFamily.deletePrefix(this.scopeKey);
   }
 
   @Override
@@ -248,23 +255,21 @@ public class DbVariableState implements MutableVariableState {
 
     variablesToCollect.clear();
     variablesToCollect.addAll(names);
+    final int variableCount = variablesToCollect.size();
 
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    // look up all remaining variables of a scope at once, instead of iterating over all variables
+    // of the scope, which can be many more than requested
+    long currentScope = scopeKey;
+    while (!variablesToCollect.isEmpty() && currentScope >= 0) {
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    }
 
-    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+    writer.writeReservedMapHeader(0, variableCount - variablesToCollect.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -330,6 +335,39 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Writes the variables of the given scope, whose names are contained in {@link
+   * #variablesToCollect}, to the document and removes their names from it.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    multiGetScopeKey.wrapLong(scopeKey);
+    multiGetKeys.clear();
+    multiGetValues.clear();
+
+    for (final DirectBuffer name : variablesToCollect) {
+      final int index = multiGetKeys.size();
+      if (index == multiGetKeyPool.size()) {
+        multiGetKeyPool.add(new DbCompositeKey<>(multiGetScopeKey, new DbString()));
+        multiGetValuePool.add(new VariableInstance());
+      }
+
+      final DbCompositeKey<DbLong, DbString> key = multiGetKeyPool.get(index);
+      key.getSecond().wrapBuffer(name);
+      multiGetKeys.add(key);
+      multiGetValues.add(multiGetValuePool.get(index));
+    }
+
+    variablesColumnFamily.multiGet(
+        multiGetKeys,
+        multiGetValues,
+        (key, value) -> {
+          final DirectBuffer name = key.getSecond().getBuffer();
+          writer.writeString(name);
+          writer.writeRaw(value.getValue());
+          variablesToCollect.remove(name);
+        });
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
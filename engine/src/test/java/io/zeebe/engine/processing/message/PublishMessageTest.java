@@ -196,6 +196,35 @@ public final class PublishMessageTest {
         .hasMessageId("");
   }
 
+  @Test
+  public void shouldExpireMoreMessagesThanFitIntoOneBatch() {
+    // given
+    final int messageCount = 250;
+    final var client = messageClient.withCorrelationKey("batch").withTimeToLive(100L);
+    for (int i = 0; i < messageCount; i++) {
+      client.publish();
+    }
+
+    // when
+    ENGINE_RULE.increaseTime(MessageObserver.MESSAGE_TIME_TO_LIVE_CHECK_INTERVAL);
+
+    // then
+    final Record<MessageRecordValue> lastExpiredEvent =
+        RecordingExporter.messageRecords(MessageIntent.EXPIRED)
+            .withCorrelationKey("batch")
+            .skip(messageCount - 1)
+            .getFirst();
+
+    assertThat(
+            RecordingExporter.records()
+                .between(0, lastExpiredEvent.getPosition())
+                .messageRecords()
+                .withIntent(MessageIntent.EXPIRE)
+                .onlyCommandRejections())
+        .describedAs("Expected every message to be expired only once")
+        .isEmpty();
+  }
+
   @Test
   public void shouldExpireMessageImmediatelyWithZeroTTL() {
     // given
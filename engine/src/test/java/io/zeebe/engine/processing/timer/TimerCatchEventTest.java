@@ -349,6 +349,52 @@ public final class TimerCatchEventTest {
         .isBetween(timer1DueDate, timer1DueDate + Duration.ofSeconds(1).toMillis());
   }
 
+  @Test
+  public void shouldTriggerMoreTimersThanFitIntoOneBatch() {
+    // given
+    final BpmnModelInstance process =
+        Bpmn.createExecutableProcess("shouldTriggerMoreTimersThanFitIntoOneBatch")
+            .startEvent()
+            .intermediateCatchEvent("timer", c -> c.timerWithDuration("PT1S"))
+            .endEvent()
+            .done();
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final int timerCount = 250;
+    IntStream.range(0, timerCount)
+        .forEach(
+            i ->
+                ENGINE
+                    .processInstance()
+                    .ofBpmnProcessId("shouldTriggerMoreTimersThanFitIntoOneBatch")
+                    .create());
+    assertThat(
+            RecordingExporter.timerRecords(TimerIntent.CREATED)
+                .withHandlerNodeId("timer")
+                .limit(timerCount))
+        .hasSize(timerCount);
+
+    // when
+    ENGINE.increaseTime(Duration.ofSeconds(1));
+
+    // then
+    final var lastCompletedProcessInstance =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withBpmnProcessId("shouldTriggerMoreTimersThanFitIntoOneBatch")
+            .withElementType(BpmnElementType.PROCESS)
+            .skip(timerCount - 1)
+            .getFirst();
+
+    assertThat(
+            RecordingExporter.records()
+                .between(0, lastCompletedProcessInstance.getPosition())
+                .timerRecords()
+                .withIntent(TimerIntent.TRIGGER)
+                .onlyCommandRejections())
+        .describedAs("Expected every timer to be triggered only once")
+        .isEmpty();
+  }
+
   @Test
   public void shouldCancelTimer() {
     // given
@@ -131,6 +131,43 @@ public final class TimerInstanceStateTest {
     assertThat(keys).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldFindTimersWithDueDateStartingAtTimer() {
+    // given
+    final TimerInstance timer1 = new TimerInstance();
+    timer1.setElementInstanceKey(1L);
+    timer1.setKey(1L);
+    timer1.setDueDate(1000L);
+    state.put(timer1);
+
+    final TimerInstance timer2 = new TimerInstance();
+    timer2.setElementInstanceKey(1L);
+    timer2.setKey(2L);
+    timer2.setDueDate(1000L);
+    state.put(timer2);
+
+    final TimerInstance timer3 = new TimerInstance();
+    timer3.setElementInstanceKey(3L);
+    timer3.setKey(3L);
+    timer3.setDueDate(2000L);
+    state.put(timer3);
+
+    final TimerInstance timer4 = new TimerInstance();
+    timer4.setElementInstanceKey(4L);
+    timer4.setKey(4L);
+    timer4.setDueDate(3000L);
+    state.put(timer4);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.findTimersWithDueDateBefore(2000L, 1000L, 1L, 2L, t -> keys.add(t.getKey()));
+
+    // then
+    assertThat(keys).containsExactly(2L, 3L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
   @Test
   public void shouldReturnNextDueDate() {
     // given
@@ -236,6 +236,41 @@ public final class MessageStateTest {
     assertThat(readMessage).containsExactly(1L, 2L);
   }
 
+  @Test
+  public void shouldVisitMessagesBeforeTimeStartingAtDeadlineAndKey() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1234));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 1234));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "nr3", 1500));
+    messageState.put(4L, createMessage("name", "correlationKey", "{}", "nr4", 3000));
+
+    // when
+    final List<Long> readMessage = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBefore(
+        2_000, 1234, 2L, m -> readMessage.add(m.getMessageKey()));
+
+    // then
+    assertThat(readMessage).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldCountMessagesBeforeTimeStartingAtDeadlineAndKey() {
+    // given
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1234));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 1234));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "nr3", 1500));
+    messageState.put(4L, createMessage("name", "correlationKey", "{}", "nr4", 1800));
+    messageState.put(5L, createMessage("name", "correlationKey", "{}", "nr5", 3000));
+
+    // when
+    final int count = messageState.countMessagesWithDeadlineBefore(2_000, 1234, 2L, 10);
+    final int limitedCount = messageState.countMessagesWithDeadlineBefore(2_000, 1234, 2L, 2);
+
+    // then
+    assertThat(count).isEqualTo(3);
+    assertThat(limitedCount).isEqualTo(2);
+  }
+
   @Test
   public void shouldRemoveMessage() {
     // given
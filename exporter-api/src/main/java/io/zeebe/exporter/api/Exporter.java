@@ -18,6 +18,7 @@ package io.zeebe.exporter.api;
 import io.zeebe.exporter.api.context.Context;
 import io.zeebe.exporter.api.context.Controller;
 import io.zeebe.protocol.record.Record;
+import java.util.List;
 
 /**
  * Minimal interface to be implemented by concrete exporters.
@@ -73,4 +74,26 @@ public interface Exporter {
    * @param record the record to export
    */
   void export(Record<?> record);
+
+  /**
+   * Called at least once for every batch of records to be exported. The batch contains committed
+   * records in the order of their positions, and it is bounded in the number and the size of its
+   * records. Exporters which can write multiple records at once (e.g. in a single bulk request)
+   * should override this method to opt in to batched exporting; otherwise, {@link #export(Record)}
+   * is called for every record.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again with
+   * the same batch until it terminates without any exception. Once the records are guaranteed to
+   * have been exported, implementations should call {@link
+   * Controller#updateLastExportedRecordPosition(long)} with the position of the last record.
+   *
+   * <p>The list and its records are only valid during the call, as the records wrap the underlying
+   * internal buffer, which is reused for the next batch. If the implementation needs to keep the
+   * records, it either has to call {@link Record#toJson()} or {@link Record#clone()}.
+   *
+   * @param records the records to export, never empty
+   */
+  default void exportBatch(final List<Record<?>> records) {
+    records.forEach(this::export);
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.el.impl;
+
+import io.zeebe.el.Expression;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+/**
+ * Caches parsed expressions by their text, such that an expression which is used by multiple
+ * processes, or by multiple versions of a process, is parsed only once.
+ *
+ * <p>The cache is bounded by the total length of the cached expressions, which approximates the
+ * memory of the parsed expressions. If the bound is exceeded, the least recently used expressions
+ * are evicted.
+ *
+ * <p>Must only be used by a single thread.
+ */
+final class ExpressionCache {
+
+  private final LinkedHashMap<String, Expression> expressions =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final long maxLength;
+
+  private long length;
+
+  ExpressionCache(final long maxLength) {
+    this.maxLength = maxLength;
+  }
+
+  Expression computeIfAbsent(
+      final String expressionText, final Function<String, Expression> parser) {
+    final var cachedExpression = expressions.get(expressionText);
+    if (cachedExpression != null) {
+      return cachedExpression;
+    }
+
+    final var expression = parser.apply(expressionText);
+    if (expressionText.length() <= maxLength) {
+      expressions.put(expressionText, expression);
+      length += expressionText.length();
+      evictLeastRecentlyUsed();
+    }
+    return expression;
+  }
+
+  private void evictLeastRecentlyUsed() {
+    final Iterator<Entry<String, Expression>> iterator = expressions.entrySet().iterator();
+    while (length > maxLength && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      length -= eldest.getKey().length();
+      iterator.remove();
+    }
+  }
+}
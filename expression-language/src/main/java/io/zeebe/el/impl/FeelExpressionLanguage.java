@@ -18,17 +18,22 @@ import io.zeebe.el.impl.feel.FeelFunctionProvider;
 import io.zeebe.el.impl.feel.FeelToMessagePackTransformer;
 import io.zeebe.el.impl.feel.FeelVariableContext;
 import io.zeebe.el.impl.feel.MessagePackValueMapper;
+import io.zeebe.el.impl.feel.SimpleExpressionEvaluator;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.util.regex.Pattern;
 import org.camunda.feel.FeelEngine;
 import org.camunda.feel.FeelEngine.Failure;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.Val;
+import scala.Option;
 import scala.util.Either;
 
 /**
  * A wrapper around the FEEL-Scala expression language.
  *
+ * <p>The parsed expressions are cached by their text. Trivial expressions, like variable references,
+ * literals or simple comparisons, are evaluated without the FEEL interpreter.
+ *
  * <p>
  * <li><a href="https://github.com/camunda/feel-scala">GitHub Repository</a>
  * <li><a href="https://camunda.github.io/feel-scala">Documentation</a>
@@ -36,16 +41,24 @@ import scala.util.Either;
 public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
+  // the total length of the cached expressions
+  private static final long MAX_CACHED_EXPRESSIONS_LENGTH = 256 * 1024;
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
+  private final ExpressionCache expressionCache =
+      new ExpressionCache(MAX_CACHED_EXPRESSIONS_LENGTH);
+
+  private final MessagePackValueMapper valueMapper = new MessagePackValueMapper();
   private final FeelEngine feelEngine;
+  private final SimpleExpressionEvaluator simpleExpressionEvaluator;
 
   public FeelExpressionLanguage(final ActorClock clock) {
+    simpleExpressionEvaluator = new SimpleExpressionEvaluator(valueMapper);
     feelEngine =
         new FeelEngine.Builder()
-            .customValueMapper(new MessagePackValueMapper())
+            .customValueMapper(valueMapper)
             .functionProvider(new FeelFunctionProvider())
             .clock(new ZeebeFeelEngineClock(clock))
             .build();
@@ -59,7 +72,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return expressionCache.computeIfAbsent(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -107,7 +120,15 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final FeelExpression feelExpression) {
 
     final var parsedExpression = feelExpression.getParsedExpression();
-    final var feelContext = new FeelVariableContext(context);
+
+    final Option<Val> simpleResult =
+        simpleExpressionEvaluator.evaluate(parsedExpression.expression(), context);
+    if (simpleResult.isDefined()) {
+      return new FeelEvaluationResult(
+          expression, simpleResult.get(), messagePackTransformer::toMessagePack);
+    }
+
+    final var feelContext = new FeelVariableContext(context, valueMapper);
 
     final Either<Failure, Object> evalResult = feelEngine.eval(parsedExpression, feelContext);
 
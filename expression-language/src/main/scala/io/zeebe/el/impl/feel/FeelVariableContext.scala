@@ -9,16 +9,30 @@ package io.zeebe.el.impl.feel
 
 import io.zeebe.el.EvaluationContext
 import org.camunda.feel.context.{CustomContext, VariableProvider}
+import org.camunda.feel.syntaxtree.{Val, ValNull}
 
-class FeelVariableContext(context: EvaluationContext) extends CustomContext {
+import scala.collection.mutable
+
+/**
+ * The variables of a single evaluation. Each variable is looked up and read only once, even if the
+ * expression accesses it multiple times.
+ */
+class FeelVariableContext(context: EvaluationContext, valueMapper: MessagePackValueMapper)
+  extends CustomContext {
 
   override val variableProvider: VariableProvider = new EvaluationContextWrapper
 
   class EvaluationContextWrapper extends VariableProvider {
 
-    override def getVariable(name: String): Option[Any] = {
+    private val variables = mutable.HashMap.empty[String, Option[Val]]
+
+    override def getVariable(name: String): Option[Any] =
+      variables.getOrElseUpdate(name, readVariable(name))
+
+    private def readVariable(name: String): Option[Val] = {
       Option(context.getVariable(name))
         .filter(_.capacity > 0)
+        .flatMap(valueMapper.toVal(_, _ => ValNull))
     }
 
     override def keys: Iterable[String] = List.empty
@@ -8,46 +8,73 @@
 package io.zeebe.el.impl.feel
 
 import io.zeebe.msgpack.spec.MsgPackReader
-import io.zeebe.util.buffer.BufferUtil.{bufferAsString, cloneBuffer}
+import io.zeebe.util.buffer.BufferUtil
+import io.zeebe.util.buffer.BufferUtil.{bufferAsString, cloneBuffer, wrapString}
 import org.agrona.DirectBuffer
 import org.agrona.concurrent.UnsafeBuffer
 import org.camunda.feel.context.{CustomContext, VariableProvider}
 
+/**
+ * A FEEL context of a MessagePack map. The entries are not read in advance. A single entry is
+ * looked up in the map when it is accessed, and it is only decoded by the value mapper.
+ *
+ * @param reader        the reader to look up the entries, it is shared with the value mapper
+ * @param messagePackMap the MessagePack map, which must not be changed
+ */
 class MessagePackContext(
                           reader: MsgPackReader,
-                          bufferOffset: Int,
-                          size: Int
+                          val messagePackMap: DirectBuffer
                         ) extends CustomContext {
 
-  private val valueOffsets: Map[String, (Int, Int)] = readValueOffsets(reader, size)
-  private val length = reader.getOffset - bufferOffset
-
-  val messagePackMap: DirectBuffer = cloneBuffer(reader.getBuffer, bufferOffset, length)
-
-  override val variableProvider: VariableProvider = new MessagePackMapVariableProvider(messagePackMap)
+  // read only if all entries are requested
+  private lazy val valueOffsets: Map[String, (Int, Int)] = readValueOffsets()
+  private var hasValueOffsets = false
 
-  class MessagePackMapVariableProvider(entries: DirectBuffer) extends VariableProvider {
+  override val variableProvider: VariableProvider = new MessagePackMapVariableProvider
 
-    private val resultView = new UnsafeBuffer
+  class MessagePackMapVariableProvider extends VariableProvider {
 
     override def keys: Iterable[String] = valueOffsets.keys
 
     override def getVariable(name: String): Option[Any] = {
-      valueOffsets
-        .get(name)
-        .map { case (offset, length) =>
-          resultView.wrap(entries, offset, length)
-          resultView
-        }
+      val entry = if (hasValueOffsets) valueOffsets.get(name) else findValue(name)
+
+      // the value is a view of the map, so a nested map doesn't need to be copied
+      entry.map { case (offset, length) =>
+        MessagePackValue(new UnsafeBuffer(messagePackMap, offset, length))
+      }
     }
 
     override def getVariables: Map[String, Any] = valueOffsets.map { case (key, (offset, length)) =>
-      key -> cloneBuffer(entries, offset, length)
+      key -> cloneBuffer(messagePackMap, offset, length)
     }
 
   }
 
-  private def readValueOffsets(reader: MsgPackReader, size: Int): Map[String, (Int, Int)] = {
+  private def findValue(name: String): Option[(Int, Int)] = {
+    val nameBuffer = wrapString(name)
+
+    reader.wrap(messagePackMap, 0, messagePackMap.capacity)
+    val size = reader.readMapHeader()
+
+    (0 until size).iterator
+      .map { _ =>
+        val keyBuffer = reader.readToken().getValueBuffer
+        val isRequestedKey = BufferUtil.equals(keyBuffer, nameBuffer)
+
+        val valueOffset = reader.getOffset
+        reader.skipValue()
+        val valueLength = reader.getOffset - valueOffset
+
+        (isRequestedKey, valueOffset, valueLength)
+      }
+      .collectFirst { case (true, offset, length) => (offset, length) }
+  }
+
+  private def readValueOffsets(): Map[String, (Int, Int)] = {
+    reader.wrap(messagePackMap, 0, messagePackMap.capacity)
+    val size = reader.readMapHeader()
+
     val offsets = (0 until size).map { _ =>
 
       val keyToken = reader.readToken()
@@ -58,10 +85,17 @@ class MessagePackContext(
       reader.skipValue()
       val valueLength = reader.getOffset - valueOffset
 
-      key -> (valueOffset - bufferOffset, valueLength)
+      key -> (valueOffset, valueLength)
     }
 
+    hasValueOffsets = true
     offsets.toMap
   }
 
 }
+
+/**
+ * A MessagePack value which is part of a buffer that doesn't change, so the value mapper can refer
+ * to it instead of copying it.
+ */
+case class MessagePackValue(messagePack: DirectBuffer)
@@ -9,8 +9,9 @@ package io.zeebe.el.impl.feel
 
 import io.zeebe.el.impl.Loggers.LOGGER
 import io.zeebe.msgpack.spec.{MsgPackReader, MsgPackToken, MsgPackType}
-import io.zeebe.util.buffer.BufferUtil.bufferAsString
+import io.zeebe.util.buffer.BufferUtil.{bufferAsString, cloneBuffer}
 import org.agrona.DirectBuffer
+import org.agrona.concurrent.UnsafeBuffer
 import org.camunda.feel.syntaxtree.{Val, _}
 import org.camunda.feel.valuemapper.CustomValueMapper
 
@@ -19,13 +20,30 @@ class MessagePackValueMapper extends CustomValueMapper {
   private val reader = new MsgPackReader
 
   override def toVal(x: Any, innerValueMapper: Any => Val): Option[Val] = x match {
-    case messagePack: DirectBuffer => {
+    // a value which was read already, e.g. a memoized variable
+    case value: Val => Some(value)
+    case MessagePackValue(messagePack) => {
       val value = readMessagePack(messagePack)
       Some(value)
     }
+    case messagePack: DirectBuffer => {
+      val value = readMessagePack(copyIfContainer(messagePack))
+      Some(value)
+    }
     case _ => None
   }
 
+  // the given buffer may be reused, e.g. by the variable state, but the contexts refer to it; the
+  // buffer is copied only once, instead of copying every nested map
+  private def copyIfContainer(messagePack: DirectBuffer): DirectBuffer = {
+    reader.wrap(messagePack, 0, messagePack.capacity())
+    reader.readToken().getType match {
+      case MsgPackType.MAP | MsgPackType.ARRAY => cloneBuffer(messagePack)
+      case _ => messagePack
+    }
+  }
+
+  // the given buffer must not be changed while the value is in use
   private def readMessagePack(messagePack: DirectBuffer): Val = {
     reader.wrap(messagePack, 0, messagePack.capacity())
     readNext()
@@ -56,13 +74,12 @@ class MessagePackValueMapper extends CustomValueMapper {
         ValList(items)
       }
       case MsgPackType.MAP => {
-        val context = new MessagePackContext(
-          reader = reader,
-          bufferOffset = offset,
-          size = token.getSize
-        )
+        // the entries are read by the context when they are accessed
+        reader.skipValues(2L * token.getSize)
+        val length = reader.getOffset - offset
+        val messagePackMap = new UnsafeBuffer(reader.getBuffer, offset, length)
 
-        ValContext(context)
+        ValContext(new MessagePackContext(reader, messagePackMap))
       }
       case other => {
         LOGGER.warn("No MessagePack to FEEL transformation for type '{}'. Using 'null' instead.", other)
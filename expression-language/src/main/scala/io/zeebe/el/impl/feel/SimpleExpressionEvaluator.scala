@@ -0,0 +1,85 @@
+/**
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.el.impl.feel
+
+import io.zeebe.el.EvaluationContext
+import org.camunda.feel.syntaxtree._
+
+/**
+ * Evaluates trivial expressions without the FEEL interpreter, i.e. variable references, literals and
+ * comparisons of them, as they are common in the conditions of gateways.
+ *
+ * It handles only the cases whose result is obvious, for example, it compares two numbers but not a
+ * number and a string. For all other expressions, or if a variable doesn't exist, it returns `None`
+ * and the expression must be evaluated by the FEEL engine. So, the result is always the same as the
+ * one of the FEEL engine.
+ */
+class SimpleExpressionEvaluator(valueMapper: MessagePackValueMapper) {
+
+  def evaluate(expression: Exp, context: EvaluationContext): Option[Val] = expression match {
+    case Ref(List(name)) => variable(name, context)
+    case Equal(x, y) => isEqual(x, y, context).map(ValBoolean)
+    // the parser transforms 'x != y' into 'not(x = y)'
+    case Not(Equal(x, y)) => isEqual(x, y, context).map(result => ValBoolean(!result))
+    case LessThan(x, y) => compareNumbers(x, y, context).map(result => ValBoolean(result < 0))
+    case LessOrEqual(x, y) => compareNumbers(x, y, context).map(result => ValBoolean(result <= 0))
+    case GreaterThan(x, y) => compareNumbers(x, y, context).map(result => ValBoolean(result > 0))
+    case GreaterOrEqual(x, y) =>
+      compareNumbers(x, y, context).map(result => ValBoolean(result >= 0))
+    case _ => literal(expression)
+  }
+
+  private def isEqual(x: Exp, y: Exp, context: EvaluationContext): Option[Boolean] =
+    operands(x, y, context).flatMap {
+      case (ValNumber(a), ValNumber(b)) => Some(a.compare(b) == 0)
+      case (ValString(a), ValString(b)) => Some(a == b)
+      case (ValBoolean(a), ValBoolean(b)) => Some(a == b)
+      case _ => None
+    }
+
+  private def compareNumbers(x: Exp, y: Exp, context: EvaluationContext): Option[Int] =
+    operands(x, y, context).flatMap {
+      case (ValNumber(a), ValNumber(b)) => Some(a.compare(b))
+      case _ => None
+    }
+
+  private def operands(x: Exp, y: Exp, context: EvaluationContext): Option[(Val, Val)] =
+    if (isOperand(x) && isOperand(y)) {
+      for {
+        a <- operand(x, context)
+        b <- operand(y, context)
+      } yield (a, b)
+    } else {
+      None
+    }
+
+  private def isOperand(expression: Exp): Boolean = expression match {
+    case Ref(List(_)) => true
+    case _ => literal(expression).isDefined
+  }
+
+  private def operand(expression: Exp, context: EvaluationContext): Option[Val] =
+    expression match {
+      case Ref(List(name)) => variable(name, context)
+      case _ => literal(expression)
+    }
+
+  private def literal(expression: Exp): Option[Val] = expression match {
+    case ConstNumber(value) => Some(ValNumber(value))
+    case ConstBool(value) => Some(ValBoolean(value))
+    case ConstString(value) => Some(ValString(value))
+    case ConstNull => Some(ValNull)
+    case _ => None
+  }
+
+  private def variable(name: String, context: EvaluationContext): Option[Val] =
+    // the same lookup as the FEEL engine does with the variable context
+    Option(context.getVariable(name))
+      .filter(_.capacity > 0)
+      .flatMap(valueMapper.toVal(_, _ => ValNull))
+}
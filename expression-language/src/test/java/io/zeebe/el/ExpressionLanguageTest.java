@@ -95,6 +95,35 @@ public class ExpressionLanguageTest {
         .startsWith("failed to parse expression 'x ?! 5': [1.3] failure:");
   }
 
+  @Test
+  public void shouldReuseParsedExpressionWithSameText() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x > 10");
+
+    // when
+    final var otherExpression = expressionLanguage.parseExpression("=x > 10");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldEvaluateCachedExpressionWithDifferentContexts() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x > 10");
+    final var otherExpression = expressionLanguage.parseExpression("=x > 10");
+
+    // when
+    final var result =
+        expressionLanguage.evaluateExpression(expression, Map.of("x", asMsgPack("20"))::get);
+    final var otherResult =
+        expressionLanguage.evaluateExpression(otherExpression, Map.of("x", asMsgPack("5"))::get);
+
+    // then
+    assertThat(result.getBoolean()).isTrue();
+    assertThat(otherResult.getBoolean()).isFalse();
+  }
+
   @Test
   public void shouldEvaluateStaticStringValue() {
     final var expression = expressionLanguage.parseExpression("x");
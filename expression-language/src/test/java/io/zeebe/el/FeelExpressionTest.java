@@ -14,8 +14,11 @@ import io.zeebe.el.impl.FeelExpressionLanguage;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 
 public class FeelExpressionTest {
@@ -84,6 +87,42 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getBoolean()).isEqualTo(true);
   }
 
+  @Test
+  public void comparisonOfIntegerAndDecimal() {
+    final var context = Map.of("x", asMsgPack("2"));
+    final var evaluationResult = evaluateExpression("x = 2.0", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(evaluationResult.getBoolean()).isEqualTo(true);
+  }
+
+  @Test
+  public void comparisonOfStrings() {
+    final var context = Map.of("x", asMsgPack("\"a\""));
+    final var evaluationResult = evaluateExpression("x != \"b\"", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(evaluationResult.getBoolean()).isEqualTo(true);
+  }
+
+  @Test
+  public void comparisonOfVariables() {
+    final var context = Map.of("x", asMsgPack("3"), "y", asMsgPack("3.5"));
+    final var evaluationResult = evaluateExpression("x >= y", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(evaluationResult.getBoolean()).isEqualTo(false);
+  }
+
+  @Test
+  public void variableReferenceToObject() {
+    final var context = Map.of("x", asMsgPack("{'a':1}"));
+    final var evaluationResult = evaluateExpression("x", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("{'a':1}"));
+  }
+
   @Test
   public void conjunction() {
     final var context =
@@ -162,6 +201,63 @@ public class FeelExpressionTest {
     assertThat(evaluationResult.getList()).isEqualTo(List.of(asMsgPack("1"), asMsgPack("2")));
   }
 
+  @Test
+  public void accessNestedPropertyOfListElement() {
+    final var context =
+        Map.of(
+            "order",
+            asMsgPack("{'id':1,'items':[{'price':3,'tags':['a']},{'price':5,'tags':['b']}]}"));
+    final var evaluationResult = evaluateExpression("order.items[2].price", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(5L);
+  }
+
+  @Test
+  public void accessNestedContext() {
+    final var context = Map.of("order", asMsgPack("{'id':1,'customer':{'name':'x','vip':true}}"));
+    final var evaluationResult = evaluateExpression("order.customer", context::get);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(evaluationResult.toBuffer()).isEqualTo(asMsgPack("{'name':'x','vip':true}"));
+  }
+
+  @Test
+  public void accessPropertiesOfVariablesInReusedBuffer() {
+    // the variable state returns the variables in a buffer which is reused for the next lookup
+    final var variables = Map.of("x", asMsgPack("{'a':{'b':1}}"), "y", asMsgPack("{'a':{'b':2}}"));
+    final var variableBuffer = new ExpandableArrayBuffer();
+    final var variableView = new UnsafeBuffer();
+    final EvaluationContext context =
+        name -> {
+          final var variable = variables.get(name);
+          variableBuffer.putBytes(0, variable, 0, variable.capacity());
+          variableView.wrap(variableBuffer, 0, variable.capacity());
+          return variableView;
+        };
+
+    final var evaluationResult = evaluateExpression("x.a.b < y.a.b", context);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(evaluationResult.getBoolean()).isTrue();
+  }
+
+  @Test
+  public void lookUpVariableOnlyOnce() {
+    final var variables = Map.of("x", asMsgPack("{'a':3}"));
+    final var lookups = new ArrayList<String>();
+    final EvaluationContext context =
+        name -> {
+          lookups.add(name);
+          return variables.get(name);
+        };
+
+    final var evaluationResult = evaluateExpression("x.a > 1 and x.a < 10", context);
+
+    assertThat(evaluationResult.getBoolean()).isTrue();
+    assertThat(lookups).containsExactly("x");
+  }
+
   @Test
   public void getCurrentTime() {
     final var localDateTime = LocalDateTime.parse("2020-09-21T07:20:00");
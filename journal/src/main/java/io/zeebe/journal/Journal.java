@@ -102,6 +102,9 @@ public interface Journal extends AutoCloseable {
    * Depending on the implementation, appends to the journal may not be immediately flushed to the
    * persistent storage. A call to this method guarantees that all records written are safely
    * flushed to the persistent storage.
+   *
+   * <p>Unlike the other methods, it may be called from a different thread than the one appending to
+   * the journal. It then guarantees that all records appended before the call started are flushed.
    */
   void flush();
 
@@ -67,4 +67,30 @@ interface JournalIndex {
 
   /** Delete all index mappings */
   void clear();
+
+  /**
+   * Visits all stored entries with an index in the given range, in ascending order of the index.
+   *
+   * @param fromIndex the first index of the range, inclusive
+   * @param toIndex the last index of the range, inclusive
+   * @param consumer consumes the index, position and asqn of each entry; the asqn is {@link
+   *     SegmentedJournal#ASQN_IGNORE} if no asqn is stored for the entry
+   */
+  void forEach(long fromIndex, long toIndex, EntryConsumer consumer);
+
+  /**
+   * Restores an entry which was previously visited via {@link #forEach(long, long, EntryConsumer)},
+   * e.g. after it was read from a segment summary. Unlike {@link #index(JournalRecord, int)}, the
+   * entry is stored regardless of its index.
+   *
+   * @param index the index of the record
+   * @param position the position of the record within its segment
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE}
+   */
+  void restore(long index, int position, long asqn);
+
+  @FunctionalInterface
+  interface EntryConsumer {
+    void accept(long index, int position, long asqn);
+  }
 }
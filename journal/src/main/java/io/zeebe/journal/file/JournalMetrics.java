@@ -21,6 +21,10 @@ import io.prometheus.client.Histogram;
 class JournalMetrics {
   private static final String NAMESPACE = "atomix";
   private static final String PARTITION_LABEL = "partition";
+  private static final String LOAD_METHOD_LABEL = "method";
+  private static final String LOAD_METHOD_SUMMARY = "summary";
+  private static final String LOAD_METHOD_SCAN = "scan";
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
   private static final Histogram SEGMENT_CREATION_TIME =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -60,6 +64,31 @@ class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge SEGMENT_LOAD_COUNT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("journal_segment_load_count")
+          .help(
+              "Number of segments loaded when opening the journal, by whether they were restored from their summary or scanned")
+          .labelNames(PARTITION_LABEL, LOAD_METHOD_LABEL)
+          .register();
+  private static final Gauge SEGMENT_LOAD_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("journal_segment_load_time")
+          .help(
+              "Time taken to load the segments when opening the journal, by whether they were restored from their summary or scanned")
+          .labelNames(PARTITION_LABEL, LOAD_METHOD_LABEL)
+          .register();
+  private static final Gauge JOURNAL_OPEN_TIME_SAVED =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("journal_open_time_saved")
+          .help(
+              "Estimated time saved when opening the journal by restoring segments from their summary instead of scanning them")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final String logName;
 
   public JournalMetrics(final String logName) {
@@ -82,6 +111,17 @@ class JournalMetrics {
     JOURNAL_OPEN_DURATION.labels(logName).set(durationMillis / 1000f);
   }
 
+  public void observeSegmentsLoaded(
+      final boolean restoredFromSummary, final int count, final long durationNanos) {
+    final String method = restoredFromSummary ? LOAD_METHOD_SUMMARY : LOAD_METHOD_SCAN;
+    SEGMENT_LOAD_COUNT.labels(logName, method).set(count);
+    SEGMENT_LOAD_DURATION.labels(logName, method).set(durationNanos / NANOS_PER_SECOND);
+  }
+
+  public void observeJournalOpenTimeSaved(final long durationNanos) {
+    JOURNAL_OPEN_TIME_SAVED.labels(logName).set(durationNanos / NANOS_PER_SECOND);
+  }
+
   public void incSegmentCount() {
     SEGMENT_COUNT.labels(logName).inc();
   }
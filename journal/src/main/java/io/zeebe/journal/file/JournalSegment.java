@@ -21,9 +21,14 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.collect.Sets;
 import io.zeebe.journal.StorageException;
+import java.io.File;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Log segment.
@@ -32,22 +37,45 @@ import java.util.Set;
  */
 class JournalSegment implements AutoCloseable {
 
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegment.class);
+
   private final JournalSegmentFile file;
+  private final File summaryFile;
   private final JournalSegmentDescriptor descriptor;
   private final JournalIndex index;
   private final MappedJournalSegmentWriter writer;
   private final Set<MappedJournalSegmentReader> readers = Sets.newConcurrentHashSet();
   private boolean open = true;
+  // the summary of the sealed segment which is not written yet
+  private JournalSegmentSummary pendingSummary;
 
   public JournalSegment(
       final JournalSegmentFile file,
       final JournalSegmentDescriptor descriptor,
       final int maxEntrySize,
       final JournalIndex journalIndex) {
+    this(file, descriptor, maxEntrySize, journalIndex, null);
+  }
+
+  /**
+   * @param buffer the already mapped segment file, e.g. if the segment was pre-allocated, or null
+   *     if the file should be mapped
+   */
+  JournalSegment(
+      final JournalSegmentFile file,
+      final JournalSegmentDescriptor descriptor,
+      final int maxEntrySize,
+      final JournalIndex journalIndex,
+      final MappedByteBuffer buffer) {
     this.file = file;
     this.descriptor = descriptor;
     index = journalIndex;
-    writer = createWriter(file, maxEntrySize);
+    summaryFile = file.summaryFile();
+    writer =
+        createWriter(
+            buffer != null ? buffer : mapFile(file, descriptor),
+            maxEntrySize,
+            JournalSegmentSummary.read(summaryFile, descriptor));
   }
 
   /**
@@ -142,9 +170,63 @@ class JournalSegment implements AutoCloseable {
     return new MappedJournalSegmentReader(file, this, index);
   }
 
+  private static MappedByteBuffer mapFile(
+      final JournalSegmentFile file, final JournalSegmentDescriptor descriptor) {
+    // map existing file, because file is already created by SegmentedJournal
+    return IoUtil.mapExistingFile(file.file(), file.name(), 0, descriptor.maxSegmentSize());
+  }
+
   private MappedJournalSegmentWriter createWriter(
-      final JournalSegmentFile file, final int maxEntrySize) {
-    return new MappedJournalSegmentWriter(file, this, maxEntrySize, index);
+      final MappedByteBuffer buffer, final int maxEntrySize, final JournalSegmentSummary summary) {
+    return new MappedJournalSegmentWriter(buffer, this, maxEntrySize, index, summary);
+  }
+
+  /**
+   * Returns a boolean value indicating whether the segment was opened from its summary, instead of
+   * reading every record of the segment.
+   *
+   * @return Indicates whether the segment was opened from its summary.
+   */
+  boolean isRestoredFromSummary() {
+    return writer.isRestoredFromSummary();
+  }
+
+  /**
+   * Creates the summary of the segment, which allows to open the segment without reading every
+   * record. Must only be called once the segment is sealed, i.e. no further records are appended to
+   * it, and its records are flushed. The summary is only kept in memory until {@link
+   * #persistSummary()} is called, so the sealing doesn't wait for the summary to be written.
+   */
+  synchronized void createSummary() {
+    pendingSummary = writer.createSummary();
+  }
+
+  /**
+   * Writes the summary which was created when the segment was sealed, if it was not deleted in the
+   * meantime. Failing to write the summary is not fatal, the segment is then scanned on open.
+   */
+  synchronized void persistSummary() {
+    final JournalSegmentSummary summary = pendingSummary;
+    pendingSummary = null;
+    if (summary == null) {
+      return;
+    }
+
+    try {
+      summary.write(summaryFile);
+    } catch (final IOException e) {
+      LOG.warn("Failed to write summary of segment {}, it will be scanned on open", this, e);
+    }
+  }
+
+  /** Deletes the summary of the segment, if one exists or is about to be written. */
+  synchronized void deleteSummary() {
+    pendingSummary = null;
+    try {
+      Files.deleteIfExists(summaryFile.toPath());
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
   }
 
   /**
@@ -180,6 +262,7 @@ class JournalSegment implements AutoCloseable {
 
   /** Deletes the segment. */
   public void delete() {
+    deleteSummary();
     try {
       Files.deleteIfExists(file.file().toPath());
     } catch (final IOException e) {
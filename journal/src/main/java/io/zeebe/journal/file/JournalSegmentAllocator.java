@@ -0,0 +1,205 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.journal.file;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.zeebe.journal.StorageException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.agrona.IoUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates and maps the file of the next segment in the background, such that rolling over to the
+ * next segment does not block the append path on creating and mapping the file.
+ *
+ * <p>The file is created under a name which is not recognized as a segment file, see {@link
+ * JournalSegmentFile#createPreallocatedSegmentFile(String, File, long)}, and only renamed to the
+ * segment file once the descriptor is written. Left over pre-allocated files are deleted when the
+ * journal is opened.
+ */
+final class JournalSegmentAllocator implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentAllocator.class);
+  private static final int PAGE_SIZE = 4096;
+
+  private final String name;
+  private final File directory;
+  private final int maxSegmentSize;
+  private final boolean preTouch;
+  private final ExecutorService executor;
+
+  private CompletableFuture<PreallocatedSegment> nextSegment;
+
+  JournalSegmentAllocator(
+      final String name, final File directory, final int maxSegmentSize, final boolean preTouch) {
+    this.name = name;
+    this.directory = directory;
+    this.maxSegmentSize = maxSegmentSize;
+    this.preTouch = preTouch;
+    executor =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setNameFormat("journal-" + name + "-segment-allocator")
+                .setDaemon(true)
+                .build());
+  }
+
+  /**
+   * Starts to pre-allocate the segment with the given id in the background. A previously
+   * pre-allocated segment which was not taken is released in the background too, once its
+   * pre-allocation is done, such that the caller does not wait for it.
+   *
+   * @param id the id of the segment to pre-allocate
+   */
+  synchronized void allocate(final long id) {
+    // the previous segment may have the same id, so its file must be deleted before the new one is
+    // created
+    nextSegment = release().thenApplyAsync(ignored -> preallocate(id), executor);
+  }
+
+  /**
+   * Returns the pre-allocated segment with the given id. If the pre-allocation is still in
+   * progress, waits until it is done.
+   *
+   * @param id the id of the segment
+   * @return the pre-allocated segment, or null if no segment with the given id was pre-allocated
+   */
+  synchronized PreallocatedSegment take(final long id) {
+    if (nextSegment == null) {
+      return null;
+    }
+
+    final PreallocatedSegment segment;
+    try {
+      segment = nextSegment.join();
+    } catch (final CompletionException e) {
+      LOG.warn("Failed to pre-allocate segment of journal {}", name, e.getCause());
+      return null;
+    } finally {
+      nextSegment = null;
+    }
+
+    if (segment.id() != id) {
+      segment.release();
+      return null;
+    }
+    return segment;
+  }
+
+  /**
+   * Releases the pre-allocated segment, if any, and stops the background allocation. Waits until
+   * the segment is released, such that a journal which is opened afterwards in the same directory
+   * does not find its file deleted.
+   */
+  @Override
+  public synchronized void close() {
+    release().join();
+    executor.shutdown();
+  }
+
+  private CompletableFuture<Void> release() {
+    if (nextSegment == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final CompletableFuture<Void> released =
+        nextSegment.handleAsync(
+            (segment, error) -> {
+              if (error != null) {
+                LOG.debug("Failed to pre-allocate segment of journal {}", name, error);
+              } else {
+                segment.release();
+              }
+              return null;
+            },
+            executor);
+    nextSegment = null;
+    return released;
+  }
+
+  private PreallocatedSegment preallocate(final long id) {
+    final File file = JournalSegmentFile.createPreallocatedSegmentFile(name, directory, id);
+    try {
+      // a left over file may contain data, which must not be read as records
+      Files.deleteIfExists(file.toPath());
+      // a summary left behind by a previous segment with the same id must not be applied
+      Files.deleteIfExists(
+          new JournalSegmentFile(JournalSegmentFile.createSegmentFile(name, directory, id))
+              .summaryFile()
+              .toPath());
+
+      try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+        raf.setLength(maxSegmentSize);
+      }
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+
+    final MappedByteBuffer buffer = IoUtil.mapExistingFile(file, file.getName(), 0, maxSegmentSize);
+    if (preTouch) {
+      // writing to every page allocates the disk space and the pages up front, such that appends
+      // are not slowed down by page faults
+      for (int position = 0; position < maxSegmentSize; position += PAGE_SIZE) {
+        buffer.put(position, (byte) 0);
+      }
+    }
+
+    return new PreallocatedSegment(id, file, buffer);
+  }
+
+  /** A segment file which was created and mapped up front, but has no descriptor yet. */
+  static final class PreallocatedSegment {
+    private final long id;
+    private final File file;
+    private final MappedByteBuffer buffer;
+
+    private PreallocatedSegment(final long id, final File file, final MappedByteBuffer buffer) {
+      this.id = id;
+      this.file = file;
+      this.buffer = buffer;
+    }
+
+    long id() {
+      return id;
+    }
+
+    File file() {
+      return file;
+    }
+
+    MappedByteBuffer buffer() {
+      return buffer;
+    }
+
+    private void release() {
+      IoUtil.unmap(buffer);
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (final IOException e) {
+        LOG.warn("Failed to delete pre-allocated segment file {}", file, e);
+      }
+    }
+  }
+}
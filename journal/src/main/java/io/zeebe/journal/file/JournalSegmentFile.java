@@ -33,6 +33,8 @@ final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String SUMMARY_EXTENSION = "idx";
+  private static final String PREALLOCATED_EXTENSION = "alloc";
   private final File file;
 
   /** @throws IllegalArgumentException if {@code file} is not a valid segment file */
@@ -87,6 +89,28 @@ final class JournalSegmentFile {
         directory, String.format("%s-%d.log", checkNotNull(name, "name cannot be null"), id));
   }
 
+  /**
+   * Creates the file of a pre-allocated segment, which is not recognized as a segment file until it
+   * is renamed to the file returned by {@link #createSegmentFile(String, File, long)}.
+   */
+  static File createPreallocatedSegmentFile(
+      final String name, final File directory, final long id) {
+    return new File(
+        directory,
+        String.format(
+            "%s-%d.%s", checkNotNull(name, "name cannot be null"), id, PREALLOCATED_EXTENSION));
+  }
+
+  /**
+   * Returns a boolean value indicating whether the given file is the file of a pre-allocated
+   * segment of the given journal.
+   */
+  static boolean isPreallocatedSegmentFile(final String name, final File file) {
+    final String fileName = file.getName();
+    return fileName.startsWith(name + PART_SEPARATOR)
+        && fileName.endsWith(EXTENSION_SEPARATOR + PREALLOCATED_EXTENSION);
+  }
+
   /**
    * Returns the segment file.
    *
@@ -96,6 +120,19 @@ final class JournalSegmentFile {
     return file;
   }
 
+  /**
+   * Returns the file of the segment summary, which is stored next to the segment file.
+   *
+   * @return The segment summary file.
+   * @see JournalSegmentSummary
+   */
+  File summaryFile() {
+    final String name = file.getName();
+    return new File(
+        file.getParentFile(),
+        name.substring(0, name.lastIndexOf(EXTENSION_SEPARATOR) + 1) + SUMMARY_EXTENSION);
+  }
+
   FileChannel openChannel(final StandardOpenOption... options) {
     try {
       return FileChannel.open(file.toPath(), options);
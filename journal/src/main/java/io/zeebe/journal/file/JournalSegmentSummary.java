@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.journal.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Summary of a sealed segment, i.e. a segment to which nothing is appended anymore. It is written
+ * next to the segment file when the journal rolls over to the next segment, and contains the index
+ * and position of the last record as well as the journal index entries of the segment. This allows
+ * to open the segment without reading every record of it.
+ *
+ * <p>The summary is protected by a checksum. If it is missing, corrupted, or does not belong to the
+ * segment, it is ignored and the segment is scanned instead.
+ */
+final class JournalSegmentSummary {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JournalSegmentSummary.class);
+
+  private static final int VERSION = 1;
+  // version, segment id, first index, last index, last position, entry count
+  private static final int HEADER_LENGTH =
+      Integer.BYTES + Long.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+  // index, position, asqn
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final long segmentId;
+  private final long firstIndex;
+  private final long lastIndex;
+  private final int lastPosition;
+
+  private long[] indexes;
+  private int[] positions;
+  private long[] asqns;
+  private int entryCount;
+
+  JournalSegmentSummary(
+      final long segmentId, final long firstIndex, final long lastIndex, final int lastPosition) {
+    this(segmentId, firstIndex, lastIndex, lastPosition, INITIAL_CAPACITY);
+  }
+
+  private JournalSegmentSummary(
+      final long segmentId,
+      final long firstIndex,
+      final long lastIndex,
+      final int lastPosition,
+      final int capacity) {
+    this.segmentId = segmentId;
+    this.firstIndex = firstIndex;
+    this.lastIndex = lastIndex;
+    this.lastPosition = lastPosition;
+    indexes = new long[capacity];
+    positions = new int[capacity];
+    asqns = new long[capacity];
+  }
+
+  /**
+   * Reads the summary of the given segment.
+   *
+   * @param file the summary file
+   * @param descriptor the descriptor of the segment the summary should belong to
+   * @return the summary, or null if the file does not exist, is corrupted, or does not belong to
+   *     the segment
+   */
+  static JournalSegmentSummary read(final File file, final JournalSegmentDescriptor descriptor) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read segment summary {}, the segment will be scanned", file, e);
+      return null;
+    }
+
+    final JournalSegmentSummary summary = read(buffer, descriptor);
+    if (summary == null) {
+      LOG.warn(
+          "Segment summary {} is corrupted or does not match the segment, the segment will be scanned",
+          file);
+    }
+    return summary;
+  }
+
+  private static JournalSegmentSummary read(
+      final ByteBuffer buffer, final JournalSegmentDescriptor descriptor) {
+    final int length = buffer.remaining();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return null;
+    }
+
+    final long checksum = buffer.getLong(length - CHECKSUM_LENGTH);
+    if (checksum != new ChecksumGenerator().compute(buffer, 0, length - CHECKSUM_LENGTH)) {
+      return null;
+    }
+
+    final int version = buffer.getInt();
+    final long segmentId = buffer.getLong();
+    final long firstIndex = buffer.getLong();
+    final long lastIndex = buffer.getLong();
+    final int lastPosition = buffer.getInt();
+    final int entryCount = buffer.getInt();
+    if (version != VERSION
+        || segmentId != descriptor.id()
+        || firstIndex != descriptor.index()
+        || lastIndex < firstIndex
+        || !isValidPosition(lastPosition, descriptor)
+        || entryCount < 0
+        || length != HEADER_LENGTH + entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH) {
+      return null;
+    }
+
+    final JournalSegmentSummary summary =
+        new JournalSegmentSummary(
+            segmentId, firstIndex, lastIndex, lastPosition, Math.max(entryCount, 1));
+    for (int i = 0; i < entryCount; i++) {
+      final long index = buffer.getLong();
+      final int position = buffer.getInt();
+      final long asqn = buffer.getLong();
+      if (index < firstIndex || index > lastIndex || !isValidPosition(position, descriptor)) {
+        return null;
+      }
+      summary.addEntry(index, position, asqn);
+    }
+
+    return summary;
+  }
+
+  private static boolean isValidPosition(
+      final int position, final JournalSegmentDescriptor descriptor) {
+    return position >= JournalSegmentDescriptor.BYTES && position < descriptor.maxSegmentSize();
+  }
+
+  /**
+   * Writes the summary to the given file. The summary is first written to a temporary file, which
+   * then replaces the given file, such that a partially written summary is never read.
+   *
+   * @param file the summary file
+   * @throws IOException if the summary cannot be written
+   */
+  void write(final File file) throws IOException {
+    final int length = HEADER_LENGTH + entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH;
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    buffer
+        .putInt(VERSION)
+        .putLong(segmentId)
+        .putLong(firstIndex)
+        .putLong(lastIndex)
+        .putInt(lastPosition)
+        .putInt(entryCount);
+    for (int i = 0; i < entryCount; i++) {
+      buffer.putLong(indexes[i]).putInt(positions[i]).putLong(asqns[i]);
+    }
+    buffer.putLong(new ChecksumGenerator().compute(buffer, 0, length - CHECKSUM_LENGTH));
+    buffer.flip();
+
+    final File temporaryFile = new File(file.getParentFile(), file.getName() + ".tmp");
+    try (final FileChannel channel =
+        FileChannel.open(
+            temporaryFile.toPath(),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    }
+
+    Files.move(
+        temporaryFile.toPath(),
+        file.toPath(),
+        StandardCopyOption.ATOMIC_MOVE,
+        StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  /** Adds a journal index entry of the segment, see {@link JournalIndex.EntryConsumer}. */
+  void addEntry(final long index, final int position, final long asqn) {
+    if (entryCount == indexes.length) {
+      indexes = Arrays.copyOf(indexes, entryCount * 2);
+      positions = Arrays.copyOf(positions, entryCount * 2);
+      asqns = Arrays.copyOf(asqns, entryCount * 2);
+    }
+
+    indexes[entryCount] = index;
+    positions[entryCount] = position;
+    asqns[entryCount] = asqn;
+    entryCount++;
+  }
+
+  /** Restores the journal index entries of the segment into the given index. */
+  void restoreEntries(final JournalIndex index) {
+    for (int i = 0; i < entryCount; i++) {
+      index.restore(indexes[i], positions[i], asqns[i]);
+    }
+  }
+
+  long lastIndex() {
+    return lastIndex;
+  }
+
+  int lastPosition() {
+    return lastPosition;
+  }
+}
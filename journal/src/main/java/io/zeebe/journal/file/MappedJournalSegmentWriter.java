@@ -42,6 +42,8 @@ class MappedJournalSegmentWriter {
   private final JournalIndex index;
   private final long firstIndex;
   private JournalRecord lastEntry;
+  private int lastEntryPosition;
+  private boolean restoredFromSummary;
   private boolean isOpen = true;
   private final JournalRecordReaderUtil recordUtil;
   private final int maxEntrySize;
@@ -50,25 +52,23 @@ class MappedJournalSegmentWriter {
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
 
   MappedJournalSegmentWriter(
-      final JournalSegmentFile file,
+      final MappedByteBuffer buffer,
       final JournalSegment segment,
       final int maxEntrySize,
-      final JournalIndex index) {
+      final JournalIndex index,
+      final JournalSegmentSummary summary) {
     this.segment = segment;
     this.maxEntrySize = maxEntrySize;
     recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
     firstIndex = segment.index();
-    buffer = mapFile(file, segment);
+    this.buffer = buffer;
     writeBuffer.wrap(buffer);
-    reset(0);
-  }
 
-  private static MappedByteBuffer mapFile(
-      final JournalSegmentFile file, final JournalSegment segment) {
-    // map existing file, because file is already created by SegmentedJournal
-    return IoUtil.mapExistingFile(
-        file.file(), file.name(), 0, segment.descriptor().maxSegmentSize());
+    restoredFromSummary = summary != null && restore(summary);
+    if (!restoredFromSummary) {
+      reset(0);
+    }
   }
 
   public long getLastIndex() {
@@ -164,6 +164,7 @@ class MappedJournalSegmentWriter {
     final var metadata = serializer.readMetadata(writeBuffer, startPosition);
     final var data = serializer.readData(writeBuffer, startPosition + metadataLength, recordLength);
     lastEntry = new PersistedJournalRecord(metadata, data);
+    lastEntryPosition = startPosition;
     index.index(lastEntry, startPosition);
   }
 
@@ -219,11 +220,14 @@ class MappedJournalSegmentWriter {
     buffer.mark();
     try {
       while (index == 0 || nextIndex <= index) {
+        final int position = buffer.position();
         final var nextEntry = recordUtil.read(buffer, nextIndex);
         if (nextEntry == null) {
           break;
         }
         lastEntry = nextEntry;
+        lastEntryPosition = position;
+        this.index.index(nextEntry, position);
         nextIndex++;
         buffer.mark();
       }
@@ -234,12 +238,66 @@ class MappedJournalSegmentWriter {
     }
   }
 
+  /**
+   * Restores the last entry and the journal index entries from the given summary, instead of
+   * reading every record of the segment. Only the last record is read, to verify that the summary
+   * matches the segment. The records before it don't need to be verified: the summary is only
+   * written after the records of the sealed segment were flushed, so a crash can't have torn them.
+   *
+   * @return true if the segment was restored, false if the summary does not match the segment
+   */
+  private boolean restore(final JournalSegmentSummary summary) {
+    buffer.position(summary.lastPosition());
+    buffer.mark();
+
+    JournalRecord record;
+    try {
+      record = recordUtil.read(buffer, summary.lastIndex());
+    } catch (final InvalidIndex | BufferUnderflowException e) {
+      record = null;
+    }
+
+    if (record == null) {
+      return false;
+    }
+
+    lastEntry = record;
+    lastEntryPosition = summary.lastPosition();
+    summary.restoreEntries(index);
+    return true;
+  }
+
+  /**
+   * Creates a summary of the segment, which contains the last entry and the journal index entries
+   * of the segment.
+   *
+   * @return the summary, or null if the segment is empty
+   */
+  JournalSegmentSummary createSummary() {
+    if (lastEntry == null) {
+      return null;
+    }
+
+    final JournalSegmentSummary summary =
+        new JournalSegmentSummary(segment.id(), firstIndex, lastEntry.index(), lastEntryPosition);
+    index.forEach(firstIndex, lastEntry.index(), summary::addEntry);
+    return summary;
+  }
+
+  /** @return true if the segment was opened from its summary instead of reading every record */
+  boolean isRestoredFromSummary() {
+    return restoredFromSummary;
+  }
+
   public void truncate(final long index) {
     // If the index is greater than or equal to the last index, skip the truncate.
     if (index >= getLastIndex()) {
       return;
     }
 
+    // The summary does not match the segment anymore.
+    segment.deleteSummary();
+
     // Reset the last entry.
     lastEntry = null;
 
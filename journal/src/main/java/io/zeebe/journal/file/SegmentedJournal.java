@@ -24,21 +24,28 @@ import io.zeebe.journal.Journal;
 import io.zeebe.journal.JournalReader;
 import io.zeebe.journal.JournalRecord;
 import io.zeebe.journal.StorageException;
+import io.zeebe.journal.file.JournalSegmentAllocator.PreallocatedSegment;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
+import java.util.Queue;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,7 +67,13 @@ public class SegmentedJournal implements Journal {
   private volatile boolean open = true;
   private final long minFreeDiskSpace;
   private final JournalIndex journalIndex;
+  private final JournalSegmentAllocator segmentAllocator;
   private final SegmentedJournalWriter writer;
+  // flush may be called from another thread than the appending one, so it must not run while
+  // segments are closed (i.e. unmapped) by truncating, resetting or closing the journal
+  private final Object flushLock = new Object();
+  // sealed segments whose summary is written with the next flush
+  private final Queue<JournalSegment> unsummarizedSegments = new ConcurrentLinkedQueue<>();
 
   public SegmentedJournal(
       final String name,
@@ -68,7 +81,8 @@ public class SegmentedJournal implements Journal {
       final int maxSegmentSize,
       final int maxEntrySize,
       final long minFreeSpace,
-      final JournalIndex journalIndex) {
+      final JournalIndex journalIndex,
+      final boolean preallocateSegmentFiles) {
     this.name = checkNotNull(name, "name cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
     this.maxSegmentSize = maxSegmentSize;
@@ -76,6 +90,8 @@ public class SegmentedJournal implements Journal {
     journalMetrics = new JournalMetrics(name);
     minFreeDiskSpace = minFreeSpace;
     this.journalIndex = journalIndex;
+    segmentAllocator =
+        new JournalSegmentAllocator(name, directory, maxSegmentSize, preallocateSegmentFiles);
     open();
     writer = new SegmentedJournalWriter(this);
   }
@@ -106,7 +122,9 @@ public class SegmentedJournal implements Journal {
 
   @Override
   public void deleteAfter(final long indexExclusive) {
-    writer.deleteAfter(indexExclusive);
+    synchronized (flushLock) {
+      writer.deleteAfter(indexExclusive);
+    }
   }
 
   @Override
@@ -146,8 +164,10 @@ public class SegmentedJournal implements Journal {
 
   @Override
   public void reset(final long nextIndex) {
-    journalIndex.clear();
-    writer.reset(nextIndex);
+    synchronized (flushLock) {
+      journalIndex.clear();
+      writer.reset(nextIndex);
+    }
   }
 
   @Override
@@ -171,7 +191,19 @@ public class SegmentedJournal implements Journal {
 
   @Override
   public void flush() {
-    writer.flush();
+    synchronized (flushLock) {
+      if (open) {
+        writer.flush();
+        persistSummaries();
+      }
+    }
+  }
+
+  private void persistSummaries() {
+    JournalSegment segment;
+    while ((segment = unsummarizedSegments.poll()) != null) {
+      segment.persistSummary();
+    }
   }
 
   @Override
@@ -188,15 +220,21 @@ public class SegmentedJournal implements Journal {
 
   @Override
   public void close() {
-    segments
-        .values()
-        .forEach(
-            segment -> {
-              log.debug("Closing segment: {}", segment);
-              segment.close();
-            });
-    currentSegment = null;
-    open = false;
+    segmentAllocator.close();
+    synchronized (flushLock) {
+      if (open) {
+        persistSummaries();
+      }
+      segments
+          .values()
+          .forEach(
+              segment -> {
+                log.debug("Closing segment: {}", segment);
+                segment.close();
+              });
+      currentSegment = null;
+      open = false;
+    }
   }
 
   /** Opens the segments. */
@@ -211,6 +249,8 @@ public class SegmentedJournal implements Journal {
     // If a segment doesn't already exist, create an initial segment starting at index 1.
     if (!segments.isEmpty()) {
       currentSegment = segments.lastEntry().getValue();
+      // records may be appended to the current segment, which would outdate its summary
+      currentSegment.deleteSummary();
     } else {
       final JournalSegmentDescriptor descriptor =
           JournalSegmentDescriptor.builder()
@@ -225,6 +265,7 @@ public class SegmentedJournal implements Journal {
       segments.put(1L, currentSegment);
       journalMetrics.incSegmentCount();
     }
+    segmentAllocator.allocate(currentSegment.id() + 1);
     journalMetrics.observeJournalOpenDuration(System.currentTimeMillis() - startTime);
   }
 
@@ -259,6 +300,8 @@ public class SegmentedJournal implements Journal {
     final JournalSegment lastSegment = getLastSegment();
     if (lastSegment != null) {
       currentSegment = lastSegment;
+      currentSegment.deleteSummary();
+      segmentAllocator.allocate(currentSegment.id() + 1);
     } else {
       final JournalSegmentDescriptor descriptor =
           JournalSegmentDescriptor.builder()
@@ -299,6 +342,7 @@ public class SegmentedJournal implements Journal {
     currentSegment = createSegment(descriptor);
     segments.put(index, currentSegment);
     journalMetrics.incSegmentCount();
+    segmentAllocator.allocate(currentSegment.id() + 1);
     return currentSegment;
   }
 
@@ -334,6 +378,11 @@ public class SegmentedJournal implements Journal {
     assertOpen();
     assertDiskSpace();
 
+    // the current segment is sealed, such that it can be opened from its summary; its records were
+    // flushed before, and the summary is written with the next flush to keep it off the append path
+    currentSegment.createSummary();
+    unsummarizedSegments.add(currentSegment);
+
     final JournalSegment lastSegment = getLastSegment();
     final JournalSegmentDescriptor descriptor =
         JournalSegmentDescriptor.builder()
@@ -346,6 +395,7 @@ public class SegmentedJournal implements Journal {
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
+    segmentAllocator.allocate(descriptor.id() + 1);
     return currentSegment;
   }
 
@@ -399,6 +449,18 @@ public class SegmentedJournal implements Journal {
   JournalSegment createSegment(final JournalSegmentDescriptor descriptor) {
     final File segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
 
+    final PreallocatedSegment preallocatedSegment = segmentAllocator.take(descriptor.id());
+    if (preallocatedSegment != null) {
+      return createSegment(segmentFile, descriptor, preallocatedSegment);
+    }
+
+    // a summary left behind by a previous segment with the same id must not be applied
+    try {
+      Files.deleteIfExists(new JournalSegmentFile(segmentFile).summaryFile().toPath());
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+
     final RandomAccessFile raf;
     final FileChannel channel;
     try {
@@ -429,6 +491,33 @@ public class SegmentedJournal implements Journal {
     return segment;
   }
 
+  /**
+   * Creates a new segment from a pre-allocated segment file, which only requires to write the
+   * descriptor and to rename the file.
+   */
+  private JournalSegment createSegment(
+      final File segmentFile,
+      final JournalSegmentDescriptor descriptor,
+      final PreallocatedSegment preallocatedSegment) {
+    final MappedByteBuffer buffer = preallocatedSegment.buffer();
+    descriptor.copyTo(buffer.duplicate());
+    try {
+      Files.move(
+          preallocatedSegment.file().toPath(),
+          segmentFile.toPath(),
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (final IOException e) {
+      IoUtil.unmap(buffer);
+      throw new StorageException(e);
+    }
+
+    final JournalSegment segment =
+        new JournalSegment(
+            new JournalSegmentFile(segmentFile), descriptor, maxEntrySize, journalIndex, buffer);
+    log.debug("Created segment from pre-allocated file: {}", segment);
+    return segment;
+  }
+
   /**
    * Creates a new segment instance.
    *
@@ -479,13 +568,23 @@ public class SegmentedJournal implements Journal {
     directory.mkdirs();
 
     final TreeMap<Long, JournalSegment> segments = new TreeMap<>();
+    final TreeMap<Long, JournalSegmentDescriptor> descriptors = new TreeMap<>();
 
     // Iterate through all files in the log directory.
     for (final File file : directory.listFiles(File::isFile)) {
 
-      // If the file looks like a segment file, attempt to load the segment.
+      // A pre-allocated segment file was never used as a segment, and is allocated again.
+      if (JournalSegmentFile.isPreallocatedSegmentFile(name, file)) {
+        try {
+          Files.delete(file.toPath());
+        } catch (final IOException e) {
+          throw new StorageException(e);
+        }
+        continue;
+      }
+
+      // If the file looks like a segment file, read its descriptor.
       if (JournalSegmentFile.isSegmentFile(name, file)) {
-        final JournalSegmentFile segmentFile = new JournalSegmentFile(file);
         final ByteBuffer buffer = ByteBuffer.allocate(JournalSegmentDescriptor.BYTES);
         try (final FileChannel channel = openChannel(file)) {
           channel.read(buffer);
@@ -495,16 +594,23 @@ public class SegmentedJournal implements Journal {
         }
 
         final JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
+        descriptors.put(descriptor.index(), descriptor);
+      }
+    }
 
-        // Load the segment.
-        final JournalSegment segment = loadSegment(descriptor.id());
+    // Load the segments in order, such that the journal index is filled in ascending order.
+    final SegmentLoadStatistics statistics = new SegmentLoadStatistics();
+    for (final JournalSegmentDescriptor descriptor : descriptors.values()) {
+      final long startTime = System.nanoTime();
+      final JournalSegment segment = loadSegment(descriptor.id());
+      statistics.onSegmentLoaded(segment, System.nanoTime() - startTime);
 
-        // Add the segment to the segments list.
-        log.debug(
-            "Found segment: {} ({})", segment.descriptor().id(), segmentFile.file().getName());
-        segments.put(segment.index(), segment);
-      }
+      // Add the segment to the segments list.
+      log.debug(
+          "Found segment: {} ({})", segment.descriptor().id(), segment.file().file().getName());
+      segments.put(segment.index(), segment);
     }
+    statistics.observe(journalMetrics);
 
     // Verify that all the segments in the log align with one another.
     JournalSegment previousSegment = null;
@@ -512,12 +618,15 @@ public class SegmentedJournal implements Journal {
     final Iterator<Entry<Long, JournalSegment>> iterator = segments.entrySet().iterator();
     while (iterator.hasNext()) {
       final JournalSegment segment = iterator.next().getValue();
-      if (previousSegment != null && previousSegment.lastIndex() != segment.index() - 1) {
+      if (!corrupted
+          && previousSegment != null
+          && previousSegment.lastIndex() != segment.index() - 1) {
         log.warn(
             "Journal is inconsistent. {} is not aligned with prior segment {}",
             segment.file().file(),
             previousSegment.file().file());
         corrupted = true;
+        journalIndex.deleteAfter(previousSegment.lastIndex());
       }
       if (corrupted) {
         segment.close();
@@ -570,4 +679,43 @@ public class SegmentedJournal implements Journal {
   public JournalIndex getJournalIndex() {
     return journalIndex;
   }
+
+  /**
+   * Collects how long it took to load the segments on open, in order to estimate the time saved by
+   * opening segments from their summary. The estimate assumes that scanning a restored segment
+   * would have taken as long per record as scanning the segments which had no summary.
+   */
+  private static final class SegmentLoadStatistics {
+    private int scannedSegments;
+    private long scannedRecords;
+    private long scanDurationNanos;
+    private int restoredSegments;
+    private long restoredRecords;
+    private long restoreDurationNanos;
+
+    private void onSegmentLoaded(final JournalSegment segment, final long durationNanos) {
+      if (segment.isRestoredFromSummary()) {
+        restoredSegments++;
+        restoredRecords += segment.length();
+        restoreDurationNanos += durationNanos;
+      } else {
+        scannedSegments++;
+        scannedRecords += segment.length();
+        scanDurationNanos += durationNanos;
+      }
+    }
+
+    private void observe(final JournalMetrics metrics) {
+      metrics.observeSegmentsLoaded(true, restoredSegments, restoreDurationNanos);
+      metrics.observeSegmentsLoaded(false, scannedSegments, scanDurationNanos);
+
+      long savedNanos = 0;
+      if (scannedRecords > 0 && restoredRecords > 0) {
+        final double estimatedScanDurationNanos =
+            (double) scanDurationNanos / scannedRecords * restoredRecords;
+        savedNanos = Math.max(0, (long) estimatedScanDurationNanos - restoreDurationNanos);
+      }
+      metrics.observeJournalOpenTimeSaved(savedNanos);
+    }
+  }
 }
@@ -30,6 +30,7 @@ public class SegmentedJournalBuilder {
   private static final int DEFAULT_MAX_ENTRY_SIZE = 1024 * 1024;
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
+  private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = false;
 
   protected String name = DEFAULT_NAME;
   protected File directory = new File(DEFAULT_DIRECTORY);
@@ -38,6 +39,7 @@ public class SegmentedJournalBuilder {
 
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
+  private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
   protected SegmentedJournalBuilder() {}
 
@@ -131,9 +133,35 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the files of new segments are fully allocated up front, returning the builder for
+   * method chaining.
+   *
+   * <p>The file of the next segment is always created and mapped in the background, before the
+   * journal rolls over to it. If enabled, every page of the file is touched as well, such that the
+   * disk space is reserved and appends do not trigger page faults. This is done in the background,
+   * but causes the whole segment to be written to disk once.
+   *
+   * <p>By default, segment files are not pre-allocated.
+   *
+   * @param preallocateSegmentFiles true to pre-allocate segment files
+   * @return the journal builder
+   */
+  public SegmentedJournalBuilder withPreallocateSegmentFiles(
+      final boolean preallocateSegmentFiles) {
+    this.preallocateSegmentFiles = preallocateSegmentFiles;
+    return this;
+  }
+
   public SegmentedJournal build() {
     final JournalIndex journalIndex = new SparseJournalIndex(journalIndexDensity);
     return new SegmentedJournal(
-        name, directory, maxSegmentSize, maxEntrySize, freeDiskSpace, journalIndex);
+        name,
+        directory,
+        maxSegmentSize,
+        maxEntrySize,
+        freeDiskSpace,
+        journalIndex,
+        preallocateSegmentFiles);
   }
 }
@@ -24,7 +24,8 @@ class SegmentedJournalWriter {
   private final SegmentedJournal journal;
   private final JournalMetrics journalMetrics;
   private JournalSegment currentSegment;
-  private MappedJournalSegmentWriter currentWriter;
+  // read by flush, which may be called from another thread
+  private volatile MappedJournalSegmentWriter currentWriter;
 
   public SegmentedJournalWriter(final SegmentedJournal journal) {
     this.journal = journal;
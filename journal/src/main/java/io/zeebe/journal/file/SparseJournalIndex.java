@@ -16,17 +16,31 @@
 package io.zeebe.journal.file;
 
 import io.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
+/**
+ * Indexes every n-th record, where n is the density. The entries are kept in primitive arrays
+ * sorted by index, which are searched via binary search. This relies on indexes being indexed in
+ * ascending order, apart from re-indexing after a truncation, and on the asqn growing with the
+ * index.
+ *
+ * <p>The asqns are kept in separate arrays, since not every record has an asqn.
+ */
 class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
-  private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+
+  // index -> position, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // asqn -> index, sorted by index and therefore by asqn
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private int asqnSize;
 
   public SparseJournalIndex(final int density) {
     this.density = density;
@@ -36,55 +50,135 @@ class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
+      putPosition(index, position);
       final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+        putAsqn(index, asqn);
       }
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final int floor = floor(indexes, size, index);
+    return floor >= 0 ? new IndexInfo(indexes[floor], positions[floor]) : null;
   }
 
   @Override
   public Long lookupAsqn(final long asqn) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    return entry != null ? entry.getValue() : null;
+    final int floor = floor(asqns, asqnSize, asqn);
+    return floor >= 0 ? asqnIndexes[floor] : null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+    size = floor(indexes, size, index) + 1;
+    asqnSize = floor(asqnIndexes, asqnSize, index) + 1;
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    removeFirst(ceiling(indexes, size, index));
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    // the asqn entry at or before the given index is kept, such that asqns which are greater than
+    // its asqn can still be looked up
+    final int asqnFloor = floor(asqnIndexes, asqnSize, index);
+    if (asqnFloor > 0) {
+      removeFirstAsqns(asqnFloor);
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    size = 0;
+    asqnSize = 0;
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final EntryConsumer consumer) {
+    for (int slot = ceiling(indexes, size, fromIndex);
+        slot < size && indexes[slot] <= toIndex;
+        slot++) {
+      final long index = indexes[slot];
+      final int asqnSlot = Arrays.binarySearch(asqnIndexes, 0, asqnSize, index);
+      final long asqn = asqnSlot >= 0 ? asqns[asqnSlot] : SegmentedJournal.ASQN_IGNORE;
+      consumer.accept(index, positions[slot], asqn);
+    }
+  }
+
+  @Override
+  public void restore(final long index, final int position, final long asqn) {
+    putPosition(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      putAsqn(index, asqn);
+    }
+  }
+
+  private void putPosition(final long index, final int position) {
+    int slot = size;
+    if (size > 0 && indexes[size - 1] >= index) {
+      slot = ceiling(indexes, size, index);
+      if (indexes[slot] == index) {
+        positions[slot] = position;
+        return;
+      }
+    }
+
+    if (size == indexes.length) {
+      indexes = Arrays.copyOf(indexes, size * 2);
+      positions = Arrays.copyOf(positions, size * 2);
+    }
+
+    System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+    System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+    indexes[slot] = index;
+    positions[slot] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    int slot = asqnSize;
+    if (asqnSize > 0 && asqnIndexes[asqnSize - 1] >= index) {
+      slot = ceiling(asqnIndexes, asqnSize, index);
+      if (asqnIndexes[slot] == index) {
+        asqns[slot] = asqn;
+        return;
+      }
+    }
+
+    if (asqnSize == asqns.length) {
+      asqns = Arrays.copyOf(asqns, asqnSize * 2);
+      asqnIndexes = Arrays.copyOf(asqnIndexes, asqnSize * 2);
+    }
+
+    System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+    System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+    asqns[slot] = asqn;
+    asqnIndexes[slot] = index;
+    asqnSize++;
+  }
+
+  private void removeFirst(final int count) {
+    size -= count;
+    System.arraycopy(indexes, count, indexes, 0, size);
+    System.arraycopy(positions, count, positions, 0, size);
+  }
+
+  private void removeFirstAsqns(final int count) {
+    asqnSize -= count;
+    System.arraycopy(asqns, count, asqns, 0, asqnSize);
+    System.arraycopy(asqnIndexes, count, asqnIndexes, 0, asqnSize);
+  }
+
+  /** @return the slot of the greatest value less than or equal to the given one, or -1 if none */
+  private static int floor(final long[] values, final int size, final long value) {
+    final int slot = Arrays.binarySearch(values, 0, size, value);
+    return slot >= 0 ? slot : -slot - 2;
+  }
+
+  /** @return the slot of the smallest value greater than or equal to the given one, or size */
+  private static int ceiling(final long[] values, final int size, final long value) {
+    final int slot = Arrays.binarySearch(values, 0, size, value);
+    return slot >= 0 ? slot : -slot - 1;
   }
 }
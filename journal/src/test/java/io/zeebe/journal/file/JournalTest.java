@@ -24,10 +24,14 @@ import io.zeebe.journal.JournalRecord;
 import io.zeebe.journal.StorageException.InvalidChecksum;
 import io.zeebe.journal.StorageException.InvalidIndex;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -40,6 +44,7 @@ class JournalTest {
   private final DirectBuffer data = new UnsafeBuffer();
   private final DirectBuffer dataOther = new UnsafeBuffer();
   private Journal journal;
+  private final List<Journal> openedJournals = new ArrayList<>();
 
   @BeforeEach
   void setup() {
@@ -52,6 +57,11 @@ class JournalTest {
     journal = openJournal();
   }
 
+  @AfterEach
+  void tearDown() {
+    CloseHelper.quietCloseAll(openedJournals);
+  }
+
   @Test
   void shouldBeEmpty() {
     // when-then
@@ -296,11 +306,7 @@ class JournalTest {
   @Test
   void shouldAppendJournalRecord() {
     // given
-    final var receiverJournal =
-        SegmentedJournal.builder()
-            .withDirectory(directory.resolve("data-2").toFile())
-            .withJournalIndexDensity(5)
-            .build();
+    final var receiverJournal = openJournal("data-2");
     final var expected = journal.append(10, data);
 
     // when
@@ -326,11 +332,7 @@ class JournalTest {
   @Test
   void shouldNotAppendRecordWithGapInIndex() {
     // given
-    final var receiverJournal =
-        SegmentedJournal.builder()
-            .withDirectory(directory.resolve("data-2").toFile())
-            .withJournalIndexDensity(5)
-            .build();
+    final var receiverJournal = openJournal("data-2");
     journal.append(1, data);
     final var record = journal.append(1, data);
 
@@ -350,11 +352,7 @@ class JournalTest {
   @Test
   void shouldNotAppendRecordWithInvalidChecksum() {
     // given
-    final var receiverJournal =
-        SegmentedJournal.builder()
-            .withDirectory(directory.resolve("data-2").toFile())
-            .withJournalIndexDensity(5)
-            .build();
+    final var receiverJournal = openJournal("data-2");
     final var record = journal.append(1, data);
 
     // when
@@ -474,9 +472,16 @@ class JournalTest {
   }
 
   private SegmentedJournal openJournal() {
-    return SegmentedJournal.builder()
-        .withDirectory(directory.resolve("data").toFile())
-        .withJournalIndexDensity(5)
-        .build();
+    return openJournal("data");
+  }
+
+  private SegmentedJournal openJournal(final String name) {
+    final var journal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve(name).toFile())
+            .withJournalIndexDensity(5)
+            .build();
+    openedJournals.add(journal);
+    return journal;
   }
 }
@@ -25,6 +25,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -54,6 +55,11 @@ class SegmentedJournalReaderTest {
     reader = journal.openReader();
   }
 
+  @AfterEach
+  void tearDown() {
+    journal.close();
+  }
+
   @Test
   void shouldReadAfterCompact() {
     // given
@@ -21,11 +21,18 @@ import io.zeebe.journal.JournalReader;
 import io.zeebe.journal.JournalRecord;
 import io.zeebe.journal.file.record.RecordData;
 import io.zeebe.journal.file.record.SBESerializer;
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -35,6 +42,12 @@ class SegmentedJournalTest {
   private final int journalIndexDensity = 1;
   private final DirectBuffer data = new UnsafeBuffer("test".getBytes(StandardCharsets.UTF_8));
   private final int entrySize = getSerializedSize(data);
+  private final List<SegmentedJournal> openedJournals = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    CloseHelper.quietCloseAll(openedJournals);
+  }
 
   @Test
   void shouldDeleteIndexMappingsOnReset() {
@@ -312,17 +325,216 @@ class SegmentedJournalTest {
     assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  void shouldOpenSealedSegmentsFromSummary() {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      journal.append(i + 1, data);
+    }
+    final long lastIndex = journal.getLastIndex();
+    journal.close();
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalSegment firstSegment = journal.getFirstSegment();
+    assertThat(firstSegment.file().summaryFile()).exists();
+    assertThat(firstSegment.isRestoredFromSummary()).isTrue();
+    assertThat(firstSegment.lastIndex()).isEqualTo(entriesPerSegment);
+    assertThat(journal.getLastSegment().isRestoredFromSummary()).isFalse();
+    assertThat(journal.getLastIndex()).isEqualTo(lastIndex);
+    assertThat(journal.getJournalIndex().lookup(1).position())
+        .isEqualTo(JournalSegmentDescriptor.BYTES);
+    assertThat(journal.getJournalIndex().lookupAsqn(entriesPerSegment)).isEqualTo(2);
+
+    final JournalReader reader = journal.openReader();
+    assertThat(reader.seek(entriesPerSegment)).isEqualTo(entriesPerSegment);
+    for (long index = entriesPerSegment; index <= lastIndex; index++) {
+      assertThat(reader.next().index()).isEqualTo(index);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldScanSegmentIfSummaryIsCorrupted() throws IOException {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      journal.append(i + 1, data);
+    }
+    final File summaryFile = journal.getFirstSegment().file().summaryFile();
+    journal.close();
+
+    final byte[] summary = Files.readAllBytes(summaryFile.toPath());
+    summary[summary.length / 2] ^= 1;
+    Files.write(summaryFile.toPath(), summary);
+
+    // when
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getFirstSegment().isRestoredFromSummary()).isFalse();
+    assertThat(journal.getFirstSegment().lastIndex()).isEqualTo(entriesPerSegment);
+    assertThat(journal.getLastIndex()).isEqualTo(entriesPerSegment * 2);
+  }
+
+  @Test
+  void shouldDeleteSummaryOnTruncate() {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      journal.append(i + 1, data);
+    }
+    journal.flush();
+    final File summaryFile = journal.getFirstSegment().file().summaryFile();
+    assertThat(summaryFile).exists();
+
+    // when
+    journal.deleteAfter(1);
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(summaryFile).doesNotExist();
+    assertThat(journal.getLastIndex()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldWriteSummaryOfSealedSegmentOnFlush() {
+    // given
+    final int entriesPerSegment = 2;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      journal.append(i + 1, data);
+    }
+    final File summaryFile = journal.getFirstSegment().file().summaryFile();
+    assertThat(summaryFile).doesNotExist();
+
+    // when
+    journal.flush();
+
+    // then
+    assertThat(summaryFile).exists();
+  }
+
+  @Test
+  void shouldNotWriteSummaryOfTruncatedSegmentOnFlush() {
+    // given
+    final int entriesPerSegment = 2;
+    final SegmentedJournal journal = openJournal(entriesPerSegment);
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      journal.append(i + 1, data);
+    }
+    final File summaryFile = journal.getFirstSegment().file().summaryFile();
+
+    // when
+    journal.deleteAfter(1);
+    journal.flush();
+
+    // then
+    assertThat(summaryFile).doesNotExist();
+  }
+
+  @Test
+  void shouldRollOverToPreallocatedSegments() {
+    // given
+    final int entriesPerSegment = 2;
+    SegmentedJournal journal =
+        openJournal(
+            SegmentedJournal.builder()
+                .withDirectory(directory.resolve("data").toFile())
+                .withMaxSegmentSize(entrySize * entriesPerSegment + JournalSegmentDescriptor.BYTES)
+                .withMaxEntrySize(entrySize)
+                .withPreallocateSegmentFiles(true));
+
+    // when
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      journal.append(i + 1, data);
+    }
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getFirstSegment().id()).isEqualTo(1);
+    assertThat(journal.getLastSegment().id()).isEqualTo(3);
+    final JournalReader reader = journal.openReader();
+    for (int i = 0; i < entriesPerSegment * 3; i++) {
+      final JournalRecord record = reader.next();
+      assertThat(record.index()).isEqualTo(i + 1);
+      assertThat(record.asqn()).isEqualTo(i + 1);
+      assertThat(record.data()).isEqualTo(data);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldRollOverToPreallocatedSegmentAfterTruncating() {
+    // given
+    final int entriesPerSegment = 2;
+    final SegmentedJournal journal =
+        openJournal(
+            SegmentedJournal.builder()
+                .withDirectory(directory.resolve("data").toFile())
+                .withMaxSegmentSize(entrySize * entriesPerSegment + JournalSegmentDescriptor.BYTES)
+                .withMaxEntrySize(entrySize)
+                .withPreallocateSegmentFiles(true));
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      journal.append(i + 1, data);
+    }
+
+    // when - the segment with the same id is pre-allocated again
+    journal.deleteAfter(1);
+    for (int i = 1; i < entriesPerSegment * 2; i++) {
+      journal.append(i + 1, data);
+    }
+
+    // then
+    assertThat(journal.getLastSegment().id()).isEqualTo(2);
+    final JournalReader reader = journal.openReader();
+    for (int i = 0; i < entriesPerSegment * 2; i++) {
+      final JournalRecord record = reader.next();
+      assertThat(record.index()).isEqualTo(i + 1);
+      assertThat(record.data()).isEqualTo(data);
+    }
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldDeletePreallocatedSegmentFileOnClose() {
+    // given
+    final SegmentedJournal journal = openJournal(2);
+    journal.append(1, data);
+
+    // when
+    journal.close();
+
+    // then
+    assertThat(directory.resolve("data").toFile().list()).containsExactly("journal-1.log");
+  }
+
   private SegmentedJournal openJournal(final float entriesPerSegment) {
     return openJournal(entriesPerSegment, entrySize);
   }
 
   private SegmentedJournal openJournal(final float entriesPerSegment, final int entrySize) {
-    return SegmentedJournal.builder()
-        .withDirectory(directory.resolve("data").toFile())
-        .withMaxSegmentSize((int) (entrySize * entriesPerSegment) + JournalSegmentDescriptor.BYTES)
-        .withMaxEntrySize(entrySize)
-        .withJournalIndexDensity(journalIndexDensity)
-        .build();
+    return openJournal(
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("data").toFile())
+            .withMaxSegmentSize(
+                (int) (entrySize * entriesPerSegment) + JournalSegmentDescriptor.BYTES)
+            .withMaxEntrySize(entrySize)
+            .withJournalIndexDensity(journalIndexDensity));
+  }
+
+  private SegmentedJournal openJournal(final SegmentedJournalBuilder builder) {
+    final SegmentedJournal journal = builder.build();
+    openedJournals.add(journal);
+    return journal;
   }
 
   private int getSerializedSize(final DirectBuffer data) {
@@ -212,4 +212,57 @@ public class SparseJournalIndexTest {
     assertNull(index.lookupAsqn(50));
     assertNull(index.lookupAsqn(80));
   }
+
+  @Test
+  public void shouldFindIndexesBeyondInitialCapacity() {
+    // given - every 2 index is added
+    final JournalIndex index = new SparseJournalIndex(2);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertEquals(500, index.lookup(501).index());
+    assertEquals(1_000, index.lookup(501).position());
+    assertEquals(1_000, index.lookup(2_000).index());
+    assertEquals(2, index.lookupAsqn(25));
+    assertEquals(1_000, index.lookupAsqn(20_000));
+  }
+
+  @Test
+  public void shouldReindexAfterTruncation() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+    index.deleteAfter(7);
+
+    // when
+    for (int i = 8; i <= 10; i++) {
+      index.index(asJournalRecord(i, i * 100L), i * 3);
+    }
+
+    // then
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(30, index.lookup(10).position());
+    assertEquals(5, index.lookupAsqn(999));
+    assertEquals(10, index.lookupAsqn(1_000));
+  }
+
+  @Test
+  public void shouldNotIndexIgnoredAsqn() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+
+    // when
+    index.index(asJournalRecord(10, SegmentedJournal.ASQN_IGNORE), 20);
+
+    // then
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(5, index.lookupAsqn(Long.MAX_VALUE));
+  }
 }
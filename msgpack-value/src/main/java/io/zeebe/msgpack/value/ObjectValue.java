@@ -12,18 +12,28 @@ import io.zeebe.msgpack.property.UndeclaredProperty;
 import io.zeebe.msgpack.spec.MsgPackReader;
 import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
+  private static final int NO_PROPERTY = -1;
+
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
   private final List<UndeclaredProperty> undeclaredProperties = new ArrayList<>();
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>();
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing hash table of the declared property indexes by the hash of their keys, which is
+  // built once a key is not found at its expected position
+  private int[] declaredPropertyIndexes;
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    declaredPropertyIndexes = null;
     return this;
   }
 
@@ -86,23 +96,18 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    int expectedPropertyIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
+      final BaseProperty<? extends BaseValue> prop;
+      final int propertyIndex = findDeclaredProperty(decodedKey, expectedPropertyIndex);
 
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      if (propertyIndex != NO_PROPERTY) {
+        prop = declaredProperties.get(propertyIndex);
+        expectedPropertyIndex = propertyIndex + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
@@ -123,6 +128,56 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private int findDeclaredProperty(final StringValue key, final int expectedIndex) {
+    // the properties are usually written in the order of their declaration, so the key most likely
+    // belongs to the property after the previous one
+    if (expectedIndex < declaredProperties.size()
+        && declaredProperties.get(expectedIndex).getKey().equals(key)) {
+      return expectedIndex;
+    }
+
+    if (declaredPropertyIndexes == null) {
+      declaredPropertyIndexes = indexDeclaredProperties();
+    }
+
+    final int mask = declaredPropertyIndexes.length - 1;
+    for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+      final int index = declaredPropertyIndexes[slot];
+      if (index == NO_PROPERTY || declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+    }
+  }
+
+  private int[] indexDeclaredProperties() {
+    // at most half of the slots are used, so a lookup always ends at an empty slot
+    final int[] indexes =
+        new int[BitUtil.findNextPositivePowerOfTwo(Math.max(1, declaredProperties.size() * 2))];
+    Arrays.fill(indexes, NO_PROPERTY);
+
+    final int mask = indexes.length - 1;
+    for (int index = 0; index < declaredProperties.size(); index++) {
+      int slot = hash(declaredProperties.get(index).getKey()) & mask;
+      while (indexes[slot] != NO_PROPERTY) {
+        slot = (slot + 1) & mask;
+      }
+      indexes[slot] = index;
+    }
+
+    return indexes;
+  }
+
+  private static int hash(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+
+    int hash = 0;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
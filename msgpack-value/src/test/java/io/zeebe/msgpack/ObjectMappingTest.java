@@ -143,6 +143,59 @@ public final class ObjectMappingTest {
     assertThat(pojo.nestedObject().getLong()).isEqualTo(123123L);
   }
 
+  @Test
+  public void shouldDeserializePOJOWithPropertiesInDeclarationOrder() {
+    // given
+    final POJO pojo = new POJO();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(8);
+
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.FOO.toString()));
+
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(88888L);
+
+              // the long property has to be found without reading the int property
+              w.writeString(wrapString("undeclaredProp"));
+              w.writeInteger(1L);
+
+              w.writeString(wrapString("stringProp"));
+              w.writeString(BUF1);
+
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(MSGPACK_BUF1);
+
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(BUF2);
+
+              w.writeString(wrapString("objectProp"));
+              w.writeRaw(MSGPACK_BUF3);
+
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123L);
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.FOO);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF1);
+    assertThatBuffer(pojo.getPacked()).hasBytes(MSGPACK_BUF1);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF2);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+
+    final UnsafeBuffer resultBuffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(resultBuffer, 0);
+    assertThat(MsgPackUtil.asMap(resultBuffer)).containsEntry("undeclaredProp", 1L);
+  }
+
   @Test
   public void shouldNotDeserializePOJOWithWrongValueType() {
     // given
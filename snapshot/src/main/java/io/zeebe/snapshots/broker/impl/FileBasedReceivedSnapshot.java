@@ -19,12 +19,20 @@ import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.CRC32C;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +47,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private final FileBasedSnapshotStore snapshotStore;
 
   private final FileBasedSnapshotMetadata metadata;
+  // the checksums of the received files are calculated while they are written
+  private final Map<String, CRC32C> receivedFileChecksums = new HashMap<>();
   private long expectedSnapshotChecksum;
   private int expectedTotalCount;
 
@@ -65,12 +75,17 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return actor.call(() -> applyInternal(snapshotChunk));
   }
 
-  private boolean containsChunk(final String chunkId) {
-    return Files.exists(directory.resolve(chunkId));
+  private boolean containsChunk(final SnapshotChunk snapshotChunk, final byte[] content)
+      throws IOException {
+    final var file = directory.resolve(snapshotChunk.getChunkName());
+    return Files.exists(file)
+        && Files.size(file) >= snapshotChunk.getFileBlockPosition() + content.length;
   }
 
   private boolean applyInternal(final SnapshotChunk snapshotChunk) throws IOException {
-    if (containsChunk(snapshotChunk.getChunkName())) {
+    // the content may be copied on each access
+    final byte[] content = snapshotChunk.getContent();
+    if (containsChunk(snapshotChunk, content)) {
       return true;
     }
 
@@ -100,7 +115,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return SUCCESS;
     }
 
-    if (isChunkChecksumInvalid(snapshotChunk, snapshotId, chunkName)) {
+    if (isChunkChecksumInvalid(snapshotChunk, content, snapshotId, chunkName)) {
+      return FAILED;
+    }
+
+    if (isFileBlockInvalid(snapshotChunk, content)) {
       return FAILED;
     }
 
@@ -108,19 +127,33 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
-    if (Files.exists(snapshotFile)) {
+    final long fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    final long currentFileSize = Files.exists(snapshotFile) ? Files.size(snapshotFile) : -1;
+    if (fileBlockPosition == 0 && currentFileSize >= 0) {
       LOGGER.debug("Received a snapshot snapshotChunk which already exist '{}'.", snapshotFile);
       return FAILED;
     }
 
+    if (fileBlockPosition > 0 && currentFileSize != fileBlockPosition) {
+      LOGGER.warn(
+          "Expected to append the block at position {} to the snapshot file '{}', but it has {} bytes.",
+          fileBlockPosition,
+          snapshotFile,
+          currentFileSize);
+      return FAILED;
+    }
+
     LOGGER.debug("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    return writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    return writeReceivedSnapshotChunk(snapshotChunk, content, snapshotFile);
   }
 
   private boolean isChunkChecksumInvalid(
-      final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName) {
+      final SnapshotChunk snapshotChunk,
+      final byte[] content,
+      final String snapshotId,
+      final String chunkName) {
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final long actualChecksum = SnapshotChunkUtil.createChecksum(content);
 
     if (expectedChecksum != actualChecksum) {
       LOGGER.warn(
@@ -134,6 +167,22 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return false;
   }
 
+  private boolean isFileBlockInvalid(final SnapshotChunk snapshotChunk, final byte[] content) {
+    final long fileBlockPosition = snapshotChunk.getFileBlockPosition();
+    final long totalFileSize = snapshotChunk.getTotalFileSize();
+
+    if (fileBlockPosition < 0 || fileBlockPosition + content.length > totalFileSize) {
+      LOGGER.warn(
+          "Expected snapshot chunk {} to be a block of its file with size {}, but it has {} bytes at position {}.",
+          snapshotChunk.getChunkName(),
+          totalFileSize,
+          content.length,
+          fileBlockPosition);
+      return true;
+    }
+    return false;
+  }
+
   private boolean isSnapshotChecksumInvalid(final long currentSnapshotChecksum) {
     if (expectedSnapshotChecksum == Long.MIN_VALUE) {
       expectedSnapshotChecksum = currentSnapshotChecksum;
@@ -173,8 +222,24 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   }
 
   private boolean writeReceivedSnapshotChunk(
-      final SnapshotChunk snapshotChunk, final Path snapshotFile) throws IOException {
-    Files.write(snapshotFile, snapshotChunk.getContent(), CREATE_NEW, StandardOpenOption.WRITE);
+      final SnapshotChunk snapshotChunk, final byte[] content, final Path snapshotFile)
+      throws IOException {
+    final var options =
+        snapshotChunk.getFileBlockPosition() == 0
+            ? EnumSet.of(CREATE_NEW, StandardOpenOption.WRITE)
+            : EnumSet.of(StandardOpenOption.APPEND);
+
+    try (final var channel = FileChannel.open(snapshotFile, options)) {
+      final var contentBuffer = ByteBuffer.wrap(content);
+      while (contentBuffer.hasRemaining()) {
+        channel.write(contentBuffer);
+      }
+    }
+
+    receivedFileChecksums
+        .computeIfAbsent(snapshotChunk.getChunkName(), name -> new CRC32C())
+        .update(content);
+
     LOGGER.trace("Wrote replicated snapshot chunk to file {}", snapshotFile);
     return SUCCESS;
   }
@@ -225,6 +290,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    final Map<String, Long> linkedFileChecksums;
+    try {
+      linkedFileChecksums = linkSkippedFiles();
+    } catch (final IOException e) {
+      future.completeExceptionally(
+          new UncheckedIOException("Unexpected exception on linking skipped snapshot files.", e));
+      return;
+    }
+
     final var files = directory.toFile().listFiles();
     try {
       Objects.requireNonNull(files, "No chunks have been applied yet");
@@ -242,7 +316,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    if (!verifyChecksums(future)) {
+    if (!verifyChecksums(future, linkedFileChecksums)) {
       return;
     }
 
@@ -254,10 +328,40 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
-  private boolean verifyChecksums(final CompletableActorFuture<PersistedSnapshot> future) {
+  /**
+   * Links the files which were not sent, because they are part of the latest snapshot with the same
+   * checksums, see {@link io.zeebe.snapshots.raft.SnapshotChunkReader#skipFiles(Map)}. The files
+   * of a snapshot are immutable, so both snapshots can share them.
+   *
+   * @return the checksums of the linked files by their names
+   */
+  private Map<String, Long> linkSkippedFiles() throws IOException {
+    final Map<String, Long> linkedFileChecksums = new HashMap<>();
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty() || !SnapshotChecksum.hasChecksum(directory)) {
+      return linkedFileChecksums;
+    }
+
+    final var latestFileChecksums = latestSnapshot.get().getFileChecksums();
+    final var fileChecksums = SnapshotChecksum.readFileChecksums(directory);
+    for (final Map.Entry<String, Long> fileChecksum : fileChecksums.entrySet()) {
+      final var fileName = fileChecksum.getKey();
+      final var file = directory.resolve(fileName);
+      final boolean isSkipped = !Files.exists(file);
+      if (isSkipped && fileChecksum.getValue().equals(latestFileChecksums.get(fileName))) {
+        FileUtil.linkOrCopy(latestSnapshot.get().getPath().resolve(fileName), file);
+        linkedFileChecksums.put(fileName, fileChecksum.getValue());
+      }
+    }
+    return linkedFileChecksums;
+  }
+
+  private boolean verifyChecksums(
+      final CompletableActorFuture<PersistedSnapshot> future,
+      final Map<String, Long> linkedFileChecksums) {
 
     try {
-      if (SnapshotChecksum.verify(directory)) {
+      if (isChecksumValid(linkedFileChecksums)) {
         return true;
       } else {
         future.completeExceptionally(
@@ -271,6 +375,33 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Verifies the snapshot checksum with the checksums of the files which were calculated while they
+   * were received, or linked from the latest snapshot. Only if the sender didn't persist the
+   * checksums of its files, or a file is not known, all files are read again.
+   */
+  private boolean isChecksumValid(final Map<String, Long> linkedFileChecksums) throws IOException {
+    final var expectedFileChecksums = SnapshotChecksum.readFileChecksums(directory);
+    if (expectedFileChecksums.isEmpty()) {
+      return SnapshotChecksum.verify(directory, snapshotStore.getChecksumExecutor());
+    }
+
+    final SortedMap<String, Long> fileChecksums = new TreeMap<>(linkedFileChecksums);
+    receivedFileChecksums.forEach(
+        (fileName, checksum) -> fileChecksums.put(fileName, checksum.getValue()));
+    fileChecksums.remove(SnapshotChecksum.CHECKSUM_FILE_NAME);
+
+    final var fileNames = directory.toFile().list();
+    final boolean isEveryFileKnown =
+        fileNames != null && fileNames.length == fileChecksums.size() + 1;
+    if (!isEveryFileKnown) {
+      return SnapshotChecksum.verify(directory, snapshotStore.getChecksumExecutor());
+    }
+
+    return fileChecksums.equals(expectedFileChecksums)
+        && SnapshotChecksum.combine(fileChecksums) == SnapshotChecksum.read(directory);
+  }
+
   @Override
   public String toString() {
     return "FileBasedReceivedSnapshot{"
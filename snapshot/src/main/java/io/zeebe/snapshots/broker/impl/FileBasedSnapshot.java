@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,10 +26,13 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
 
   private final Path directory;
   private final FileBasedSnapshotMetadata metadata;
+  private final int maxChunkSize;
 
-  FileBasedSnapshot(final Path directory, final FileBasedSnapshotMetadata metadata) {
+  FileBasedSnapshot(
+      final Path directory, final FileBasedSnapshotMetadata metadata, final int maxChunkSize) {
     this.directory = directory;
     this.metadata = metadata;
+    this.maxChunkSize = maxChunkSize;
   }
 
   public FileBasedSnapshotMetadata getMetadata() {
@@ -57,7 +61,11 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
   @Override
   public SnapshotChunkReader newChunkReader() {
     try {
-      return new FileBasedSnapshotChunkReader(directory, SnapshotChecksum.read(directory));
+      return new FileBasedSnapshotChunkReader(
+          directory,
+          SnapshotChecksum.read(directory),
+          SnapshotChecksum.readFileChecksums(directory),
+          maxChunkSize);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -91,6 +99,15 @@ public final class FileBasedSnapshot implements PersistedSnapshot {
     return metadata.getSnapshotIdAsString();
   }
 
+  @Override
+  public Map<String, Long> getFileChecksums() {
+    try {
+      return SnapshotChecksum.readFileChecksums(directory);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   @Override
   public void close() {
     // nothing to be done
@@ -17,6 +17,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
@@ -28,9 +29,20 @@ import org.agrona.concurrent.UnsafeBuffer;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>A file which is larger than the maximum chunk size is split into multiple chunks, which
+ * contain consecutive blocks of the file. So, only a single block of a file is held in memory at a
+ * time. The ID of the first chunk of a file is the file name, the ID of a following chunk is the
+ * file name and the position of its block, separated by {@link #BLOCK_POSITION_SEPARATOR}.
+ *
+ * <p>The files which the receiver already has, with the same checksums, can be skipped. So, if a
+ * snapshot shares most of its files with the previous snapshot, e.g. the immutable SST files of a
+ * RocksDB checkpoint, only the changed files are sent.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
+  // can't be part of a file name
+  static final byte BLOCK_POSITION_SEPARATOR = 0;
 
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
@@ -39,16 +51,28 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private NavigableSet<CharSequence> chunksView;
   private final int totalCount;
   private final long snapshotChecksum;
+  private final Map<String, Long> fileChecksums;
   private final String snapshotID;
+  private final int maxChunkSize;
 
-  FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
+  // the position of the next block in the current file
+  private long fileBlockPosition;
+
+  FileBasedSnapshotChunkReader(
+      final Path directory,
+      final long checksum,
+      final Map<String, Long> fileChecksums,
+      final int maxChunkSize)
+      throws IOException {
     this.directory = directory;
+    this.maxChunkSize = maxChunkSize;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = chunks;
     chunkIdView = new CharSequenceView();
 
     snapshotChecksum = checksum;
+    this.fileChecksums = fileChecksums;
 
     snapshotID = directory.getFileName().toString();
   }
@@ -67,8 +91,13 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return;
     }
 
-    final var path = decodeChunkId(id);
-    chunksView = chunks.tailSet(path, true);
+    final var chunkId = decodeChunkId(id);
+    chunksView = chunks.tailSet(chunkId.path(), true);
+
+    final var nextChunkName = nextChunkName();
+    final boolean isSameFile =
+        nextChunkName != null && CharSequence.compare(nextChunkName, chunkId.path()) == 0;
+    fileBlockPosition = isSameFile ? chunkId.blockPosition() : 0;
   }
 
   @Override
@@ -77,7 +106,28 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       return null;
     }
 
-    return encodeChunkId(chunksView.first());
+    return encodeChunkId(chunksView.first(), fileBlockPosition);
+  }
+
+  @Override
+  public void skipFiles(final Map<String, Long> receiverFileChecksums) {
+    if (chunksView.isEmpty()) {
+      return;
+    }
+
+    final var lastChunk = chunks.last();
+    final var skippableChunks =
+        fileBlockPosition == 0 ? chunksView : chunksView.tailSet(chunksView.first(), false);
+    skippableChunks.removeIf(
+        chunk ->
+            CharSequence.compare(chunk, lastChunk) != 0
+                && isReceiverFile(chunk.toString(), receiverFileChecksums));
+  }
+
+  private boolean isReceiverFile(
+      final String fileName, final Map<String, Long> receiverFileChecksums) {
+    final Long checksum = fileChecksums.get(fileName);
+    return checksum != null && checksum.equals(receiverFileChecksums.get(fileName));
   }
 
   @Override
@@ -93,36 +143,85 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public SnapshotChunk next() {
-    final var chunkName = chunksView.pollFirst();
+    final var chunkName = nextChunkName();
     if (chunkName == null) {
       throw new NoSuchElementException();
     }
 
-    final var path = directory.resolve(chunkName.toString());
+    final var path = directory.resolve(chunkName);
 
+    final SnapshotChunk chunk;
     try {
-      return SnapshotChunkUtil.createSnapshotChunkFromFile(
-          path.toFile(), snapshotID, totalCount, snapshotChecksum);
+      chunk =
+          SnapshotChunkUtil.createSnapshotChunkFromFileBlock(
+              path.toFile(),
+              snapshotID,
+              totalCount,
+              snapshotChecksum,
+              fileBlockPosition,
+              maxChunkSize);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
+
+    fileBlockPosition += chunk.getContentLength();
+    if (fileBlockPosition >= chunk.getTotalFileSize()) {
+      chunksView.pollFirst();
+      fileBlockPosition = 0;
+    }
+
+    return chunk;
+  }
+
+  private String nextChunkName() {
+    return chunksView.isEmpty() ? null : chunksView.first().toString();
   }
 
-  private ByteBuffer encodeChunkId(final CharSequence path) {
-    return ByteBuffer.wrap(path.toString().getBytes(ID_CHARSET)).order(Protocol.ENDIANNESS);
+  private ByteBuffer encodeChunkId(final CharSequence path, final long blockPosition) {
+    final byte[] fileName = path.toString().getBytes(ID_CHARSET);
+    if (blockPosition == 0) {
+      return ByteBuffer.wrap(fileName).order(Protocol.ENDIANNESS);
+    }
+
+    final byte[] position = Long.toString(blockPosition).getBytes(ID_CHARSET);
+    final var id = ByteBuffer.allocate(fileName.length + 1 + position.length);
+    id.put(fileName).put(BLOCK_POSITION_SEPARATOR).put(position).flip();
+    return id.order(Protocol.ENDIANNESS);
   }
 
-  private CharSequence decodeChunkId(final ByteBuffer id) {
+  private CharSequenceView decodeChunkId(final ByteBuffer id) {
     return chunkIdView.wrap(id);
   }
 
   private static final class CharSequenceView {
     private final DirectBuffer wrapper = new UnsafeBuffer();
     private final AsciiSequenceView view = new AsciiSequenceView();
+    private int pathLength;
 
-    private CharSequence wrap(final ByteBuffer buffer) {
+    private CharSequenceView wrap(final ByteBuffer buffer) {
       wrapper.wrap(buffer);
-      return view.wrap(wrapper, 0, wrapper.capacity());
+
+      pathLength = 0;
+      while (pathLength < wrapper.capacity()
+          && wrapper.getByte(pathLength) != BLOCK_POSITION_SEPARATOR) {
+        pathLength++;
+      }
+
+      view.wrap(wrapper, 0, pathLength);
+      return this;
+    }
+
+    private CharSequence path() {
+      return view;
+    }
+
+    private long blockPosition() {
+      if (pathLength == wrapper.capacity()) {
+        return 0;
+      }
+
+      final int positionOffset = pathLength + 1;
+      return wrapper.parseLongAscii(positionOffset, wrapper.capacity() - positionOffset);
     }
   }
 }
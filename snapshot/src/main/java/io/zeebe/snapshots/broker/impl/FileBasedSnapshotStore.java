@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -41,6 +42,10 @@ import org.slf4j.LoggerFactory;
 
 public final class FileBasedSnapshotStore extends Actor
     implements ConstructableSnapshotStore, ReceivableSnapshotStore {
+  // the maximum size of a chunk when a snapshot is replicated, larger files are split; files are
+  // not split by default, since receivers of older versions can't put split files together
+  public static final int DEFAULT_MAX_CHUNK_SIZE = Integer.MAX_VALUE;
+
   // first is the metadata and the second the the received snapshot count
   private static final String RECEIVING_DIR_FORMAT = "%s-%d";
 
@@ -61,6 +66,9 @@ public final class FileBasedSnapshotStore extends Actor
   private final AtomicLong receivingSnapshotStartCount;
   private final Set<PersistableSnapshot> pendingSnapshots = new HashSet<>();
   private final String actorName;
+  private final int maxChunkSize;
+  // reads the files to calculate the checksums of a snapshot
+  private final Executor checksumExecutor;
 
   public FileBasedSnapshotStore(
       final int nodeId,
@@ -68,6 +76,46 @@ public final class FileBasedSnapshotStore extends Actor
       final SnapshotMetrics snapshotMetrics,
       final Path snapshotsDirectory,
       final Path pendingDirectory) {
+    this(
+        nodeId,
+        partitionId,
+        snapshotMetrics,
+        snapshotsDirectory,
+        pendingDirectory,
+        DEFAULT_MAX_CHUNK_SIZE);
+  }
+
+  public FileBasedSnapshotStore(
+      final int nodeId,
+      final int partitionId,
+      final SnapshotMetrics snapshotMetrics,
+      final Path snapshotsDirectory,
+      final Path pendingDirectory,
+      final int maxChunkSize) {
+    this(
+        nodeId,
+        partitionId,
+        snapshotMetrics,
+        snapshotsDirectory,
+        pendingDirectory,
+        maxChunkSize,
+        Runnable::run);
+  }
+
+  /**
+   * @param checksumExecutor the executor which reads the snapshot files in parallel to calculate
+   *     their checksums
+   */
+  public FileBasedSnapshotStore(
+      final int nodeId,
+      final int partitionId,
+      final SnapshotMetrics snapshotMetrics,
+      final Path snapshotsDirectory,
+      final Path pendingDirectory,
+      final int maxChunkSize,
+      final Executor checksumExecutor) {
+    this.maxChunkSize = maxChunkSize;
+    this.checksumExecutor = checksumExecutor;
     this.snapshotsDirectory = snapshotsDirectory;
     this.pendingDirectory = pendingDirectory;
     this.snapshotMetrics = snapshotMetrics;
@@ -128,8 +176,8 @@ public final class FileBasedSnapshotStore extends Actor
     if (optionalMeta.isPresent()) {
       final var metadata = optionalMeta.get();
       try {
-        if (SnapshotChecksum.verify(path)) {
-          return new FileBasedSnapshot(path, metadata);
+        if (SnapshotChecksum.verify(path, checksumExecutor)) {
+          return new FileBasedSnapshot(path, metadata, maxChunkSize);
         } else {
           LOGGER.warn(
               "Cannot load snapshot in {}. The checksum stored does not match the checksum calculated.",
@@ -363,7 +411,7 @@ public final class FileBasedSnapshotStore extends Actor
     final var destination = buildSnapshotDirectory(metadata);
     moveToSnapshotDirectory(directory, destination);
 
-    final var newPersistedSnapshot = new FileBasedSnapshot(destination, metadata);
+    final var newPersistedSnapshot = new FileBasedSnapshot(destination, metadata, maxChunkSize);
     final var failed =
         !currentPersistedSnapshotRef.compareAndSet(currentPersistedSnapshot, newPersistedSnapshot);
     if (failed) {
@@ -451,4 +499,8 @@ public final class FileBasedSnapshotStore extends Actor
   SnapshotMetrics getSnapshotMetrics() {
     return snapshotMetrics;
   }
+
+  Executor getChecksumExecutor() {
+    return checksumExecutor;
+  }
 }
@@ -15,6 +15,11 @@ import io.zeebe.snapshots.raft.ReceivableSnapshotStoreFactory;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.SchedulingHints;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.IoUtil;
 import org.agrona.collections.Int2ObjectHashMap;
 
@@ -32,15 +37,73 @@ public final class FileBasedSnapshotStoreFactory
     implements SnapshotStoreSupplier, ReceivableSnapshotStoreFactory {
   public static final String SNAPSHOTS_DIRECTORY = "snapshots";
   public static final String PENDING_DIRECTORY = "pending";
+  private static final int DEFAULT_CHECKSUM_THREAD_COUNT = 2;
+  private static final Duration CHECKSUM_THREAD_KEEP_ALIVE = Duration.ofSeconds(30);
 
   private final Int2ObjectHashMap<FileBasedSnapshotStore> partitionSnapshotStores =
       new Int2ObjectHashMap<>();
   private final ActorScheduler actorScheduler;
   private final int nodeId;
+  private final int maxChunkSize;
+  private final ThreadPoolExecutor checksumExecutor;
 
   public FileBasedSnapshotStoreFactory(final ActorScheduler actorScheduler, final int nodeId) {
+    this(actorScheduler, nodeId, FileBasedSnapshotStore.DEFAULT_MAX_CHUNK_SIZE);
+  }
+
+  /**
+   * @param maxChunkSize the maximum size of a chunk when a snapshot is replicated, larger files are
+   *     split into multiple chunks
+   */
+  public FileBasedSnapshotStoreFactory(
+      final ActorScheduler actorScheduler, final int nodeId, final int maxChunkSize) {
+    this(actorScheduler, nodeId, maxChunkSize, DEFAULT_CHECKSUM_THREAD_COUNT);
+  }
+
+  /**
+   * @param maxChunkSize the maximum size of a chunk when a snapshot is replicated, larger files are
+   *     split into multiple chunks
+   * @param checksumThreadCount the number of threads which read the snapshot files of all
+   *     partitions in parallel to calculate their checksums
+   */
+  public FileBasedSnapshotStoreFactory(
+      final ActorScheduler actorScheduler,
+      final int nodeId,
+      final int maxChunkSize,
+      final int checksumThreadCount) {
     this.actorScheduler = actorScheduler;
     this.nodeId = nodeId;
+    this.maxChunkSize = maxChunkSize;
+    checksumExecutor = createChecksumExecutor(nodeId, checksumThreadCount);
+  }
+
+  /**
+   * The reads block, so they don't run on the actor threads. The threads are only kept while
+   * checksums are calculated, so the executor doesn't need to be shut down.
+   */
+  private static ThreadPoolExecutor createChecksumExecutor(
+      final int nodeId, final int threadCount) {
+    final var threadCounter = new AtomicInteger();
+    final var executor =
+        new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            CHECKSUM_THREAD_KEEP_ALIVE.toMillis(),
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              final var thread =
+                  new Thread(
+                      runnable,
+                      String.format(
+                          "Broker-%d-snapshot-checksum-%d",
+                          nodeId,
+                          threadCounter.getAndIncrement()));
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   @Override
@@ -65,7 +128,9 @@ public final class FileBasedSnapshotStoreFactory
             partitionId,
             new SnapshotMetrics(Integer.toString(partitionId)),
             snapshotDirectory,
-            pendingDirectory);
+            pendingDirectory,
+            maxChunkSize,
+            checksumExecutor);
     actorScheduler.submitActor(snapshotStore, SchedulingHints.ioBound()).join();
     return snapshotStore;
   }
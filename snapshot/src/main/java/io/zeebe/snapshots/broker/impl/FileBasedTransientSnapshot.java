@@ -84,8 +84,9 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
   }
 
   private void calculateAndPersistChecksum() throws IOException {
-    final var checksum = SnapshotChecksum.calculate(directory);
-    SnapshotChecksum.persist(directory, checksum);
+    final var fileChecksums =
+        SnapshotChecksum.calculateFileChecksums(directory, snapshotStore.getChecksumExecutor());
+    SnapshotChecksum.persist(directory, fileChecksums);
   }
 
   @Override
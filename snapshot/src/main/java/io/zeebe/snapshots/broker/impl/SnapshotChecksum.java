@@ -7,19 +7,39 @@
  */
 package io.zeebe.snapshots.broker.impl;
 
+import static java.nio.file.StandardOpenOption.READ;
+
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.zip.CRC32C;
+import org.agrona.IoUtil;
 
+/**
+ * The checksum file of a snapshot contains the combined checksum of all files, followed by the
+ * checksum of each file, i.e. the number of files and an entry of name and checksum per file. The
+ * checksums of the files allow to replicate only the files which the receiver doesn't have yet.
+ * Older checksum files contain only the combined checksum.
+ *
+ * <p>A received snapshot calculates the checksums of its files while they are written, so only a
+ * snapshot which is taken or loaded on start up needs to read all files to verify the checksum.
+ */
 final class SnapshotChecksum {
 
-  private static final String CHECKSUM_FILE_NAME = "CHECKSUM";
+  static final String CHECKSUM_FILE_NAME = "CHECKSUM";
+  private static final long MAPPED_REGION_SIZE = 64 * 1024 * 1024;
 
   private SnapshotChecksum() {
     throw new IllegalStateException("Utility class");
@@ -43,46 +63,136 @@ final class SnapshotChecksum {
     }
   }
 
+  /**
+   * @return the checksums of the snapshot files by their names, or an empty map if the checksum
+   *     file contains only the combined checksum
+   */
+  public static SortedMap<String, Long> readFileChecksums(final Path snapshotDirectory)
+      throws IOException {
+    final var fileChecksums = new TreeMap<String, Long>();
+    final var file = snapshotDirectory.resolve(CHECKSUM_FILE_NAME).toFile();
+    try (final RandomAccessFile checksumFile = new RandomAccessFile(file, "r")) {
+      if (checksumFile.length() > Long.BYTES) {
+        checksumFile.seek(Long.BYTES);
+        final int fileCount = checksumFile.readInt();
+        for (int i = 0; i < fileCount; i++) {
+          fileChecksums.put(checksumFile.readUTF(), checksumFile.readLong());
+        }
+      }
+    }
+    return fileChecksums;
+  }
+
   public static long calculate(final Path snapshotDirectory) throws IOException {
-    try (final var fileStream = Files.list(snapshotDirectory).sorted()) {
-      return createCombinedChecksum(
-          fileStream
-              .filter(path -> !path.endsWith(CHECKSUM_FILE_NAME))
-              .collect(Collectors.toList()));
+    return calculate(snapshotDirectory, Runnable::run);
+  }
+
+  public static long calculate(final Path snapshotDirectory, final Executor executor)
+      throws IOException {
+    return combine(calculateFileChecksums(snapshotDirectory, executor));
+  }
+
+  /**
+   * Calculates the checksums of the snapshot files on the calling thread.
+   *
+   * @see #calculateFileChecksums(Path, Executor)
+   */
+  public static SortedMap<String, Long> calculateFileChecksums(final Path snapshotDirectory)
+      throws IOException {
+    return calculateFileChecksums(snapshotDirectory, Runnable::run);
+  }
+
+  /**
+   * Calculates the checksums of the snapshot files, excluding the checksum file. The files are read
+   * in parallel by the given executor, and each file is read in memory-mapped regions of at most
+   * {@link #MAPPED_REGION_SIZE}, so a large file is never loaded into memory at once.
+   *
+   * @param executor the executor which reads the files, it should be bounded since the reads block
+   * @return the checksums of the snapshot files by their names
+   */
+  public static SortedMap<String, Long> calculateFileChecksums(
+      final Path snapshotDirectory, final Executor executor) throws IOException {
+    final Map<String, CompletableFuture<Long>> pendingChecksums = new TreeMap<>();
+    try (final var fileStream = Files.list(snapshotDirectory)) {
+      fileStream
+          .filter(path -> !path.endsWith(CHECKSUM_FILE_NAME))
+          .forEach(
+              path ->
+                  pendingChecksums.put(
+                      path.getFileName().toString(),
+                      CompletableFuture.supplyAsync(() -> calculateFileChecksum(path), executor)));
+    }
+
+    final var fileChecksums = new TreeMap<String, Long>();
+    try {
+      for (final Map.Entry<String, CompletableFuture<Long>> checksum :
+          pendingChecksums.entrySet()) {
+        fileChecksums.put(checksum.getKey(), checksum.getValue().join());
+      }
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw e;
     }
+    return fileChecksums;
   }
 
-  public static void persist(final Path snapshotDirectory, final long checksum) throws IOException {
+  private static long calculateFileChecksum(final Path file) {
+    final CRC32C checksumGenerator = new CRC32C();
+    try (final var channel = FileChannel.open(file, READ)) {
+      final long size = channel.size();
+      for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+        final long regionSize = Math.min(MAPPED_REGION_SIZE, size - position);
+        final MappedByteBuffer region = channel.map(MapMode.READ_ONLY, position, regionSize);
+        try {
+          checksumGenerator.update(region);
+        } finally {
+          IoUtil.unmap(region);
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return checksumGenerator.getValue();
+  }
+
+  /** computes a checksum for the files, in the order of their names */
+  public static long combine(final SortedMap<String, Long> fileChecksums) {
+    final CRC32C checksumGenerator = new CRC32C();
+    final ByteBuffer checksumBuffer = ByteBuffer.allocate(Long.BYTES);
+    for (final long fileChecksum : fileChecksums.values()) {
+      checksumGenerator.update(checksumBuffer.putLong(0, fileChecksum));
+      checksumBuffer.clear();
+    }
+    return checksumGenerator.getValue();
+  }
+
+  public static void persist(
+      final Path snapshotDirectory, final SortedMap<String, Long> fileChecksums)
+      throws IOException {
     final var file = snapshotDirectory.resolve(CHECKSUM_FILE_NAME).toFile();
     // If checksum file already exists, don't overwrite it
     if (file.createNewFile()) {
       try (final RandomAccessFile checksumFile = new RandomAccessFile(file, "rw")) {
-        checksumFile.writeLong(checksum);
+        checksumFile.writeLong(combine(fileChecksums));
+        checksumFile.writeInt(fileChecksums.size());
+        for (final Map.Entry<String, Long> fileChecksum : fileChecksums.entrySet()) {
+          checksumFile.writeUTF(fileChecksum.getKey());
+          checksumFile.writeLong(fileChecksum.getValue());
+        }
       }
     }
   }
 
   public static boolean verify(final Path snapshotDirectory) throws IOException {
-    final var expectedChecksum = read(snapshotDirectory);
-    final var actualChecksum = calculate(snapshotDirectory);
-    return expectedChecksum == actualChecksum;
+    return verify(snapshotDirectory, Runnable::run);
   }
 
-  /** computes a checksum for the files, in the order they're presented */
-  private static long createCombinedChecksum(final List<Path> paths) throws IOException {
-    final CRC32C checksumGenerator = new CRC32C();
-    final List<Long> chunkChecksum = new ArrayList<>();
-
-    for (final var path : paths) {
-      if (!path.endsWith(CHECKSUM_FILE_NAME)) {
-        checksumGenerator.update(Files.readAllBytes(path));
-        chunkChecksum.add(checksumGenerator.getValue());
-        checksumGenerator.reset();
-      }
-    }
-
-    chunkChecksum.forEach(
-        c -> checksumGenerator.update(ByteBuffer.allocate(Long.BYTES).putLong(0, c)));
-    return checksumGenerator.getValue();
+  public static boolean verify(final Path snapshotDirectory, final Executor executor)
+      throws IOException {
+    final var expectedChecksum = read(snapshotDirectory);
+    final var actualChecksum = calculate(snapshotDirectory, executor);
+    return expectedChecksum == actualChecksum;
   }
 }
@@ -7,10 +7,14 @@
  */
 package io.zeebe.snapshots.broker.impl;
 
+import static java.nio.file.StandardOpenOption.READ;
+
 import io.zeebe.snapshots.raft.SnapshotChunk;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.zip.CRC32;
 
 final class SnapshotChunkUtil {
@@ -23,23 +27,55 @@ final class SnapshotChunkUtil {
     return crc32.getValue();
   }
 
-  static SnapshotChunk createSnapshotChunkFromFile(
+  /**
+   * Reads a block of the given file as snapshot chunk.
+   *
+   * @param blockPosition the position of the block in the file
+   * @param maxBlockSize the maximum size of the block, the block is smaller at the end of the file
+   */
+  static SnapshotChunk createSnapshotChunkFromFileBlock(
       final File snapshotChunkFile,
       final String snapshotId,
       final int totalCount,
-      final long snapshotChecksum)
+      final long snapshotChecksum,
+      final long blockPosition,
+      final int maxBlockSize)
       throws IOException {
-    final byte[] content;
-    content = Files.readAllBytes(snapshotChunkFile.toPath());
-    final long checksum = createChecksum(content);
-    return new SnapshotChunkImpl(
-        snapshotId, totalCount, snapshotChunkFile.getName(), checksum, content, snapshotChecksum);
+    try (final var channel = FileChannel.open(snapshotChunkFile.toPath(), READ)) {
+      final long fileSize = channel.size();
+      final int blockSize = (int) Math.max(0, Math.min(maxBlockSize, fileSize - blockPosition));
+
+      final byte[] content = new byte[blockSize];
+      final var contentBuffer = ByteBuffer.wrap(content);
+      while (contentBuffer.hasRemaining()) {
+        final int read = channel.read(contentBuffer, blockPosition + contentBuffer.position());
+        if (read < 0) {
+          throw new EOFException(
+              String.format(
+                  "Expected to read %d bytes at position %d of file %s, but reached its end",
+                  blockSize, blockPosition, snapshotChunkFile));
+        }
+      }
+
+      final long checksum = createChecksum(content);
+      return new SnapshotChunkImpl(
+          snapshotId,
+          totalCount,
+          snapshotChunkFile.getName(),
+          blockPosition,
+          fileSize,
+          checksum,
+          content,
+          snapshotChecksum);
+    }
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
     private final String snapshotId;
     private final int totalCount;
     private final String chunkName;
+    private final long fileBlockPosition;
+    private final long totalFileSize;
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
@@ -48,12 +84,16 @@ final class SnapshotChunkUtil {
         final String snapshotId,
         final int totalCount,
         final String chunkName,
+        final long fileBlockPosition,
+        final long totalFileSize,
         final long checksum,
         final byte[] content,
         final long snapshotChecksum) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
+      this.fileBlockPosition = fileBlockPosition;
+      this.totalFileSize = totalFileSize;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
@@ -74,6 +114,16 @@ final class SnapshotChunkUtil {
       return chunkName;
     }
 
+    @Override
+    public long getFileBlockPosition() {
+      return fileBlockPosition;
+    }
+
+    @Override
+    public long getTotalFileSize() {
+      return totalFileSize;
+    }
+
     @Override
     public long getChecksum() {
       return checksum;
@@ -84,6 +134,11 @@ final class SnapshotChunkUtil {
       return content;
     }
 
+    @Override
+    public int getContentLength() {
+      return content.length;
+    }
+
     @Override
     public long getSnapshotChecksum() {
       return snapshotChecksum;
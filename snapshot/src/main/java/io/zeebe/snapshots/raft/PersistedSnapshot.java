@@ -9,6 +9,7 @@ package io.zeebe.snapshots.raft;
 
 import io.zeebe.util.CloseableSilently;
 import java.nio.file.Path;
+import java.util.Map;
 
 /** Represents a snapshot, which was persisted at the {@link PersistedSnapshotStore}. */
 public interface PersistedSnapshot extends CloseableSilently {
@@ -64,4 +65,14 @@ public interface PersistedSnapshot extends CloseableSilently {
 
   /** @return the identifier of the snapshot */
   String getId();
+
+  /**
+   * Returns the checksums of the files of this snapshot by their names. When a snapshot is
+   * replicated, the receiver reports the file checksums of its latest snapshot, such that the
+   * files which it already has don't need to be sent, see {@link
+   * SnapshotChunkReader#skipFiles(Map)}.
+   *
+   * @return the checksums of the files, or an empty map if they are not known
+   */
+  Map<String, Long> getFileChecksums();
 }
@@ -7,24 +7,36 @@
  */
 package io.zeebe.snapshots.raft;
 
-/** A chunk of an already persisted Snapshot. */
+/**
+ * A chunk of an already persisted Snapshot. A chunk contains a file of the snapshot, or a block of
+ * it if the file is split into multiple chunks.
+ */
 public interface SnapshotChunk {
 
   /** @return a unique snapshot identifier * */
   String getSnapshotId();
 
-  /** @return the total count of snapshot chunks, which correspond to the same snapshot */
+  /** @return the total count of files, which correspond to the same snapshot */
   int getTotalCount();
 
   /** @return the name of the current chunk (e.g. file name) */
   String getChunkName();
 
+  /** @return the position of the content in the file */
+  long getFileBlockPosition();
+
+  /** @return the size of the whole file, which may be larger than the content */
+  long getTotalFileSize();
+
   /** @return the checksum of the content, can be use to verify the integrity of the content */
   long getChecksum();
 
   /** @return the content of the current chunk */
   byte[] getContent();
 
+  /** @return the length of the content, which does not require to copy the content */
+  int getContentLength();
+
   /** @return the checksum of the entire snapshot */
   long getSnapshotChecksum();
 }
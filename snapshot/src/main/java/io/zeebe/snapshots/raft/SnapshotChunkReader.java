@@ -10,6 +10,7 @@ package io.zeebe.snapshots.raft;
 import io.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -32,4 +33,13 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Skips the files which the receiver of the snapshot already has, i.e. the files with the same
+   * names and checksums as given, such that their chunks are not read. A file which is partly read
+   * already, and the last file, are never skipped, so the last chunk is always read.
+   *
+   * @param receiverFileChecksums the checksums of the receiver's files by their names
+   */
+  void skipFiles(Map<String, Long> receiverFileChecksums);
 }
@@ -29,6 +29,7 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -177,6 +178,106 @@ public class FileBasedReceivedSnapshotTest {
         .containsExactlyInAnyOrder(persistedSnapshotFiles);
   }
 
+  @Test
+  public void shouldPersistSnapshotWithFilesSplitIntoChunks() throws Exception {
+    // given
+    final var senderRoot = temporaryFolder.newFolder("sender-with-small-chunks");
+    final var senderSnapshotStoreFactory =
+        new FileBasedSnapshotStoreFactory(createActorScheduler(), 3, 4);
+    senderSnapshotStoreFactory.createReceivableSnapshotStore(senderRoot.toPath(), 1);
+    final var transientSnapshot =
+        senderSnapshotStoreFactory
+            .getConstructableSnapshotStore(1)
+            .newTransientSnapshot(1L, 0L, 1, 0)
+            .orElseThrow();
+    transientSnapshot.take(this::takeSnapshot).join();
+    final var persistedSnapshot = transientSnapshot.persist().join();
+
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        final var snapshotChunk = snapshotChunkReader.next();
+        assertThat(snapshotChunk.getContent()).hasSizeLessThanOrEqualTo(4);
+
+        // a chunk which is applied again is ignored
+        assertThat(receivedSnapshot.apply(snapshotChunk).join()).isTrue();
+        assertThat(receivedSnapshot.apply(snapshotChunk).join()).isTrue();
+      }
+    }
+
+    // when
+    final var snapshot = receivedSnapshot.persist().join();
+
+    // then
+    final var receivedFile = snapshot.getPath().resolve("file1.txt");
+    assertThat(receivedFile).hasContent("This is the content");
+  }
+
+  @Test
+  public void shouldReturnFalseOnConsumingChunkWithMissingPreviousBlock() throws Exception {
+    // given
+    final var senderRoot = temporaryFolder.newFolder("sender-with-small-chunks");
+    final var senderSnapshotStoreFactory =
+        new FileBasedSnapshotStoreFactory(createActorScheduler(), 3, 4);
+    senderSnapshotStoreFactory.createReceivableSnapshotStore(senderRoot.toPath(), 1);
+    final var transientSnapshot =
+        senderSnapshotStoreFactory
+            .getConstructableSnapshotStore(1)
+            .newTransientSnapshot(1L, 0L, 1, 0)
+            .orElseThrow();
+    transientSnapshot.take(this::takeSnapshot).join();
+    final var persistedSnapshot = transientSnapshot.persist().join();
+
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      snapshotChunkReader.next();
+
+      // when
+      final var success = receivedSnapshot.apply(snapshotChunkReader.next()).join();
+
+      // then
+      assertThat(success).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldLinkSkippedFilesOfLatestSnapshot() throws Exception {
+    // given
+    final var firstSnapshot =
+        takeSnapshot(1L, 0L, List.of("file1.txt", "file2.txt"), List.of("unchanged", "first"));
+    receiveSnapshot(firstSnapshot).persist().join();
+    final var receiverFileChecksums =
+        receiverSnapshotStore.getLatestSnapshot().orElseThrow().getFileChecksums();
+
+    final var secondSnapshot =
+        takeSnapshot(2L, 0L, List.of("file1.txt", "file2.txt"), List.of("unchanged", "second"));
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId());
+    final var appliedChunks = new ArrayList<String>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      final var firstChunk = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstChunk).join();
+      appliedChunks.add(firstChunk.getChunkName());
+
+      snapshotChunkReader.skipFiles(receiverFileChecksums);
+      while (snapshotChunkReader.hasNext()) {
+        final var snapshotChunk = snapshotChunkReader.next();
+        receivedSnapshot.apply(snapshotChunk).join();
+        appliedChunks.add(snapshotChunk.getChunkName());
+      }
+    }
+
+    // when
+    final var snapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(appliedChunks).doesNotContain("file1.txt").contains("file2.txt");
+    assertThat(snapshot.getPath().resolve("file1.txt")).hasContent("unchanged");
+    assertThat(snapshot.getPath().resolve("file2.txt")).hasContent("second");
+  }
+
   @Test
   public void shouldNotDeletePersistedSnapshotOnPurgePendingOnStore() throws Exception {
     // given
@@ -672,6 +773,17 @@ public class FileBasedReceivedSnapshotTest {
     return transientSnapshot.persist().join();
   }
 
+  private PersistedSnapshot takeSnapshot(
+      final long index,
+      final long term,
+      final List<String> fileNames,
+      final List<String> fileContents) {
+    final var transientSnapshot =
+        senderSnapshotStore.newTransientSnapshot(index, term, 1, 0).orElseThrow();
+    transientSnapshot.take(path -> takeSnapshot(path, fileNames, fileContents)).join();
+    return transientSnapshot.persist().join();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot)
       throws IOException {
     final var receivedSnapshot =
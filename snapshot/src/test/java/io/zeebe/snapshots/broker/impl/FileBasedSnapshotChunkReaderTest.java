@@ -16,6 +16,7 @@ import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 import org.junit.Rule;
@@ -23,6 +24,8 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 public final class FileBasedSnapshotChunkReaderTest {
+  private static final int MAX_CHUNK_SIZE = 4;
+
   @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
 
   @Test
@@ -70,6 +73,91 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(reader.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldSplitFileIntoChunks() throws IOException {
+    // given
+    final var reader = newReader(chunksOf("a", "b"));
+    Files.writeString(temporaryFolder.getRoot().toPath().resolve("a"), "0123456789");
+
+    // when
+    final var chunks = new ArrayList<SnapshotChunk>();
+    while (reader.hasNext()) {
+      chunks.add(reader.next());
+    }
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("a", "a", "a", "b");
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getFileBlockPosition)
+        .containsExactly(0L, 4L, 8L, 0L);
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getTotalFileSize)
+        .containsExactly(10L, 10L, 10L, 0L);
+    assertThat(chunks)
+        .extracting(chunk -> new String(chunk.getContent()))
+        .containsExactly("0123", "4567", "89", "");
+    assertThat(chunks).extracting(SnapshotChunk::getContentLength).containsExactly(4, 4, 2, 0);
+    assertThat(chunks).extracting(SnapshotChunk::getTotalCount).containsOnly(2);
+  }
+
+  @Test
+  public void shouldSeekToBlockOfFile() throws IOException {
+    // given
+    final var reader = newReader(chunksOf("a", "b"));
+    Files.writeString(temporaryFolder.getRoot().toPath().resolve("a"), "0123456789");
+    reader.next();
+    final var blockId = reader.nextId();
+
+    // when
+    final var otherReader =
+        new FileBasedSnapshotChunkReader(
+            temporaryFolder.getRoot().toPath(), 1, Map.of(), MAX_CHUNK_SIZE);
+    otherReader.seek(blockId);
+
+    // then
+    final var chunk = otherReader.next();
+    assertThat(chunk.getChunkName()).isEqualTo("a");
+    assertThat(chunk.getFileBlockPosition()).isEqualTo(4L);
+    assertThat(new String(chunk.getContent())).isEqualTo("4567");
+    assertThat(otherReader.nextId()).isNotEqualTo(blockId);
+  }
+
+  @Test
+  public void shouldSkipFilesWhichReceiverHas() {
+    // given
+    final var reader =
+        newReader(chunksOf("a", "b", "c", "d"), Map.of("a", 1L, "b", 2L, "c", 3L, "d", 4L));
+    reader.next();
+
+    // when
+    reader.skipFiles(Map.of("b", 2L, "c", 30L, "d", 4L));
+
+    // then
+    assertThat(reader.nextId()).isEqualTo(asBuffer("c"));
+    final var chunks = new ArrayList<SnapshotChunk>();
+    reader.forEachRemaining(chunks::add);
+    assertThat(chunks).extracting(SnapshotChunk::getChunkName).containsExactly("c", "d");
+    assertThat(chunks).extracting(SnapshotChunk::getTotalCount).containsOnly(4);
+  }
+
+  @Test
+  public void shouldNotSkipPartlyReadFile() throws IOException {
+    // given
+    final var reader = newReader(chunksOf("a", "b"), Map.of("a", 1L, "b", 2L));
+    Files.writeString(temporaryFolder.getRoot().toPath().resolve("a"), "0123456789");
+    reader.next();
+
+    // when
+    reader.skipFiles(Map.of("a", 1L, "b", 2L));
+
+    // then
+    final var chunks = new ArrayList<SnapshotChunk>();
+    reader.forEachRemaining(chunks::add);
+    assertThat(chunks).extracting(SnapshotChunk::getChunkName).containsExactly("a", "a", "b");
+  }
+
   private ByteBuffer asBuffer(final CharSequence chunk) {
     return ByteBuffer.wrap(chunk.toString().getBytes(FileBasedSnapshotChunkReader.ID_CHARSET));
   }
@@ -81,6 +169,11 @@ public final class FileBasedSnapshotChunkReaderTest {
   }
 
   private FileBasedSnapshotChunkReader newReader(final NavigableSet<CharSequence> chunks) {
+    return newReader(chunks, Map.of());
+  }
+
+  private FileBasedSnapshotChunkReader newReader(
+      final NavigableSet<CharSequence> chunks, final Map<String, Long> fileChecksums) {
     final var directory = temporaryFolder.getRoot().toPath();
     for (final var chunk : chunks) {
       final var path = directory.resolve(chunk.toString());
@@ -92,7 +185,7 @@ public final class FileBasedSnapshotChunkReaderTest {
     }
 
     try {
-      return new FileBasedSnapshotChunkReader(directory, 1);
+      return new FileBasedSnapshotChunkReader(directory, 1, fileChecksums, MAX_CHUNK_SIZE);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
@@ -125,8 +125,8 @@ public class FileBasedSnapshotStoreTest {
             final var snapshot = snapshotsDir.resolve(snapshotId.getSnapshotIdAsString()).toFile();
             snapshot.mkdir();
             createSnapshotDir(snapshot.toPath());
-            final var checksum = SnapshotChecksum.calculate(snapshot.toPath());
-            SnapshotChecksum.persist(snapshot.toPath(), checksum);
+            final var fileChecksums = SnapshotChecksum.calculateFileChecksums(snapshot.toPath());
+            SnapshotChecksum.persist(snapshot.toPath(), fileChecksums);
           } catch (final Exception e) {
             fail("Failed to create directory", e);
           }
@@ -8,9 +8,15 @@
 package io.zeebe.snapshots.broker.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.SortedMap;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32C;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -52,6 +58,27 @@ public class SnapshotChecksumTest {
     assertThat(actual).isEqualTo(expectedChecksum);
   }
 
+  @Test
+  public void shouldGenerateTheSameChecksumWhenFilesAreReadInParallel() throws Exception {
+    // given
+    Files.writeString(multipleFileSnapshot.toPath().resolve("file1.txt"), "foo");
+    Files.writeString(multipleFileSnapshot.toPath().resolve("file2.txt"), "bar");
+    final var expectedChecksums =
+        SnapshotChecksum.calculateFileChecksums(multipleFileSnapshot.toPath());
+    final var executor = Executors.newFixedThreadPool(2);
+
+    // when
+    final SortedMap<String, Long> actual;
+    try {
+      actual = SnapshotChecksum.calculateFileChecksums(multipleFileSnapshot.toPath(), executor);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then
+    assertThat(actual).containsExactlyEntriesOf(expectedChecksums);
+  }
+
   @Test
   public void shouldGenerateTheSameChecksumForMultipleFiles() throws Exception {
     // given
@@ -80,7 +107,9 @@ public class SnapshotChecksumTest {
   public void shouldPersistChecksum() throws Exception {
     // given
     final var expectedChecksum = SnapshotChecksum.calculate(multipleFileSnapshot.toPath());
-    SnapshotChecksum.persist(multipleFileSnapshot.toPath(), expectedChecksum);
+    SnapshotChecksum.persist(
+        multipleFileSnapshot.toPath(),
+        SnapshotChecksum.calculateFileChecksums(multipleFileSnapshot.toPath()));
 
     // when
     final var actual = SnapshotChecksum.read(multipleFileSnapshot.toPath());
@@ -93,7 +122,9 @@ public class SnapshotChecksumTest {
   public void shouldGenerateTheSameWithPersistedChecksum() throws Exception {
     // given
     final var expectedChecksum = SnapshotChecksum.calculate(multipleFileSnapshot.toPath());
-    SnapshotChecksum.persist(multipleFileSnapshot.toPath(), expectedChecksum);
+    SnapshotChecksum.persist(
+        multipleFileSnapshot.toPath(),
+        SnapshotChecksum.calculateFileChecksums(multipleFileSnapshot.toPath()));
 
     // when
     final var actual = SnapshotChecksum.calculate(multipleFileSnapshot.toPath());
@@ -105,8 +136,9 @@ public class SnapshotChecksumTest {
   @Test
   public void shouldDetectCorruptedSnapshot() throws IOException {
     // given
-    final var expectedChecksum = SnapshotChecksum.calculate(corruptedSnapshot.toPath());
-    SnapshotChecksum.persist(corruptedSnapshot.toPath(), expectedChecksum);
+    SnapshotChecksum.persist(
+        corruptedSnapshot.toPath(),
+        SnapshotChecksum.calculateFileChecksums(corruptedSnapshot.toPath()));
 
     // when
     corruptedSnapshot.toPath().resolve("file1.txt").toFile().delete();
@@ -114,4 +146,52 @@ public class SnapshotChecksumTest {
     // then
     assertThat(SnapshotChecksum.verify(corruptedSnapshot.toPath())).isFalse();
   }
+
+  @Test
+  public void shouldPersistFileChecksums() throws Exception {
+    // given
+    final var expectedFileChecksums =
+        SnapshotChecksum.calculateFileChecksums(multipleFileSnapshot.toPath());
+    SnapshotChecksum.persist(multipleFileSnapshot.toPath(), expectedFileChecksums);
+
+    // when
+    final var actual = SnapshotChecksum.readFileChecksums(multipleFileSnapshot.toPath());
+
+    // then
+    assertThat(actual)
+        .containsOnlyKeys("file1.txt", "file2.txt", "file3.txt")
+        .isEqualTo(expectedFileChecksums);
+  }
+
+  @Test
+  public void shouldReadNoFileChecksumsIfOnlyCombinedChecksumIsPersisted() throws Exception {
+    // given
+    final var expectedChecksum = SnapshotChecksum.calculate(multipleFileSnapshot.toPath());
+    final var checksumFile = multipleFileSnapshot.toPath().resolve("CHECKSUM").toFile();
+    try (final var file = new RandomAccessFile(checksumFile, "rw")) {
+      file.writeLong(expectedChecksum);
+    }
+
+    // when
+    final var actual = SnapshotChecksum.readFileChecksums(multipleFileSnapshot.toPath());
+
+    // then
+    assertThat(actual).isEmpty();
+    assertThat(SnapshotChecksum.verify(multipleFileSnapshot.toPath())).isTrue();
+  }
+
+  @Test
+  public void shouldCalculateChecksumOfFileContent() throws Exception {
+    // given
+    final var content = "file content".repeat(1_000).getBytes();
+    Files.write(singleFileSnapshot.toPath().resolve("singleFile.txt"), content);
+    final var expectedChecksum = new CRC32C();
+    expectedChecksum.update(content);
+
+    // when
+    final var fileChecksums = SnapshotChecksum.calculateFileChecksums(singleFileSnapshot.toPath());
+
+    // then
+    assertThat(fileChecksums).containsOnly(entry("singleFile.txt", expectedChecksum.getValue()));
+  }
 }
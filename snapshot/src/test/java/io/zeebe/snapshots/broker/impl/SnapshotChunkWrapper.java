@@ -71,6 +71,16 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
     return wrappedChunk.getChunkName();
   }
 
+  @Override
+  public long getFileBlockPosition() {
+    return wrappedChunk.getFileBlockPosition();
+  }
+
+  @Override
+  public long getTotalFileSize() {
+    return wrappedChunk.getTotalFileSize();
+  }
+
   @Override
   public long getChecksum() {
     if (checksum == null) {
@@ -84,6 +94,11 @@ public final class SnapshotChunkWrapper implements SnapshotChunk {
     return wrappedChunk.getContent();
   }
 
+  @Override
+  public int getContentLength() {
+    return wrappedChunk.getContentLength();
+  }
+
   @Override
   public long getSnapshotChecksum() {
     if (snapshotChecksum == null) {
@@ -61,11 +61,10 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
       final boolean shouldRetry,
       final Duration timeout) {
 
-    // copy once
+    // copy once, the buffer is kept for retries and written to the network without further copies
     final var length = clientRequest.getLength();
-    final var requestBytes = new byte[length];
-    final var buffer = new UnsafeBuffer(requestBytes);
-    clientRequest.write(buffer, 0);
+    final var request = new UnsafeBuffer(new byte[length]);
+    clientRequest.write(request, 0);
 
     final var partitionId = clientRequest.getPartitionId();
 
@@ -75,7 +74,7 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
             requestFuture,
             nodeAddressSupplier,
             partitionId,
-            requestBytes,
+            request,
             responseValidator,
             shouldRetry,
             timeout);
@@ -143,9 +142,12 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
           requestContext.getTopicName());
     }
 
-    final var requestBytes = requestContext.getRequestBytes();
     messagingService
-        .sendAndReceive(nodeAddress, requestContext.getTopicName(), requestBytes, calculateTimeout)
+        .sendAndReceive(
+            nodeAddress,
+            requestContext.getTopicName(),
+            requestContext.getRequest(),
+            calculateTimeout)
         .whenComplete(
             (response, errorOnRequest) ->
                 actor.run(() -> handleResponse(requestContext, response, errorOnRequest)));
@@ -8,12 +8,15 @@
 package io.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingService;
+import io.netty.buffer.ByteBuf;
 import io.zeebe.transport.RequestHandler;
 import io.zeebe.transport.ServerResponse;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -27,6 +30,8 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   private static final String API_TOPIC_FORMAT = "command-api-%d";
   private static final String ERROR_MSG_MISSING_PARTITON_MAP =
       "Node already unsubscribed from partition %d, this can only happen when atomix does not cleanly remove its handlers.";
+  private static final String ERROR_MSG_TRANSPORT_CLOSED =
+      "Expected to handle request, but the server transport is closed.";
 
   private final Int2ObjectHashMap<Long2ObjectHashMap<CompletableFuture<byte[]>>>
       partitionsRequestMap;
@@ -34,6 +39,9 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   private final DirectBuffer reusableRequestBuffer;
   private final MessagingService messagingService;
   private final String actorName;
+  // requests which are retained until the actor handled them, see handleAtomixRequest
+  private final Set<PendingRequest> pendingRequests = ConcurrentHashMap.newKeySet();
+  private volatile boolean isClosing;
 
   public AtomixServerTransport(final int nodeId, final MessagingService messagingService) {
     this.messagingService = messagingService;
@@ -48,6 +56,13 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     return actorName;
   }
 
+  @Override
+  protected void onActorClosing() {
+    // requests which are submitted now are not handled by the actor anymore
+    isClosing = true;
+    pendingRequests.forEach(this::discardRequest);
+  }
+
   @Override
   public void close() {
     actor
@@ -70,7 +85,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
             LOG.trace("Subscribe for topic {}", topicName);
           }
           partitionsRequestMap.put(partitionId, new Long2ObjectHashMap<>());
-          messagingService.registerHandler(
+          messagingService.registerBufferHandler(
               topicName,
               (sender, request) -> handleAtomixRequest(request, partitionId, requestHandler));
         });
@@ -95,39 +110,71 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     }
   }
 
-  private CompletableFuture<byte[]> handleAtomixRequest(
-      final byte[] requestBytes, final int partitionId, final RequestHandler requestHandler) {
-    final var completableFuture = new CompletableFuture<byte[]>();
-    actor.call(
-        () -> {
-          final var requestId = requestCount.getAndIncrement();
-          final var requestMap = partitionsRequestMap.get(partitionId);
-          if (requestMap == null) {
-            final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
-            LOG.trace(errorMsg);
-            completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
-            return;
-          }
+  CompletableFuture<byte[]> handleAtomixRequest(
+      final ByteBuf request, final int partitionId, final RequestHandler requestHandler) {
+    final var pendingRequest = new PendingRequest(request);
+    pendingRequests.add(pendingRequest);
 
-          try {
-            reusableRequestBuffer.wrap(requestBytes);
-            requestHandler.onRequest(
-                this, partitionId, requestId, reusableRequestBuffer, 0, requestBytes.length);
-            if (LOG.isTraceEnabled()) {
-              LOG.trace("Handled request {} for topic {}", requestId, topicName(partitionId));
-            }
-            // we only add the request to the map after successful handling
-            requestMap.put(requestId, completableFuture);
-          } catch (final Exception exception) {
-            LOG.error(
-                "Unexpected exception on handling request for partition {}.",
-                partitionId,
-                exception);
-            completableFuture.completeExceptionally(exception);
-          }
-        });
+    final ActorFuture<Void> handled =
+        actor.call(
+            () -> {
+              if (!pendingRequests.remove(pendingRequest)) {
+                // the request was already discarded, because the transport is closing
+                return;
+              }
+
+              try {
+                handleRequest(request, partitionId, requestHandler, pendingRequest.response);
+              } finally {
+                // the request is a view on the network buffer, which is only valid until released
+                request.release();
+              }
+            });
+
+    // the call is rejected if the actor is closed, then the request would never be released
+    if (isClosing || handled.isCompletedExceptionally()) {
+      discardRequest(pendingRequest);
+    }
+
+    return pendingRequest.response;
+  }
+
+  private void discardRequest(final PendingRequest pendingRequest) {
+    if (pendingRequests.remove(pendingRequest)) {
+      pendingRequest.request.release();
+      pendingRequest.response.completeExceptionally(
+          new IllegalStateException(ERROR_MSG_TRANSPORT_CLOSED));
+    }
+  }
 
-    return completableFuture;
+  private void handleRequest(
+      final ByteBuf request,
+      final int partitionId,
+      final RequestHandler requestHandler,
+      final CompletableFuture<byte[]> completableFuture) {
+    final var requestId = requestCount.getAndIncrement();
+    final var requestMap = partitionsRequestMap.get(partitionId);
+    if (requestMap == null) {
+      final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
+      LOG.trace(errorMsg);
+      completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
+      return;
+    }
+
+    try {
+      reusableRequestBuffer.wrap(request.nioBuffer());
+      requestHandler.onRequest(
+          this, partitionId, requestId, reusableRequestBuffer, 0, request.readableBytes());
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Handled request {} for topic {}", requestId, topicName(partitionId));
+      }
+      // we only add the request to the map after successful handling
+      requestMap.put(requestId, completableFuture);
+    } catch (final Exception exception) {
+      LOG.error(
+          "Unexpected exception on handling request for partition {}.", partitionId, exception);
+      completableFuture.completeExceptionally(exception);
+    }
   }
 
   @Override
@@ -172,4 +219,14 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   static String topicName(final int partitionId) {
     return String.format(API_TOPIC_FORMAT, partitionId);
   }
+
+  private static final class PendingRequest {
+
+    private final ByteBuf request;
+    private final CompletableFuture<byte[]> response = new CompletableFuture<>();
+
+    private PendingRequest(final ByteBuf request) {
+      this.request = request;
+    }
+  }
 }
@@ -24,7 +24,7 @@ final class RequestContext {
   private final CompletableActorFuture<DirectBuffer> currentFuture;
   private final Supplier<String> nodeAddressSupplier;
   private final int partitionId;
-  private final byte[] requestBytes;
+  private final DirectBuffer request;
   private final boolean shouldRetry;
   private final long startTime;
   private final Duration timeout;
@@ -36,14 +36,14 @@ final class RequestContext {
       final CompletableActorFuture<DirectBuffer> currentFuture,
       final Supplier<String> nodeAddressSupplier,
       final int partitionId,
-      final byte[] requestBytes,
+      final DirectBuffer request,
       final Predicate<DirectBuffer> responseValidator,
       final boolean shouldRetry,
       final Duration timeout) {
     this.currentFuture = currentFuture;
     this.nodeAddressSupplier = nodeAddressSupplier;
     this.partitionId = partitionId;
-    this.requestBytes = requestBytes;
+    this.request = request;
     this.shouldRetry = shouldRetry;
     startTime = ActorClock.currentTimeMillis();
     this.responseValidator = responseValidator;
@@ -63,8 +63,8 @@ final class RequestContext {
     return topicName(partitionId);
   }
 
-  byte[] getRequestBytes() {
-    return requestBytes;
+  DirectBuffer getRequest() {
+    return request;
   }
 
   public Duration getTimeout() {
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.transport.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.zeebe.test.util.socket.SocketUtil;
+import io.zeebe.transport.RequestHandler;
+import io.zeebe.transport.TransportFactory;
+import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public final class AtomixServerTransportTest {
+
+  @ClassRule public static final ActorSchedulerRule SCHEDULER_RULE = new ActorSchedulerRule();
+
+  private static final byte[] REQUEST = "request".getBytes(StandardCharsets.UTF_8);
+
+  private final CompletableFuture<byte[]> receivedRequest = new CompletableFuture<>();
+  private final RequestHandler requestHandler =
+      (output, partitionId, requestId, buffer, offset, length) -> {
+        final byte[] bytes = new byte[length];
+        buffer.getBytes(offset, bytes);
+        receivedRequest.complete(bytes);
+      };
+
+  private NettyMessagingService messagingService;
+  private AtomixServerTransport serverTransport;
+  private boolean isClosed;
+
+  @Before
+  public void setup() {
+    final var socketAddress = SocketUtil.getNextAddress();
+    messagingService =
+        new NettyMessagingService(
+            "cluster",
+            Address.from(socketAddress.getHostName(), socketAddress.getPort()),
+            new MessagingConfig());
+    messagingService.start().join();
+
+    serverTransport =
+        (AtomixServerTransport)
+            new TransportFactory(SCHEDULER_RULE.get()).createServerTransport(0, messagingService);
+  }
+
+  @After
+  public void tearDown() {
+    if (!isClosed) {
+      serverTransport.close();
+    }
+    messagingService.stop().join();
+  }
+
+  @Test
+  public void shouldReleaseRequestOnceHandled() {
+    // given
+    serverTransport.subscribe(0, requestHandler).join();
+    final ByteBuf request = newRequest();
+
+    // when
+    serverTransport.handleAtomixRequest(request, 0, requestHandler);
+    // runs after the request is handled
+    serverTransport.unsubscribe(0).join();
+
+    // then
+    assertThat(receivedRequest.join()).isEqualTo(REQUEST);
+    assertThat(request.refCnt()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReleaseRequestIfHandlingFails() {
+    // given
+    final ByteBuf request = newRequest();
+
+    // when
+    final var response = serverTransport.handleAtomixRequest(request, 1, requestHandler);
+    // runs after the request is handled
+    serverTransport.unsubscribe(1).join();
+
+    // then
+    assertThatThrownBy(response::join).hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(receivedRequest).isNotDone();
+    assertThat(request.refCnt()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReleaseRequestIfTransportIsClosed() {
+    // given
+    serverTransport.subscribe(0, requestHandler).join();
+    serverTransport.close();
+    isClosed = true;
+    final ByteBuf request = newRequest();
+
+    // when
+    final var response = serverTransport.handleAtomixRequest(request, 0, requestHandler);
+
+    // then
+    assertThatThrownBy(response::join)
+        .hasCauseInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("the server transport is closed");
+    assertThat(receivedRequest).isNotDone();
+    assertThat(request.refCnt()).isEqualTo(1);
+  }
+
+  /**
+   * The transport owns one reference of the request. A second one is retained, so that the request
+   * is still accessible afterwards and a second release by the transport would be noticed.
+   */
+  private static ByteBuf newRequest() {
+    return Unpooled.copiedBuffer(REQUEST).retain();
+  }
+}
@@ -12,6 +12,7 @@ import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
 
 import java.io.IOException;
 import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
@@ -63,6 +64,30 @@ public final class FileUtil {
         });
   }
 
+  /**
+   * Creates a hard link to the source file. If the file system doesn't support hard links, or the
+   * link can't be created otherwise, e.g. because the target is on a different file system, the
+   * file is copied instead. The file must not be changed afterwards, since a link shares it.
+   *
+   * @param source the file to link
+   * @param target the path of the new link or copy
+   */
+  public static void linkOrCopy(final Path source, final Path target) throws IOException {
+    try {
+      Files.createLink(target, source);
+    } catch (final UnsupportedOperationException | FileSystemException e) {
+      LOG.debug("Failed to link {} to {}, copy it instead.", source, target, e);
+      Files.copy(source, target);
+    }
+  }
+
+  /**
+   * Copies the snapshot into the runtime directory. The immutable SST files of RocksDB are hard
+   * linked instead of copied, which is much faster for a large state and doesn't take additional
+   * disk space. RocksDB never changes such a file, it only deletes it, which removes just the link
+   * in the runtime directory. All other files, e.g. MANIFEST, OPTIONS and CURRENT, are copied since
+   * they may be changed. If a file can't be linked, it is copied as well.
+   */
   public static void copySnapshot(final Path runtimeDirectory, final Path snapshotDirectory)
       throws Exception {
     Files.walkFileTree(snapshotDirectory, new SnapshotCopier(snapshotDirectory, runtimeDirectory));
@@ -70,6 +95,8 @@ public final class FileUtil {
 
   public static final class SnapshotCopier extends SimpleFileVisitor<Path> {
 
+    private static final String SST_FILE_EXTENSION = ".sst";
+
     private final Path targetPath;
     private final Path sourcePath;
 
@@ -97,7 +124,11 @@ public final class FileUtil {
       final Path newFile = targetPath.resolve(sourcePath.relativize(file));
 
       try {
-        Files.copy(file, newFile);
+        if (isImmutableFile(file)) {
+          linkOrCopy(file, newFile);
+        } else {
+          Files.copy(file, newFile);
+        }
       } catch (final IOException ioException) {
         LOG.error("Problem on copying {} to {}.", file, newFile, ioException);
       }
@@ -105,6 +136,10 @@ public final class FileUtil {
       return CONTINUE;
     }
 
+    private static boolean isImmutableFile(final Path file) {
+      return file.getFileName().toString().endsWith(SST_FILE_EXTENSION);
+    }
+
     @Override
     public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
       LOG.error("Problem on copying snapshot to runtime.", exc);
@@ -9,57 +9,216 @@ package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.clock.ActorClock;
 import java.util.concurrent.TimeUnit;
-import org.agrona.DeadlineTimerWheel;
-import org.agrona.collections.Long2ObjectHashMap;
 
-public final class ActorTimerQueue extends DeadlineTimerWheel {
-  private static final int DEFAULT_TICKS_PER_WHEEL = 32;
-  private final Long2ObjectHashMap<TimerSubscription> timerJobMap = new Long2ObjectHashMap<>();
+/**
+ * Schedules the timers of an actor thread in a hierarchical timing wheel with a resolution of one
+ * millisecond.
+ *
+ * <p>The wheel consists of several levels with {@link #SLOTS_PER_LEVEL} slots each. A slot of the
+ * first level spans one millisecond, while a slot of every following level spans the whole previous
+ * level. A timer is put into the lowest level which covers its deadline, such that short timers are
+ * exact, whereas long timers, e.g. request or job timeouts, are put into coarse slots. Once such a
+ * slot becomes due, its timers are moved to the lower levels. Each level keeps a bitmap of its
+ * non-empty slots, so advancing the wheel, even by a large amount of time, only visits slots which
+ * contain timers.
+ *
+ * <p>The timers are linked into their slot directly, so scheduling and removing a timer takes
+ * constant time and requires neither a lookup nor an allocation.
+ *
+ * <p>Must only be used by a single thread.
+ */
+public final class ActorTimerQueue {
 
-  private final TimerHandler timerHandler =
-      new TimerHandler() {
-        @Override
-        public boolean onTimerExpiry(final TimeUnit timeUnit, final long now, final long timerId) {
-          final TimerSubscription timer = timerJobMap.remove(timerId);
+  static final int SLOTS_PER_LEVEL = 64;
+  static final int NO_SLOT = -1;
 
-          if (timer != null) {
-            timer.onTimerExpired(timeUnit, now);
-          }
+  private static final int SLOT_BITS = Integer.numberOfTrailingZeros(SLOTS_PER_LEVEL);
+  private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+  // six levels span about two years, later timers are put into the last slot of the last level and
+  // moved again once it becomes due
+  private static final int LEVEL_COUNT = 6;
+  // timers which are due already, e.g. scheduled without delay, are expired with the next poll
+  private static final int DUE_SLOT = LEVEL_COUNT * SLOTS_PER_LEVEL;
 
-          return true;
-        }
-      };
+  private final TimerSubscription[] slots = new TimerSubscription[DUE_SLOT + 1];
+  private final long[] occupiedSlots = new long[LEVEL_COUNT];
 
-  public ActorTimerQueue(final ActorClock clock) {
-    this(clock, DEFAULT_TICKS_PER_WHEEL);
-  }
+  private long currentTime;
+  private int timerCount;
 
-  public ActorTimerQueue(final ActorClock clock, final int ticksPerWheel) {
-    super(TimeUnit.MILLISECONDS, clock.getTimeMillis(), 1, ticksPerWheel);
+  public ActorTimerQueue(final ActorClock clock) {
+    currentTime = clock.getTimeMillis();
   }
 
   public void processExpiredTimers(final ActorClock clock) {
-    int timersProcessed = 0;
+    final long now = clock.getTimeMillis();
+    rewindIfEmpty(now);
+
+    if (slots[DUE_SLOT] != null) {
+      expireOrReschedule(DUE_SLOT, now);
+    }
 
-    do {
-      timersProcessed = poll(clock.getTimeMillis(), timerHandler, Integer.MAX_VALUE);
-    } while (timersProcessed > 0);
+    if (now > currentTime) {
+      advance(now);
+    }
   }
 
   public void schedule(final TimerSubscription timer, final ActorClock now) {
-    final long deadline =
-        now.getTimeMillis() + timeUnit().convert(timer.getDeadline(), timer.getTimeUnit());
+    final long currentTimeMillis = now.getTimeMillis();
+    rewindIfEmpty(currentTimeMillis);
 
-    final long timerId = scheduleTimer(deadline);
-    timer.setTimerId(timerId);
+    if (timer.timerSlot != NO_SLOT) {
+      unlink(timer);
+    } else {
+      timerCount += 1;
+    }
 
-    timerJobMap.put(timerId, timer);
+    timer.timerDeadline =
+        currentTimeMillis + TimeUnit.MILLISECONDS.convert(timer.getDeadline(), timer.getTimeUnit());
+    add(timer);
   }
 
   public void remove(final TimerSubscription timer) {
-    final long timerId = timer.getTimerId();
+    if (timer.timerSlot != NO_SLOT) {
+      unlink(timer);
+      timerCount -= 1;
+    }
+  }
+
+  /** @return the number of scheduled timers, which are not expired or removed yet */
+  public int timerCount() {
+    return timerCount;
+  }
+
+  private void advance(final long now) {
+    final long previousTime = currentTime;
+    currentTime = now;
+
+    for (int level = 0; level < LEVEL_COUNT; level++) {
+      final int shift = level * SLOT_BITS;
+      final long previousSlotTime = previousTime >> shift;
+      final long elapsedSlots = (now >> shift) - previousSlotTime;
+      if (elapsedSlots == 0) {
+        // the slots of the higher levels span even more time, so none of them is due either
+        break;
+      }
+
+      // the slots after the previous slot, up to the current one
+      final int firstDueSlot = (int) ((previousSlotTime + 1) & SLOT_MASK);
+      final long dueSlots =
+          elapsedSlots >= SLOTS_PER_LEVEL
+              ? -1L
+              : Long.rotateLeft((1L << elapsedSlots) - 1, firstDueSlot);
+
+      long occupiedDueSlots = occupiedSlots[level] & dueSlots;
+      while (occupiedDueSlots != 0) {
+        final int slot = Long.numberOfTrailingZeros(occupiedDueSlots);
+        occupiedDueSlots &= occupiedDueSlots - 1;
+
+        expireOrReschedule(level * SLOTS_PER_LEVEL + slot, now);
+      }
+    }
+  }
+
+  private void expireOrReschedule(final int slotIndex, final long now) {
+    TimerSubscription timer = slots[slotIndex];
+    slots[slotIndex] = null;
+    if (slotIndex != DUE_SLOT) {
+      occupiedSlots[slotIndex >> SLOT_BITS] &= ~(1L << (slotIndex & SLOT_MASK));
+    }
+
+    while (timer != null) {
+      final TimerSubscription next = timer.nextTimer;
+      timer.previousTimer = null;
+      timer.nextTimer = null;
+      timer.timerSlot = NO_SLOT;
+
+      if (timer.timerDeadline <= now) {
+        timerCount -= 1;
+        timer.onTimerExpired(TimeUnit.MILLISECONDS, now);
+      } else {
+        add(timer);
+      }
+
+      timer = next;
+    }
+  }
+
+  private void add(final TimerSubscription timer) {
+    final long deadline = timer.timerDeadline;
+    if (deadline <= currentTime) {
+      link(timer, DUE_SLOT);
+      return;
+    }
+
+    for (int level = 0; level < LEVEL_COUNT; level++) {
+      final int shift = level * SLOT_BITS;
+      final long slotTime = deadline >> shift;
+      if (slotTime - (currentTime >> shift) < SLOTS_PER_LEVEL) {
+        link(timer, level * SLOTS_PER_LEVEL + (int) (slotTime & SLOT_MASK));
+        return;
+      }
+    }
+
+    final int lastLevel = LEVEL_COUNT - 1;
+    final long lastSlotTime = (currentTime >> (lastLevel * SLOT_BITS)) + SLOT_MASK;
+    link(timer, lastLevel * SLOTS_PER_LEVEL + (int) (lastSlotTime & SLOT_MASK));
+  }
+
+  private void link(final TimerSubscription timer, final int slotIndex) {
+    final TimerSubscription head = slots[slotIndex];
+    if (head != null) {
+      head.previousTimer = timer;
+    }
+
+    timer.nextTimer = head;
+    timer.previousTimer = null;
+    timer.timerSlot = slotIndex;
+    slots[slotIndex] = timer;
+
+    if (slotIndex != DUE_SLOT) {
+      occupiedSlots[slotIndex >> SLOT_BITS] |= 1L << (slotIndex & SLOT_MASK);
+    }
+  }
+
+  private void unlink(final TimerSubscription timer) {
+    final int slotIndex = timer.timerSlot;
+    final TimerSubscription previous = timer.previousTimer;
+    final TimerSubscription next = timer.nextTimer;
+
+    if (previous != null) {
+      previous.nextTimer = next;
+    } else {
+      slots[slotIndex] = next;
+    }
+
+    if (next != null) {
+      next.previousTimer = previous;
+    }
+
+    if (slots[slotIndex] == null && slotIndex != DUE_SLOT) {
+      occupiedSlots[slotIndex >> SLOT_BITS] &= ~(1L << (slotIndex & SLOT_MASK));
+    }
+
+    timer.previousTimer = null;
+    timer.nextTimer = null;
+    timer.timerSlot = NO_SLOT;
+  }
+
+  private void rewindIfEmpty(final long now) {
+    // the clock may be set back, e.g. in tests; the wheel can only follow if it holds no timers,
+    // otherwise the timers are expired once the clock reaches their deadline again
+    if (now < currentTime && isWheelEmpty()) {
+      currentTime = now;
+    }
+  }
 
-    timerJobMap.remove(timerId);
-    cancelTimer(timerId);
+  private boolean isWheelEmpty() {
+    for (final long occupied : occupiedSlots) {
+      if (occupied != 0) {
+        return false;
+      }
+    }
+    return true;
   }
 }
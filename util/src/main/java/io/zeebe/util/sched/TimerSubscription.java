@@ -17,9 +17,14 @@ public final class TimerSubscription implements ActorSubscription, ScheduledTime
   private final boolean isRecurring;
   private volatile boolean isDone = false;
   private volatile boolean isCanceled = false;
-  private long timerId = -1L;
   private ActorThread thread;
 
+  // managed by the ActorTimerQueue, which links the timer into one of its slots
+  long timerDeadline;
+  int timerSlot = ActorTimerQueue.NO_SLOT;
+  TimerSubscription previousTimer;
+  TimerSubscription nextTimer;
+
   public TimerSubscription(
       final ActorJob job, final long deadline, final TimeUnit timeUnit, final boolean isRecurring) {
     this.job = job;
@@ -68,14 +73,6 @@ public final class TimerSubscription implements ActorSubscription, ScheduledTime
     }
   }
 
-  public long getTimerId() {
-    return timerId;
-  }
-
-  public void setTimerId(final long timerId) {
-    this.timerId = timerId;
-  }
-
   public void submit() {
     thread = ActorThread.current();
     thread.scheduleTimer(this);
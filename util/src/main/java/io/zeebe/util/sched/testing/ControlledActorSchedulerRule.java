@@ -29,7 +29,7 @@ public final class ControlledActorSchedulerRule extends ExternalResource {
 
   public ControlledActorSchedulerRule() {
     final ControlledActorThreadFactory actorTaskRunnerFactory = new ControlledActorThreadFactory();
-    final ActorTimerQueue timerQueue = new ActorTimerQueue(clock, 1);
+    final ActorTimerQueue timerQueue = new ActorTimerQueue(clock);
     final ActorSchedulerBuilder builder =
         ActorScheduler.newActorScheduler()
             .setActorClock(clock)
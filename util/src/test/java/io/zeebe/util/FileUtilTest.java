@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import org.junit.Rule;
 import org.junit.Test;
@@ -46,4 +47,28 @@ public final class FileUtilTest {
             })
         .isInstanceOf(NoSuchFileException.class);
   }
+
+  @Test
+  public void shouldLinkSstFilesAndCopyOtherFilesOfSnapshot() throws Exception {
+    // given
+    final var snapshot = tempFolder.newFolder("snapshot").toPath();
+    Files.writeString(snapshot.resolve("000001.sst"), "immutable");
+    Files.writeString(snapshot.resolve("CURRENT"), "MANIFEST-000001");
+    final var runtime = tempFolder.getRoot().toPath().resolve("runtime");
+
+    // when
+    FileUtil.copySnapshot(runtime, snapshot);
+
+    // then
+    assertThat(runtime.resolve("000001.sst")).hasContent("immutable");
+    assertThat(runtime.resolve("CURRENT")).hasContent("MANIFEST-000001");
+    assertThat(Files.isSameFile(runtime.resolve("000001.sst"), snapshot.resolve("000001.sst")))
+        .isTrue();
+
+    // when
+    Files.writeString(runtime.resolve("CURRENT"), "MANIFEST-000002");
+
+    // then
+    assertThat(snapshot.resolve("CURRENT")).hasContent("MANIFEST-000001");
+  }
 }
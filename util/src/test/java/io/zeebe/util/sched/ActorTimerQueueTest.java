@@ -0,0 +1,213 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.clock.ControlledActorClock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ActorTimerQueueTest {
+
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private ActorTimerQueue timerQueue;
+
+  @Before
+  public void setUp() {
+    clock.setCurrentTime(1_000);
+    timerQueue = new ActorTimerQueue(clock);
+  }
+
+  @Test
+  public void shouldExpireTimerWithoutDelayOnNextPoll() {
+    // given
+    final TimerSubscription timer = schedule(0);
+
+    // when
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(timer.poll()).isTrue();
+    assertThat(timerQueue.timerCount()).isZero();
+  }
+
+  @Test
+  public void shouldNotExpireTimerBeforeDeadline() {
+    // given
+    final TimerSubscription timer = schedule(10);
+
+    // when
+    advance(9);
+
+    // then
+    assertThat(timer.poll()).isFalse();
+    assertThat(timerQueue.timerCount()).isOne();
+  }
+
+  @Test
+  public void shouldExpireTimerAtDeadline() {
+    // given
+    final TimerSubscription timer = schedule(10);
+
+    // when
+    advance(10);
+
+    // then
+    assertThat(timer.poll()).isTrue();
+    assertThat(timerQueue.timerCount()).isZero();
+  }
+
+  @Test
+  public void shouldExpireLongTimerExactlyAtDeadline() {
+    // given
+    final long delay = Duration.ofMinutes(5).toMillis() + 7;
+    final TimerSubscription timer = schedule(delay);
+
+    // when
+    for (long elapsed = 1; elapsed < delay; elapsed++) {
+      advance(1);
+      assertThat(timer.poll()).describedAs("expired after %d ms", elapsed).isFalse();
+    }
+    advance(1);
+
+    // then
+    assertThat(timer.poll()).isTrue();
+  }
+
+  @Test
+  public void shouldExpireTimersWhenClockJumps() {
+    // given
+    final TimerSubscription shortTimer = schedule(5);
+    final TimerSubscription longTimer = schedule(Duration.ofDays(3).toMillis());
+    final TimerSubscription veryLongTimer = schedule(Duration.ofDays(2 * 365 + 30).toMillis());
+
+    // when
+    advance(Duration.ofDays(3).toMillis());
+
+    // then
+    assertThat(shortTimer.poll()).isTrue();
+    assertThat(longTimer.poll()).isTrue();
+    assertThat(veryLongTimer.poll()).isFalse();
+
+    // when
+    advance(Duration.ofDays(2 * 365 + 27).toMillis() - 1);
+
+    // then
+    assertThat(veryLongTimer.poll()).isFalse();
+
+    // when
+    advance(1);
+
+    // then
+    assertThat(veryLongTimer.poll()).isTrue();
+    assertThat(timerQueue.timerCount()).isZero();
+  }
+
+  @Test
+  public void shouldNotExpireRemovedTimer() {
+    // given
+    final TimerSubscription removed = schedule(Duration.ofSeconds(30).toMillis());
+    final TimerSubscription other = schedule(Duration.ofSeconds(30).toMillis());
+
+    // when
+    timerQueue.remove(removed);
+    advance(Duration.ofSeconds(30).toMillis());
+
+    // then
+    assertThat(removed.poll()).isFalse();
+    assertThat(other.poll()).isTrue();
+    assertThat(timerQueue.timerCount()).isZero();
+  }
+
+  @Test
+  public void shouldIgnoreRemovalOfExpiredTimer() {
+    // given
+    final TimerSubscription timer = schedule(10);
+    advance(10);
+
+    // when
+    timerQueue.remove(timer);
+
+    // then
+    assertThat(timerQueue.timerCount()).isZero();
+  }
+
+  @Test
+  public void shouldExpireTimerScheduledAfterClockWasSetBack() {
+    // given
+    advance(100);
+    clock.setCurrentTime(500);
+
+    // when
+    final TimerSubscription timer = schedule(10);
+    advance(9);
+
+    // then
+    assertThat(timer.poll()).isFalse();
+
+    // when
+    advance(1);
+
+    // then
+    assertThat(timer.poll()).isTrue();
+  }
+
+  @Test
+  public void shouldExpireMixOfShortAndLongTimersAtTheirDeadline() {
+    // given
+    final Random random = new Random(42);
+    final List<TimerSubscription> timers = new ArrayList<>();
+    final List<Long> deadlines = new ArrayList<>();
+    final long start = clock.getTimeMillis();
+
+    for (int i = 0; i < 1_000; i++) {
+      // mostly short timers, like retries, and some long ones, like request or job timeouts
+      final long delay =
+          random.nextInt(10) < 8
+              ? random.nextInt(100)
+              : random.nextInt((int) Duration.ofMinutes(10).toMillis());
+      timers.add(schedule(delay));
+      deadlines.add(start + delay);
+    }
+
+    // when
+    final long end = start + Duration.ofMinutes(10).toMillis();
+    while (clock.getTimeMillis() < end) {
+      advance(1 + random.nextInt(50));
+
+      // then
+      final long now = clock.getTimeMillis();
+      for (int i = 0; i < timers.size(); i++) {
+        assertThat(timers.get(i).poll())
+            .describedAs("timer with deadline %d at %d", deadlines.get(i), now)
+            .isEqualTo(deadlines.get(i) <= now);
+      }
+    }
+    assertThat(timerQueue.timerCount()).isZero();
+  }
+
+  private TimerSubscription schedule(final long delay) {
+    final ActorJob job = new ActorJob();
+    job.onJobAddedToTask(new ActorTask(new Actor() {}));
+
+    final TimerSubscription timer = new TimerSubscription(job, delay, TimeUnit.MILLISECONDS, false);
+    timerQueue.schedule(timer, clock);
+    return timer;
+  }
+
+  private void advance(final long millis) {
+    clock.addTime(Duration.ofMillis(millis));
+    timerQueue.processExpiredTimers(clock);
+  }
+}
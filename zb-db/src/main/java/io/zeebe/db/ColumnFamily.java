@@ -7,6 +7,7 @@
  */
 package io.zeebe.db;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -35,6 +36,23 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of multiple keys at once, which is cheaper than looking them up one by one
+   * via {@link #get(DbKey)}. Like {@link #get(DbKey)}, the values written in the current
+   * transaction are taken into account.
+   *
+   * <p>The value instance at the same index as a key is wrapped around the stored value of that
+   * key. In contrast to {@link #get(DbKey)}, the value instances are not reused by the column
+   * family and stay valid after the call, until the next multi get on the column family. The given
+   * consumer accepts the key-value pairs of all keys which exist, in the order of the given keys.
+   *
+   * @param keys the keys to look up
+   * @param valueInstances the value instances, at least as many as keys
+   * @param consumer the consumer which accepts the key-value pairs of the existing keys
+   */
+  void multiGet(
+      List<KeyType> keys, List<ValueType> valueInstances, BiConsumer<KeyType, ValueType> consumer);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -42,6 +60,11 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    * value and reflects the current iteration step. The DbValue should not be stored, since it will
    * change his internal value during iteration.
    *
+   * <p>The same applies to any buffer which is taken from the DbValue, for example the buffer of a
+   * string or document property. It is a view of a buffer which the column family reuses for the
+   * next pair, so it reads the bytes of the next pair after the current step. If the bytes are
+   * needed later, they must be copied (e.g. via {@code BufferUtil.cloneBuffer}).
+   *
    * @param consumer the consumer which accepts the value
    */
   void forEach(Consumer<ValueType> consumer);
@@ -50,7 +73,8 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    * Visits the key-value pairs, which are stored in the column family. The ordering depends on the
    * key.
    *
-   * <p>Similar to {@link #forEach(BiConsumer)}.
+   * <p>Similar to {@link #forEach(Consumer)}, the key and the value, as well as buffers taken from
+   * them, are only valid during the current step and must be copied if they are needed later.
    *
    * @param consumer the consumer which accepts the key-value pairs
    */
@@ -67,6 +91,19 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void whileTrue(KeyValuePairVisitor<KeyType, ValueType> visitor);
 
+  /**
+   * Visits the key-value pairs, which are stored in the column family, starting at the given key.
+   * The ordering depends on the key. Pairs with a smaller key than the given one are not visited,
+   * such that an earlier iteration can be resumed without visiting the preceding pairs again. The
+   * visitor can indicate via the return value, whether the iteration should continue or not.
+   *
+   * <p>Similar to {@link #whileTrue(KeyValuePairVisitor)}.
+   *
+   * @param startAtKey the key at which the iteration starts, it doesn't need to exist
+   * @param visitor the visitor which visits the key-value pairs
+   */
+  void whileTrue(KeyType startAtKey, KeyValuePairVisitor<KeyType, ValueType> visitor);
+
   /**
    * Visits the key-value pairs, which are stored in the column family and which have the same
    * common prefix. The ordering depends on the key.
@@ -99,6 +136,15 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   void delete(KeyType key);
 
+  /**
+   * Deletes all key-value pairs, whose keys start with the given prefix, from the column family.
+   * This is cheaper than visiting the pairs via {@link #whileEqualPrefix(DbKey, BiConsumer)} and
+   * deleting them one by one, since the keys and values don't have to be deserialized.
+   *
+   * @param keyPrefix the prefix of the keys to delete
+   */
+  void deletePrefix(DbKey keyPrefix);
+
   /**
    * Checks for key existence in the column family.
    *
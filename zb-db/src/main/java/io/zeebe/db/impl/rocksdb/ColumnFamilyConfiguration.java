@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.db.impl.rocksdb;
+
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+
+/**
+ * Tuning options for a single column family, which are applied on top of the options shared by all
+ * column families. Options which are not set keep the shared value.
+ *
+ * <p>The RocksDB options (compaction style, compression and block size) only take effect if the
+ * column family is stored in a separate RocksDB column family, see {@link
+ * RocksDbConfiguration#isSeparateColumnFamiliesEnabled()}. The cache capacity is applied in any
+ * case.
+ */
+public final class ColumnFamilyConfiguration {
+
+  public static final long DEFAULT_BLOCK_SIZE = 0;
+  public static final int DEFAULT_CACHE_CAPACITY = 0;
+
+  private CompactionStyle compactionStyle;
+  private CompressionType compressionType;
+
+  /**
+   * The size of the data blocks of the SST files. Larger blocks reduce the memory used for indexes,
+   * but increase the amount of data read per lookup. Setting to 0 (the default) or less keeps the
+   * shared block size.
+   */
+  private long blockSize = DEFAULT_BLOCK_SIZE;
+
+  /**
+   * The maximum number of entries which are kept in an in-memory, write-through cache in front of
+   * the column family. The least recently used entries are evicted first. The cache is only used
+   * for column families with {@link io.zeebe.db.impl.DbLong} keys. Setting to 0 (the default) or
+   * less disables the cache.
+   */
+  private int cacheCapacity = DEFAULT_CACHE_CAPACITY;
+
+  /** @return the compaction style, or null if the shared one is used */
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  /**
+   * Sets the compaction style of the column family. FIFO compaction is not supported, since it
+   * drops the oldest SST files once a size limit is reached, which would silently remove state.
+   *
+   * @param compactionStyle the compaction style, or null to use the shared one
+   * @return this configuration
+   * @throws IllegalArgumentException if the compaction style is FIFO
+   */
+  public ColumnFamilyConfiguration setCompactionStyle(final CompactionStyle compactionStyle) {
+    if (compactionStyle == CompactionStyle.FIFO) {
+      throw new IllegalArgumentException(
+          "Expected compaction style to be LEVEL or UNIVERSAL, but was FIFO, which deletes state once a size limit is reached");
+    }
+
+    this.compactionStyle = compactionStyle;
+    return this;
+  }
+
+  /** @return the compression type used for all levels, or null if the shared one is used */
+  public CompressionType getCompressionType() {
+    return compressionType;
+  }
+
+  public ColumnFamilyConfiguration setCompressionType(final CompressionType compressionType) {
+    this.compressionType = compressionType;
+    return this;
+  }
+
+  public long getBlockSize() {
+    return blockSize;
+  }
+
+  public ColumnFamilyConfiguration setBlockSize(final long blockSize) {
+    this.blockSize = blockSize;
+    return this;
+  }
+
+  public int getCacheCapacity() {
+    return cacheCapacity;
+  }
+
+  public ColumnFamilyConfiguration setCacheCapacity(final int cacheCapacity) {
+    this.cacheCapacity = cacheCapacity;
+    return this;
+  }
+
+  /** @return true if any of the RocksDB specific options is set */
+  public boolean hasRocksDbOptions() {
+    return compactionStyle != null || compressionType != null || blockSize > 0;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnFamilyConfiguration{"
+        + "compactionStyle="
+        + compactionStyle
+        + ", compressionType="
+        + compressionType
+        + ", blockSize="
+        + blockSize
+        + ", cacheCapacity="
+        + cacheCapacity
+        + '}';
+  }
+}
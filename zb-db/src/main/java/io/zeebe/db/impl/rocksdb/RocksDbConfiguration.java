@@ -7,6 +7,8 @@
  */
 package io.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -18,6 +20,7 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_STATISTICS_ENABLED = false;
   public static final boolean DEFAULT_WAL_DISABLED = false;
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final boolean DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED = false;
 
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
@@ -46,6 +49,24 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * Defines whether each column family is stored in its own RocksDB column family, instead of
+   * sharing the default column family and being distinguished only by a key prefix. Separate column
+   * families have their own memtables, SST files and compactions, so short-lived data does not have
+   * to be compacted together with long-lived data.
+   *
+   * <p>Existing data in the default column family is moved to the separate column family the first
+   * time it is opened. Once a database contains separate column families, these are always used,
+   * regardless of this setting.
+   */
+  private boolean separateColumnFamiliesEnabled = DEFAULT_SEPARATE_COLUMN_FAMILIES_ENABLED;
+
+  /**
+   * Tuning options per column family, by the name of the column family enum value. Only applied
+   * when separate column families are enabled.
+   */
+  private Map<String, ColumnFamilyConfiguration> columnFamilyConfigurations = new HashMap<>();
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -120,4 +141,24 @@ public final class RocksDbConfiguration {
     this.walDisabled = walDisabled;
     return this;
   }
+
+  public boolean isSeparateColumnFamiliesEnabled() {
+    return separateColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setSeparateColumnFamiliesEnabled(
+      final boolean separateColumnFamiliesEnabled) {
+    this.separateColumnFamiliesEnabled = separateColumnFamiliesEnabled;
+    return this;
+  }
+
+  public Map<String, ColumnFamilyConfiguration> getColumnFamilyConfigurations() {
+    return columnFamilyConfigurations;
+  }
+
+  public RocksDbConfiguration setColumnFamilyConfigurations(
+      final Map<String, ColumnFamilyConfiguration> columnFamilyConfigurations) {
+    this.columnFamilyConfigurations = columnFamilyConfigurations;
+    return this;
+  }
 }
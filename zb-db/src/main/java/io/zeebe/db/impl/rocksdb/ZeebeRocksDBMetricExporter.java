@@ -9,7 +9,11 @@ package io.zeebe.db.impl.rocksdb;
 
 import io.prometheus.client.Gauge;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.db.impl.rocksdb.transaction.ColumnFamilyCacheMetrics;
+import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.util.Objects;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.ColumnFamilyOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,6 +73,24 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
+  private static final Gauge COLUMN_FAMILY_OPTIONS =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name("rocksdb_column_family_options")
+          .help(
+              "Effective options of the separate RocksDB column families per partition; enum options are exported as their RocksDB value")
+          .labelNames(PARTITION, "columnFamily", "option")
+          .register();
+
+  private static final Gauge COLUMN_FAMILY_CACHE =
+      Gauge.build()
+          .namespace(ZEEBE_NAMESPACE)
+          .name("rocksdb_column_family_cache")
+          .help(
+              "Statistics of the in-memory column family caches per partition, i.e. the number of hits, misses and evictions since start and the current number of entries")
+          .labelNames(PARTITION, "columnFamily", "statistic")
+          .register();
+
   private final String partition;
   private final ZeebeDb<ColumnFamilyType> database;
 
@@ -84,6 +106,8 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     exportMetrics(LIVE_METRICS);
     exportMetrics(SST_METRICS);
     exportMetrics(WRITE_METRICS);
+    exportColumnFamilyOptions();
+    exportCacheMetrics();
 
     final long elapsedTime = System.currentTimeMillis() - startTime;
     LOG.trace("Exporting RocksDBMetrics took + {} ms", elapsedTime);
@@ -102,6 +126,58 @@ public final class ZeebeRocksDBMetricExporter<ColumnFamilyType extends Enum<Colu
     }
   }
 
+  private void exportColumnFamilyOptions() {
+    if (!(database instanceof ZeebeTransactionDb)) {
+      return;
+    }
+
+    ((ZeebeTransactionDb<ColumnFamilyType>) database)
+        .getSeparateColumnFamilyOptions()
+        .forEach(this::exportColumnFamilyOptions);
+  }
+
+  private void exportColumnFamilyOptions(
+      final String columnFamily, final ColumnFamilyOptions options) {
+    exportColumnFamilyOption(columnFamily, "write_buffer_size", options.writeBufferSize());
+    exportColumnFamilyOption(
+        columnFamily, "max_write_buffer_number", options.maxWriteBufferNumber());
+    exportColumnFamilyOption(columnFamily, "num_levels", options.numLevels());
+    exportColumnFamilyOption(columnFamily, "target_file_size_base", options.targetFileSizeBase());
+    exportColumnFamilyOption(
+        columnFamily, "compaction_style", options.compactionStyle().getValue());
+    exportColumnFamilyOption(
+        columnFamily, "compression_type", options.compressionType().getValue());
+
+    final var tableFormatConfig = options.tableFormatConfig();
+    if (tableFormatConfig instanceof BlockBasedTableConfig) {
+      exportColumnFamilyOption(
+          columnFamily, "block_size", ((BlockBasedTableConfig) tableFormatConfig).blockSize());
+    }
+  }
+
+  private void exportColumnFamilyOption(
+      final String columnFamily, final String option, final double value) {
+    COLUMN_FAMILY_OPTIONS.labels(partition, columnFamily, option).set(value);
+  }
+
+  private void exportCacheMetrics() {
+    if (!(database instanceof ZeebeTransactionDb)) {
+      return;
+    }
+
+    ((ZeebeTransactionDb<ColumnFamilyType>) database)
+        .getCacheMetrics()
+        .forEach(this::exportCacheMetrics);
+  }
+
+  private void exportCacheMetrics(
+      final String columnFamily, final ColumnFamilyCacheMetrics metrics) {
+    COLUMN_FAMILY_CACHE.labels(partition, columnFamily, "hits").set(metrics.getHits());
+    COLUMN_FAMILY_CACHE.labels(partition, columnFamily, "misses").set(metrics.getMisses());
+    COLUMN_FAMILY_CACHE.labels(partition, columnFamily, "evictions").set(metrics.getEvictions());
+    COLUMN_FAMILY_CACHE.labels(partition, columnFamily, "size").set(metrics.getSize());
+  }
+
   private static final class RocksDBMetric {
 
     private final String propertyName;
@@ -12,31 +12,39 @@ import io.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
 import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
+import org.rocksdb.Filter;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
+import org.slf4j.Logger;
 
 public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamilyType>>
     implements ZeebeDbFactory<ColumnFamilyType> {
 
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  // increasing block size means reducing memory usage, but increasing read iops
+  private static final long DEFAULT_BLOCK_SIZE = 32 * 1024L;
+
   static {
     RocksDB.loadLibrary();
   }
@@ -61,19 +69,35 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
     final ZeebeTransactionDb<ColumnFamilyType> db;
     final List<AutoCloseable> closeables = new ArrayList<>();
+    if (!rocksDbConfiguration.isSeparateColumnFamiliesEnabled()
+        && rocksDbConfiguration.getColumnFamilyConfigurations().values().stream()
+            .anyMatch(ColumnFamilyConfiguration::hasRocksDbOptions)) {
+      LOG.warn(
+          "Column family specific options {} are only applied to separate column families, but these are disabled",
+          rocksDbConfiguration.getColumnFamilyConfigurations());
+    }
+
     try {
+      // the block cache, the filter and the table format config are shared by all column families
+      final var blockCache = createBlockCache(closeables);
+      final var filter = createFilter(closeables);
+      final var tableFormatConfig = createTableFormatConfig(blockCache, filter, DEFAULT_BLOCK_SIZE);
       // column family options have to be closed as last
-      final var columnFamilyOptions = createColumnFamilyOptions(closeables);
+      final var columnFamilyOptions = createColumnFamilyOptions(tableFormatConfig);
       closeables.add(columnFamilyOptions);
-      final var dbOptions = createDefaultDbOptions(closeables);
+      final var dbOptions = createDefaultDbOptions(closeables, blockCache);
       closeables.add(dbOptions);
 
-      final var options = new Options(dbOptions, columnFamilyOptions);
-      closeables.add(options);
-
       db =
           ZeebeTransactionDb.openTransactionalDb(
-              options, pathName.getAbsolutePath(), closeables, rocksDbConfiguration);
+              dbOptions,
+              columnFamilyOptions,
+              pathName.getAbsolutePath(),
+              closeables,
+              rocksDbConfiguration,
+              columnFamilyName ->
+                  createSeparateColumnFamilyOptions(
+                      columnFamilyName, tableFormatConfig, blockCache, filter));
 
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
@@ -82,7 +106,8 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
     return db;
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
     final var dbOptions =
         new DBOptions()
             .setErrorIfExists(false)
@@ -91,7 +116,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // separate column families are created on demand by the database
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -111,6 +136,16 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
       dbOptions.setRateLimiter(rateLimiter);
     }
 
+    if (rocksDbConfiguration.isSeparateColumnFamiliesEnabled()) {
+      // every column family has its own memtables, so the memory used by all of them is capped
+      // and accounted in the block cache, which then holds the complete memory budget
+      final var writeBufferManager =
+          new WriteBufferManager(
+              rocksDbConfiguration.getMemoryLimit() - getBlockCacheMemory(), blockCache);
+      closeables.add(writeBufferManager);
+      dbOptions.setWriteBufferManager(writeBufferManager);
+    }
+
     if (rocksDbConfiguration.isStatisticsEnabled()) {
       final var statistics = new Statistics();
       closeables.add(statistics);
@@ -128,6 +163,50 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
 
   /** @return Options which are used on all column families */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    final var blockCache = createBlockCache(closeables);
+    final var filter = createFilter(closeables);
+    return createColumnFamilyOptions(
+        createTableFormatConfig(blockCache, filter, DEFAULT_BLOCK_SIZE));
+  }
+
+  /**
+   * @return Options which are used on the separate column family with the given name, including the
+   *     column family specific options
+   */
+  ColumnFamilyOptions createSeparateColumnFamilyOptions(
+      final String columnFamilyName,
+      final TableFormatConfig sharedTableFormatConfig,
+      final Cache blockCache,
+      final Filter filter) {
+    final var configuration =
+        rocksDbConfiguration.getColumnFamilyConfigurations().get(columnFamilyName);
+    if (configuration == null) {
+      return createColumnFamilyOptions(sharedTableFormatConfig);
+    }
+
+    final var columnFamilyOptions = createColumnFamilyOptions(sharedTableFormatConfig);
+
+    if (configuration.getCompactionStyle() != null) {
+      columnFamilyOptions.setCompactionStyle(configuration.getCompactionStyle());
+    }
+
+    final var compressionType = configuration.getCompressionType();
+    if (compressionType != null) {
+      columnFamilyOptions
+          .setCompressionType(compressionType)
+          .setCompressionPerLevel(
+              Collections.nCopies(columnFamilyOptions.numLevels(), compressionType));
+    }
+
+    if (configuration.getBlockSize() > 0) {
+      columnFamilyOptions.setTableFormatConfig(
+          createTableFormatConfig(blockCache, filter, configuration.getBlockSize()));
+    }
+
+    return columnFamilyOptions;
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(final TableFormatConfig tableFormatConfig) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -135,7 +214,7 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(tableFormatConfig);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -155,13 +234,11 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final TableFormatConfig tableFormatConfig) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = getBlockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -179,8 +256,6 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
-
     return columnFamilyOptions
         // to extract our column family type (used as prefix) and seek faster
         .useFixedLengthPrefixExtractor(Long.BYTES)
@@ -227,23 +302,40 @@ public final class ZeebeRocksDbFactory<ColumnFamilyType extends Enum<ColumnFamil
         .setTargetFileSizeBase(8 * 1024 * 1024L)
         .setTargetFileSizeMultiplier(2)
         // misc
-        .setTableFormatConfig(tableConfig);
+        .setTableFormatConfig(tableFormatConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private long getBlockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
+  private Cache createBlockCache(final List<AutoCloseable> closeables) {
+    // with separate column families the memtables are accounted in the block cache as well, see
+    // the write buffer manager in the db options
+    final var cacheCapacity =
+        rocksDbConfiguration.isSeparateColumnFamiliesEnabled()
+            ? rocksDbConfiguration.getMemoryLimit()
+            : getBlockCacheMemory();
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(cacheCapacity, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
+  private Filter createFilter(final List<AutoCloseable> closeables) {
     final var filter = new BloomFilter(10, false);
     closeables.add(filter);
+    return filter;
+  }
 
+  private TableFormatConfig createTableFormatConfig(
+      final Cache cache, final Filter filter, final long blockSize) {
     return new BlockBasedTableConfig()
         .setBlockCache(cache)
-        // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
+        .setBlockSize(blockSize)
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
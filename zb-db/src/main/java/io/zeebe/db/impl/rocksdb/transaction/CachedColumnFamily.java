@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbKey;
+import io.zeebe.db.DbValue;
+import io.zeebe.db.KeyValuePairVisitor;
+import io.zeebe.db.impl.DbLong;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+
+/**
+ * Decorates a column family with {@link DbLong} keys with an in-memory, write-through cache. Point
+ * lookups are served from the cache if possible, while all writes go to the column family as well
+ * as to the cache. Iterations always go to the column family, which contains the same data.
+ *
+ * <p>The cache is shared by all column families with the same name of a transaction context and is
+ * kept coherent with it on commit and rollback, see {@link ColumnFamilyCache}. Writes through other
+ * transaction contexts are not visible to the cache, so the column family must only be modified
+ * through a single context.
+ */
+final class CachedColumnFamily<
+        ColumnFamilyNames extends Enum<ColumnFamilyNames>, ValueType extends DbValue>
+    implements ColumnFamily<DbLong, ValueType> {
+
+  private final TransactionalColumnFamily<ColumnFamilyNames, DbLong, ValueType> columnFamily;
+  private final ColumnFamilyCache cache;
+  private final ValueType valueInstance;
+
+  CachedColumnFamily(
+      final TransactionalColumnFamily<ColumnFamilyNames, DbLong, ValueType> columnFamily,
+      final ColumnFamilyCache cache) {
+    this.columnFamily = columnFamily;
+    this.cache = cache;
+    valueInstance = columnFamily.getValueInstance();
+  }
+
+  @Override
+  public void put(final DbLong key, final ValueType value) {
+    columnFamily.put(key, value);
+    cache.putWritten(key.getValue(), columnFamily.getLastPutValue(), value.getLength());
+  }
+
+  @Override
+  public ValueType get(final DbLong key) {
+    final DirectBuffer valueBuffer = getSerializedValue(key);
+    if (valueBuffer != null) {
+      valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+      return valueInstance;
+    }
+    return null;
+  }
+
+  /** Batched lookups are not served from the cache, since they are already cheap per key. */
+  @Override
+  public void multiGet(
+      final List<DbLong> keys,
+      final List<ValueType> valueInstances,
+      final BiConsumer<DbLong, ValueType> consumer) {
+    columnFamily.multiGet(keys, valueInstances, consumer);
+  }
+
+  @Override
+  public void forEach(final Consumer<ValueType> consumer) {
+    columnFamily.forEach(consumer);
+  }
+
+  @Override
+  public void forEach(final BiConsumer<DbLong, ValueType> consumer) {
+    columnFamily.forEach(consumer);
+  }
+
+  @Override
+  public void whileTrue(final KeyValuePairVisitor<DbLong, ValueType> visitor) {
+    columnFamily.whileTrue(visitor);
+  }
+
+  @Override
+  public void whileTrue(
+      final DbLong startAtKey, final KeyValuePairVisitor<DbLong, ValueType> visitor) {
+    columnFamily.whileTrue(startAtKey, visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(final DbKey keyPrefix, final BiConsumer<DbLong, ValueType> visitor) {
+    columnFamily.whileEqualPrefix(keyPrefix, visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final KeyValuePairVisitor<DbLong, ValueType> visitor) {
+    columnFamily.whileEqualPrefix(keyPrefix, visitor);
+  }
+
+  @Override
+  public void delete(final DbLong key) {
+    columnFamily.delete(key);
+    cache.removeWritten(key.getValue());
+  }
+
+  /** Deletes the keys one by one, such that they are evicted from the cache as well. */
+  @Override
+  public void deletePrefix(final DbKey keyPrefix) {
+    columnFamily.whileEqualPrefix(
+        keyPrefix, (BiConsumer<DbLong, ValueType>) (key, value) -> delete(key));
+  }
+
+  @Override
+  public boolean exists(final DbLong key) {
+    return getSerializedValue(key) != null;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return columnFamily.isEmpty();
+  }
+
+  private DirectBuffer getSerializedValue(final DbLong key) {
+    final long cacheKey = key.getValue();
+    final DirectBuffer cachedValue = cache.get(cacheKey);
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+
+    final DirectBuffer valueBuffer = columnFamily.getSerializedValue(key);
+    if (valueBuffer != null) {
+      cache.putRead(cacheKey, valueBuffer);
+    }
+    return valueBuffer;
+  }
+}
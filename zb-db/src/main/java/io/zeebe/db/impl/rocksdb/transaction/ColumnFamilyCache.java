@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A least recently used cache of serialized values by long key, which sits in front of a single
+ * column family. It is owned by a {@link ZeebeTransaction} and is not thread safe.
+ *
+ * <p>Values are written through, which means the cache may contain uncommitted values of the
+ * current transaction. Therefore, all keys which are written in the current transaction are tracked
+ * and evicted again if the transaction is rolled back.
+ *
+ * <p>Every cached value is copied into its own array which is never modified afterwards, so a value
+ * instance which was wrapped around a cached value stays valid even if the entry is replaced or
+ * evicted later.
+ */
+final class ColumnFamilyCache {
+
+  private final Long2ObjectHashMap<Entry> entries = new Long2ObjectHashMap<>();
+  private final LongHashSet writtenKeys = new LongHashSet();
+  private final int capacity;
+  private final ColumnFamilyCacheMetrics metrics;
+
+  // most recently used entry
+  private Entry head;
+  // least recently used entry, which is evicted first
+  private Entry tail;
+
+  ColumnFamilyCache(final int capacity, final ColumnFamilyCacheMetrics metrics) {
+    this.capacity = capacity;
+    this.metrics = metrics;
+  }
+
+  /** @return the cached value of the given key, or null if it is not cached */
+  DirectBuffer get(final long key) {
+    final Entry entry = entries.get(key);
+    if (entry == null) {
+      metrics.miss();
+      return null;
+    }
+
+    metrics.hit();
+    if (entry != head) {
+      unlink(entry);
+      linkAsHead(entry);
+    }
+    return entry.value;
+  }
+
+  /** Caches a copy of the given value, which was read from the column family. */
+  void putRead(final long key, final DirectBuffer value) {
+    put(key, value, value.capacity());
+  }
+
+  /** Caches a copy of the given value, which was written in the current transaction. */
+  void putWritten(final long key, final DirectBuffer value, final int length) {
+    writtenKeys.add(key);
+    put(key, value, length);
+  }
+
+  /** Removes the given key, which was deleted in the current transaction. */
+  void removeWritten(final long key) {
+    writtenKeys.add(key);
+    remove(key);
+  }
+
+  void onCommit() {
+    writtenKeys.clear();
+  }
+
+  void onRollback() {
+    if (writtenKeys.isEmpty()) {
+      return;
+    }
+
+    final LongHashSet.LongIterator iterator = writtenKeys.iterator();
+    while (iterator.hasNext()) {
+      remove(iterator.nextValue());
+    }
+    writtenKeys.clear();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private void put(final long key, final DirectBuffer value, final int length) {
+    final byte[] copy = new byte[length];
+    value.getBytes(0, copy, 0, length);
+
+    Entry entry = entries.get(key);
+    if (entry != null) {
+      unlink(entry);
+    } else {
+      if (entries.size() >= capacity) {
+        entry = evictTail();
+      } else {
+        entry = new Entry();
+        metrics.sizeChanged(1);
+      }
+      entry.key = key;
+      entries.put(key, entry);
+    }
+
+    entry.value = new UnsafeBuffer(copy);
+    linkAsHead(entry);
+  }
+
+  private void remove(final long key) {
+    final Entry entry = entries.remove(key);
+    if (entry != null) {
+      unlink(entry);
+      entry.value = null;
+      metrics.sizeChanged(-1);
+    }
+  }
+
+  /** Removes the least recently used entry and returns it, such that it can be reused. */
+  private Entry evictTail() {
+    final Entry entry = tail;
+    unlink(entry);
+    entries.remove(entry.key);
+    metrics.evicted();
+    return entry;
+  }
+
+  private void linkAsHead(final Entry entry) {
+    entry.previous = null;
+    entry.next = head;
+    if (head != null) {
+      head.previous = entry;
+    }
+    head = entry;
+    if (tail == null) {
+      tail = entry;
+    }
+  }
+
+  private void unlink(final Entry entry) {
+    if (entry.previous != null) {
+      entry.previous.next = entry.next;
+    } else {
+      head = entry.next;
+    }
+
+    if (entry.next != null) {
+      entry.next.previous = entry.previous;
+    } else {
+      tail = entry.previous;
+    }
+
+    entry.previous = null;
+    entry.next = null;
+  }
+
+  private static final class Entry {
+    private long key;
+    private DirectBuffer value;
+    private Entry previous;
+    private Entry next;
+  }
+}
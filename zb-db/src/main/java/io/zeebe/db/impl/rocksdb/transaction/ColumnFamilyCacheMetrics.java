@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the in-memory caches of a column family, summed up over all transaction contexts.
+ * The statistics are updated by the processing thread and read by the metrics exporter.
+ */
+public final class ColumnFamilyCacheMetrics {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private final LongAdder size = new LongAdder();
+
+  void hit() {
+    hits.increment();
+  }
+
+  void miss() {
+    misses.increment();
+  }
+
+  void evicted() {
+    evictions.increment();
+  }
+
+  void sizeChanged(final int delta) {
+    size.add(delta);
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  public long getSize() {
+    return size.sum();
+  }
+}
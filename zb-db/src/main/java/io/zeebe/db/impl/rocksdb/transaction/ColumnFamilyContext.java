@@ -10,16 +10,24 @@ package io.zeebe.db.impl.rocksdb.transaction;
 import io.zeebe.db.DbKey;
 import io.zeebe.db.DbValue;
 import io.zeebe.db.impl.ZeebeDbConstants;
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Queue;
 import java.util.function.ObjIntConsumer;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.RocksIterator;
 
 public class ColumnFamilyContext {
 
   private static final byte[] ZERO_SIZE_ARRAY = new byte[0];
+  private static final int INITIAL_ITERATOR_KEY_CAPACITY = 256;
+  private static final int INITIAL_ITERATOR_VALUE_CAPACITY = 4 * 1024;
 
   // we can also simply use one buffer
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
@@ -28,6 +36,19 @@ public class ColumnFamilyContext {
   private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
 
+  // direct buffers into which the iterator copies the current entry, which avoids allocating new
+  // arrays for every visited key-value pair
+  private ByteBuffer iteratorKeyBuffer = ByteBuffer.allocateDirect(INITIAL_ITERATOR_KEY_CAPACITY);
+  private ByteBuffer iteratorValueBuffer =
+      ByteBuffer.allocateDirect(INITIAL_ITERATOR_VALUE_CAPACITY);
+  private final UnsafeBuffer iteratorKeyView = new UnsafeBuffer(0, 0);
+  private int iteratorKeyLength;
+
+  // RocksDB reads the whole key arrays of a multi get, so they are kept per index with the exact
+  // length of the last key and only replaced if the length of the key changes
+  private byte[][] multiGetKeys = new byte[0][];
+  private final List<UnsafeBuffer> multiGetValueViews = new ArrayList<>();
+
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
   private int keyLength;
   private final long columnFamilyPrefix;
@@ -63,6 +84,10 @@ public class ColumnFamilyContext {
     return valueBuffer.byteArray();
   }
 
+  public DirectBuffer getValueBuffer() {
+    return valueBuffer;
+  }
+
   public void wrapKeyView(final byte[] key) {
     if (key != null) {
       // wrap without the column family key
@@ -72,6 +97,55 @@ public class ColumnFamilyContext {
     }
   }
 
+  /**
+   * Copies the key of the current iterator entry into a reusable direct buffer and wraps the key
+   * view around it (without the column family key). The view is only valid until the next call.
+   *
+   * @param iterator the iterator, which points to a valid entry
+   */
+  public void wrapKeyView(final RocksIterator iterator) {
+    iteratorKeyLength = iterator.key(iteratorKeyBuffer.clear());
+    if (iteratorKeyLength > iteratorKeyBuffer.capacity()) {
+      iteratorKeyBuffer =
+          ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(iteratorKeyLength));
+      iterator.key(iteratorKeyBuffer);
+    }
+
+    iteratorKeyView.wrap(iteratorKeyBuffer, 0, iteratorKeyLength);
+    keyViewBuffer.wrap(iteratorKeyBuffer, Long.BYTES, iteratorKeyLength - Long.BYTES);
+  }
+
+  /**
+   * Checks whether the key, which was last copied via {@link #wrapKeyView(RocksIterator)}, starts
+   * with the given prefix.
+   *
+   * @param prefix the prefix bytes, including the column family key
+   * @param prefixLength the length of the prefix
+   * @return true if the current iterator key starts with the given prefix, false otherwise
+   */
+  public boolean isIteratorKeyStartingWith(final byte[] prefix, final int prefixLength) {
+    if (iteratorKeyLength < prefixLength) {
+      return false;
+    }
+
+    for (int i = 0; i < prefixLength; i++) {
+      if (iteratorKeyView.getByte(i) != prefix[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Copies the key, which was last copied via {@link #wrapKeyView(RocksIterator)}, into the key
+   * buffer, such that it can be used like a key written via {@link #writeKey(DbKey)}.
+   */
+  public void writeIteratorKey() {
+    keyBuffer.putBytes(0, iteratorKeyView, 0, iteratorKeyLength);
+    keyLength = iteratorKeyLength;
+  }
+
   public DirectBuffer getKeyView() {
     return isKeyViewEmpty() ? null : keyViewBuffer;
   }
@@ -88,6 +162,29 @@ public class ColumnFamilyContext {
     }
   }
 
+  /**
+   * Copies the value of the current iterator entry into a reusable direct buffer and wraps the
+   * value view around it. The view, and every view which a value instance takes from it, is only
+   * valid until the next call, as the buffer is overwritten by the next entry (see {@link
+   * io.zeebe.db.ColumnFamily#forEach(java.util.function.Consumer)}).
+   *
+   * @param iterator the iterator, which points to a valid entry
+   */
+  public void wrapValueView(final RocksIterator iterator) {
+    final int valueLength = iterator.value(iteratorValueBuffer.clear());
+    if (valueLength > iteratorValueBuffer.capacity()) {
+      iteratorValueBuffer =
+          ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(valueLength));
+      iterator.value(iteratorValueBuffer);
+    }
+
+    if (valueLength > 0) {
+      valueViewBuffer.wrap(iteratorValueBuffer, 0, valueLength);
+    } else {
+      valueViewBuffer.wrap(ZERO_SIZE_ARRAY);
+    }
+  }
+
   public DirectBuffer getValueView() {
     return isValueViewEmpty() ? null : valueViewBuffer;
   }
@@ -96,6 +193,61 @@ public class ColumnFamilyContext {
     return valueViewBuffer.capacity() == ZERO_SIZE_ARRAY.length;
   }
 
+  /**
+   * Prepares the keys of a multi get of the given number of keys, see {@link #getMultiGetKeys()}.
+   *
+   * @param count the number of keys
+   */
+  public void prepareMultiGet(final int count) {
+    if (multiGetKeys.length != count) {
+      multiGetKeys = Arrays.copyOf(multiGetKeys, count);
+    }
+
+    while (multiGetValueViews.size() < count) {
+      multiGetValueViews.add(new UnsafeBuffer(0, 0));
+    }
+  }
+
+  /**
+   * Writes the given key like {@link #writeKey(DbKey)} and copies it into the key array of the
+   * given index of the multi get, which is only allocated if the length of the key changed.
+   *
+   * @param index the index of the key in the multi get
+   * @param key the key to write
+   */
+  public void writeMultiGetKey(final int index, final DbKey key) {
+    writeKey(key);
+
+    byte[] multiGetKey = multiGetKeys[index];
+    if (multiGetKey == null || multiGetKey.length != keyLength) {
+      multiGetKey = new byte[keyLength];
+      multiGetKeys[index] = multiGetKey;
+    }
+    keyBuffer.getBytes(0, multiGetKey);
+  }
+
+  /**
+   * @return the keys of the multi get, as written by {@link #writeMultiGetKey(int, DbKey)}; the
+   *     array has exactly as many elements as keys were prepared
+   */
+  public byte[][] getMultiGetKeys() {
+    return multiGetKeys;
+  }
+
+  /**
+   * Wraps the value view of the given index of the multi get around the given value. Every index
+   * has its own view, such that the values of a multi get stay valid until the next multi get.
+   *
+   * @param index the index of the value in the multi get
+   * @param value the value
+   * @return the value view
+   */
+  public DirectBuffer wrapMultiGetValueView(final int index, final byte[] value) {
+    final UnsafeBuffer valueView = multiGetValueViews.get(index);
+    valueView.wrap(value);
+    return valueView;
+  }
+
   public void withPrefixKey(final DbKey key, final ObjIntConsumer<byte[]> prefixKeyConsumer) {
     if (prefixKeyBuffers.peek() == null) {
       throw new IllegalStateException(
@@ -56,6 +56,10 @@ public final class DefaultTransactionContext implements TransactionContext {
     return transaction;
   }
 
+  ZeebeTransaction getTransaction() {
+    return transaction;
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
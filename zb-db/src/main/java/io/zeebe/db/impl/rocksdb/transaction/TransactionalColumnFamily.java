@@ -7,17 +7,18 @@
  */
 package io.zeebe.db.impl.rocksdb.transaction;
 
-import static io.zeebe.util.buffer.BufferUtil.startsWith;
-
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.DbKey;
 import io.zeebe.db.DbValue;
 import io.zeebe.db.KeyValuePairVisitor;
 import io.zeebe.db.TransactionContext;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -33,10 +34,17 @@ class TransactionalColumnFamily<
   private final ValueType valueInstance;
   private final KeyType keyInstance;
   private final ColumnFamilyContext columnFamilyContext;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  // the handle of this column family once per key of the last multi get
+  private final List<ColumnFamilyHandle> multiGetHandles = new ArrayList<>();
+  // the result of the multi get in progress, which avoids allocating a holder for the lambda
+  private byte[][] multiGetValues;
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
       final ColumnFamilyNames columnFamily,
+      final ColumnFamilyHandle handle,
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance) {
@@ -45,6 +53,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.ordinal());
+    this.handle = handle;
+    nativeHandle = ZeebeTransactionDb.getNativeHandle(handle);
   }
 
   private void ensureInOpenTransaction(
@@ -62,7 +72,7 @@ class TransactionalColumnFamily<
           columnFamilyContext.writeValue(value);
 
           transaction.put(
-              transactionDb.getDefaultNativeHandle(),
+              nativeHandle,
               columnFamilyContext.getKeyBufferArray(),
               columnFamilyContext.getKeyLength(),
               columnFamilyContext.getValueBufferArray(),
@@ -72,8 +82,7 @@ class TransactionalColumnFamily<
 
   @Override
   public ValueType get(final KeyType key) {
-    columnFamilyContext.writeKey(key);
-    final DirectBuffer valueBuffer = getValue(context, columnFamilyContext);
+    final DirectBuffer valueBuffer = getSerializedValue(key);
     if (valueBuffer != null) {
       valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
       return valueInstance;
@@ -81,6 +90,27 @@ class TransactionalColumnFamily<
     return null;
   }
 
+  /**
+   * @return a view of the serialized value of the given key, which is only valid until the next
+   *     operation on this column family, or null if the key does not exist
+   */
+  DirectBuffer getSerializedValue(final KeyType key) {
+    columnFamilyContext.writeKey(key);
+    return getValue(context, columnFamilyContext);
+  }
+
+  /**
+   * @return the serialized value of the last {@link #put(DbKey, DbValue)} call, which is only valid
+   *     until the next operation on this column family; its length is the length of the value
+   */
+  DirectBuffer getLastPutValue() {
+    return columnFamilyContext.getValueBuffer();
+  }
+
+  ValueType getValueInstance() {
+    return valueInstance;
+  }
+
   private DirectBuffer getValue(
       final TransactionContext context, final ColumnFamilyContext columnFamilyContext) {
     ensureInOpenTransaction(
@@ -88,7 +118,7 @@ class TransactionalColumnFamily<
         transaction -> {
           final byte[] value =
               transaction.get(
-                  transactionDb.getDefaultNativeHandle(),
+                  nativeHandle,
                   transactionDb.getReadOptionsNativeHandle(),
                   columnFamilyContext.getKeyBufferArray(),
                   columnFamilyContext.getKeyLength());
@@ -97,6 +127,58 @@ class TransactionalColumnFamily<
     return columnFamilyContext.getValueView();
   }
 
+  @Override
+  public void multiGet(
+      final List<KeyType> keys,
+      final List<ValueType> valueInstances,
+      final BiConsumer<KeyType, ValueType> consumer) {
+    final int count = keys.size();
+    if (valueInstances.size() < count) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected at least as many value instances as keys (%d), but got %d",
+              count, valueInstances.size()));
+    }
+
+    if (count == 0) {
+      return;
+    }
+
+    columnFamilyContext.prepareMultiGet(count);
+    for (int i = 0; i < count; i++) {
+      columnFamilyContext.writeMultiGetKey(i, keys.get(i));
+    }
+
+    // RocksDB expects exactly one handle per key
+    while (multiGetHandles.size() < count) {
+      multiGetHandles.add(handle);
+    }
+    while (multiGetHandles.size() > count) {
+      multiGetHandles.remove(multiGetHandles.size() - 1);
+    }
+
+    ensureInOpenTransaction(
+        context,
+        transaction ->
+            multiGetValues =
+                transaction.multiGet(
+                    transactionDb.getDefaultReadOptions(),
+                    multiGetHandles,
+                    columnFamilyContext.getMultiGetKeys()));
+
+    final byte[][] values = multiGetValues;
+    multiGetValues = null;
+
+    for (int i = 0; i < count; i++) {
+      final byte[] value = values[i];
+      if (value != null) {
+        final ValueType valueInstance = valueInstances.get(i);
+        valueInstance.wrap(columnFamilyContext.wrapMultiGetValueView(i, value), 0, value.length);
+        consumer.accept(keys.get(i), valueInstance);
+      }
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     forEach(context, consumer);
@@ -112,6 +194,12 @@ class TransactionalColumnFamily<
     whileTrue(context, visitor);
   }
 
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    whileTrue(context, startAtKey, visitor);
+  }
+
   @Override
   public void whileEqualPrefix(
       final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
@@ -131,14 +219,56 @@ class TransactionalColumnFamily<
         context,
         transaction ->
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength()));
   }
 
+  /**
+   * Deletes the keys one by one within the transaction, like a visitor would do, since optimistic
+   * transactions don't support range deletions. Writing a range deletion directly to the database
+   * would bypass the transaction, such that it could neither be rolled back nor would it be visible
+   * to reads of the transaction.
+   */
+  @Override
+  public void deletePrefix(final DbKey keyPrefix) {
+    columnFamilyContext.withPrefixKey(
+        keyPrefix,
+        (prefixKey, prefixLength) ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  final long iteratorGeneration = transaction.getIteratorGeneration();
+                  final RocksIterator iterator =
+                      newIterator(context, transactionDb.getPrefixReadOptions());
+                  try {
+                    for (RocksDbInternal.seek(
+                            iterator,
+                            ZeebeTransactionDb.getNativeHandle(iterator),
+                            prefixKey,
+                            prefixLength);
+                        iterator.isValid();
+                        iterator.next()) {
+                      columnFamilyContext.wrapKeyView(iterator);
+                      if (!columnFamilyContext.isIteratorKeyStartingWith(prefixKey, prefixLength)) {
+                        break;
+                      }
+
+                      columnFamilyContext.writeIteratorKey();
+                      transaction.delete(
+                          nativeHandle,
+                          columnFamilyContext.getKeyBufferArray(),
+                          columnFamilyContext.getKeyLength());
+                    }
+                  } finally {
+                    transaction.releaseIterator(nativeHandle, iterator, iteratorGeneration);
+                  }
+                }));
+  }
+
   @Override
   public boolean exists(final KeyType key) {
-    columnFamilyContext.wrapValueView(new byte[0]);
+    columnFamilyContext.wrapValueView((byte[]) null);
     ensureInOpenTransaction(
         context,
         transaction -> {
@@ -180,6 +310,48 @@ class TransactionalColumnFamily<
     whileEqualPrefix(context, keyInstance, valueInstance, visitor);
   }
 
+  /**
+   * Seeks to the given key and visits the following entries of this column family. Only the column
+   * family key is used as prefix, such that the iteration ends with the last entry of the column
+   * family.
+   */
+  public void whileTrue(
+      final TransactionContext context,
+      final KeyType startAtKey,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    columnFamilyContext.withPrefixKey(
+        startAtKey,
+        (startKey, startKeyLength) ->
+            ensureInOpenTransaction(
+                context,
+                transaction -> {
+                  final long iteratorGeneration = transaction.getIteratorGeneration();
+                  final RocksIterator iterator =
+                      newIterator(context, transactionDb.getPrefixReadOptions());
+                  try {
+                    boolean shouldVisitNext = true;
+
+                    for (RocksDbInternal.seek(
+                            iterator,
+                            ZeebeTransactionDb.getNativeHandle(iterator),
+                            startKey,
+                            startKeyLength);
+                        iterator.isValid() && shouldVisitNext;
+                        iterator.next()) {
+                      columnFamilyContext.wrapKeyView(iterator);
+                      // the start key begins with the column family key
+                      if (!columnFamilyContext.isIteratorKeyStartingWith(startKey, Long.BYTES)) {
+                        break;
+                      }
+
+                      shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                    }
+                  } finally {
+                    transaction.releaseIterator(nativeHandle, iterator, iteratorGeneration);
+                  }
+                }));
+  }
+
   public void whileEqualPrefix(
       final TransactionContext context,
       final DbKey keyPrefix,
@@ -194,9 +366,14 @@ class TransactionalColumnFamily<
     whileEqualPrefix(context, keyPrefix, keyInstance, valueInstance, visitor);
   }
 
+  /**
+   * Returns an iterator over this column family from the current transaction, which may be reused
+   * from a previous iteration. It has to be given back via {@link
+   * ZeebeTransaction#releaseIterator(long, RocksIterator, long)} instead of closing it.
+   */
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.acquireIterator(nativeHandle, handle, options);
   }
 
   protected <KeyType extends DbKey, ValueType extends DbValue> void whileEqualPrefix(
@@ -269,9 +446,10 @@ class TransactionalColumnFamily<
             ensureInOpenTransaction(
                 context,
                 transaction -> {
-                  try (final RocksIterator iterator =
-                      newIterator(context, transactionDb.getPrefixReadOptions())) {
-
+                  final long iteratorGeneration = transaction.getIteratorGeneration();
+                  final RocksIterator iterator =
+                      newIterator(context, transactionDb.getPrefixReadOptions());
+                  try {
                     boolean shouldVisitNext = true;
 
                     for (RocksDbInternal.seek(
@@ -281,13 +459,15 @@ class TransactionalColumnFamily<
                             prefixLength);
                         iterator.isValid() && shouldVisitNext;
                         iterator.next()) {
-                      final byte[] keyBytes = iterator.key();
-                      if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                      columnFamilyContext.wrapKeyView(iterator);
+                      if (!columnFamilyContext.isIteratorKeyStartingWith(prefixKey, prefixLength)) {
                         break;
                       }
 
                       shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
                     }
+                  } finally {
+                    transaction.releaseIterator(nativeHandle, iterator, iteratorGeneration);
                   }
                 }));
   }
@@ -297,10 +477,8 @@ class TransactionalColumnFamily<
       final ValueType valueInstance,
       final KeyValuePairVisitor<KeyType, ValueType> iteratorConsumer,
       final RocksIterator iterator) {
-    final var keyBytes = iterator.key();
-
-    columnFamilyContext.wrapKeyView(keyBytes);
-    columnFamilyContext.wrapValueView(iterator.value());
+    // the key view was already wrapped while checking the prefix
+    columnFamilyContext.wrapValueView(iterator);
 
     final DirectBuffer keyViewBuffer = columnFamilyContext.getKeyView();
     keyInstance.wrap(keyViewBuffer, 0, keyViewBuffer.capacity());
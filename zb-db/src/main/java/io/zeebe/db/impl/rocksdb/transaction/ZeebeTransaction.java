@@ -12,6 +12,12 @@ import static io.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExce
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
@@ -22,6 +28,17 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  // the caches of the column families which are accessed through this transaction, by name
+  private final Map<String, ColumnFamilyCache> caches = new HashMap<>();
+
+  // iterators which are not in use, by column family handle; they are re-seeked instead of
+  // creating new ones, but only as long as nothing was written, since the iterators are not
+  // guaranteed to reflect writes which happened after their creation
+  private final Long2ObjectHashMap<ArrayDeque<RocksIterator>> idleIterators =
+      new Long2ObjectHashMap<>();
+  private int idleIteratorCount;
+  // incremented on every write and at the end of the transaction, which invalidates all iterators
+  private long iteratorGeneration;
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
@@ -44,6 +61,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
+    invalidateIterators();
     RocksDbInternal.putWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, value, valueLength, columnFamilyHandle, false);
   }
@@ -59,8 +77,15 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
             transaction, nativeHandle, readOptionsHandle, key, keyLength, columnFamilyHandle);
   }
 
+  public byte[][] multiGet(
+      final ReadOptions options, final List<ColumnFamilyHandle> handles, final byte[][] keys)
+      throws RocksDBException {
+    return transaction.multiGet(options, handles, keys);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
+    invalidateIterators();
     RocksDbInternal.removeWithHandle.invoke(
         transaction, nativeHandle, key, keyLength, columnFamilyHandle, false);
   }
@@ -69,6 +94,67 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * Returns an iterator over the given column family, which is either an idle iterator of a
+   * previous iteration or a new one. The iterator has to be seeked before use and must be given
+   * back via {@link #releaseIterator(long, RocksIterator, long)} afterwards. All iterators of a
+   * column family have to use the same read options.
+   *
+   * @param columnFamilyHandle the native handle of the column family
+   * @param handle the column family
+   * @param options the read options, which are used if a new iterator has to be created
+   * @return an iterator over the column family
+   */
+  RocksIterator acquireIterator(
+      final long columnFamilyHandle, final ColumnFamilyHandle handle, final ReadOptions options) {
+    final ArrayDeque<RocksIterator> iterators = idleIterators.get(columnFamilyHandle);
+    if (iterators != null && !iterators.isEmpty()) {
+      idleIteratorCount--;
+      return iterators.pop();
+    }
+    return transaction.getIterator(options, handle);
+  }
+
+  /**
+   * Gives back an iterator, which was acquired via {@link #acquireIterator(long,
+   * ColumnFamilyHandle, ReadOptions)}. It is kept for reuse if nothing was written in the meantime,
+   * otherwise it is closed.
+   *
+   * @param columnFamilyHandle the native handle of the column family of the iterator
+   * @param iterator the iterator which is not used anymore
+   * @param generation the {@link #getIteratorGeneration()} before the iterator was acquired
+   */
+  void releaseIterator(
+      final long columnFamilyHandle, final RocksIterator iterator, final long generation) {
+    if (generation != iteratorGeneration) {
+      iterator.close();
+      return;
+    }
+
+    idleIterators.computeIfAbsent(columnFamilyHandle, h -> new ArrayDeque<>()).push(iterator);
+    idleIteratorCount++;
+  }
+
+  long getIteratorGeneration() {
+    return iteratorGeneration;
+  }
+
+  private void invalidateIterators() {
+    iteratorGeneration++;
+    if (idleIteratorCount > 0) {
+      for (final ArrayDeque<RocksIterator> iterators : idleIterators.values()) {
+        iterators.forEach(RocksIterator::close);
+        iterators.clear();
+      }
+      idleIteratorCount = 0;
+    }
+  }
+
+  ColumnFamilyCache getOrCreateCache(
+      final String columnFamilyName, final Supplier<ColumnFamilyCache> cacheFactory) {
+    return caches.computeIfAbsent(columnFamilyName, name -> cacheFactory.get());
+  }
+
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
@@ -119,15 +205,21 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    invalidateIterators();
     transaction.commit();
+    caches.values().forEach(ColumnFamilyCache::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    invalidateIterators();
+    // evict uncommitted values first, in case the rollback fails
+    caches.values().forEach(ColumnFamilyCache::onRollback);
     transaction.rollback();
   }
 
   public void close() {
+    invalidateIterators();
     transaction.close();
   }
 }
@@ -13,21 +13,38 @@ import io.zeebe.db.DbValue;
 import io.zeebe.db.TransactionContext;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbException;
+import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbNil;
+import io.zeebe.db.impl.ZeebeDbConstants;
 import io.zeebe.db.impl.rocksdb.Loggers;
 import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.OptimisticTransactionDB;
 import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -37,23 +54,40 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  private static final String BLOCK_CACHE_PROPERTY_PREFIX = "rocksdb.block-cache";
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
+  private final RocksDbConfiguration rocksDbConfiguration;
+
+  // separate RocksDB column families by name, which have to be closed before the database; their
+  // options have to be closed after the database
+  private final Map<String, ColumnFamilyHandle> columnFamilyHandles;
+  private final Map<String, ColumnFamilyOptions> columnFamilyOptions;
+  private final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory;
+  private final Map<String, ColumnFamilyCacheMetrics> cacheMetrics = new ConcurrentHashMap<>();
+  // separate column families whose entries are completely moved out of the default column family
+  private final Set<String> movedColumnFamilies = new HashSet<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
-      final RocksDbConfiguration rocksDbConfiguration) {
+      final RocksDbConfiguration rocksDbConfiguration,
+      final Map<String, ColumnFamilyHandle> columnFamilyHandles,
+      final Map<String, ColumnFamilyOptions> columnFamilyOptions,
+      final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory) {
     this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
+    this.rocksDbConfiguration = rocksDbConfiguration;
+    this.columnFamilyHandles = columnFamilyHandles;
+    this.columnFamilyOptions = columnFamilyOptions;
+    this.columnFamilyOptionsFactory = columnFamilyOptionsFactory;
 
     prefixReadOptions =
         new ReadOptions()
@@ -72,18 +106,62 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
       ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
-          final Options options,
+          final DBOptions dbOptions,
+          final ColumnFamilyOptions defaultColumnFamilyOptions,
           final String path,
           final List<AutoCloseable> closables,
-          final RocksDbConfiguration rocksDbConfiguration)
+          final RocksDbConfiguration rocksDbConfiguration,
+          final Function<String, ColumnFamilyOptions> columnFamilyOptionsFactory)
           throws RocksDBException {
-    final OptimisticTransactionDB optimisticTransactionDB =
-        OptimisticTransactionDB.open(options, path);
+    // all column families which exist in the database have to be opened, including the ones which
+    // were created as separate column families
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    final Map<String, ColumnFamilyOptions> columnFamilyOptions = new ConcurrentHashMap<>();
+    descriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, defaultColumnFamilyOptions));
+    for (final byte[] name : listColumnFamilies(dbOptions, defaultColumnFamilyOptions, path)) {
+      if (!Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY)) {
+        final var nameString = new String(name, StandardCharsets.UTF_8);
+        final var cfOptions = columnFamilyOptionsFactory.apply(nameString);
+        columnFamilyOptions.put(nameString, cfOptions);
+        descriptors.add(new ColumnFamilyDescriptor(name, cfOptions));
+      }
+    }
+
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final OptimisticTransactionDB optimisticTransactionDB;
+    try {
+      optimisticTransactionDB = OptimisticTransactionDB.open(dbOptions, path, descriptors, handles);
+    } catch (final RocksDBException e) {
+      columnFamilyOptions.values().forEach(ColumnFamilyOptions::close);
+      throw e;
+    }
     closables.add(optimisticTransactionDB);
-    final var defaultColumnFamilyHandle = optimisticTransactionDB.getDefaultColumnFamily();
+
+    final Map<String, ColumnFamilyHandle> columnFamilyHandles = new ConcurrentHashMap<>();
+    for (int i = 1; i < handles.size(); i++) {
+      final var handle = handles.get(i);
+      columnFamilyHandles.put(new String(handle.getName(), StandardCharsets.UTF_8), handle);
+    }
 
     return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle, optimisticTransactionDB, closables, rocksDbConfiguration);
+        handles.get(0),
+        optimisticTransactionDB,
+        closables,
+        rocksDbConfiguration,
+        columnFamilyHandles,
+        columnFamilyOptions,
+        columnFamilyOptionsFactory);
+  }
+
+  private static List<byte[]> listColumnFamilies(
+      final DBOptions dbOptions, final ColumnFamilyOptions columnFamilyOptions, final String path) {
+    try (final var options = new Options(dbOptions, columnFamilyOptions)) {
+      return RocksDB.listColumnFamilies(options, path);
+    } catch (final RocksDBException e) {
+      // the database does not exist yet, which means it only contains the default column family
+      return Collections.emptyList();
+    }
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -99,16 +177,32 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
   }
 
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  /**
+   * Returns the options of the column families which are stored in separate RocksDB column
+   * families, by name. The options must not be modified.
+   *
+   * @return the options of the separate column families
+   */
+  public Map<String, ColumnFamilyOptions> getSeparateColumnFamilyOptions() {
+    return Collections.unmodifiableMap(columnFamilyOptions);
+  }
+
+  /**
+   * Returns the statistics of the in-memory caches by column family name. Only column families with
+   * a configured cache capacity, which were created at least once, are contained.
+   *
+   * @return the cache statistics by column family name
+   */
+  public Map<String, ColumnFamilyCacheMetrics> getCacheMetrics() {
+    return Collections.unmodifiableMap(cacheMetrics);
   }
 
   @Override
@@ -118,7 +212,155 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
           final TransactionContext context,
           final KeyType keyInstance,
           final ValueType valueInstance) {
-    return new TransactionalColumnFamily<>(this, columnFamily, context, keyInstance, valueInstance);
+    final var transactionalColumnFamily =
+        new TransactionalColumnFamily<>(
+            this, columnFamily, getHandle(columnFamily), context, keyInstance, valueInstance);
+
+    final int cacheCapacity = getCacheCapacity(columnFamily);
+    if (cacheCapacity > 0
+        && keyInstance instanceof DbLong
+        && context instanceof DefaultTransactionContext) {
+      return createCachedColumnFamily(
+          columnFamily,
+          (DefaultTransactionContext) context,
+          cacheCapacity,
+          transactionalColumnFamily);
+    }
+
+    return transactionalColumnFamily;
+  }
+
+  private int getCacheCapacity(final ColumnFamilyNames columnFamily) {
+    final var configuration =
+        rocksDbConfiguration.getColumnFamilyConfigurations().get(columnFamily.name());
+    return configuration != null ? configuration.getCacheCapacity() : 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createCachedColumnFamily(
+          final ColumnFamilyNames columnFamily,
+          final DefaultTransactionContext context,
+          final int cacheCapacity,
+          final TransactionalColumnFamily<ColumnFamilyNames, KeyType, ValueType>
+              transactionalColumnFamily) {
+    final var name = columnFamily.name();
+    final var metrics = cacheMetrics.computeIfAbsent(name, n -> new ColumnFamilyCacheMetrics());
+    final var cache =
+        context
+            .getTransaction()
+            .getOrCreateCache(name, () -> new ColumnFamilyCache(cacheCapacity, metrics));
+
+    return (ColumnFamily<KeyType, ValueType>)
+        new CachedColumnFamily<>(
+            (TransactionalColumnFamily<ColumnFamilyNames, DbLong, ValueType>)
+                transactionalColumnFamily,
+            cache);
+  }
+
+  /**
+   * Returns the RocksDB column family in which the given column family is stored. If the database
+   * already contains a separate column family with the same name, it is used. Otherwise, if
+   * separate column families are enabled, it is created and all entries of the column family are
+   * moved over from the default column family. If none of this applies, the default column family
+   * is used.
+   *
+   * <p>The move is done in multiple batches after the column family is created, so it can be
+   * interrupted, e.g. by a crash. Therefore, the move is resumed when an existing separate column
+   * family is used for the first time, before any entry is read from it.
+   */
+  private synchronized ColumnFamilyHandle getHandle(final ColumnFamilyNames columnFamily) {
+    final var name = columnFamily.name();
+    final var existingHandle = columnFamilyHandles.get(name);
+    if (existingHandle != null) {
+      if (!movedColumnFamilies.contains(name)) {
+        moveFromDefaultColumnFamily(columnFamily, existingHandle);
+      }
+      return existingHandle;
+    }
+
+    if (!rocksDbConfiguration.isSeparateColumnFamiliesEnabled()) {
+      return defaultHandle;
+    }
+
+    final var options = columnFamilyOptionsFactory.apply(name);
+    columnFamilyOptions.put(name, options);
+    try {
+      final var handle =
+          optimisticTransactionDB.createColumnFamily(
+              new ColumnFamilyDescriptor(name.getBytes(StandardCharsets.UTF_8), options));
+      columnFamilyHandles.put(name, handle);
+      moveFromDefaultColumnFamily(columnFamily, handle);
+      return handle;
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          String.format("Failed to create separate column family %s.", name), e);
+    }
+  }
+
+  private void moveFromDefaultColumnFamily(
+      final ColumnFamilyNames columnFamily, final ColumnFamilyHandle target) {
+    try {
+      moveFromDefaultColumnFamily(columnFamily.ordinal(), target);
+      movedColumnFamilies.add(columnFamily.name());
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          String.format(
+              "Failed to move entries into separate column family %s.", columnFamily.name()),
+          e);
+    }
+  }
+
+  /**
+   * Moves all entries with the given column family prefix from the default column family into the
+   * given column family. The keys are not changed, so they still contain the prefix.
+   *
+   * <p>The entries are only deleted from the default column family with the last batch, so it is
+   * safe to repeat the move after an interruption: the entries which were already copied are
+   * written again with the same value, as the column family isn't used until the move is done.
+   */
+  private void moveFromDefaultColumnFamily(final long prefix, final ColumnFamilyHandle target)
+      throws RocksDBException {
+    final var prefixStart = encodePrefix(prefix);
+    final var prefixEnd = encodePrefix(prefix + 1);
+    long movedEntries = 0;
+
+    try (final RocksIterator iterator =
+            optimisticTransactionDB.newIterator(defaultHandle, defaultReadOptions);
+        final WriteBatch batch = new WriteBatch()) {
+      for (iterator.seek(prefixStart); iterator.isValid(); iterator.next()) {
+        final byte[] key = iterator.key();
+        if (Arrays.compareUnsigned(key, 0, Long.BYTES, prefixEnd, 0, Long.BYTES) >= 0) {
+          break;
+        }
+
+        batch.put(target, key, iterator.value());
+        movedEntries++;
+
+        if (batch.count() >= MIGRATION_BATCH_SIZE) {
+          optimisticTransactionDB.write(defaultWriteOptions, batch);
+          batch.clear();
+        }
+      }
+
+      if (movedEntries > 0) {
+        batch.deleteRange(defaultHandle, prefixStart, prefixEnd);
+        optimisticTransactionDB.write(defaultWriteOptions, batch);
+      }
+    }
+
+    if (movedEntries > 0) {
+      LOG.info(
+          "Moved {} entries from the default column family to the separate column family {}",
+          movedEntries,
+          new String(target.getName(), StandardCharsets.UTF_8));
+    }
+  }
+
+  private static byte[] encodePrefix(final long prefix) {
+    final var bytes = new byte[Long.BYTES];
+    new UnsafeBuffer(bytes).putLong(0, prefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    return bytes;
   }
 
   @Override
@@ -135,9 +377,28 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
 
   @Override
   public Optional<String> getProperty(final String propertyName) {
+    // the block cache is shared by all column families, so its properties must not be summed up
+    if (columnFamilyHandles.isEmpty() || propertyName.startsWith(BLOCK_CACHE_PROPERTY_PREFIX)) {
+      return getProperty(defaultHandle, propertyName);
+    }
+
+    long sum = 0;
+    try {
+      sum += optimisticTransactionDB.getLongProperty(defaultHandle, propertyName);
+      for (final var handle : columnFamilyHandles.values()) {
+        sum += optimisticTransactionDB.getLongProperty(handle, propertyName);
+      }
+    } catch (final RocksDBException rde) {
+      LOG.debug(rde.getMessage(), rde);
+      return Optional.empty();
+    }
+    return Optional.of(String.valueOf(sum));
+  }
+
+  private Optional<String> getProperty(final ColumnFamilyHandle handle, final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = optimisticTransactionDB.getProperty(handle, propertyName);
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -177,11 +438,19 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     Collections.reverse(closables);
     closables.forEach(
         closable -> {
-          try {
-            closable.close();
-          } catch (final Exception e) {
-            LOG.error(ERROR_MESSAGE_CLOSE_RESOURCE, e);
+          if (closable == optimisticTransactionDB) {
+            columnFamilyHandles.values().forEach(this::closeQuietly);
           }
+          closeQuietly(closable);
         });
+    columnFamilyOptions.values().forEach(this::closeQuietly);
+  }
+
+  private void closeQuietly(final AutoCloseable closable) {
+    try {
+      closable.close();
+    } catch (final Exception e) {
+      LOG.error(ERROR_MESSAGE_CLOSE_RESOURCE, e);
+    }
   }
 }
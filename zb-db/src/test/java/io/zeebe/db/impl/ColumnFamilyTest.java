@@ -288,6 +288,48 @@ public final class ColumnFamilyTest {
     assertThat(values).containsExactly((long) Short.MAX_VALUE, 255L, 123L);
   }
 
+  @Test
+  public void shouldUseWhileTrueStartingAtKey() {
+    // given
+    putKeyValuePair(4567, 123);
+    putKeyValuePair(6734, 921);
+    putKeyValuePair(1213, 255);
+    putKeyValuePair(1, Short.MAX_VALUE);
+    putKeyValuePair(Short.MAX_VALUE, 1);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.whileTrue(
+        longKey(1214),
+        (key, value) -> {
+          keys.add(key.getValue());
+          return key.getValue() != 6734;
+        });
+
+    // then
+    assertThat(keys).containsExactly(4567L, 6734L);
+  }
+
+  @Test
+  public void shouldUseWhileTrueStartingAtExistingKey() {
+    // given
+    putKeyValuePair(4567, 123);
+    putKeyValuePair(1213, 255);
+    putKeyValuePair(1, Short.MAX_VALUE);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.whileTrue(
+        longKey(1213),
+        (key, value) -> {
+          keys.add(key.getValue());
+          return true;
+        });
+
+    // then
+    assertThat(keys).containsExactly(1213L, 4567L);
+  }
+
   @Test
   public void shouldDeleteWhileTrue() {
     // given
@@ -317,6 +359,58 @@ public final class ColumnFamilyTest {
     assertThat(values).containsExactly(921L, 1L);
   }
 
+  @Test
+  public void shouldGetMultipleValuesAtOnce() {
+    // given
+    putKeyValuePair(1, 10);
+    putKeyValuePair(2, 20);
+    putKeyValuePair(4, 40);
+
+    final List<DbLong> keys = List.of(longKey(4), longKey(3), longKey(1));
+    final List<DbLong> valueInstances = List.of(new DbLong(), new DbLong(), new DbLong());
+
+    // when
+    final List<Long> foundKeys = new ArrayList<>();
+    final List<Long> foundValues = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        valueInstances,
+        (key, value) -> {
+          foundKeys.add(key.getValue());
+          foundValues.add(value.getValue());
+        });
+
+    // then
+    assertThat(foundKeys).containsExactly(4L, 1L);
+    assertThat(foundValues).containsExactly(40L, 10L);
+    assertThat(valueInstances.get(0).getValue()).isEqualTo(40L);
+    assertThat(valueInstances.get(2).getValue()).isEqualTo(10L);
+  }
+
+  @Test
+  public void shouldGetMultipleValuesAtOnceRepeatedly() {
+    // given
+    putKeyValuePair(1, 10);
+    putKeyValuePair(2, 20);
+    putKeyValuePair(3, 30);
+    final List<DbLong> valueInstances = List.of(new DbLong(), new DbLong(), new DbLong());
+    columnFamily.multiGet(List.of(longKey(1), longKey(2), longKey(3)), valueInstances, (k, v) -> {});
+
+    // when
+    final List<Long> foundValues = new ArrayList<>();
+    columnFamily.multiGet(
+        List.of(longKey(3), longKey(1)),
+        valueInstances,
+        (key, value) -> foundValues.add(value.getValue()));
+    columnFamily.multiGet(
+        List.of(longKey(2), longKey(4), longKey(1)),
+        valueInstances,
+        (key, value) -> foundValues.add(value.getValue()));
+
+    // then
+    assertThat(foundValues).containsExactly(30L, 10L, 20L, 10L);
+  }
+
   @Test
   public void shouldCheckIfEmpty() {
     assertThat(columnFamily.isEmpty()).isTrue();
@@ -328,6 +422,12 @@ public final class ColumnFamilyTest {
     assertThat(columnFamily.isEmpty()).isTrue();
   }
 
+  private static DbLong longKey(final long value) {
+    final DbLong key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void putKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
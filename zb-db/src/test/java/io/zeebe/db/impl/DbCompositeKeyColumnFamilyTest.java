@@ -10,6 +10,7 @@ package io.zeebe.db.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.TransactionContext;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
 import java.io.File;
@@ -373,6 +374,51 @@ public final class DbCompositeKeyColumnFamilyTest {
     assertThat(secondKeyParts).containsExactly(34L, 37426L, 923113L, 255L);
   }
 
+  @Test
+  public void shouldDeletePrefix() {
+    // given
+    putKeyValuePair("foo", 12, "baring");
+    putKeyValuePair("foo", 13, "different value");
+    putKeyValuePair("hello", 34, "world");
+    putKeyValuePair("might", 37426, "be good");
+
+    // when
+    firstKey.wrapString("foo");
+    columnFamily.deletePrefix(firstKey);
+
+    // then
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach(value -> values.add(value.toString()));
+    assertThat(values).containsExactly("world", "be good");
+  }
+
+  @Test
+  public void shouldDeletePrefixWithinTransaction() {
+    // given
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    final ColumnFamily<DbCompositeKey<DbString, DbLong>, DbString> transactionalColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, value);
+    putKeyValuePair("foo", 12, "baring");
+
+    // when
+    final List<String> values = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapString("foo");
+          secondKey.wrapLong(13);
+          value.wrapString("uncommitted");
+          transactionalColumnFamily.put(compositeKey, value);
+
+          transactionalColumnFamily.deletePrefix(firstKey);
+          transactionalColumnFamily.forEach(v -> values.add(v.toString()));
+        });
+
+    // then
+    assertThat(values).isEmpty();
+    assertThat(columnFamily.isEmpty()).isTrue();
+  }
+
   private void putKeyValuePair(final String firstKey, final long secondKey, final String value) {
     this.firstKey.wrapString(firstKey);
     this.secondKey.wrapLong(secondKey);
@@ -185,6 +185,29 @@ public final class DbStringColumnFamilyTest {
     assertThat(keys).containsExactly("and");
   }
 
+  @Test
+  public void shouldIterateOverLargeKeysAndValues() {
+    // given
+    final String largeKey = "k".repeat(1024);
+    final String largeValue = "v".repeat(64 * 1024);
+    putKeyValuePair("foo", "baring");
+    putKeyValuePair(largeKey, largeValue);
+    putKeyValuePair("hello", "world");
+
+    // when
+    final List<String> keys = new ArrayList<>();
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach(
+        (key, value) -> {
+          keys.add(key.toString());
+          values.add(value.toString());
+        });
+
+    // then
+    assertThat(keys).containsExactly("foo", "hello", largeKey);
+    assertThat(values).containsExactly("baring", "world", largeValue);
+  }
+
   @Test
   public void shouldAllowSingleNestedWhileEqualPrefix() {
     // given
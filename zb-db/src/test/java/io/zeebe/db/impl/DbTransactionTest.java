@@ -8,6 +8,7 @@
 package io.zeebe.db.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.TransactionContext;
@@ -16,6 +17,7 @@ import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.ZeebeDbTransaction;
 import java.io.File;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -253,6 +255,34 @@ public final class DbTransactionTest {
     assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(-1);
   }
 
+  @Test
+  public void shouldGetMultipleValuesInTransaction() {
+    // given
+    final Map<Long, Long> actualValues = new HashMap<>();
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    oneColumnFamily.put(oneKey, oneValue);
+
+    final DbLong otherKey = new DbLong();
+    otherKey.wrapLong(2);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneColumnFamily.delete(oneKey);
+          oneValue.wrapLong(-2);
+          oneColumnFamily.put(otherKey, oneValue);
+
+          oneColumnFamily.multiGet(
+              List.of(oneKey, otherKey),
+              List.of(new DbLong(), new DbLong()),
+              (key, value) -> actualValues.put(key.getValue(), value.getValue()));
+        });
+
+    // then
+    assertThat(actualValues).containsOnly(entry(2L, -2L));
+  }
+
   @Test
   public void shouldFindValueInTransaction() {
     // given
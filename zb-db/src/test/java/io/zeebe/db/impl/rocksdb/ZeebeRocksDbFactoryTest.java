@@ -16,12 +16,18 @@ import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.util.ByteValue;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Properties;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
+import org.rocksdb.LRUCache;
 
 public final class ZeebeRocksDbFactoryTest {
 
@@ -98,6 +104,51 @@ public final class ZeebeRocksDbFactoryTest {
         .containsExactly(ByteValue.ofMegabytes(16), CompactionPriority.ByCompensatedSize, 7);
   }
 
+  @Test
+  public void shouldApplyColumnFamilySpecificOptions() {
+    // given
+    final var factory =
+        (ZeebeRocksDbFactory<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.newFactory(
+                new RocksDbConfiguration()
+                    .setSeparateColumnFamiliesEnabled(true)
+                    .setColumnFamilyConfigurations(
+                        Map.of(
+                            "TIMERS",
+                            new ColumnFamilyConfiguration()
+                                .setCompactionStyle(CompactionStyle.UNIVERSAL)
+                                .setCompressionType(CompressionType.NO_COMPRESSION)
+                                .setBlockSize(ByteValue.ofKilobytes(64)))));
+    final var sharedTableFormatConfig = new BlockBasedTableConfig();
+
+    // when
+    try (final var cache = new LRUCache(1024);
+        final var filter = new BloomFilter();
+        final var defaults =
+            factory.createSeparateColumnFamilyOptions(
+                "JOBS", sharedTableFormatConfig, cache, filter);
+        final var timers =
+            factory.createSeparateColumnFamilyOptions(
+                "TIMERS", sharedTableFormatConfig, cache, filter)) {
+
+      // then
+      assertThat(defaults.compactionStyle()).isEqualTo(CompactionStyle.LEVEL);
+      assertThat(defaults.tableFormatConfig()).isSameAs(sharedTableFormatConfig);
+      assertThat(timers.compactionStyle()).isEqualTo(CompactionStyle.UNIVERSAL);
+      assertThat(timers.compressionPerLevel()).containsOnly(CompressionType.NO_COMPRESSION);
+      assertThat(((BlockBasedTableConfig) timers.tableFormatConfig()).blockSize())
+          .isEqualTo(ByteValue.ofKilobytes(64));
+    }
+  }
+
+  @Test
+  public void shouldRejectFifoCompaction() {
+    // expect
+    assertThatThrownBy(
+            () -> new ColumnFamilyConfiguration().setCompactionStyle(CompactionStyle.FIFO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void shouldFailIfPropertiesDoesntExist() throws Exception {
     // given
@@ -15,9 +15,14 @@ import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.DbString;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
 
 public final class ZeebeRocksDbTest {
 
@@ -110,4 +115,111 @@ public final class ZeebeRocksDbTest {
     assertThat(dbString).isNotNull();
     assertThat(dbString.toString()).isEqualTo("bar");
   }
+
+  @Test
+  public void shouldStoreColumnFamiliesSeparately() throws Exception {
+    // given
+    final ZeebeDbFactory<ColumnFamilies> dbFactory =
+        ZeebeRocksDbFactory.newFactory(
+            new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true));
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<ColumnFamilies> db = dbFactory.createDb(pathName);
+
+    final DbString key = new DbString();
+    key.wrapString("foo");
+    final DbString value = new DbString();
+    value.wrapString("bar");
+    final var context = db.createContext();
+    db.createColumnFamily(ColumnFamilies.ONE, context, key, value).put(key, value);
+    value.wrapString("baz");
+    db.createColumnFamily(ColumnFamilies.TWO, context, key, value).put(key, value);
+    db.close();
+
+    // when
+    db = ZeebeRocksDbFactory.<ColumnFamilies>newFactory().createDb(pathName);
+
+    // then
+    assertThat(listColumnFamilies(pathName)).containsExactlyInAnyOrder("default", "ONE", "TWO");
+    assertThat(db.createColumnFamily(ColumnFamilies.ONE, db.createContext(), key, value).get(key))
+        .hasToString("bar");
+    assertThat(db.createColumnFamily(ColumnFamilies.TWO, db.createContext(), key, value).get(key))
+        .hasToString("baz");
+    db.close();
+  }
+
+  @Test
+  public void shouldMoveEntriesToSeparateColumnFamily() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<ColumnFamilies> db =
+        ZeebeRocksDbFactory.<ColumnFamilies>newFactory().createDb(pathName);
+
+    final DbString key = new DbString();
+    key.wrapString("foo");
+    final DbString value = new DbString();
+    value.wrapString("bar");
+    final var context = db.createContext();
+    db.createColumnFamily(ColumnFamilies.ONE, context, key, value).put(key, value);
+    value.wrapString("baz");
+    db.createColumnFamily(ColumnFamilies.TWO, context, key, value).put(key, value);
+    db.close();
+
+    // when
+    db =
+        ZeebeRocksDbFactory.<ColumnFamilies>newFactory(
+                new RocksDbConfiguration().setSeparateColumnFamiliesEnabled(true))
+            .createDb(pathName);
+    final var columnFamilyOne =
+        db.createColumnFamily(ColumnFamilies.ONE, db.createContext(), key, value);
+
+    // then
+    assertThat(columnFamilyOne.get(key)).hasToString("bar");
+    assertThat(db.createColumnFamily(ColumnFamilies.TWO, db.createContext(), key, value).get(key))
+        .hasToString("baz");
+    db.close();
+    assertThat(listColumnFamilies(pathName)).containsExactlyInAnyOrder("default", "ONE", "TWO");
+  }
+
+  @Test
+  public void shouldResumeInterruptedMoveToSeparateColumnFamily() throws Exception {
+    // given
+    final File pathName = temporaryFolder.newFolder();
+    ZeebeDb<ColumnFamilies> db =
+        ZeebeRocksDbFactory.<ColumnFamilies>newFactory().createDb(pathName);
+
+    final DbString key = new DbString();
+    key.wrapString("foo");
+    final DbString value = new DbString();
+    value.wrapString("bar");
+    db.createColumnFamily(ColumnFamilies.ONE, db.createContext(), key, value).put(key, value);
+    db.close();
+
+    // the separate column family was created, but the move was interrupted before it was done
+    try (final var options = new Options();
+        final RocksDB rocksDb = RocksDB.open(options, pathName.getAbsolutePath())) {
+      rocksDb.createColumnFamily(new ColumnFamilyDescriptor("ONE".getBytes())).close();
+    }
+
+    // when
+    db = ZeebeRocksDbFactory.<ColumnFamilies>newFactory().createDb(pathName);
+    final var columnFamilyOne =
+        db.createColumnFamily(ColumnFamilies.ONE, db.createContext(), key, value);
+
+    // then
+    assertThat(columnFamilyOne.get(key)).hasToString("bar");
+    db.close();
+  }
+
+  private static Iterable<String> listColumnFamilies(final File pathName) throws Exception {
+    try (final var options = new Options()) {
+      return RocksDB.listColumnFamilies(options, pathName.getAbsolutePath()).stream()
+          .map(name -> new String(name, StandardCharsets.UTF_8))
+          .collect(Collectors.toList());
+    }
+  }
+
+  private enum ColumnFamilies {
+    ONE,
+    TWO
+  }
 }
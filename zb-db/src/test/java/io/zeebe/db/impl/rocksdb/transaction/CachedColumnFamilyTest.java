@@ -0,0 +1,272 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.ColumnFamily;
+import io.zeebe.db.DbValue;
+import io.zeebe.db.TransactionContext;
+import io.zeebe.db.impl.DbLong;
+import io.zeebe.db.impl.DbString;
+import io.zeebe.db.impl.DefaultColumnFamily;
+import io.zeebe.db.impl.rocksdb.ColumnFamilyConfiguration;
+import io.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class CachedColumnFamilyTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+
+  private ZeebeTransactionDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbString> columnFamily;
+
+  @Before
+  public void setup() throws Exception {
+    final var configuration =
+        new RocksDbConfiguration()
+            .setColumnFamilyConfigurations(
+                Map.of(
+                    DefaultColumnFamily.DEFAULT.name(),
+                    new ColumnFamilyConfiguration().setCacheCapacity(2)));
+    zeebeDb =
+        (ZeebeTransactionDb<DefaultColumnFamily>)
+            ZeebeRocksDbFactory.<DefaultColumnFamily>newFactory(configuration)
+                .createDb(temporaryFolder.newFolder());
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @After
+  public void tearDown() {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldCreateCachedColumnFamily() {
+    assertThat(columnFamily).isInstanceOf(CachedColumnFamily.class);
+  }
+
+  @Test
+  public void shouldServeWrittenValueFromCache() {
+    // given
+    put(1, "foo");
+
+    // when
+    final DbString result = get(1);
+
+    // then
+    assertThat(result.toString()).isEqualTo("foo");
+    assertThat(getMetrics().getHits()).isEqualTo(1);
+    assertThat(getMetrics().getMisses()).isZero();
+  }
+
+  @Test
+  public void shouldCacheReadValue() {
+    // given
+    put(1, "foo");
+    final var otherContext = zeebeDb.createContext();
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, new DbLong(), new DbString());
+
+    // when
+    key.wrapLong(1);
+    otherColumnFamily.get(key);
+    final var result = otherColumnFamily.get(key);
+
+    // then
+    assertThat(result.toString()).isEqualTo("foo");
+    assertThat(getMetrics().getMisses()).isEqualTo(1);
+    assertThat(getMetrics().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedValue() {
+    // given
+    put(1, "foo");
+    put(2, "bar");
+    get(1);
+
+    // when
+    put(3, "baz");
+
+    // then
+    assertThat(getMetrics().getEvictions()).isEqualTo(1);
+    assertThat(getMetrics().getSize()).isEqualTo(2);
+    assertThat(get(1).toString()).isEqualTo("foo");
+    assertThat(get(3).toString()).isEqualTo("baz");
+    assertThat(getMetrics().getMisses()).isZero();
+
+    assertThat(get(2).toString()).isEqualTo("bar");
+    assertThat(getMetrics().getMisses()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldKeepValueViewValidAfterReplacement() {
+    // given
+    final var viewColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), key, new ViewValue());
+    key.wrapLong(1);
+    viewColumnFamily.put(key, new ViewValue(1));
+    final ViewValue view = viewColumnFamily.get(key);
+
+    // when
+    viewColumnFamily.put(key, new ViewValue(2));
+    key.wrapLong(2);
+    viewColumnFamily.put(key, new ViewValue(3));
+    key.wrapLong(3);
+    viewColumnFamily.put(key, new ViewValue(4));
+
+    // then
+    assertThat(view.getValue()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldKeepCommittedValues() throws Exception {
+    // given
+    final var transaction = context.getCurrentTransaction();
+    put(1, "foo");
+    put(2, "bar");
+    delete(2);
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(get(1).toString()).isEqualTo("foo");
+    assertThat(get(2)).isNull();
+    assertThat(getMetrics().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEvictUncommittedValuesOnRollback() throws Exception {
+    // given
+    put(1, "foo");
+    final var transaction = context.getCurrentTransaction();
+    put(1, "bar");
+    put(2, "baz");
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(1).toString()).isEqualTo("foo");
+    assertThat(get(2)).isNull();
+    assertThat(getMetrics().getHits()).isZero();
+  }
+
+  @Test
+  public void shouldRestoreDeletedValueOnRollback() throws Exception {
+    // given
+    put(1, "foo");
+    final var transaction = context.getCurrentTransaction();
+    delete(1);
+
+    // when
+    transaction.rollback();
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.exists(key)).isTrue();
+    assertThat(get(1).toString()).isEqualTo("foo");
+  }
+
+  @Test
+  public void shouldIterateOverAllValues() {
+    // given
+    put(1, "foo");
+    put(2, "bar");
+    put(3, "baz");
+
+    // when
+    final List<String> values = new ArrayList<>();
+    columnFamily.forEach(v -> values.add(v.toString()));
+
+    // then
+    assertThat(values).containsExactly("foo", "bar", "baz");
+  }
+
+  @Test
+  public void shouldNotCacheOtherKeyTypes() {
+    // when
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, context, new DbString(), new DbString());
+
+    // then
+    assertThat(otherColumnFamily).isInstanceOf(TransactionalColumnFamily.class);
+  }
+
+  private ColumnFamilyCacheMetrics getMetrics() {
+    return zeebeDb.getCacheMetrics().get(DefaultColumnFamily.DEFAULT.name());
+  }
+
+  private void put(final long key, final String value) {
+    this.key.wrapLong(key);
+    this.value.wrapString(value);
+    columnFamily.put(this.key, this.value);
+  }
+
+  private DbString get(final long key) {
+    this.key.wrapLong(key);
+    return columnFamily.get(this.key);
+  }
+
+  private void delete(final long key) {
+    this.key.wrapLong(key);
+    columnFamily.delete(this.key);
+  }
+
+  /** A value which does not copy the buffer it wraps, like most of the engine state values. */
+  private static final class ViewValue implements DbValue {
+    private final UnsafeBuffer view = new UnsafeBuffer(0, 0);
+
+    private ViewValue() {}
+
+    private ViewValue(final long value) {
+      view.wrap(new byte[Long.BYTES]);
+      view.putLong(0, value);
+    }
+
+    private long getValue() {
+      return view.getLong(0);
+    }
+
+    @Override
+    public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+      view.wrap(buffer, offset, length);
+    }
+
+    @Override
+    public int getLength() {
+      return view.capacity();
+    }
+
+    @Override
+    public void write(final MutableDirectBuffer buffer, final int offset) {
+      buffer.putBytes(offset, view, 0, view.capacity());
+    }
+  }
+}
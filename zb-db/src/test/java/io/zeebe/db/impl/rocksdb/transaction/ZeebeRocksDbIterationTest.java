@@ -7,6 +7,8 @@
  */
 package io.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.zeebe.db.TransactionContext;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,8 @@ import io.zeebe.db.impl.DbNil;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -35,6 +39,7 @@ public final class ZeebeRocksDbIterationTest {
   private DbLong firstKey;
   private DbLong secondKey;
   private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private TransactionContext transactionContext;
 
   @Before
   public void setup() throws Exception {
@@ -44,14 +49,12 @@ public final class ZeebeRocksDbIterationTest {
     firstKey = new DbLong();
     secondKey = new DbLong();
     compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    transactionContext = zeebeDb.createContext();
     columnFamily =
         Mockito.spy(
             (TransactionalColumnFamily)
                 zeebeDb.createColumnFamily(
-                    DefaultColumnFamily.DEFAULT,
-                    zeebeDb.createContext(),
-                    compositeKey,
-                    DbNil.INSTANCE));
+                    DefaultColumnFamily.DEFAULT, transactionContext, compositeKey, DbNil.INSTANCE));
   }
 
   @Test
@@ -85,4 +88,113 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldReuseIteratorWithinTransaction() {
+    // given
+    final List<RocksIterator> iterators = captureIterators();
+    putEntries(3, 5);
+
+    // when
+    final List<Long> suffixes = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+          firstKey.wrapLong(2);
+          columnFamily.whileEqualPrefix(
+              firstKey,
+              (key, value) -> {
+                suffixes.add(key.getSecond().getValue());
+              });
+        });
+
+    // then
+    assertThat(iterators).hasSize(2);
+    assertThat(iterators.get(1)).isSameAs(iterators.get(0));
+    assertThat(suffixes).containsExactly(0L, 1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  public void shouldNotReuseIteratorAfterWrite() {
+    // given
+    final List<RocksIterator> iterators = captureIterators();
+    putEntries(3, 5);
+
+    // when
+    final List<Long> suffixes = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+
+          secondKey.wrapLong(10);
+          columnFamily.put(compositeKey, DbNil.INSTANCE);
+
+          columnFamily.whileEqualPrefix(
+              firstKey,
+              (key, value) -> {
+                suffixes.add(key.getSecond().getValue());
+              });
+        });
+
+    // then
+    assertThat(iterators).hasSize(2);
+    assertThat(iterators.get(1)).isNotSameAs(iterators.get(0));
+    assertThat(suffixes).containsExactly(0L, 1L, 2L, 3L, 4L, 10L);
+  }
+
+  @Test
+  public void shouldUseSeparateIteratorsForNestedIterations() {
+    // given
+    final List<RocksIterator> iterators = captureIterators();
+    putEntries(2, 2);
+    final DbLong otherPrefix = new DbLong();
+    otherPrefix.wrapLong(1);
+
+    // when
+    final List<Long> innerSuffixes = new ArrayList<>();
+    transactionContext.runInTransaction(
+        () -> {
+          firstKey.wrapLong(0);
+          columnFamily.whileEqualPrefix(
+              firstKey,
+              (key, value) -> {
+                columnFamily.whileEqualPrefix(
+                    otherPrefix,
+                    (innerKey, innerValue) -> {
+                      innerSuffixes.add(innerKey.getSecond().getValue());
+                    });
+              });
+        });
+
+    // then
+    assertThat(iterators).hasSize(3);
+    assertThat(iterators.get(1)).isNotSameAs(iterators.get(0));
+    assertThat(iterators.get(2)).isSameAs(iterators.get(1));
+    assertThat(innerSuffixes).containsExactly(0L, 1L, 0L, 1L);
+  }
+
+  private List<RocksIterator> captureIterators() {
+    final List<RocksIterator> iterators = new ArrayList<>();
+    Mockito.doAnswer(
+            invocation -> {
+              final RocksIterator iterator = (RocksIterator) invocation.callRealMethod();
+              iterators.add(iterator);
+              return iterator;
+            })
+        .when(columnFamily)
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+    return iterators;
+  }
+
+  private void putEntries(final long prefixes, final long suffixes) {
+    for (long prefix = 0; prefix < prefixes; prefix++) {
+      firstKey.wrapLong(prefix);
+      for (long suffix = 0; suffix < suffixes; suffix++) {
+        secondKey.wrapLong(suffix);
+        columnFamily.put(compositeKey, DbNil.INSTANCE);
+      }
+    }
+  }
 }